@@ -11,6 +11,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.ThreadFactoryBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.runtime.ExecutorRecorder;
 
 /**
@@ -30,6 +31,14 @@ public class ThreadPoolSetup {
                         contextBuildItem.map(ContextHandlerBuildItem::contextHandler).orElse(null)));
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerAdaptiveSizingMetrics(ExecutorRecorder recorder,
+            ExecutorBuildItem executorBuildItem) {
+        // the metrics are only registered when adaptive sizing is enabled at runtime
+        return new MetricsFactoryConsumerBuildItem(recorder.registerAdaptiveSizingMetrics());
+    }
+
     @BuildStep
     RuntimeInitializedClassBuildItem registerClasses() {
         // make sure that the config provider gets initialized only at run time
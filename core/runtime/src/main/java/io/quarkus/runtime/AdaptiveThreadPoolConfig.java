@@ -0,0 +1,58 @@
+package io.quarkus.runtime;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Adaptive sizing of the core thread pool.
+ * <p>
+ * When enabled, the maximum number of threads of the pool is periodically adjusted between
+ * {@link #minThreads} and {@link #maxThreads}: it grows while tasks are waiting in the queue for longer
+ * than {@link #targetQueueLatency} and CPU is available, and shrinks when the CPU is saturated or when the pool stays
+ * idle, with no queued task and less than half of its threads busy for several consecutive intervals.
+ */
+@ConfigGroup
+public class AdaptiveThreadPoolConfig {
+
+    /**
+     * Whether the maximum number of threads of the pool is adjusted at runtime.
+     */
+    @ConfigItem(name = ConfigItem.PARENT, defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The lower bound for the maximum number of threads. If this is not specified then
+     * the greater of the core thread pool size and the number of available processors is used.
+     */
+    @ConfigItem
+    public OptionalInt minThreads;
+
+    /**
+     * The upper bound for the maximum number of threads. If this is not specified then
+     * four times the initial maximum number of threads is used.
+     */
+    @ConfigItem
+    public OptionalInt maxThreads;
+
+    /**
+     * The interval at which the pool is sampled and its maximum size adjusted.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration interval;
+
+    /**
+     * The queue latency above which the pool is allowed to grow.
+     * The queue latency is estimated from the queue size and the task completion rate.
+     */
+    @ConfigItem(defaultValue = "0.05S")
+    public Duration targetQueueLatency;
+
+    /**
+     * The process CPU utilisation, between {@code 0.0} and {@code 1.0}, above which the pool is shrunk.
+     */
+    @ConfigItem(defaultValue = "0.9")
+    public double maxCpuUtilization;
+}
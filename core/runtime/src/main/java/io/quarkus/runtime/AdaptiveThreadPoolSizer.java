@@ -0,0 +1,148 @@
+package io.quarkus.runtime;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+import org.jboss.threads.EnhancedQueueExecutor;
+
+/**
+ * Periodically adjusts the maximum size of the core thread pool.
+ * <p>
+ * The queue latency is estimated using Little's law from the number of queued tasks and the task completion
+ * rate observed since the last sample. While the estimated latency exceeds the target, and the CPU is not
+ * saturated, the maximum pool size grows proportionally to the ratio between the observed and the target latency
+ * (more threads help I/O bound workloads). When the CPU is saturated the maximum pool size is decreased
+ * multiplicatively (more threads would only add contention to CPU bound workloads). It is also decreased when the
+ * pool stays over-provisioned, i.e. when no task waits in the queue and less than half of the threads are busy for
+ * {@value #IDLE_SAMPLES} consecutive samples, even if the CPU utilisation is unknown.
+ */
+class AdaptiveThreadPoolSizer implements Runnable {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.thread-pool");
+
+    /**
+     * The maximum fraction by which the pool grows in a single step.
+     */
+    static final double MAX_GROWTH = 0.5;
+
+    /**
+     * The fraction by which the pool shrinks when the CPU is saturated.
+     */
+    static final double SHRINK = 0.1;
+
+    /**
+     * The number of consecutive idle samples after which the pool shrinks.
+     */
+    static final int IDLE_SAMPLES = 5;
+
+    /**
+     * The fraction of busy threads below which a sample is idle, if no task is queued.
+     */
+    static final double IDLE_UTILIZATION = 0.5;
+
+    private final EnhancedQueueExecutor executor;
+    private final int lowerBound;
+    private final int upperBound;
+    private final long targetQueueLatencyNanos;
+    private final double maxCpuUtilization;
+    private final OperatingSystemMXBean os;
+
+    private long lastSampleTime;
+    private long lastCompletedTaskCount;
+    private int idleSamples;
+
+    volatile double lastQueueLatencyNanos;
+    volatile double lastCpuUtilization = -1;
+
+    AdaptiveThreadPoolSizer(EnhancedQueueExecutor executor, int lowerBound, int upperBound,
+            long targetQueueLatencyNanos, double maxCpuUtilization) {
+        this.executor = executor;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.targetQueueLatencyNanos = targetQueueLatencyNanos;
+        this.maxCpuUtilization = maxCpuUtilization;
+        this.os = ManagementFactory.getOperatingSystemMXBean();
+        this.lastSampleTime = System.nanoTime();
+        this.lastCompletedTaskCount = executor.getCompletedTaskCount();
+    }
+
+    @Override
+    public void run() {
+        try {
+            long now = System.nanoTime();
+            long completed = executor.getCompletedTaskCount();
+            int queueSize = executor.getQueueSize();
+            double cpu = cpuUtilization();
+            double latency = estimateQueueLatency(queueSize, completed - lastCompletedTaskCount, now - lastSampleTime);
+            lastSampleTime = now;
+            lastCompletedTaskCount = completed;
+            lastQueueLatencyNanos = latency;
+            lastCpuUtilization = cpu;
+
+            int current = executor.getMaximumPoolSize();
+            int active = executor.getActiveCount();
+            int next = nextMaximumPoolSize(current, active, latency, cpu);
+            if (next != current) {
+                log.debugf(
+                        "Adjusting thread pool max size from %d to %d (active: %d, queue: %d, queue latency: %.1f ms, cpu: %.2f)",
+                        current, next, active, queueSize, latency / 1_000_000, cpu);
+                executor.setMaximumPoolSize(next);
+            }
+        } catch (Throwable t) {
+            log.debug("Unable to adjust the thread pool size", t);
+        }
+    }
+
+    /**
+     * Estimates the time a task spends in the queue using Little's law: {@code latency = queueSize / throughput}.
+     *
+     * @return the estimated latency in nanoseconds, or {@link Double#POSITIVE_INFINITY} if tasks are queued but none
+     *         completed
+     */
+    static double estimateQueueLatency(int queueSize, long completedTasks, long elapsedNanos) {
+        if (queueSize <= 0) {
+            return 0;
+        }
+        if (completedTasks <= 0 || elapsedNanos <= 0) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return queueSize * ((double) elapsedNanos / completedTasks);
+    }
+
+    int nextMaximumPoolSize(int current, int activeThreads, double queueLatencyNanos, double cpuUtilization) {
+        if (queueLatencyNanos == 0 && activeThreads < current * IDLE_UTILIZATION) {
+            idleSamples++;
+        } else {
+            idleSamples = 0;
+        }
+        int next = current;
+        if (cpuUtilization >= maxCpuUtilization) {
+            next = current - Math.max(1, (int) (current * SHRINK));
+        } else if (queueLatencyNanos > targetQueueLatencyNanos) {
+            double gradient = Math.min(queueLatencyNanos / targetQueueLatencyNanos - 1, MAX_GROWTH);
+            next = current + Math.max(1, (int) Math.ceil(current * gradient));
+        } else if (idleSamples >= IDLE_SAMPLES) {
+            idleSamples = 0;
+            next = current - Math.max(1, (int) (current * SHRINK));
+        }
+        return Math.max(lowerBound, Math.min(upperBound, next));
+    }
+
+    private double cpuUtilization() {
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getProcessCpuLoad();
+        }
+        // unknown, never shrink because of the CPU
+        return -1;
+    }
+
+    double getLastQueueLatency(TimeUnit unit) {
+        return lastQueueLatencyNanos / unit.toNanos(1);
+    }
+
+    double getLastCpuUtilization() {
+        return lastCpuUtilization;
+    }
+}
@@ -5,8 +5,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.jboss.logging.Logger;
 import org.jboss.threads.ContextHandler;
@@ -16,6 +19,7 @@ import org.jboss.threads.JBossThreadFactory;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 /**
  *
@@ -27,6 +31,8 @@ public class ExecutorRecorder {
 
     private static volatile Executor current;
 
+    private static volatile AdaptiveThreadPoolSizer adaptiveSizer;
+
     final ThreadPoolConfig threadPoolConfig;
 
     public ExecutorRecorder(ThreadPoolConfig threadPoolConfig) {
@@ -36,6 +42,16 @@ public class ExecutorRecorder {
     public ExecutorService setupRunTime(ShutdownContext shutdownContext,
             LaunchMode launchMode, ThreadFactory threadFactory, ContextHandler<Object> contextHandler) {
         final EnhancedQueueExecutor underlying = createExecutor(threadPoolConfig, threadFactory, contextHandler);
+        final ScheduledExecutorService sizerExecutor = createAdaptiveSizer(threadPoolConfig, underlying);
+        if (sizerExecutor != null) {
+            shutdownContext.addLastShutdownTask(new Runnable() {
+                @Override
+                public void run() {
+                    sizerExecutor.shutdownNow();
+                    adaptiveSizer = null;
+                }
+            });
+        }
         if (launchMode == LaunchMode.DEVELOPMENT) {
             shutdownContext.addLastShutdownTask(new Runnable() {
                 @Override
@@ -60,6 +76,66 @@ public class ExecutorRecorder {
         return underlying;
     }
 
+    private static ScheduledExecutorService createAdaptiveSizer(ThreadPoolConfig threadPoolConfig,
+            EnhancedQueueExecutor executor) {
+        final AdaptiveThreadPoolConfig adaptive = threadPoolConfig.adaptive;
+        if (!adaptive.enabled) {
+            return null;
+        }
+        final int initialMax = executor.getMaximumPoolSize();
+        final int lowerBound = Math.max(threadPoolConfig.coreThreads,
+                adaptive.minThreads.orElse(ProcessorInfo.availableProcessors()));
+        final int upperBound = Math.max(lowerBound, adaptive.maxThreads.orElse(4 * initialMax));
+        if (initialMax < lowerBound || initialMax > upperBound) {
+            executor.setMaximumPoolSize(Math.max(lowerBound, Math.min(upperBound, initialMax)));
+        }
+        final AdaptiveThreadPoolSizer sizer = new AdaptiveThreadPoolSizer(executor, lowerBound, upperBound,
+                adaptive.targetQueueLatency.toNanos(), adaptive.maxCpuUtilization);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "executor-pool-sizer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        final long interval = adaptive.interval.toNanos();
+        scheduler.scheduleWithFixedDelay(sizer, interval, interval, TimeUnit.NANOSECONDS);
+        log.debugf("Adaptive thread pool sizing enabled, max threads between %d and %d", lowerBound, upperBound);
+        adaptiveSizer = sizer;
+        return scheduler;
+    }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerAdaptiveSizingMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                final AdaptiveThreadPoolSizer sizer = adaptiveSizer;
+                if (sizer == null || !(current instanceof EnhancedQueueExecutor)) {
+                    return;
+                }
+                final EnhancedQueueExecutor executor = (EnhancedQueueExecutor) current;
+                metricsFactory.builder("quarkus.thread-pool.max.threads")
+                        .description("Current maximum number of threads of the adaptive core thread pool.")
+                        .buildGauge(executor::getMaximumPoolSize);
+                metricsFactory.builder("quarkus.thread-pool.active.threads")
+                        .description("Approximate number of threads that are actively executing tasks.")
+                        .buildGauge(executor::getActiveCount);
+                metricsFactory.builder("quarkus.thread-pool.queue.size")
+                        .description("Approximate number of tasks waiting in the queue.")
+                        .buildGauge(executor::getQueueSize);
+                metricsFactory.builder("quarkus.thread-pool.queue.latency")
+                        .description("Queue latency estimated at the last adjustment of the pool size.")
+                        .unit("milliseconds")
+                        .buildGauge(() -> sizer.getLastQueueLatency(TimeUnit.MILLISECONDS));
+                metricsFactory.builder("quarkus.thread-pool.cpu.utilization")
+                        .description("Process CPU utilisation observed at the last adjustment of the pool size.")
+                        .buildGauge(sizer::getLastCpuUtilization);
+            }
+        };
+    }
+
     private static Runnable createShutdownTask(ThreadPoolConfig threadPoolConfig, EnhancedQueueExecutor executor) {
         return new Runnable() {
             @Override
@@ -4,6 +4,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
 
+import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -84,4 +85,9 @@ public class ThreadPoolConfig {
     @ConfigItem(defaultValue = "30")
     public Duration keepAliveTime;
 
+    /**
+     * Adaptive sizing of the maximum number of threads.
+     */
+    @ConfigDocSection
+    public AdaptiveThreadPoolConfig adaptive;
 }
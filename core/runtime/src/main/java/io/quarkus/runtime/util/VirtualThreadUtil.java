@@ -0,0 +1,63 @@
+package io.quarkus.runtime.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Gives access to the virtual threads of the running JDK.
+ * <p>
+ * Virtual threads are looked up reflectively, so that this class works on any JDK. The lookup is only performed once:
+ * if the JDK does not provide virtual threads (or they are a preview feature that is not enabled), this is logged
+ * once and {@link #getVirtualThreadExecutor()} returns {@code null} from then on.
+ */
+public final class VirtualThreadUtil {
+
+    private static final Logger log = Logger.getLogger(VirtualThreadUtil.class);
+
+    private static volatile boolean resolved;
+    private static volatile Executor executor;
+
+    private VirtualThreadUtil() {
+    }
+
+    /**
+     * @return an executor starting a new virtual thread for each task, or {@code null} if virtual threads are not
+     *         available
+     */
+    public static Executor getVirtualThreadExecutor() {
+        if (!resolved) {
+            synchronized (VirtualThreadUtil.class) {
+                if (!resolved) {
+                    executor = newVirtualThreadPerTaskExecutor();
+                    resolved = true;
+                }
+            }
+        }
+        return executor;
+    }
+
+    /**
+     * @return whether the given thread is a virtual thread
+     */
+    public static boolean isVirtual(Thread thread) {
+        try {
+            return (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    private static Executor newVirtualThreadPerTaskExecutor() {
+        try {
+            // the executor keeps no thread when idle, so it is shared and never shut down
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            log.debug("Virtual threads are not supported by this JDK");
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("Unable to create the virtual thread executor, virtual threads are disabled", e);
+        }
+        return null;
+    }
+}
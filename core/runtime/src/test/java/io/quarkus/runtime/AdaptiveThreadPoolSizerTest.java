@@ -0,0 +1,93 @@
+package io.quarkus.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.threads.EnhancedQueueExecutor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AdaptiveThreadPoolSizerTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(50);
+
+    EnhancedQueueExecutor executor;
+    AdaptiveThreadPoolSizer sizer;
+
+    @BeforeEach
+    public void setup() {
+        executor = new EnhancedQueueExecutor.Builder()
+                .setRegisterMBean(false)
+                .setCorePoolSize(1)
+                .setMaximumPoolSize(10)
+                .build();
+        sizer = new AdaptiveThreadPoolSizer(executor, 4, 40, TARGET, 0.9);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testQueueLatencyEstimate() {
+        assertEquals(0, AdaptiveThreadPoolSizer.estimateQueueLatency(0, 10, 1000));
+        assertEquals(Double.POSITIVE_INFINITY, AdaptiveThreadPoolSizer.estimateQueueLatency(5, 0, 1000));
+        // 100 tasks completed in 1s, 20 queued tasks wait ~200ms
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200),
+                AdaptiveThreadPoolSizer.estimateQueueLatency(20, 100, TimeUnit.SECONDS.toNanos(1)), 1);
+    }
+
+    @Test
+    public void testGrowsWhenQueueLatencyExceedsTarget() {
+        // latency 20% above target: grow by 20%
+        assertEquals(12, sizer.nextMaximumPoolSize(10, 10, TARGET * 1.2, 0.5));
+        // growth per step is capped
+        assertEquals(15, sizer.nextMaximumPoolSize(10, 10, Double.POSITIVE_INFINITY, 0.5));
+        // unknown cpu utilisation
+        assertEquals(15, sizer.nextMaximumPoolSize(10, 10, TARGET * 10, -1));
+    }
+
+    @Test
+    public void testShrinksWhenCpuIsSaturated() {
+        assertEquals(18, sizer.nextMaximumPoolSize(20, 20, TARGET * 10, 0.95));
+        assertEquals(9, sizer.nextMaximumPoolSize(10, 10, 0, 1.0));
+    }
+
+    @Test
+    public void testStableWithinTarget() {
+        assertEquals(10, sizer.nextMaximumPoolSize(10, 10, TARGET / 2, 0.5));
+        assertEquals(10, sizer.nextMaximumPoolSize(10, 10, 0, 0.5));
+    }
+
+    @Test
+    public void testShrinksWhenIdle() {
+        // no queued task and 2 of 20 threads busy, with an unknown cpu utilisation
+        for (int i = 1; i < AdaptiveThreadPoolSizer.IDLE_SAMPLES; i++) {
+            assertEquals(20, sizer.nextMaximumPoolSize(20, 2, 0, -1));
+        }
+        assertEquals(18, sizer.nextMaximumPoolSize(20, 2, 0, -1));
+        // the idle samples must be consecutive
+        for (int i = 1; i < AdaptiveThreadPoolSizer.IDLE_SAMPLES; i++) {
+            assertEquals(18, sizer.nextMaximumPoolSize(18, 2, 0, 0.1));
+        }
+        assertEquals(18, sizer.nextMaximumPoolSize(18, 2, TARGET / 2, 0.1));
+        assertEquals(18, sizer.nextMaximumPoolSize(18, 2, 0, 0.1));
+        // half of the threads are busy
+        for (int i = 0; i < AdaptiveThreadPoolSizer.IDLE_SAMPLES; i++) {
+            assertEquals(18, sizer.nextMaximumPoolSize(18, 9, 0, 0.1));
+        }
+        for (int i = 0; i < AdaptiveThreadPoolSizer.IDLE_SAMPLES; i++) {
+            assertEquals(4, sizer.nextMaximumPoolSize(4, 0, 0, 0.1));
+        }
+    }
+
+    @Test
+    public void testBounds() {
+        assertEquals(40, sizer.nextMaximumPoolSize(38, 38, Double.POSITIVE_INFINITY, 0.1));
+        assertEquals(4, sizer.nextMaximumPoolSize(4, 4, 0, 1.0));
+        assertEquals(4, sizer.nextMaximumPoolSize(2, 2, 0, 0.1));
+    }
+}
@@ -27,6 +27,10 @@ public class AgroalMetricsProcessor {
                     aggregatedDataSourceBuildTimeConfig.getJdbcConfig().enableMetrics.orElse(true)) {
                 datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
                         recorder.registerDataSourceMetrics(aggregatedDataSourceBuildTimeConfig.getName())));
+                if (aggregatedDataSourceBuildTimeConfig.getJdbcConfig().enableStatementMetrics) {
+                    datasourceMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                            recorder.registerStatementMetrics(aggregatedDataSourceBuildTimeConfig.getName())));
+                }
             }
         }
     }
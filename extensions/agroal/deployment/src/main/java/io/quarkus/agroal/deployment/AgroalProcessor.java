@@ -1,6 +1,10 @@
 package io.quarkus.agroal.deployment;
 
+import java.sql.CallableStatement;
+import java.sql.Connection;
 import java.sql.Driver;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +48,7 @@ import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.SslNativeConfigBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.NativeImageProxyDefinitionBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
@@ -119,6 +124,20 @@ class AgroalProcessor {
         sslNativeSupport.produce(new ExtensionSslNativeSupportBuildItem(Feature.AGROAL.getName()));
     }
 
+    @BuildStep
+    void registerJdbcProxies(List<AggregatedDataSourceBuildTimeConfigBuildItem> aggregatedBuildTimeConfigBuildItems,
+            BuildProducer<NativeImageProxyDefinitionBuildItem> proxyDefinitions) {
+        if (aggregatedBuildTimeConfigBuildItems.isEmpty()) {
+            return;
+        }
+
+        // the prepared statement cache and the statement metrics wrap connections and statements in dynamic proxies
+        proxyDefinitions.produce(new NativeImageProxyDefinitionBuildItem(Connection.class.getName()));
+        proxyDefinitions.produce(new NativeImageProxyDefinitionBuildItem(Statement.class.getName()));
+        proxyDefinitions.produce(new NativeImageProxyDefinitionBuildItem(PreparedStatement.class.getName()));
+        proxyDefinitions.produce(new NativeImageProxyDefinitionBuildItem(CallableStatement.class.getName()));
+    }
+
     private static void validateBuildTimeConfig(AggregatedDataSourceBuildTimeConfigBuildItem aggregatedConfig) {
         DataSourceJdbcBuildTimeConfig jdbcBuildTimeConfig = aggregatedConfig.getJdbcConfig();
 
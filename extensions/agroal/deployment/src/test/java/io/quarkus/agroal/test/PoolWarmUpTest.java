@@ -0,0 +1,78 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.runtime.DataSourceWarmUp;
+import io.quarkus.agroal.runtime.DataSources;
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class PoolWarmUpTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-metrics-enabled.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.warm-up-size", "3");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    DataSources dataSources;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testWarmUp() {
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> RestAssured.when().get("/q/health/ready")
+                .then()
+                .body("status", CoreMatchers.equalTo("UP")));
+
+        DataSourceWarmUp warmUp = dataSources.getWarmUp(DataSourceUtil.DEFAULT_DATASOURCE_NAME);
+        assertThat(warmUp.isDone()).isTrue();
+        assertThat(warmUp.getValidated()).isEqualTo(3);
+        assertThat(defaultDS.getMetrics().creationCount()).isGreaterThanOrEqualTo(3L);
+        assertThat(dataSources.getWarmUp("ds1")).isNull();
+    }
+
+    @Test
+    public void testConnectionTimeMetrics() throws SQLException {
+        await().atMost(Duration.ofSeconds(10))
+                .until(() -> dataSources.getWarmUp(DataSourceUtil.DEFAULT_DATASOURCE_NAME).isDone());
+
+        SimpleTimer acquireTime = registry.getSimpleTimers().get(new MetricID("agroal.connection.acquire.time",
+                new Tag("datasource", "default")));
+        SimpleTimer holdTime = registry.getSimpleTimers().get(new MetricID("agroal.connection.hold.time",
+                new Tag("datasource", "default")));
+        assertThat(acquireTime).isNotNull();
+        assertThat(holdTime).isNotNull();
+
+        long acquireCount = acquireTime.getCount();
+        long holdCount = holdTime.getCount();
+        try (Connection connection = defaultDS.getConnection()) {
+            assertThat(holdTime.getCount()).isEqualTo(holdCount);
+        }
+        assertThat(acquireTime.getCount()).isEqualTo(acquireCount + 1);
+        assertThat(holdTime.getCount()).isEqualTo(holdCount + 1);
+    }
+}
@@ -0,0 +1,126 @@
+package io.quarkus.agroal.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.SimpleTimer;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.runtime.jdbc.SqlFingerprint;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StatementCacheAndMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-metrics-enabled.properties")
+            .overrideConfigKey("quarkus.datasource.jdbc.prepared-statement-cache-size", "2")
+            .overrideConfigKey("quarkus.datasource.jdbc.enable-statement-metrics", "true");
+
+    @Inject
+    AgroalDataSource defaultDS;
+
+    @Inject
+    @DataSource("ds1")
+    AgroalDataSource ds1;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testPreparedStatementsAreReused() throws SQLException {
+        PreparedStatement first = prepareAndExecute(defaultDS, "SELECT ?", 1);
+        PreparedStatement second = prepareAndExecute(defaultDS, "SELECT ?", 2);
+        assertThat(second).isSameAs(first);
+        assertThat(first.isClosed()).isFalse();
+
+        // only the last two statements are kept
+        prepareAndExecute(defaultDS, "SELECT ? + 1", 1);
+        prepareAndExecute(defaultDS, "SELECT ? + 2", 1);
+        assertThat(first.isClosed()).isTrue();
+        assertThat(prepareAndExecute(defaultDS, "SELECT ?", 3)).isNotSameAs(first);
+    }
+
+    @Test
+    public void testPreparedStatementsAreNotCachedWhenDisabled() throws SQLException {
+        PreparedStatement first = prepareAndExecute(ds1, "SELECT ?", 1);
+        PreparedStatement second = prepareAndExecute(ds1, "SELECT ?", 2);
+        assertThat(second).isNotSameAs(first);
+        assertThat(first.isClosed()).isTrue();
+    }
+
+    @Test
+    public void testResultSetsReturnTheWrappingStatement() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT ?")) {
+                statement.setInt(1, 1);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.getStatement()).isSameAs(statement);
+                }
+                assertThat(statement.getConnection()).isSameAs(connection);
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+                try (ResultSet resultSet = statement.getResultSet()) {
+                    assertThat(resultSet.getStatement()).isSameAs(statement);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStatementMetrics() throws SQLException {
+        try (Connection connection = defaultDS.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 'a' WHERE 1 IN (1, 2, 3)");
+                statement.execute("SELECT 'b' WHERE 4 IN (5, 6)");
+            }
+        }
+
+        SimpleTimer timer = registry.getSimpleTimers().get(new MetricID("agroal.statement.execution",
+                new Tag("datasource", "default"), new Tag("sql", "SELECT ? WHERE ? IN (?)")));
+        assertThat(timer).isNotNull();
+        assertThat(timer.getCount()).isEqualTo(2L);
+
+        assertThat(registry.getSimpleTimers().keySet())
+                .noneMatch(id -> id.getName().equals("agroal.statement.execution")
+                        && id.getTags().get("datasource").equals("ds1"));
+    }
+
+    @Test
+    public void testSqlFingerprint() {
+        assertThat(SqlFingerprint.of("select *  from t1\n where name = 'it''s' and id in (?, ?,?) and x > 1.5"))
+                .isEqualTo("select * from t1 where name = ? and id in (?) and x > ?");
+    }
+
+    /**
+     * @return the underlying JDBC statement
+     */
+    private static PreparedStatement prepareAndExecute(AgroalDataSource dataSource, String sql, int parameter)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                statement.setInt(1, parameter);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertThat(resultSet.next()).isTrue();
+                }
+                return statement.unwrap(PreparedStatement.class);
+            }
+        }
+    }
+}
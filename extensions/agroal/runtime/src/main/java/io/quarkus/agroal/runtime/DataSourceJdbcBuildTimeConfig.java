@@ -34,4 +34,13 @@ public class DataSourceJdbcBuildTimeConfig {
      */
     @ConfigItem
     public Optional<Boolean> enableMetrics = Optional.empty();
+
+    /**
+     * Enable the collection of execution time metrics for each SQL statement executed through this datasource.
+     * <p>
+     * Statements are grouped by fingerprint: the SQL with its literals replaced by {@code ?}.
+     * Requires datasource metrics to be enabled.
+     */
+    @ConfigItem
+    public boolean enableStatementMetrics;
 }
@@ -39,6 +39,18 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem(defaultValue = "20")
     public int maxSize = 20;
 
+    /**
+     * The number of connections to establish and validate in the background when the datasource starts.
+     * <p>
+     * Until they are validated, the readiness health check reports the datasource as down, so that no traffic
+     * is routed to the application while the pool is still empty. It is capped to the maximum size of the pool.
+     * <p>
+     * The warm-up only happens when pooling is enabled and no transaction is required to acquire a connection.
+     * Set to {@code 0} to disable the warm-up.
+     */
+    @ConfigItem
+    public int warmUpSize = 0;
+
     /**
      * The interval at which we validate idle connections in the background.
      * <p>
@@ -105,6 +117,15 @@ public class DataSourceJdbcRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectStatementLeaks = true;
 
+    /**
+     * The maximum number of prepared statements kept open per connection, so that executing the same SQL again
+     * on the same connection does not prepare it again.
+     * <p>
+     * The least recently used statement is closed when the cache is full. Set to {@code 0} to disable the cache.
+     */
+    @ConfigItem
+    public int preparedStatementCacheSize = 0;
+
     /**
      * Query executed when first using a connection.
      */
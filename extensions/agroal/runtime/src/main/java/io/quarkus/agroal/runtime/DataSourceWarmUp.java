@@ -0,0 +1,118 @@
+package io.quarkus.agroal.runtime;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
+
+/**
+ * Establishes and validates a number of connections in the background when a datasource starts,
+ * so that the first requests do not pay for the creation of the connections.
+ * <p>
+ * The connections are all acquired at the same time to force the pool to create them, then returned to the pool.
+ * The warm-up is retried until it succeeds: until then, the readiness health check reports the datasource as down.
+ */
+public final class DataSourceWarmUp implements Runnable {
+
+    private static final Logger log = Logger.getLogger(DataSourceWarmUp.class);
+
+    private static final long RETRY_DELAY_MILLIS = 1000;
+
+    private final String dataSourceName;
+    private final AgroalDataSource dataSource;
+    private final int size;
+    private volatile int validated;
+    private volatile boolean done;
+    private volatile Thread thread;
+
+    DataSourceWarmUp(String dataSourceName, AgroalDataSource dataSource, int size) {
+        this.dataSourceName = dataSourceName;
+        this.dataSource = dataSource;
+        this.size = size;
+    }
+
+    void start() {
+        Thread thread = new Thread(this, "agroal-warm-up-" + dataSourceName);
+        thread.setDaemon(true);
+        this.thread = thread;
+        thread.start();
+    }
+
+    void stop() {
+        Thread thread = this.thread;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (!done && !Thread.currentThread().isInterrupted()) {
+                try {
+                    warmUp();
+                    done = true;
+                    log.debugf("Datasource '%s': %d connections validated", dataSourceName, size);
+                } catch (SQLException e) {
+                    log.warnf("Datasource '%s': unable to warm up the connection pool, retrying: %s", dataSourceName,
+                            e.getMessage());
+                    Thread.sleep(RETRY_DELAY_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            thread = null;
+        }
+    }
+
+    private void warmUp() throws SQLException {
+        ConnectionValidator validator = dataSource.getConfiguration().connectionPoolConfiguration().connectionValidator();
+        List<Connection> connections = new ArrayList<>(size);
+        validated = 0;
+        try {
+            for (int i = 0; i < size; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                if (!validator.isValid(connection)) {
+                    throw new SQLException("Connection validation failed");
+                }
+                validated++;
+            }
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("Unable to return a connection to the pool", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return whether all the connections have been validated
+     */
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * @return the number of connections validated so far
+     */
+    public int getValidated() {
+        return validated;
+    }
+
+    /**
+     * @return the number of connections to validate
+     */
+    public int getSize() {
+        return size;
+    }
+}
@@ -3,8 +3,10 @@ package io.quarkus.agroal.runtime;
 import java.sql.Connection;
 import java.sql.Driver;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
@@ -23,6 +25,7 @@ import javax.transaction.TransactionSynchronizationRegistry;
 import org.jboss.logging.Logger;
 
 import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceListener;
 import io.agroal.api.AgroalPoolInterceptor;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.ConnectionValidator;
 import io.agroal.api.configuration.AgroalConnectionPoolConfiguration.TransactionRequirement;
@@ -39,6 +42,10 @@ import io.quarkus.agroal.DataSource;
 import io.quarkus.agroal.runtime.DataSourcesJdbcBuildTimeConfig.DataSourceJdbcOuterNamedBuildTimeConfig;
 import io.quarkus.agroal.runtime.DataSourcesJdbcRuntimeConfig.DataSourceJdbcOuterNamedRuntimeConfig;
 import io.quarkus.agroal.runtime.JdbcDriver.JdbcDriverLiteral;
+import io.quarkus.agroal.runtime.jdbc.InstrumentedDataSource;
+import io.quarkus.agroal.runtime.jdbc.PreparedStatementCaches;
+import io.quarkus.agroal.runtime.jdbc.StatementMetrics;
+import io.quarkus.agroal.runtime.metrics.ConnectionTimeMetrics;
 import io.quarkus.arc.Arc;
 import io.quarkus.credentials.CredentialsProvider;
 import io.quarkus.credentials.runtime.CredentialsProviderFinder;
@@ -72,6 +79,9 @@ public class DataSources {
     private final Instance<AgroalPoolInterceptor> agroalPoolInterceptors;
 
     private final ConcurrentMap<String, AgroalDataSource> dataSources = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, StatementMetrics> statementMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConnectionTimeMetrics> connectionTimeMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, DataSourceWarmUp> warmUps = new ConcurrentHashMap<>();
 
     public DataSources(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
             DataSourcesRuntimeConfig dataSourcesRuntimeConfig, DataSourcesJdbcBuildTimeConfig dataSourcesJdbcBuildTimeConfig,
@@ -114,6 +124,39 @@ public class DataSources {
         });
     }
 
+    /**
+     * @return the statement execution metrics of the given datasource, recorded if
+     *         {@link DataSourceJdbcBuildTimeConfig#enableStatementMetrics} is set
+     */
+    public StatementMetrics getStatementMetrics(String dataSourceName) {
+        return statementMetrics.computeIfAbsent(dataSourceName, new Function<String, StatementMetrics>() {
+            @Override
+            public StatementMetrics apply(String s) {
+                return new StatementMetrics(DataSourceUtil.isDefault(s) ? "default" : s);
+            }
+        });
+    }
+
+    /**
+     * @return the connection acquisition and hold time metrics of the given datasource, recorded if metrics
+     *         are enabled for it
+     */
+    public ConnectionTimeMetrics getConnectionTimeMetrics(String dataSourceName) {
+        return connectionTimeMetrics.computeIfAbsent(dataSourceName, new Function<String, ConnectionTimeMetrics>() {
+            @Override
+            public ConnectionTimeMetrics apply(String s) {
+                return new ConnectionTimeMetrics(DataSourceUtil.isDefault(s) ? "default" : s);
+            }
+        });
+    }
+
+    /**
+     * @return the warm-up of the given datasource, or {@code null} if it is not warmed up
+     */
+    public DataSourceWarmUp getWarmUp(String dataSourceName) {
+        return warmUps.get(dataSourceName);
+    }
+
     public AgroalDataSource doCreateDataSource(String dataSourceName) {
         if (!dataSourceSupport.entries.containsKey(dataSourceName)) {
             throw new IllegalArgumentException("No datasource named '" + dataSourceName + "' exists");
@@ -184,12 +227,31 @@ public class DataSources {
 
         agroalConnectionConfigurer.setExceptionSorter(resolvedDbKind, dataSourceConfiguration);
 
+        PreparedStatementCaches preparedStatementCaches = dataSourceJdbcRuntimeConfig.preparedStatementCacheSize > 0
+                ? new PreparedStatementCaches(dataSourceJdbcRuntimeConfig.preparedStatementCacheSize)
+                : null;
+        boolean metricsEnabled = dataSourcesBuildTimeConfig.metricsEnabled
+                && dataSourceJdbcBuildTimeConfig.enableMetrics.orElse(true);
+        // the statement metrics are only bound to a metrics factory if the datasource metrics are enabled
+        StatementMetrics dataSourceStatementMetrics = metricsEnabled && dataSourceJdbcBuildTimeConfig.enableStatementMetrics
+                ? getStatementMetrics(dataSourceName)
+                : null;
+
         // Explicit reference to bypass reflection need of the ServiceLoader used by AgroalDataSource#from
         AgroalDataSourceConfiguration agroalConfiguration = dataSourceConfiguration.get();
+        AgroalEventLoggingListener loggingListener = new AgroalEventLoggingListener(dataSourceName,
+                agroalConfiguration.connectionPoolConfiguration()
+                        .transactionRequirement() == TransactionRequirement.WARN);
+        List<AgroalDataSourceListener> listeners = new ArrayList<>();
+        listeners.add(loggingListener);
+        if (preparedStatementCaches != null) {
+            listeners.add(preparedStatementCaches);
+        }
+        if (metricsEnabled) {
+            listeners.add(getConnectionTimeMetrics(dataSourceName));
+        }
         AgroalDataSource dataSource = new io.agroal.pool.DataSource(agroalConfiguration,
-                new AgroalEventLoggingListener(dataSourceName,
-                        agroalConfiguration.connectionPoolConfiguration()
-                                .transactionRequirement() == TransactionRequirement.WARN));
+                listeners.toArray(new AgroalDataSourceListener[0]));
         log.debugv("Started datasource {0} connected to {1}", dataSourceName,
                 agroalConfiguration.connectionPoolConfiguration().connectionFactoryConfiguration().jdbcUrl());
 
@@ -203,6 +265,24 @@ public class DataSources {
             dataSource.setPoolInterceptors(interceptorList);
         }
 
+        if (preparedStatementCaches != null || dataSourceStatementMetrics != null) {
+            dataSource = new InstrumentedDataSource(dataSource, preparedStatementCaches, dataSourceStatementMetrics);
+        }
+
+        if (dataSourceJdbcRuntimeConfig.warmUpSize > 0) {
+            if (!dataSourceJdbcRuntimeConfig.poolingEnabled
+                    || agroalConfiguration.connectionPoolConfiguration()
+                            .transactionRequirement() != TransactionRequirement.OFF) {
+                log.warnv("Datasource {0}: the connection pool is not warmed up as pooling is disabled or "
+                        + "a transaction is required to acquire a connection", dataSourceName);
+            } else {
+                DataSourceWarmUp warmUp = new DataSourceWarmUp(dataSourceName, dataSource,
+                        Math.min(dataSourceJdbcRuntimeConfig.warmUpSize, dataSourceJdbcRuntimeConfig.maxSize));
+                warmUps.put(dataSourceName, warmUp);
+                warmUp.start();
+            }
+        }
+
         return dataSource;
     }
 
@@ -376,6 +456,9 @@ public class DataSources {
 
     @PreDestroy
     public void stop() {
+        for (DataSourceWarmUp warmUp : warmUps.values()) {
+            warmUp.stop();
+        }
         for (AgroalDataSource dataSource : dataSources.values()) {
             if (dataSource != null) {
                 dataSource.close();
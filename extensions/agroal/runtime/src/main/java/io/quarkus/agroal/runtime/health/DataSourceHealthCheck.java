@@ -16,6 +16,8 @@ import org.eclipse.microprofile.health.Readiness;
 
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.agroal.runtime.DataSourceWarmUp;
+import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.datasource.runtime.DataSourcesHealthSupport;
@@ -24,6 +26,7 @@ import io.quarkus.datasource.runtime.DataSourcesHealthSupport;
 @ApplicationScoped
 public class DataSourceHealthCheck implements HealthCheck {
     private final Map<String, DataSource> dataSources = new HashMap<>();
+    private final Map<String, DataSourceWarmUp> warmUps = new HashMap<>();
 
     @PostConstruct
     protected void init() {
@@ -37,6 +40,10 @@ public class DataSourceHealthCheck implements HealthCheck {
                     : (DataSource) Arc.container().instance(DataSource.class, new DataSourceLiteral(name)).get();
             if (!excludedNames.contains(name) && ds != null) {
                 dataSources.put(name, ds);
+                DataSourceWarmUp warmUp = Arc.container().instance(DataSources.class).get().getWarmUp(name);
+                if (warmUp != null) {
+                    warmUps.put(name, warmUp);
+                }
             }
         }
     }
@@ -46,6 +53,13 @@ public class DataSourceHealthCheck implements HealthCheck {
         HealthCheckResponseBuilder builder = HealthCheckResponse.named("Database connections health check").up();
         for (Map.Entry<String, DataSource> dataSource : dataSources.entrySet()) {
             boolean isDefault = DataSourceUtil.isDefault(dataSource.getKey());
+            DataSourceWarmUp warmUp = warmUps.get(dataSource.getKey());
+            if (warmUp != null && !warmUp.isDone()) {
+                String dsName = isDefault ? "default" : dataSource.getKey();
+                builder.down().withData(dsName, "warming up the connection pool: " + warmUp.getValidated() + " of "
+                        + warmUp.getSize() + " connections validated");
+                continue;
+            }
             AgroalDataSource ads = (AgroalDataSource) dataSource.getValue();
             try {
                 boolean valid = ads.isHealthy(false);
@@ -0,0 +1,159 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.agroal.pool.ConnectionHandler;
+import io.agroal.pool.wrapper.ConnectionWrapper;
+
+/**
+ * Wraps the statements created by a pooled connection.
+ * <p>
+ * Cached prepared statements are created through the pooled connection, so that Agroal verifies the enlistment and
+ * tracks them like any other statement, and are kept in the cache of the physical connection so that they survive the
+ * connection being returned to the pool. They are given back to the cache, and no longer tracked by Agroal, when
+ * closed, or at the latest when this connection is closed.
+ */
+final class InstrumentedConnection implements InvocationHandler {
+
+    private final Connection connection;
+    private final ConnectionHandler handler;
+    private final PreparedStatementCache preparedStatementCache;
+    private final StatementMetrics statementMetrics;
+    private final List<InstrumentedStatement> openStatements = new ArrayList<>();
+    private Connection proxy;
+
+    private InstrumentedConnection(Connection connection, ConnectionHandler handler,
+            PreparedStatementCache preparedStatementCache, StatementMetrics statementMetrics) {
+        this.connection = connection;
+        this.handler = handler;
+        this.preparedStatementCache = preparedStatementCache;
+        this.statementMetrics = statementMetrics;
+    }
+
+    static Connection wrap(Connection connection, PreparedStatementCaches preparedStatementCaches,
+            StatementMetrics statementMetrics) {
+        ConnectionHandler handler = null;
+        PreparedStatementCache preparedStatementCache = null;
+        if (preparedStatementCaches != null && connection instanceof ConnectionWrapper) {
+            handler = ((ConnectionWrapper) connection).getHandler();
+            preparedStatementCache = preparedStatementCaches.get(handler.rawConnection());
+        }
+        InstrumentedConnection instrumentedConnection = new InstrumentedConnection(connection, handler,
+                preparedStatementCache, statementMetrics);
+        instrumentedConnection.proxy = (Connection) Proxy.newProxyInstance(InstrumentedConnection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, instrumentedConnection);
+        return instrumentedConnection.proxy;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "prepareStatement":
+                if (preparedStatementCache != null && isCacheable(args)) {
+                    return prepareCached(method, args);
+                }
+                return wrap((Statement) delegate(connection, method, args), method.getReturnType(), (String) args[0], null);
+            case "prepareCall":
+                return wrap((Statement) delegate(connection, method, args), method.getReturnType(), (String) args[0], null);
+            case "createStatement":
+                return wrap((Statement) delegate(connection, method, args), method.getReturnType(), null, null);
+            case "close":
+            case "abort":
+                closeOpenStatements();
+                return delegate(connection, method, args);
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return delegate(connection, method, args);
+        }
+    }
+
+    private Object prepareCached(Method method, Object[] args) throws Throwable {
+        Object key = args.length == 1 ? args[0] : Arrays.asList(args);
+        handler.verifyEnlistment();
+        PreparedStatement statement = preparedStatementCache.take(key);
+        if (statement == null) {
+            try {
+                statement = (PreparedStatement) delegate(connection, method, args);
+            } catch (SQLException e) {
+                handler.setFlushOnly(e);
+                throw e;
+            }
+        }
+        return wrap(statement, method.getReturnType(), (String) args[0], key);
+    }
+
+    private Object wrap(Statement statement, Class<?> type, String sql, Object cacheKey) {
+        InstrumentedStatement instrumentedStatement = new InstrumentedStatement(this, statement, type, sql, cacheKey);
+        synchronized (openStatements) {
+            openStatements.add(instrumentedStatement);
+        }
+        return instrumentedStatement.getProxy();
+    }
+
+    /**
+     * Only the variants of {@code prepareStatement} taking a SQL string and int flags are cached.
+     */
+    private static boolean isCacheable(Object[] args) {
+        for (Object arg : args) {
+            if (!(arg instanceof String || arg instanceof Integer)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void closeOpenStatements() throws SQLException {
+        List<InstrumentedStatement> statements;
+        synchronized (openStatements) {
+            statements = new ArrayList<>(openStatements);
+        }
+        for (InstrumentedStatement statement : statements) {
+            statement.close();
+        }
+    }
+
+    void onStatementClosed(InstrumentedStatement statement) {
+        synchronized (openStatements) {
+            openStatements.remove(statement);
+        }
+    }
+
+    void onCachedStatementReleased(Object cacheKey, PreparedStatement statement) {
+        // the statement outlives this connection, it must not be closed by Agroal when the connection is returned
+        ((ConnectionWrapper) connection).releaseTrackedStatement(statement);
+        preparedStatementCache.offer(cacheKey, statement);
+    }
+
+    void onCachedStatementFailure(SQLException e) {
+        handler.setFlushOnly(e);
+    }
+
+    Connection getProxy() {
+        return proxy;
+    }
+
+    StatementMetrics getStatementMetrics() {
+        return statementMetrics;
+    }
+
+    static Object delegate(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
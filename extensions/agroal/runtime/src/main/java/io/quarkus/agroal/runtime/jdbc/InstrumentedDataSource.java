@@ -0,0 +1,135 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Collection;
+import java.util.List;
+import java.util.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.agroal.api.AgroalDataSourceMetrics;
+import io.agroal.api.AgroalPoolInterceptor;
+import io.agroal.api.configuration.AgroalDataSourceConfiguration;
+
+/**
+ * An {@link AgroalDataSource} caching the prepared statements of each connection
+ * and/or recording the execution time of statements.
+ */
+public final class InstrumentedDataSource implements AgroalDataSource {
+
+    private static final long serialVersionUID = 1L;
+
+    private final AgroalDataSource delegate;
+    private final PreparedStatementCaches preparedStatementCaches;
+    private final StatementMetrics statementMetrics;
+
+    /**
+     * @param delegate the pool
+     * @param preparedStatementCaches the prepared statement caches, must be registered as a listener of the pool;
+     *        {@code null} to disable caching
+     * @param statementMetrics the statement metrics; {@code null} to disable them. Statements are not recorded
+     *        until a metrics factory is bound to them.
+     */
+    public InstrumentedDataSource(AgroalDataSource delegate, PreparedStatementCaches preparedStatementCaches,
+            StatementMetrics statementMetrics) {
+        this.delegate = delegate;
+        this.preparedStatementCaches = preparedStatementCaches;
+        this.statementMetrics = statementMetrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return instrument(delegate.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return instrument(delegate.getConnection(username, password));
+    }
+
+    private Connection instrument(Connection connection) {
+        StatementMetrics boundStatementMetrics = statementMetrics != null && statementMetrics.isBound()
+                ? statementMetrics
+                : null;
+        if (preparedStatementCaches == null && boundStatementMetrics == null) {
+            // nothing to do, don't pay for the proxies and the SQL fingerprints
+            return connection;
+        }
+        return InstrumentedConnection.wrap(connection, preparedStatementCaches, boundStatementMetrics);
+    }
+
+    @Override
+    public AgroalDataSourceConfiguration getConfiguration() {
+        return delegate.getConfiguration();
+    }
+
+    @Override
+    public AgroalDataSourceMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void flush(FlushMode mode) {
+        delegate.flush(mode);
+    }
+
+    @Override
+    public void setPoolInterceptors(Collection<? extends AgroalPoolInterceptor> interceptors) {
+        delegate.setPoolInterceptors(interceptors);
+    }
+
+    @Override
+    public List<AgroalPoolInterceptor> getPoolInterceptors() {
+        return delegate.getPoolInterceptors();
+    }
+
+    @Override
+    public boolean isHealthy(boolean newConnection) throws SQLException {
+        return delegate.isHealthy(newConnection);
+    }
+
+    @Override
+    public void close() {
+        if (preparedStatementCaches != null) {
+            preparedStatementCaches.closeAll();
+        }
+        delegate.close();
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return delegate.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        delegate.setLogWriter(out);
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        delegate.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return delegate.getLoginTimeout();
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        return delegate.getParentLogger();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return delegate.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,40 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Returns the instrumented statement a result set was produced by, instead of the underlying one.
+ */
+final class InstrumentedResultSet implements InvocationHandler {
+
+    private final ResultSet resultSet;
+    private final Statement statement;
+
+    private InstrumentedResultSet(ResultSet resultSet, Statement statement) {
+        this.resultSet = resultSet;
+        this.statement = statement;
+    }
+
+    static ResultSet wrap(ResultSet resultSet, Statement statement) {
+        return (ResultSet) Proxy.newProxyInstance(InstrumentedResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, new InstrumentedResultSet(resultSet, statement));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "getStatement":
+                return statement;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                return InstrumentedConnection.delegate(resultSet, method, args);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Times the executions of a statement and, for a cached prepared statement, gives it back to the cache when closed.
+ * <p>
+ * The result sets of the statement are wrapped as well, so that the statement they return is this one.
+ */
+final class InstrumentedStatement implements InvocationHandler {
+
+    /**
+     * Methods changing the state of the statement in a way that is not reset when it is given back to the cache:
+     * a statement on which one of them is called is closed instead.
+     */
+    private static final Set<String> NON_REUSABLE_METHODS = new HashSet<>(Arrays.asList("setMaxRows", "setLargeMaxRows",
+            "setMaxFieldSize", "setFetchSize", "setFetchDirection", "setQueryTimeout", "setEscapeProcessing", "setPoolable",
+            "setCursorName", "closeOnCompletion"));
+
+    private final InstrumentedConnection connection;
+    private final Statement statement;
+    private final Statement proxy;
+    private final Object cacheKey;
+    private String fingerprint;
+    private boolean reusable;
+    private boolean closed;
+
+    InstrumentedStatement(InstrumentedConnection connection, Statement statement, Class<?> type, String sql,
+            Object cacheKey) {
+        this.connection = connection;
+        this.statement = statement;
+        this.proxy = (Statement) Proxy.newProxyInstance(InstrumentedStatement.class.getClassLoader(),
+                new Class<?>[] { type }, this);
+        this.cacheKey = cacheKey;
+        this.reusable = cacheKey != null;
+        StatementMetrics statementMetrics = connection.getStatementMetrics();
+        if (statementMetrics != null && sql != null) {
+            this.fingerprint = statementMetrics.fingerprint(sql);
+        }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        String name = method.getName();
+        if (name.startsWith("execute")) {
+            return execute(method, args);
+        }
+        switch (name) {
+            case "close":
+                close();
+                return null;
+            case "isClosed":
+                return closed || statement.isClosed();
+            case "getConnection":
+                return connection.getProxy();
+            case "addBatch":
+                StatementMetrics statementMetrics = connection.getStatementMetrics();
+                if (statementMetrics != null && fingerprint == null && args != null && args.length == 1) {
+                    fingerprint = statementMetrics.fingerprint((String) args[0]);
+                }
+                break;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                if (NON_REUSABLE_METHODS.contains(name)) {
+                    reusable = false;
+                }
+        }
+        return invokeStatement(method, args);
+    }
+
+    private Object execute(Method method, Object[] args) throws Throwable {
+        StatementMetrics statementMetrics = connection.getStatementMetrics();
+        if (statementMetrics == null) {
+            return invokeStatement(method, args);
+        }
+        String executedFingerprint = args != null && args.length > 0 && args[0] instanceof String
+                ? statementMetrics.fingerprint((String) args[0])
+                : fingerprint;
+        long start = System.nanoTime();
+        try {
+            return invokeStatement(method, args);
+        } finally {
+            statementMetrics.record(executedFingerprint, System.nanoTime() - start);
+        }
+    }
+
+    private Object invokeStatement(Method method, Object[] args) throws Throwable {
+        try {
+            Object result = InstrumentedConnection.delegate(statement, method, args);
+            if (result != null && method.getReturnType() == ResultSet.class) {
+                return InstrumentedResultSet.wrap((ResultSet) result, proxy);
+            }
+            return result;
+        } catch (SQLException e) {
+            if (cacheKey != null) {
+                reusable = false;
+                connection.onCachedStatementFailure(e);
+            }
+            throw e;
+        }
+    }
+
+    Statement getProxy() {
+        return proxy;
+    }
+
+    void close() throws SQLException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        connection.onStatementClosed(this);
+        if (reusable) {
+            PreparedStatement preparedStatement = (PreparedStatement) statement;
+            try {
+                ResultSet resultSet = preparedStatement.getResultSet();
+                if (resultSet != null) {
+                    resultSet.close();
+                }
+                preparedStatement.clearParameters();
+                preparedStatement.clearBatch();
+                preparedStatement.clearWarnings();
+                connection.onCachedStatementReleased(cacheKey, preparedStatement);
+                return;
+            } catch (SQLException e) {
+                // the statement is not in a reusable state
+            }
+        }
+        statement.close();
+    }
+}
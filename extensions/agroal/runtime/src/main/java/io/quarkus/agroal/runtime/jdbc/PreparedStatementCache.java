@@ -0,0 +1,65 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.logging.Logger;
+
+/**
+ * The idle prepared statements of a single physical connection, in least recently used order.
+ * <p>
+ * A statement is removed from the cache while it is in use, so that it is never handed out twice.
+ */
+final class PreparedStatementCache {
+
+    private static final Logger log = Logger.getLogger(PreparedStatementCache.class);
+
+    private final LinkedHashMap<Object, PreparedStatement> statements;
+    private boolean closed;
+
+    PreparedStatementCache(int maxSize) {
+        this.statements = new LinkedHashMap<Object, PreparedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, PreparedStatement> eldest) {
+                if (size() > maxSize) {
+                    closeQuietly(eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    synchronized PreparedStatement take(Object key) {
+        return statements.remove(key);
+    }
+
+    /**
+     * Returns a statement to the cache, or closes it if an equivalent statement is already cached.
+     */
+    synchronized void offer(Object key, PreparedStatement statement) {
+        if (closed || statements.containsKey(key)) {
+            closeQuietly(statement);
+            return;
+        }
+        statements.put(key, statement);
+    }
+
+    synchronized void close() {
+        closed = true;
+        for (PreparedStatement statement : statements.values()) {
+            closeQuietly(statement);
+        }
+        statements.clear();
+    }
+
+    static void closeQuietly(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            log.debug("Unable to close cached prepared statement", e);
+        }
+    }
+}
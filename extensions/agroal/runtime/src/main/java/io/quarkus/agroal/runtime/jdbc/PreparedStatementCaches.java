@@ -0,0 +1,45 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.sql.Connection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+import io.agroal.api.AgroalDataSourceListener;
+
+/**
+ * Keeps a {@link PreparedStatementCache} per physical connection of a datasource,
+ * and closes it when the pool destroys the connection.
+ */
+public final class PreparedStatementCaches implements AgroalDataSourceListener {
+
+    private final int maxSize;
+    private final ConcurrentMap<Connection, PreparedStatementCache> caches = new ConcurrentHashMap<>();
+
+    public PreparedStatementCaches(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    PreparedStatementCache get(Connection rawConnection) {
+        return caches.computeIfAbsent(rawConnection, new Function<Connection, PreparedStatementCache>() {
+            @Override
+            public PreparedStatementCache apply(Connection connection) {
+                return new PreparedStatementCache(maxSize);
+            }
+        });
+    }
+
+    @Override
+    public void beforeConnectionDestroy(Connection connection) {
+        PreparedStatementCache cache = caches.remove(connection);
+        if (cache != null) {
+            cache.close();
+        }
+    }
+
+    void closeAll() {
+        for (Connection connection : caches.keySet()) {
+            beforeConnectionDestroy(connection);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+/**
+ * Normalizes SQL so that statements only differing by their literal values are grouped together:
+ * string and numeric literals are replaced by {@code ?}, lists of parameters in an {@code IN} clause
+ * are collapsed into a single {@code ?} and whitespace is collapsed.
+ */
+public final class SqlFingerprint {
+
+    static final int MAX_LENGTH = 256;
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        StringBuilder result = new StringBuilder(Math.min(sql.length(), MAX_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && result.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                // string literal, '' being an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i++;
+                        } else {
+                            break;
+                        }
+                    }
+                    i++;
+                }
+                i++;
+                appendParameter(result);
+            } else if (Character.isDigit(c) && !isPartOfIdentifier(sql, i)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendParameter(result);
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (result.length() > 0) {
+                    result.append(' ');
+                }
+            } else if (c == '?') {
+                i++;
+                appendParameter(result);
+            } else {
+                i++;
+                result.append(c);
+            }
+        }
+        int end = result.length();
+        while (end > 0 && result.charAt(end - 1) == ' ') {
+            end--;
+        }
+        result.setLength(end);
+        return result.toString();
+    }
+
+    private static boolean isPartOfIdentifier(String sql, int index) {
+        if (index == 0) {
+            return false;
+        }
+        char previous = sql.charAt(index - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$' || previous == '.';
+    }
+
+    /**
+     * Appends a {@code ?}, unless it is the next element of a list of parameters: {@code (?, ?, ?)} becomes {@code (?)}.
+     */
+    private static void appendParameter(StringBuilder result) {
+        int end = result.length();
+        while (end > 0 && result.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0 && result.charAt(end - 1) == ',') {
+            int previous = end - 1;
+            while (previous > 0 && result.charAt(previous - 1) == ' ') {
+                previous--;
+            }
+            if (previous > 0 && result.charAt(previous - 1) == '?') {
+                result.setLength(previous);
+                return;
+            }
+        }
+        result.append('?');
+    }
+}
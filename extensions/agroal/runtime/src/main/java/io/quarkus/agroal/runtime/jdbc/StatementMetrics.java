@@ -0,0 +1,74 @@
+package io.quarkus.agroal.runtime.jdbc;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Records the execution time of the statements of a datasource, per {@link SqlFingerprint SQL fingerprint}.
+ * <p>
+ * Nothing is recorded until a {@link MetricsFactory} is bound.
+ * The number of distinct fingerprints is bounded: once {@link #MAX_FINGERPRINTS} is reached,
+ * executions of new statements are recorded under the {@link #OTHER} fingerprint.
+ */
+public final class StatementMetrics {
+
+    public static final String METRIC_NAME = "agroal.statement.execution";
+    static final String OTHER = "other";
+    static final int MAX_FINGERPRINTS = 500;
+
+    private final String dataSourceName;
+    private final ConcurrentMap<String, String> fingerprints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TimeRecorder> timers = new ConcurrentHashMap<>();
+    private volatile MetricsFactory metricsFactory;
+
+    public StatementMetrics(String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+    }
+
+    public void bind(MetricsFactory metricsFactory) {
+        this.metricsFactory = metricsFactory;
+    }
+
+    boolean isBound() {
+        return metricsFactory != null;
+    }
+
+    String fingerprint(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint != null) {
+            return fingerprint;
+        }
+        fingerprint = SqlFingerprint.of(sql);
+        if (fingerprints.size() < MAX_FINGERPRINTS * 4) {
+            fingerprints.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    void record(String fingerprint, long nanos) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null || fingerprint == null) {
+            return;
+        }
+        TimeRecorder timer = timers.get(fingerprint);
+        if (timer == null) {
+            String tagValue = timers.size() < MAX_FINGERPRINTS ? fingerprint : OTHER;
+            timer = timers.computeIfAbsent(tagValue, new Function<String, TimeRecorder>() {
+                @Override
+                public TimeRecorder apply(String sql) {
+                    return factory.builder(METRIC_NAME)
+                            .description("Execution time of the statements with the same SQL fingerprint.")
+                            .tag("datasource", dataSourceName)
+                            .tag("sql", sql)
+                            .buildTimer();
+                }
+            });
+        }
+        timer.update(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -8,6 +8,7 @@ import java.util.function.Supplier;
 import io.agroal.api.AgroalDataSource;
 import io.agroal.api.AgroalDataSourceMetrics;
 import io.quarkus.agroal.DataSource;
+import io.quarkus.agroal.runtime.DataSources;
 import io.quarkus.arc.Arc;
 import io.quarkus.datasource.common.runtime.DataSourceUtil;
 import io.quarkus.runtime.annotations.Recorder;
@@ -34,6 +35,10 @@ public class AgroalMetricsRecorder {
                 String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
                 AgroalDataSourceMetrics metrics = getDataSource(dataSourceName).getMetrics();
 
+                // the acquisition and hold times are recorded as timers, the durations below are aggregated by Agroal
+                Arc.container().instance(DataSources.class).get().getConnectionTimeMetrics(dataSourceName)
+                        .bind(metricsFactory);
+
                 metricsFactory.builder("agroal.active.count")
                         .description(
                                 "Number of active connections. These connections are in use and not available to be acquired.")
@@ -115,6 +120,18 @@ public class AgroalMetricsRecorder {
         };
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerStatementMetrics(String dataSourceName) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // the timers are registered lazily, one per SQL fingerprint
+                Arc.container().instance(DataSources.class).get().getStatementMetrics(dataSourceName)
+                        .bind(metricsFactory);
+            }
+        };
+    }
+
     private AgroalDataSource getDataSource(String dataSourceName) {
         if (dataSourceName == null || DataSourceUtil.isDefault(dataSourceName)) {
             return Arc.container().instance(AgroalDataSource.class).get();
@@ -0,0 +1,79 @@
+package io.quarkus.agroal.runtime.metrics;
+
+import java.sql.Connection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import io.agroal.api.AgroalDataSourceListener;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * Records how long threads wait to acquire a connection and how long connections are held before
+ * being returned to the pool.
+ * <p>
+ * Unlike the averages and maximums of {@link io.agroal.api.AgroalDataSourceMetrics}, every acquisition is
+ * recorded, so that the distribution of the durations is available.
+ * Nothing is recorded until a {@link MetricsFactory} is bound.
+ */
+public final class ConnectionTimeMetrics implements AgroalDataSourceListener {
+
+    private final String dataSourceName;
+    private final ThreadLocal<Long> acquireStart = new ThreadLocal<>();
+    private final ConcurrentMap<Connection, Long> holdStart = new ConcurrentHashMap<>();
+    private volatile TimeRecorder acquireTimer;
+    private volatile TimeRecorder holdTimer;
+
+    public ConnectionTimeMetrics(String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+    }
+
+    public void bind(MetricsFactory metricsFactory) {
+        acquireTimer = metricsFactory.builder("agroal.connection.acquire.time")
+                .description("Time spent waiting to acquire a connection.")
+                .tag("datasource", dataSourceName)
+                .buildTimer();
+        holdTimer = metricsFactory.builder("agroal.connection.hold.time")
+                .description("Time a connection was held by the application before being returned to the pool.")
+                .tag("datasource", dataSourceName)
+                .buildTimer();
+    }
+
+    @Override
+    public void beforeConnectionAcquire() {
+        if (acquireTimer != null) {
+            acquireStart.set(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void onConnectionAcquire(Connection connection) {
+        TimeRecorder timer = acquireTimer;
+        if (timer == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        Long start = acquireStart.get();
+        if (start != null) {
+            acquireStart.remove();
+            timer.update(now - start, TimeUnit.NANOSECONDS);
+        }
+        // a connection enlisted in a transaction is acquired again for each use, it is held since the first time
+        holdStart.putIfAbsent(connection, now);
+    }
+
+    @Override
+    public void onConnectionReturn(Connection connection) {
+        Long start = holdStart.remove(connection);
+        TimeRecorder timer = holdTimer;
+        if (start != null && timer != null) {
+            timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void onConnectionDestroy(Connection connection) {
+        holdStart.remove(connection);
+    }
+}
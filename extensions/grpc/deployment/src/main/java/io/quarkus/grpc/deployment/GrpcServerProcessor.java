@@ -62,6 +62,7 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.recording.RecorderContext;
 import io.quarkus.grpc.GrpcService;
 import io.quarkus.grpc.auth.DefaultAuthExceptionHandlerProvider;
@@ -75,11 +76,13 @@ import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerBuildTimeConfig;
 import io.quarkus.grpc.runtime.health.GrpcHealthEndpoint;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
+import io.quarkus.grpc.runtime.http.GrpcHttpRoutes;
 import io.quarkus.grpc.runtime.stork.GrpcStorkRecorder;
 import io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.deployment.MinNettyAllocatorMaxOrderBuildItem;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 
@@ -317,8 +320,9 @@ public class GrpcServerProcessor {
     }
 
     @BuildStep(onlyIf = IsNormal.class)
-    KubernetesPortBuildItem registerGrpcServiceInKubernetes(List<BindableServiceBuildItem> bindables) {
-        if (!bindables.isEmpty()) {
+    KubernetesPortBuildItem registerGrpcServiceInKubernetes(List<BindableServiceBuildItem> bindables,
+            GrpcServerBuildTimeConfig serverConfig) {
+        if (!bindables.isEmpty() && serverConfig.useSeparateServer) {
             int port = ConfigProvider.getConfig().getOptionalValue("quarkus.grpc.server.port", Integer.class)
                     .orElse(9000);
             return new KubernetesPortBuildItem(port, GRPC_SERVER);
@@ -328,7 +332,7 @@ public class GrpcServerProcessor {
 
     @BuildStep
     void registerBeans(BuildProducer<AdditionalBeanBuildItem> beans,
-            Capabilities capabilities,
+            Capabilities capabilities, GrpcServerBuildTimeConfig serverConfig,
             List<BindableServiceBuildItem> bindables, BuildProducer<FeatureBuildItem> features) {
         // @GrpcService is a CDI qualifier
         beans.produce(new AdditionalBeanBuildItem(GrpcService.class));
@@ -345,6 +349,20 @@ public class GrpcServerProcessor {
                 beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcSecurityInterceptor.class));
                 beans.produce(AdditionalBeanBuildItem.unremovableOf(DefaultAuthExceptionHandlerProvider.class));
             }
+
+            if (!serverConfig.useSeparateServer) {
+                if (!capabilities.isPresent(Capability.VERTX_HTTP)) {
+                    throw new ConfigurationException("Exposing the gRPC services on the HTTP server requires the "
+                            + "quarkus-vertx-http extension, add it or set quarkus.grpc.server.use-separate-server=true");
+                }
+                String rootPath = ConfigProvider.getConfig().getOptionalValue("quarkus.http.root-path", String.class)
+                        .orElse("/");
+                if (!rootPath.equals("/")) {
+                    throw new ConfigurationException("Exposing the gRPC services on the HTTP server requires "
+                            + "quarkus.http.root-path to be '/', the gRPC clients do not support path prefixes");
+                }
+                beans.produce(AdditionalBeanBuildItem.unremovableOf(GrpcHttpRoutes.class));
+            }
         } else {
             log.debug("Unable to find beans exposing the `BindableService` interface - not starting the gRPC server");
         }
@@ -451,6 +469,7 @@ public class GrpcServerProcessor {
             GrpcBuildTimeConfig buildTimeConfig,
             ShutdownContextBuildItem shutdown,
             List<BindableServiceBuildItem> bindables,
+            GrpcServerBuildTimeConfig serverConfig,
             LaunchModeBuildItem launchModeBuildItem,
             VertxBuildItem vertx) {
 
@@ -464,12 +483,25 @@ public class GrpcServerProcessor {
 
         if (!bindables.isEmpty()
                 || (LaunchMode.current() == LaunchMode.DEVELOPMENT && buildTimeConfig.devMode.forceServerStart)) {
-            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blocking, launchModeBuildItem.getLaunchMode());
+            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, blocking, launchModeBuildItem.getLaunchMode(),
+                    serverConfig.useSeparateServer);
             return new ServiceStartBuildItem(GRPC_SERVER);
         }
         return null;
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerBlockingMetrics(GrpcServerRecorder recorder, List<BindableServiceBuildItem> bindables,
+            ShutdownContextBuildItem shutdown, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        for (BindableServiceBuildItem bindable : bindables) {
+            if (bindable.hasBlockingMethods()) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerBlockingMetrics(shutdown)));
+                return;
+            }
+        }
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     void definializeGrpcFieldsForDevMode(BuildProducer<BytecodeTransformerBuildItem> transformers) {
         transformers.produce(new BytecodeTransformerBuildItem("io.grpc.internal.InternalHandlerRegistry",
@@ -0,0 +1,64 @@
+package io.quarkus.grpc.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ZeroCopyMarshallingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(MyConsumer.class, GreeterGrpc.class, GreeterGrpc.GreeterBlockingStub.class,
+                            HelloService.class, HelloRequest.class, HelloReply.class,
+                            HelloReplyOrBuilder.class, HelloRequestOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.server.zero-copy-marshalling", "true")
+            .overrideConfigKey("quarkus.grpc.server.max-inbound-message-size", "16777216")
+            .overrideConfigKey("quarkus.grpc.server.compression", "gzip")
+            .overrideConfigKey("quarkus.grpc.server.compression-threshold", "1024")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.host", "localhost")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.port", "9001")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.zero-copy-marshalling", "true")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.max-inbound-message-size", "16777216");
+
+    @Inject
+    MyConsumer consumer;
+
+    @Test
+    public void testLargeMessages() {
+        String name = "a".repeat(8 * 1024 * 1024);
+        assertThat(consumer.invoke(name)).isEqualTo("Hello " + name);
+    }
+
+    @Test
+    public void testSmallMessages() {
+        assertThat(consumer.invoke("neo")).isEqualTo("Hello neo");
+    }
+
+    @ApplicationScoped
+    static class MyConsumer {
+
+        @GrpcClient("hello-service")
+        GreeterGrpc.GreeterBlockingStub stub;
+
+        public String invoke(String s) {
+            return stub.sayHello(HelloRequest.newBuilder().setName(s).build()).getMessage();
+        }
+
+    }
+}
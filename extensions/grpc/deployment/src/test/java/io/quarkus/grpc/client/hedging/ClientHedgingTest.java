@@ -0,0 +1,61 @@
+package io.quarkus.grpc.client.hedging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+import io.grpc.examples.helloworld.Greeter;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.quarkus.grpc.GrpcClient;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClientHedgingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addPackage(GreeterGrpc.class.getPackage()).addClasses(MyConsumer.class,
+                            HelloService.class))
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.host", "localhost")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.port", "9001")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.pool-size", "3")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.hedging.methods", "helloworld.Greeter/SayHello")
+            .overrideConfigKey("quarkus.grpc.clients.hello-service.hedging.delay", "0.2S");
+
+    @Inject
+    MyConsumer consumer;
+
+    @Test
+    public void testSlowAttemptIsHedged() {
+        assertThat(consumer.channel).isInstanceOf(ManagedChannel.class);
+        assertThat(consumer.channel.toString()).startsWith("PooledChannel");
+
+        HelloReply reply = consumer.service.sayHello(HelloRequest.newBuilder().setName("hedging").build())
+                .await().atMost(Duration.ofSeconds(2));
+        assertThat(reply.getMessage()).isEqualTo("attempt 2");
+        assertThat(HelloService.ATTEMPTS.get()).isEqualTo(2);
+    }
+
+    @Singleton
+    static class MyConsumer {
+
+        @GrpcClient("hello-service")
+        Greeter service;
+
+        @GrpcClient("hello-service")
+        Channel channel;
+
+    }
+}
@@ -0,0 +1,28 @@
+package io.quarkus.grpc.client.hedging;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.examples.helloworld.Greeter;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.quarkus.grpc.GrpcService;
+import io.smallrye.mutiny.Uni;
+
+@GrpcService
+public class HelloService implements Greeter {
+
+    static final AtomicInteger ATTEMPTS = new AtomicInteger();
+
+    @Override
+    public Uni<HelloReply> sayHello(HelloRequest request) {
+        int attempt = ATTEMPTS.incrementAndGet();
+        Uni<HelloReply> reply = Uni.createFrom().item(HelloReply.newBuilder().setMessage("attempt " + attempt).build());
+        if (attempt == 1) {
+            // only the first attempt is slow
+            return reply.onItem().delayIt().by(Duration.ofSeconds(3));
+        }
+        return reply;
+    }
+
+}
@@ -0,0 +1,81 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.Context;
+import io.grpc.Deadline;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.stub.StreamObserver;
+import io.quarkus.grpc.GrpcService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the deadline of the calls served by the HTTP server is propagated to the gRPC context.
+ */
+public class GrpcDeadlineOnHttpServerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(DeadlineService.class, GreeterGrpc.class, HelloRequest.class, HelloReply.class,
+                                    HelloRequestOrBuilder.class, HelloReplyOrBuilder.class))
+            .overrideConfigKey("quarkus.grpc.server.use-separate-server", "false");
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 8081)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testDeadlineIsPropagated() {
+        HelloReply reply = GreeterGrpc.newBlockingStub(channel).withDeadlineAfter(1, TimeUnit.MINUTES)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build());
+        long remainingSeconds = Long.parseLong(reply.getMessage());
+        assertThat(remainingSeconds).isBetween(1L, 60L);
+    }
+
+    @Test
+    public void testNoDeadline() {
+        HelloReply reply = GreeterGrpc.newBlockingStub(channel)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build());
+        assertThat(reply.getMessage()).isEqualTo("none");
+    }
+
+    @GrpcService
+    public static class DeadlineService extends GreeterGrpc.GreeterImplBase {
+
+        @Override
+        public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+            Deadline deadline = Context.current().getDeadline();
+            String message = deadline == null ? "none"
+                    : String.valueOf(deadline.timeRemaining(TimeUnit.SECONDS));
+            responseObserver.onNext(HelloReply.newBuilder().setMessage(message).build());
+            responseObserver.onCompleted();
+        }
+    }
+}
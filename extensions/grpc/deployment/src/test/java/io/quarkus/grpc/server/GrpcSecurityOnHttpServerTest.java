@@ -0,0 +1,97 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks that the HTTP security policies and the maximum body size apply to the calls served by the HTTP server.
+ */
+public class GrpcSecurityOnHttpServerTest {
+
+    private static final Metadata.Key<String> AUTHORIZATION = Metadata.Key.of("Authorization",
+            Metadata.ASCII_STRING_MARSHALLER);
+    // john:john
+    private static final String JOHN_BASIC_CREDS = "am9objpqb2hu";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setFlatClassPath(true).setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(HelloService.class, GreeterGrpc.class, HelloRequest.class, HelloReply.class,
+                                    HelloRequestOrBuilder.class, HelloReplyOrBuilder.class)
+                            .add(new StringAsset("quarkus.grpc.server.use-separate-server=false\n" +
+                                    "quarkus.security.users.embedded.enabled=true\n" +
+                                    "quarkus.security.users.embedded.plain-text=true\n" +
+                                    "quarkus.security.users.embedded.users.john=john\n" +
+                                    "quarkus.security.users.embedded.roles.john=employees\n" +
+                                    "quarkus.http.auth.basic=true\n" +
+                                    "quarkus.http.auth.permission.greeter.paths=/helloworld.Greeter/*\n" +
+                                    "quarkus.http.auth.permission.greeter.policy=authenticated\n" +
+                                    "quarkus.http.limits.max-body-size=1K"), "application.properties"));
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 8081)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testUnauthenticatedCallIsRejected() {
+        assertThatThrownBy(() -> GreeterGrpc.newBlockingStub(channel)
+                .sayHello(HelloRequest.newBuilder().setName("neo").build()))
+                        .isInstanceOfSatisfying(StatusRuntimeException.class,
+                                e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+    }
+
+    @Test
+    public void testAuthenticatedCall() {
+        HelloReply reply = authenticated().sayHello(HelloRequest.newBuilder().setName("neo").build());
+        assertThat(reply.getMessage()).isEqualTo("Hello neo");
+    }
+
+    @Test
+    public void testMaxBodySize() {
+        assertThatThrownBy(() -> authenticated().sayHello(HelloRequest.newBuilder().setName("x".repeat(2048)).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED));
+    }
+
+    private GreeterGrpc.GreeterBlockingStub authenticated() {
+        Metadata headers = new Metadata();
+        headers.put(AUTHORIZATION, "Basic " + JOHN_BASIC_CREDS);
+        return GreeterGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
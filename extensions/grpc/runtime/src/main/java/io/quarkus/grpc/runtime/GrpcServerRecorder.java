@@ -9,18 +9,21 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import javax.enterprise.inject.Instance;
@@ -29,6 +32,7 @@ import org.jboss.logging.Logger;
 
 import grpc.health.v1.HealthOuterClass;
 import io.grpc.BindableService;
+import io.grpc.MethodDescriptor;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerInterceptors;
 import io.grpc.ServerMethodDefinition;
@@ -36,19 +40,26 @@ import io.grpc.ServerServiceDefinition;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.Subclass;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcServerBlockingConfig;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerNettyConfig;
 import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
+import io.quarkus.grpc.runtime.http.GrpcHttpRoutes;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
 import io.quarkus.grpc.runtime.supports.CompressionInterceptor;
+import io.quarkus.grpc.runtime.supports.CompressionThresholds;
+import io.quarkus.grpc.runtime.supports.ZeroCopyMarshallers;
+import io.quarkus.grpc.runtime.supports.blocking.BlockingExecutionMetrics;
 import io.quarkus.grpc.runtime.supports.blocking.BlockingServerInterceptor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.runtime.util.VirtualThreadUtil;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.DeploymentOptions;
@@ -56,6 +67,7 @@ import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.grpc.VertxServer;
 import io.vertx.grpc.VertxServerBuilder;
@@ -64,8 +76,13 @@ import io.vertx.grpc.VertxServerBuilder;
 public class GrpcServerRecorder {
     private static final Logger LOGGER = Logger.getLogger(GrpcServerRecorder.class.getName());
 
+    private static final int DEFAULT_MAX_MESSAGE_SIZE = 4 * 1024 * 1024;
+
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
     private Map<String, List<String>> blockingMethodsPerService = Collections.emptyMap();
+    private Executor unorderedBlockingExecutor;
+    private Predicate<String> unorderedBlockingMethods;
+    private boolean zeroCopyMarshalling;
 
     private static volatile DevModeWrapper devModeWrapper;
     private static volatile List<GrpcServiceDefinition> services = Collections.emptyList();
@@ -77,7 +94,8 @@ public class GrpcServerRecorder {
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
             ShutdownContext shutdown,
-            Map<String, List<String>> blockingMethodsPerServiceImplementationClass, LaunchMode launchMode) {
+            Map<String, List<String>> blockingMethodsPerServiceImplementationClass, LaunchMode launchMode,
+            boolean useSeparateServer) {
         GrpcContainer grpcContainer = Arc.container().instance(GrpcContainer.class).get();
         if (grpcContainer == null) {
             throw new IllegalStateException("gRPC not initialized, GrpcContainer not found");
@@ -91,8 +109,13 @@ public class GrpcServerRecorder {
         this.blockingMethodsPerService = blockingMethodsPerServiceImplementationClass;
 
         GrpcServerConfiguration configuration = cfg.server;
+        initBlockingExecution(vertx, configuration.blocking, shutdown);
+        this.zeroCopyMarshalling = configuration.zeroCopyMarshalling;
 
-        if (launchMode == LaunchMode.DEVELOPMENT) {
+        if (!useSeparateServer) {
+            // the HTTP server takes care of the dev mode reload
+            httpStart(grpcContainer, vertx, configuration, shutdown, launchMode);
+        } else if (launchMode == LaunchMode.DEVELOPMENT) {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
             if (GrpcServerReloader.getServer() == null) {
@@ -142,6 +165,101 @@ public class GrpcServerRecorder {
         }
     }
 
+    private void httpStart(GrpcContainer grpcContainer, Vertx vertx, GrpcServerConfiguration configuration,
+            ShutdownContext shutdown, LaunchMode launchMode) {
+        List<GrpcServiceDefinition> toBeRegistered = collectServiceDefinitions(grpcContainer.getServices());
+        List<ServerServiceDefinition> definitions = new ArrayList<>();
+        List<ServerServiceDefinition> servicesWithInterceptors = new ArrayList<>();
+        CompressionInterceptor compressionInterceptor = prepareCompressionInterceptor(configuration);
+        for (GrpcServiceDefinition service : toBeRegistered) {
+            servicesWithInterceptors.add(serviceWithInterceptors(vertx, grpcContainer, compressionInterceptor, service,
+                    launchMode == LaunchMode.DEVELOPMENT));
+            LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
+            definitions.add(service.definition);
+        }
+        if (configuration.enableReflectionService || launchMode == LaunchMode.DEVELOPMENT) {
+            LOGGER.info("Registering gRPC reflection service");
+            servicesWithInterceptors.add(new ReflectionService(definitions).bindService());
+        }
+
+        Map<String, ServerMethodDefinition<?, ?>> methods = new HashMap<>();
+        List<ServerInterceptor> globalInterceptors = grpcContainer.getSortedGlobalInterceptors();
+        for (ServerServiceDefinition service : servicesWithInterceptors) {
+            // as with VertxServerBuilder#intercept(), the global interceptors run before the per-service ones
+            ServerServiceDefinition intercepted = ServerInterceptors.intercept(service, globalInterceptors);
+            for (ServerMethodDefinition<?, ?> method : intercepted.getMethods()) {
+                methods.put(method.getMethodDescriptor().getFullMethodName(), method);
+            }
+        }
+
+        GrpcHttpRoutes.install(methods, configuration.maxInboundMessageSize.orElse(DEFAULT_MAX_MESSAGE_SIZE));
+        shutdown.addShutdownTask(new Runnable() { // NOSONAR
+            @Override
+            public void run() {
+                GrpcHttpRoutes.uninstall();
+            }
+        });
+
+        initHealthStorage();
+        LOGGER.info("gRPC services exposed on the HTTP server");
+    }
+
+    private void initBlockingExecution(Vertx vertx, GrpcServerBlockingConfig config, ShutdownContext shutdown) {
+        if (!config.ordered) {
+            unorderedBlockingMethods = new Predicate<String>() {
+                @Override
+                public boolean test(String fullMethodName) {
+                    return true;
+                }
+            };
+        } else if (config.unordered.isPresent() && !config.unordered.get().isEmpty()) {
+            Set<String> names = new HashSet<>(config.unordered.get());
+            unorderedBlockingMethods = new Predicate<String>() {
+                @Override
+                public boolean test(String fullMethodName) {
+                    return names.contains(fullMethodName)
+                            || names.contains(MethodDescriptor.extractFullServiceName(fullMethodName));
+                }
+            };
+        } else {
+            unorderedBlockingMethods = null;
+            unorderedBlockingExecutor = null;
+            return;
+        }
+
+        unorderedBlockingExecutor = null;
+        if (config.executor == GrpcServerBlockingConfig.Executor.VIRTUAL_THREADS) {
+            unorderedBlockingExecutor = VirtualThreadUtil.getVirtualThreadExecutor();
+            if (unorderedBlockingExecutor == null) {
+                LOGGER.warnf("Virtual threads are not supported by the JVM, the blocking gRPC calls use a pool of %d "
+                        + "threads instead", config.dedicatedPoolSize);
+            }
+        }
+        if (unorderedBlockingExecutor == null && config.executor != GrpcServerBlockingConfig.Executor.WORKER_POOL) {
+            // a Vert.x worker executor, so the services still run on a Vert.x context
+            WorkerExecutor workerExecutor = vertx.createSharedWorkerExecutor("grpc-blocking-executor",
+                    config.dedicatedPoolSize);
+            unorderedBlockingExecutor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    workerExecutor.executeBlocking(new Handler<Promise<Object>>() {
+                        @Override
+                        public void handle(Promise<Object> promise) {
+                            command.run();
+                            promise.complete();
+                        }
+                    }, false, null);
+                }
+            };
+            shutdown.addShutdownTask(new Runnable() { // NOSONAR
+                @Override
+                public void run() {
+                    workerExecutor.close();
+                }
+            });
+        }
+    }
+
     private void postStartup(GrpcServerConfiguration configuration, boolean test) {
         initHealthStorage();
         LOGGER.infof("gRPC Server started on %s:%d [SSL enabled: %s]",
@@ -314,6 +432,21 @@ public class GrpcServerRecorder {
         return grpcVerticleCount.get();
     }
 
+    public Consumer<MetricsFactory> registerBlockingMetrics(ShutdownContext shutdown) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                BlockingExecutionMetrics.init(metricsFactory);
+                shutdown.addShutdownTask(new Runnable() { // NOSONAR
+                    @Override
+                    public void run() {
+                        BlockingExecutionMetrics.reset();
+                    }
+                });
+            }
+        };
+    }
+
     public RuntimeValue<ServerInterceptorStorage> initServerInterceptorStorage(
             Map<String, Set<Class<?>>> perServiceInterceptors,
             Set<Class<?>> globalInterceptors) {
@@ -416,7 +549,9 @@ public class GrpcServerRecorder {
     private CompressionInterceptor prepareCompressionInterceptor(GrpcServerConfiguration configuration) {
         CompressionInterceptor compressionInterceptor = null;
         if (configuration.compression.isPresent()) {
-            compressionInterceptor = new CompressionInterceptor(configuration.compression.get());
+            compressionInterceptor = new CompressionInterceptor(configuration.compression.get(),
+                    new CompressionThresholds(configuration.compressionThreshold,
+                            configuration.methodCompressionThresholds));
         }
         return compressionInterceptor;
     }
@@ -434,10 +569,15 @@ public class GrpcServerRecorder {
         if (!blockingMethodsPerService.isEmpty()) {
             List<String> list = blockingMethodsPerService.get(service.getImplementationClassName());
             if (list != null) {
-                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode));
+                interceptors.add(new BlockingServerInterceptor(vertx, list, devMode, unorderedBlockingExecutor,
+                        unorderedBlockingMethods));
             }
         }
-        return ServerInterceptors.intercept(service.definition, interceptors);
+        ServerServiceDefinition definition = service.definition;
+        if (zeroCopyMarshalling) {
+            definition = ZeroCopyMarshallers.wrap(definition);
+        }
+        return ServerInterceptors.intercept(definition, interceptors);
     }
 
     private class GrpcServerVerticle extends AbstractVerticle {
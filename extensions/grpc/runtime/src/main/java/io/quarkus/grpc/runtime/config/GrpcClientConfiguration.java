@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
@@ -159,6 +160,29 @@ public class GrpcClientConfiguration {
     @ConfigItem
     public Optional<String> compression;
 
+    /**
+     * The minimum size in bytes of the compressed messages, the smaller messages are sent uncompressed.
+     * Only used when the compression is enabled.
+     */
+    @ConfigItem
+    public OptionalInt compressionThreshold;
+
+    /**
+     * The compression thresholds of specific services (e.g. `helloworld.Greeter`) or methods (e.g.
+     * `helloworld.Greeter/SayHello`), overriding `compression-threshold`.
+     */
+    @ConfigItem
+    public Map<String, Integer> methodCompressionThresholds;
+
+    /**
+     * Whether the protobuf messages are parsed directly from the network buffers.
+     * <p>
+     * By default, each message is copied into a heap byte array before being parsed. This reduces the allocations when
+     * receiving large messages. It has no effect on the compressed messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
+
     /**
      * The deadline used for each call.
      * <p>
@@ -168,4 +192,22 @@ public class GrpcClientConfiguration {
      */
     @ConfigItem
     public Optional<Duration> deadline;
+
+    /**
+     * The number of channels, and so of HTTP/2 connections, the calls are spread across.
+     * <p>
+     * A single connection is limited by the max number of concurrent streams of the server and is handled by a single
+     * event loop. With more than one channel, the calls are dispatched in a round-robin fashion to channels connected
+     * from different event loops. When `name-resolver` is `stork`, each channel selects the service instances with
+     * Stork.
+     */
+    @ConfigItem(defaultValue = "1")
+    public int poolSize;
+
+    /**
+     * Configures the hedging of the calls.
+     * Hedging enables the retry support of the channel, even if `retry` is `false`.
+     */
+    @ConfigItem
+    public GrpcClientHedgingConfig hedging;
 }
@@ -0,0 +1,42 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class GrpcClientHedgingConfig {
+
+    /**
+     * The services (e.g. `helloworld.Greeter`) and methods (e.g. `helloworld.Greeter/SayHello`) whose calls are hedged.
+     * <p>
+     * A hedged call is sent again if no response is received within `delay`, and the first response wins. Only list
+     * idempotent methods: the server may execute the call several times. Hedging is disabled if not set.
+     */
+    @ConfigItem
+    public Optional<List<String>> methods;
+
+    /**
+     * The maximum number of attempts of a hedged call, including the original one.
+     * It is capped by `max-hedged-attempts`.
+     */
+    @ConfigItem(defaultValue = "2")
+    public int maxAttempts;
+
+    /**
+     * The delay after which the next attempt of a hedged call is sent.
+     */
+    @ConfigItem(defaultValue = "0.1S")
+    public Duration delay;
+
+    /**
+     * The status codes (e.g. `UNAVAILABLE`) that do not stop the pending attempts of a hedged call.
+     * Any other status completes the call.
+     */
+    @ConfigItem(defaultValue = "UNAVAILABLE")
+    public List<String> nonFatalStatusCodes;
+}
@@ -0,0 +1,51 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class GrpcServerBlockingConfig {
+
+    /**
+     * Whether the blocking calls received on a connection are executed one after the other.
+     * <p>
+     * When `true`, the calls multiplexed on a connection are serialized on the worker pool. When `false`, they are
+     * executed concurrently. The events of a given call (messages, half-close...) are always delivered in order.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean ordered;
+
+    /**
+     * The services (e.g. `helloworld.Greeter`) and methods (e.g. `helloworld.Greeter/SayHello`) whose blocking calls
+     * are executed concurrently, even if `ordered` is `true`.
+     */
+    @ConfigItem
+    public Optional<List<String>> unordered;
+
+    /**
+     * The executor running the unordered blocking calls.
+     * <p>
+     * `worker-pool` uses the Vert.x worker pool, `dedicated` a Vert.x worker pool of `dedicated-pool-size` threads
+     * reserved to the gRPC calls, and `virtual-threads` a new virtual thread per task if the JVM supports it (`dedicated`
+     * is used otherwise). The services running on virtual threads cannot access the Vert.x context. The ordered calls
+     * always use the Vert.x worker pool.
+     */
+    @ConfigItem(defaultValue = "worker-pool")
+    public Executor executor;
+
+    /**
+     * The number of threads of the `dedicated` executor.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int dedicatedPoolSize;
+
+    public enum Executor {
+        WORKER_POOL,
+        DEDICATED,
+        VIRTUAL_THREADS
+    }
+}
@@ -17,4 +17,15 @@ public class GrpcServerBuildTimeConfig {
      */
     @ConfigItem(name = "grpc-health.enabled", defaultValue = "true")
     public boolean grpcHealthEnabled;
+
+    /**
+     * Whether the gRPC services are exposed on a dedicated server, listening on `quarkus.grpc.server.port`.
+     * <p>
+     * If set to `false`, the services are exposed on the HTTP/2 connections of the Vert.x HTTP server instead, sharing
+     * its port, event loops, TLS configuration and metrics. The `quarkus-vertx-http` extension is then required, and
+     * the server configuration (port, TLS, instances...) is ignored, except `max-inbound-message-size` and
+     * `compression`.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean useSeparateServer;
 }
@@ -1,6 +1,7 @@
 package io.quarkus.grpc.runtime.config;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
 
@@ -92,9 +93,38 @@ public class GrpcServerConfiguration {
     @ConfigItem
     public GrpcServerNettyConfig netty;
 
+    /**
+     * Configures the execution of the blocking methods.
+     */
+    @ConfigItem
+    public GrpcServerBlockingConfig blocking;
+
     /**
      * gRPC compression, e.g. "gzip"
      */
     @ConfigItem
     public Optional<String> compression;
+
+    /**
+     * The minimum size in bytes of the compressed messages, the smaller messages are sent uncompressed.
+     * Only used when `compression` is set.
+     */
+    @ConfigItem
+    public OptionalInt compressionThreshold;
+
+    /**
+     * The compression thresholds of specific services (e.g. `helloworld.Greeter`) or methods (e.g.
+     * `helloworld.Greeter/SayHello`), overriding `compression-threshold`.
+     */
+    @ConfigItem
+    public Map<String, Integer> methodCompressionThresholds;
+
+    /**
+     * Whether the protobuf messages are parsed directly from the network buffers.
+     * <p>
+     * By default, each message is copied into a heap byte array before being parsed. This reduces the allocations when
+     * receiving large messages. It has no effect on the compressed messages.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean zeroCopyMarshalling;
 }
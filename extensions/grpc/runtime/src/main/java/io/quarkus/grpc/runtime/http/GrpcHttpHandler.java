@@ -0,0 +1,79 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.util.Map;
+
+import io.grpc.Codec;
+import io.grpc.Decompressor;
+import io.grpc.DecompressorRegistry;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Dispatches the gRPC requests received by the HTTP server to the services, the other requests are passed to the next
+ * route.
+ */
+final class GrpcHttpHandler implements Handler<RoutingContext> {
+
+    private final Map<String, ServerMethodDefinition<?, ?>> methods;
+    private final int maxInboundMessageSize;
+
+    GrpcHttpHandler(Map<String, ServerMethodDefinition<?, ?>> methods, int maxInboundMessageSize) {
+        this.methods = methods;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        if (request.method() != HttpMethod.POST
+                || !GrpcHttpMetadata.isGrpc(request.getHeader("content-type"))) {
+            ctx.next();
+            return;
+        }
+        if (request.version() != HttpVersion.HTTP_2) {
+            ctx.response().setStatusCode(505).end();
+            return;
+        }
+
+        String path = request.path();
+        ServerMethodDefinition<?, ?> method = methods.get(path.startsWith("/") ? path.substring(1) : path);
+        if (method == null) {
+            trailersOnly(ctx.response(), Status.UNIMPLEMENTED.withDescription("Method not found: " + path));
+            return;
+        }
+
+        Decompressor decompressor = Codec.Identity.NONE;
+        String encoding = request.getHeader(GrpcHttpMetadata.GRPC_ENCODING);
+        if (encoding != null && !encoding.equals(Codec.Identity.NONE.getMessageEncoding())) {
+            decompressor = DecompressorRegistry.getDefaultInstance().lookupDecompressor(encoding);
+            if (decompressor == null) {
+                trailersOnly(ctx.response(), Status.UNIMPLEMENTED
+                        .withDescription(String.format("Can't find decompressor for %s", encoding)));
+                return;
+            }
+        }
+
+        long timeout = GrpcHttpMetadata.parseTimeout(request.getHeader(GrpcHttpMetadata.GRPC_TIMEOUT));
+        // set by the HTTP server when quarkus.http.limits.max-body-size is configured, the length of the streamed body
+        // is not known in advance
+        Long maxRequestSize = ctx.get(VertxHttpRecorder.MAX_REQUEST_SIZE_KEY);
+        new GrpcHttpServerCall<>(Vertx.currentContext(), request, method, decompressor, maxInboundMessageSize,
+                maxRequestSize == null ? -1 : maxRequestSize, timeout).start();
+    }
+
+    private static void trailersOnly(HttpServerResponse response, Status status) {
+        response.setStatusCode(200)
+                .putHeader("content-type", GrpcHttpMetadata.CONTENT_TYPE)
+                .putHeader(GrpcHttpMetadata.GRPC_STATUS, String.valueOf(status.getCode().value()))
+                .putHeader(GrpcHttpMetadata.GRPC_MESSAGE, GrpcHttpMetadata.encodeMessage(status.getDescription()))
+                .end();
+    }
+}
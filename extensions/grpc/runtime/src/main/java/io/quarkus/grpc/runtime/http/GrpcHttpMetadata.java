@@ -0,0 +1,132 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.grpc.Metadata;
+import io.vertx.core.MultiMap;
+
+/**
+ * Converts the gRPC metadata to and from HTTP/2 headers, as described in
+ * <a href="https://github.com/grpc/grpc/blob/master/doc/PROTOCOL-HTTP2.md">gRPC over HTTP2</a>.
+ */
+final class GrpcHttpMetadata {
+
+    static final String CONTENT_TYPE = "application/grpc";
+    static final String GRPC_STATUS = "grpc-status";
+    static final String GRPC_MESSAGE = "grpc-message";
+    static final String GRPC_TIMEOUT = "grpc-timeout";
+    static final String GRPC_ENCODING = "grpc-encoding";
+    static final String GRPC_ACCEPT_ENCODING = "grpc-accept-encoding";
+
+    /**
+     * The headers handled by the transport, never exposed as metadata.
+     */
+    private static final Set<String> RESERVED = Set.of("content-type", "te", GRPC_STATUS, GRPC_MESSAGE, GRPC_TIMEOUT,
+            GRPC_ENCODING, GRPC_ACCEPT_ENCODING);
+
+    private GrpcHttpMetadata() {
+    }
+
+    static boolean isGrpc(String contentType) {
+        // application/grpc, application/grpc+proto, application/grpc;charset=...
+        return contentType != null && contentType.regionMatches(true, 0, CONTENT_TYPE, 0, CONTENT_TYPE.length())
+                && (contentType.length() == CONTENT_TYPE.length()
+                        || contentType.charAt(CONTENT_TYPE.length()) == '+'
+                        || contentType.charAt(CONTENT_TYPE.length()) == ';');
+    }
+
+    static Metadata toMetadata(MultiMap headers) {
+        Metadata metadata = new Metadata();
+        for (Map.Entry<String, String> header : headers) {
+            String name = header.getKey().toLowerCase(Locale.ROOT);
+            if (name.startsWith(":") || RESERVED.contains(name)) {
+                continue;
+            }
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                metadata.put(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER),
+                        Base64.getDecoder().decode(header.getValue()));
+            } else {
+                metadata.put(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER), header.getValue());
+            }
+        }
+        return metadata;
+    }
+
+    static void addHeaders(Metadata metadata, MultiMap target) {
+        for (String name : metadata.keys()) {
+            if (RESERVED.contains(name)) {
+                continue;
+            }
+            if (name.endsWith(Metadata.BINARY_HEADER_SUFFIX)) {
+                for (byte[] value : metadata.getAll(Metadata.Key.of(name, Metadata.BINARY_BYTE_MARSHALLER))) {
+                    target.add(name, Base64.getEncoder().withoutPadding().encodeToString(value));
+                }
+            } else {
+                for (String value : metadata.getAll(Metadata.Key.of(name, Metadata.ASCII_STRING_MARSHALLER))) {
+                    target.add(name, value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Percent-encodes the status message: only the printable ASCII characters other than {@code %} are sent as is.
+     */
+    static String encodeMessage(String message) {
+        StringBuilder encoded = null;
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < bytes.length; i++) {
+            byte b = bytes[i];
+            if (b >= ' ' && b < '~' + 1 && b != '%') {
+                if (encoded != null) {
+                    encoded.append((char) b);
+                }
+            } else {
+                if (encoded == null) {
+                    encoded = new StringBuilder(bytes.length + 16);
+                    encoded.append(new String(bytes, 0, i, StandardCharsets.US_ASCII));
+                }
+                encoded.append('%')
+                        .append(Character.toUpperCase(Character.forDigit((b >> 4) & 0xF, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(b & 0xF, 16)));
+            }
+        }
+        return encoded == null ? message : encoded.toString();
+    }
+
+    /**
+     * @return the timeout in nanoseconds, or -1 if the header is missing or invalid
+     */
+    static long parseTimeout(String value) {
+        if (value == null || value.length() < 2 || value.length() > 9) {
+            return -1;
+        }
+        long amount;
+        try {
+            amount = Long.parseLong(value.substring(0, value.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+        switch (value.charAt(value.length() - 1)) {
+            case 'n':
+                return amount;
+            case 'u':
+                return TimeUnit.MICROSECONDS.toNanos(amount);
+            case 'm':
+                return TimeUnit.MILLISECONDS.toNanos(amount);
+            case 'S':
+                return TimeUnit.SECONDS.toNanos(amount);
+            case 'M':
+                return TimeUnit.MINUTES.toNanos(amount);
+            case 'H':
+                return TimeUnit.HOURS.toNanos(amount);
+            default:
+                return -1;
+        }
+    }
+}
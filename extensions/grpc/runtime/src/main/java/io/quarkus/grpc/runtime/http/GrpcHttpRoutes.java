@@ -0,0 +1,54 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.util.Map;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import io.grpc.ServerMethodDefinition;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes the gRPC services on the Vert.x HTTP server, when {@code quarkus.grpc.server.use-separate-server} is
+ * {@code false}.
+ * <p>
+ * The route is registered with the other HTTP routes, so the HTTP security policies and the maximum body size apply
+ * to the gRPC calls. The services are installed once the gRPC container is initialized. Until then, and for the non-gRPC
+ * requests, the route delegates to the next one.
+ */
+@Singleton
+public class GrpcHttpRoutes {
+
+    private static volatile GrpcHttpHandler handler;
+
+    void mount(@Observes Router router) {
+        // after the authentication and permission filters (order -priority) and the body size limit (order -2), but
+        // before the routes and their body handlers, the messages are streamed
+        router.route().order(-1).method(HttpMethod.POST).handler(new Handler<RoutingContext>() {
+            @Override
+            public void handle(RoutingContext ctx) {
+                GrpcHttpHandler current = handler;
+                if (current == null) {
+                    ctx.next();
+                } else {
+                    current.handle(ctx);
+                }
+            }
+        });
+    }
+
+    /**
+     * @param methods the methods of the services, with their interceptors, indexed by full method name
+     * @param maxInboundMessageSize the maximum size of the received messages
+     */
+    public static void install(Map<String, ServerMethodDefinition<?, ?>> methods, int maxInboundMessageSize) {
+        handler = new GrpcHttpHandler(methods, maxInboundMessageSize);
+    }
+
+    public static void uninstall() {
+        handler = null;
+    }
+}
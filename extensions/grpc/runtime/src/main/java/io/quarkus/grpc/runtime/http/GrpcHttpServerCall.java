@@ -0,0 +1,585 @@
+package io.quarkus.grpc.runtime.http;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLSession;
+
+import org.jboss.logging.Logger;
+
+import io.grpc.Attributes;
+import io.grpc.Codec;
+import io.grpc.Compressor;
+import io.grpc.CompressorRegistry;
+import io.grpc.Context;
+import io.grpc.Decompressor;
+import io.grpc.Drainable;
+import io.grpc.Grpc;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.Status;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.SharedResourceHolder;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.net.SocketAddress;
+
+/**
+ * A {@link ServerCall} bound to an HTTP/2 stream of the Vert.x HTTP server.
+ * <p>
+ * The length-prefixed messages are read from the request and the responses are written to the response, the status
+ * being sent in the trailers. The messages are only delivered to the listener when requested, the request being paused
+ * when too many messages are waiting.
+ * <p>
+ * The call methods may be invoked from any thread, the stream is always manipulated on its event loop.
+ */
+final class GrpcHttpServerCall<ReqT, RespT> extends ServerCall<ReqT, RespT> {
+
+    private static final Logger LOGGER = Logger.getLogger(GrpcHttpServerCall.class);
+
+    private static final int HEADER_LENGTH = 5;
+    private static final int MAX_QUEUED_MESSAGES = 16;
+
+    private final io.vertx.core.Context context;
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final ServerMethodDefinition<ReqT, RespT> definition;
+    private final Decompressor decompressor;
+    private final int maxInboundMessageSize;
+    private final long maxRequestSize;
+    private final long timeoutNanos;
+    private final Context.CancellableContext grpcContext;
+
+    // the following fields are only accessed on the event loop, except when mentioned otherwise
+    private Listener<ReqT> listener;
+    private Buffer pending;
+    private long received;
+    private final ArrayDeque<ReqT> messages = new ArrayDeque<>();
+    private int demand;
+    private boolean delivering;
+    private boolean paused;
+    private boolean requestEnded;
+    private boolean halfClosed;
+    private boolean headersSent;
+    private long timerId = -1;
+    private volatile boolean closed;
+    private volatile boolean cancelled;
+
+    // set by the interceptors before the first message
+    private volatile Compressor compressor;
+    private volatile boolean messageCompression = true;
+
+    GrpcHttpServerCall(io.vertx.core.Context context, HttpServerRequest request,
+            ServerMethodDefinition<ReqT, RespT> definition, Decompressor decompressor, int maxInboundMessageSize,
+            long maxRequestSize, long timeoutNanos) {
+        this.context = context;
+        this.request = request;
+        this.response = request.response();
+        this.definition = definition;
+        this.decompressor = decompressor;
+        this.maxInboundMessageSize = maxInboundMessageSize;
+        this.maxRequestSize = maxRequestSize;
+        this.timeoutNanos = timeoutNanos;
+        // the call is closed by a Vert.x timer when the deadline is exceeded, the deadline of the context lets the
+        // services (and the calls they make) know about it
+        this.grpcContext = timeoutNanos >= 0
+                ? Context.ROOT.withDeadlineAfter(timeoutNanos, TimeUnit.NANOSECONDS, DeadlineTimer.INSTANCE)
+                : Context.ROOT.withCancellation();
+    }
+
+    void start() {
+        request.exceptionHandler(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable failure) {
+                LOGGER.debugf(failure, "gRPC call %s reset by the client", definition.getMethodDescriptor()
+                        .getFullMethodName());
+                cancel(false);
+            }
+        });
+        response.closeHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                cancel(false);
+            }
+        });
+        response.drainHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                if (!closed && listener != null) {
+                    invoke(Callback.READY, null);
+                }
+            }
+        });
+        if (timeoutNanos >= 0) {
+            long delay = Math.max(1, TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            timerId = context.owner().setTimer(delay, new Handler<Long>() {
+                @Override
+                public void handle(Long id) {
+                    timerId = -1;
+                    closeOnEventLoop(Status.DEADLINE_EXCEEDED.withDescription("Deadline exceeded after " + delay + "ms"),
+                            new Metadata());
+                    cancel(true);
+                }
+            });
+        }
+
+        Metadata headers = GrpcHttpMetadata.toMetadata(request.headers());
+        Context previous = grpcContext.attach();
+        try {
+            listener = definition.getServerCallHandler().startCall(this, headers);
+        } catch (Throwable t) {
+            fail(t);
+            return;
+        } finally {
+            grpcContext.detach(previous);
+        }
+        if (listener == null) {
+            closeOnEventLoop(Status.INTERNAL.withDescription("startCall() returned a null listener"), new Metadata());
+            return;
+        }
+
+        request.handler(new Handler<Buffer>() {
+            @Override
+            public void handle(Buffer chunk) {
+                onData(chunk);
+            }
+        });
+        request.endHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void ignored) {
+                onEnd();
+            }
+        });
+        invoke(Callback.READY, null);
+    }
+
+    // ---- Inbound
+
+    private void onData(Buffer chunk) {
+        if (closed) {
+            return;
+        }
+        received += chunk.length();
+        if (maxRequestSize >= 0 && received > maxRequestSize) {
+            closeOnEventLoop(Status.RESOURCE_EXHAUSTED.withDescription(String.format(
+                    "Request exceeds the maximum body size %d", maxRequestSize)), new Metadata());
+            cancel(true);
+            return;
+        }
+        if (pending == null) {
+            pending = chunk;
+        } else {
+            pending.appendBuffer(chunk);
+        }
+        int offset = 0;
+        while (pending.length() - offset >= HEADER_LENGTH) {
+            byte flags = pending.getByte(offset);
+            int length = pending.getInt(offset + 1);
+            if (length < 0 || length > maxInboundMessageSize) {
+                closeOnEventLoop(Status.RESOURCE_EXHAUSTED.withDescription(String.format(
+                        "gRPC message exceeds maximum size %d: %d", maxInboundMessageSize, length & 0xFFFFFFFFL)),
+                        new Metadata());
+                cancel(true);
+                return;
+            }
+            if (pending.length() - offset - HEADER_LENGTH < length) {
+                break;
+            }
+            int start = offset + HEADER_LENGTH;
+            offset = start + length;
+            ReqT message;
+            try {
+                message = parse((flags & 1) != 0, pending.getBytes(start, offset));
+            } catch (Exception e) {
+                closeOnEventLoop(Status.fromThrowable(e), new Metadata());
+                cancel(true);
+                return;
+            }
+            messages.add(message);
+        }
+        if (offset == pending.length()) {
+            pending = null;
+        } else if (offset > 0) {
+            pending = pending.getBuffer(offset, pending.length());
+        }
+        if (!paused && messages.size() > MAX_QUEUED_MESSAGES) {
+            paused = true;
+            request.pause();
+        }
+        deliver();
+    }
+
+    private ReqT parse(boolean compressed, byte[] bytes) throws IOException {
+        InputStream stream = new ByteArrayInputStream(bytes);
+        if (compressed) {
+            if (decompressor == Codec.Identity.NONE) {
+                throw Status.INTERNAL.withDescription("Compressed gRPC message without grpc-encoding")
+                        .asRuntimeException();
+            }
+            stream = decompressor.decompress(stream);
+        }
+        try {
+            return definition.getMethodDescriptor().parseRequest(stream);
+        } finally {
+            stream.close();
+        }
+    }
+
+    private void onEnd() {
+        if (closed) {
+            return;
+        }
+        if (pending != null) {
+            closeOnEventLoop(Status.INTERNAL.withDescription("Incomplete gRPC message"), new Metadata());
+            cancel(true);
+            return;
+        }
+        requestEnded = true;
+        deliver();
+    }
+
+    private void deliver() {
+        if (delivering) {
+            // the listener requested more messages while being notified, the loop below takes care of it
+            return;
+        }
+        delivering = true;
+        try {
+            while (demand > 0 && !messages.isEmpty() && !closed) {
+                demand--;
+                invoke(Callback.MESSAGE, messages.poll());
+            }
+            if (paused && messages.isEmpty() && !requestEnded && !closed) {
+                paused = false;
+                request.resume();
+            }
+            if (requestEnded && messages.isEmpty() && !halfClosed && !closed) {
+                halfClosed = true;
+                invoke(Callback.HALF_CLOSE, null);
+            }
+        } finally {
+            delivering = false;
+        }
+    }
+
+    // ---- ServerCall
+
+    @Override
+    public void request(int numMessages) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                demand += numMessages;
+                if (demand < 0) {
+                    // overflow
+                    demand = Integer.MAX_VALUE;
+                }
+                deliver();
+            }
+        });
+    }
+
+    @Override
+    public void sendHeaders(Metadata headers) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                if (closed) {
+                    return;
+                }
+                writeHeaders(headers);
+            }
+        });
+    }
+
+    @Override
+    public void sendMessage(RespT message) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                if (closed) {
+                    return;
+                }
+                if (!headersSent) {
+                    writeHeaders(new Metadata());
+                }
+                try {
+                    response.write(frame(message));
+                } catch (Exception e) {
+                    closeOnEventLoop(Status.fromThrowable(e), new Metadata());
+                    cancel(true);
+                }
+            }
+        });
+    }
+
+    @Override
+    public void close(Status status, Metadata trailers) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                closeOnEventLoop(status, trailers);
+            }
+        });
+    }
+
+    @Override
+    public boolean isReady() {
+        return !closed && !response.writeQueueFull();
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public void setMessageCompression(boolean enabled) {
+        this.messageCompression = enabled;
+    }
+
+    @Override
+    public void setCompression(String compressorName) {
+        Compressor c = CompressorRegistry.getDefaultInstance().lookupCompressor(compressorName);
+        if (c == null) {
+            throw new IllegalArgumentException("Unable to find compressor by name " + compressorName);
+        }
+        String accepted = request.getHeader(GrpcHttpMetadata.GRPC_ACCEPT_ENCODING);
+        if (accepted != null) {
+            for (String encoding : accepted.split(",")) {
+                if (encoding.trim().equals(compressorName)) {
+                    this.compressor = c;
+                    return;
+                }
+            }
+        }
+        // the client does not support the compression, the messages are sent uncompressed
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        Attributes.Builder attributes = Attributes.newBuilder();
+        SocketAddress remote = request.remoteAddress();
+        if (remote != null && remote.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, new InetSocketAddress(remote.host(), remote.port()));
+        }
+        SocketAddress local = request.localAddress();
+        if (local != null && local.host() != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, new InetSocketAddress(local.host(), local.port()));
+        }
+        SSLSession session = request.sslSession();
+        if (session != null) {
+            attributes.set(Grpc.TRANSPORT_ATTR_SSL_SESSION, session);
+        }
+        return attributes.build();
+    }
+
+    @Override
+    public String getAuthority() {
+        return request.host();
+    }
+
+    @Override
+    public MethodDescriptor<ReqT, RespT> getMethodDescriptor() {
+        return definition.getMethodDescriptor();
+    }
+
+    // ---- Outbound
+
+    private void writeHeaders(Metadata metadata) {
+        if (headersSent) {
+            return;
+        }
+        headersSent = true;
+        MultiMap headers = response.headers();
+        headers.set("content-type", GrpcHttpMetadata.CONTENT_TYPE);
+        if (compressor != null) {
+            headers.set(GrpcHttpMetadata.GRPC_ENCODING, compressor.getMessageEncoding());
+        }
+        if (decompressor != Codec.Identity.NONE) {
+            headers.set(GrpcHttpMetadata.GRPC_ACCEPT_ENCODING, decompressor.getMessageEncoding());
+        }
+        GrpcHttpMetadata.addHeaders(metadata, headers);
+        response.setStatusCode(200);
+        response.setChunked(true);
+    }
+
+    private Buffer frame(RespT message) throws IOException {
+        Compressor c = messageCompression ? compressor : null;
+        Buffer buffer = Buffer.buffer(256);
+        buffer.appendByte(c == null ? (byte) 0 : (byte) 1);
+        buffer.appendInt(0);
+        try (InputStream stream = definition.getMethodDescriptor().streamResponse(message)) {
+            OutputStream out = new BufferOutputStream(buffer);
+            if (c != null) {
+                out = c.compress(out);
+            }
+            if (stream instanceof Drainable) {
+                ((Drainable) stream).drainTo(out);
+            } else {
+                stream.transferTo(out);
+            }
+            out.close();
+        }
+        buffer.setInt(1, buffer.length() - HEADER_LENGTH);
+        return buffer;
+    }
+
+    private void closeOnEventLoop(Status status, Metadata trailers) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (timerId != -1) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+        MultiMap target;
+        if (headersSent) {
+            target = response.trailers();
+        } else {
+            // trailers-only response
+            headersSent = true;
+            target = response.headers();
+            target.set("content-type", GrpcHttpMetadata.CONTENT_TYPE);
+            response.setStatusCode(200);
+        }
+        target.set(GrpcHttpMetadata.GRPC_STATUS, String.valueOf(status.getCode().value()));
+        if (status.getDescription() != null) {
+            target.set(GrpcHttpMetadata.GRPC_MESSAGE, GrpcHttpMetadata.encodeMessage(status.getDescription()));
+        }
+        GrpcHttpMetadata.addHeaders(trailers, target);
+        if (status.getCause() != null) {
+            LOGGER.debugf(status.getCause(), "gRPC call %s closed with %s", definition.getMethodDescriptor()
+                    .getFullMethodName(), status.getCode());
+        }
+        if (response.ended() || response.closed()) {
+            return;
+        }
+        response.end().onComplete(ar -> {
+            if (ar.succeeded()) {
+                if (!cancelled) {
+                    invoke(Callback.COMPLETE, null);
+                }
+                grpcContext.cancel(null);
+            } else {
+                cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Cancels the call, when reset by the client, on failure or when the deadline is exceeded.
+     *
+     * @param force whether the call must be cancelled even if it has been closed by the service
+     */
+    private void cancel(boolean force) {
+        if (cancelled || (closed && !force && response.ended())) {
+            return;
+        }
+        cancelled = true;
+        closed = true;
+        if (timerId != -1) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+        messages.clear();
+        if (listener != null) {
+            invoke(Callback.CANCEL, null);
+        }
+        grpcContext.cancel(null);
+    }
+
+    private void fail(Throwable t) {
+        closeOnEventLoop(Status.fromThrowable(t), new Metadata());
+        cancel(true);
+    }
+
+    private void invoke(Callback callback, ReqT message) {
+        Context previous = grpcContext.attach();
+        try {
+            switch (callback) {
+                case MESSAGE:
+                    listener.onMessage(message);
+                    break;
+                case HALF_CLOSE:
+                    listener.onHalfClose();
+                    break;
+                case READY:
+                    listener.onReady();
+                    break;
+                case COMPLETE:
+                    listener.onComplete();
+                    break;
+                case CANCEL:
+                    listener.onCancel();
+                    break;
+            }
+        } catch (Throwable t) {
+            if (callback == Callback.CANCEL || callback == Callback.COMPLETE) {
+                LOGGER.warnf(t, "Failure while notifying the end of the gRPC call %s",
+                        definition.getMethodDescriptor().getFullMethodName());
+            } else {
+                fail(t);
+            }
+        } finally {
+            grpcContext.detach(previous);
+        }
+    }
+
+    private void execute(Runnable action) {
+        if (io.vertx.core.Context.isOnEventLoopThread() && io.vertx.core.Vertx.currentContext() == context) {
+            action.run();
+        } else {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    action.run();
+                }
+            });
+        }
+    }
+
+    private enum Callback {
+        MESSAGE,
+        HALF_CLOSE,
+        READY,
+        COMPLETE,
+        CANCEL
+    }
+
+    private static final class BufferOutputStream extends OutputStream {
+
+        private final Buffer buffer;
+
+        BufferOutputStream(Buffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.appendByte((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.appendBytes(b, off, len);
+        }
+    }
+
+    private static final class DeadlineTimer {
+        // the daemon timer thread of gRPC, acquired once and shared with the gRPC clients
+        static final ScheduledExecutorService INSTANCE = SharedResourceHolder.get(GrpcUtil.TIMER_SERVICE);
+    }
+}
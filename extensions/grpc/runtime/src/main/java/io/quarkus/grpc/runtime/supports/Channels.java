@@ -11,6 +11,9 @@ import java.lang.annotation.Annotation;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -39,6 +42,7 @@ import io.quarkus.grpc.RegisterClientInterceptor;
 import io.quarkus.grpc.runtime.ClientInterceptorStorage;
 import io.quarkus.grpc.runtime.GrpcClientInterceptorContainer;
 import io.quarkus.grpc.runtime.config.GrpcClientConfiguration;
+import io.quarkus.grpc.runtime.config.GrpcClientHedgingConfig;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
 import io.quarkus.grpc.runtime.config.SslClientConfig;
 import io.quarkus.runtime.LaunchMode;
@@ -135,7 +139,17 @@ public class Channels {
                 .maxInboundMessageSize(config.maxInboundMessageSize.orElse(DEFAULT_MAX_MESSAGE_SIZE))
                 .negotiationType(NegotiationType.valueOf(config.negotiationType.toUpperCase()));
 
-        if (config.retry) {
+        List<String> hedgedMethods = config.hedging.methods.orElse(List.of());
+        if (!hedgedMethods.isEmpty()) {
+            builder.defaultServiceConfig(hedgingServiceConfig(hedgedMethods, config.hedging,
+                    Stork.STORK.equalsIgnoreCase(nameResolver) ? config.host : null));
+            if (Stork.STORK.equalsIgnoreCase(nameResolver)) {
+                // the service config provided by Stork would replace the hedging policies
+                builder.disableServiceConfigLookUp();
+            }
+        }
+
+        if (config.retry || !hedgedMethods.isEmpty()) {
             builder.enableRetry();
         } else {
             builder.disableRetry();
@@ -184,15 +198,67 @@ public class Channels {
         interceptorContainer.getSortedPerServiceInterceptors(perClientInterceptors).forEach(builder::intercept);
         interceptorContainer.getSortedGlobalInterceptors().forEach(builder::intercept);
 
+        // the last registered interceptor is called first
+        CompressionThresholds compressionThresholds = new CompressionThresholds(config.compressionThreshold,
+                config.methodCompressionThresholds);
+        if (!compressionThresholds.isEmpty()) {
+            builder.intercept(new ClientCompressionThresholdInterceptor(compressionThresholds));
+        }
+        if (config.zeroCopyMarshalling) {
+            builder.intercept(new ZeroCopyMarshallers.ZeroCopyClientInterceptor());
+        }
+
+        if (config.poolSize > 1) {
+            List<ManagedChannel> channels = new ArrayList<>(config.poolSize);
+            for (int i = 0; i < config.poolSize; i++) {
+                channels.add(builder.build());
+            }
+            return new PooledChannel(channels);
+        }
         return builder.build();
     }
 
+    /**
+     * Builds the default service config of the channel, declaring the hedging policy of the given methods.
+     *
+     * @param storkServiceName the Stork service name, its load balancing config is added as the service config returned
+     *        by Stork is ignored
+     */
+    private static Map<String, ?> hedgingServiceConfig(List<String> methods, GrpcClientHedgingConfig hedging,
+            String storkServiceName) {
+        List<Map<String, ?>> names = new ArrayList<>();
+        for (String method : methods) {
+            int slash = method.indexOf('/');
+            if (slash < 0) {
+                names.add(Map.of("service", method));
+            } else {
+                names.add(Map.of("service", method.substring(0, slash), "method", method.substring(slash + 1)));
+            }
+        }
+        Duration delay = hedging.delay;
+        Map<String, ?> policy = Map.of(
+                // numbers are doubles in the JSON representation of the service config
+                "maxAttempts", (double) hedging.maxAttempts,
+                "hedgingDelay", String.format("%d.%09ds", delay.getSeconds(), delay.getNano()),
+                "nonFatalStatusCodes", List.copyOf(hedging.nonFatalStatusCodes));
+
+        Map<String, Object> serviceConfig = new HashMap<>();
+        serviceConfig.put("methodConfig", List.of(Map.of("name", names, "hedgingPolicy", policy)));
+        if (storkServiceName != null) {
+            serviceConfig.put("loadBalancingConfig",
+                    List.of(Map.of(Stork.STORK, Map.of("service-name", storkServiceName))));
+        }
+        return serviceConfig;
+    }
+
     private static GrpcClientConfiguration testConfig(GrpcServerConfiguration serverConfiguration) {
         GrpcClientConfiguration config = new GrpcClientConfiguration();
         config.port = serverConfiguration.testPort;
         config.host = serverConfiguration.host;
         config.plainText = Optional.of(serverConfiguration.plainText);
         config.compression = Optional.empty();
+        config.compressionThreshold = OptionalInt.empty();
+        config.methodCompressionThresholds = Map.of();
         config.flowControlWindow = OptionalInt.empty();
         config.idleTimeout = Optional.empty();
         config.keepAliveTime = Optional.empty();
@@ -214,6 +280,9 @@ public class Channels {
         config.ssl.certificate = Optional.empty();
         config.ssl.trustStore = Optional.empty();
         config.userAgent = Optional.empty();
+        config.poolSize = 1;
+        config.hedging = new GrpcClientHedgingConfig();
+        config.hedging.methods = Optional.empty();
         if (serverConfiguration.ssl.certificate.isPresent() || serverConfiguration.ssl.keyStore.isPresent()) {
             LOGGER.warn("gRPC client created without configuration and the gRPC server is configured for SSL. " +
                     "Configuring SSL for such clients is not supported.");
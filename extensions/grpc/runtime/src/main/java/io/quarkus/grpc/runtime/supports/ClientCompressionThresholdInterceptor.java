@@ -0,0 +1,38 @@
+package io.quarkus.grpc.runtime.supports;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Sends the messages smaller than the configured threshold uncompressed.
+ * The compression itself is enabled by the call options of the stubs.
+ */
+class ClientCompressionThresholdInterceptor implements ClientInterceptor {
+
+    private final CompressionThresholds thresholds;
+
+    ClientCompressionThresholdInterceptor(CompressionThresholds thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+            CallOptions callOptions, Channel next) {
+        ClientCall<ReqT, RespT> call = next.newCall(method, callOptions);
+        int threshold = thresholds.get(method);
+        if (threshold <= 0 || callOptions.getCompressor() == null) {
+            return call;
+        }
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(call) {
+            @Override
+            public void sendMessage(ReqT message) {
+                setMessageCompression(CompressionThresholds.shouldCompress(message, threshold));
+                super.sendMessage(message);
+            }
+        };
+    }
+}
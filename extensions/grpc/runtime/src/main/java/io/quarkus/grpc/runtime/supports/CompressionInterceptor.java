@@ -1,5 +1,9 @@
 package io.quarkus.grpc.runtime.supports;
 
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.grpc.ForwardingServerCall;
 import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
@@ -8,12 +12,18 @@ import io.grpc.ServerInterceptor;
 public class CompressionInterceptor implements ServerInterceptor {
 
     private final String compression;
+    private final CompressionThresholds thresholds;
 
     public CompressionInterceptor(String compression) {
+        this(compression, new CompressionThresholds(OptionalInt.empty(), Map.of()));
+    }
+
+    public CompressionInterceptor(String compression, CompressionThresholds thresholds) {
         if (compression == null) {
             throw new NullPointerException("Compression cannot be null");
         }
         this.compression = compression;
+        this.thresholds = thresholds;
     }
 
     @Override
@@ -22,6 +32,16 @@ public class CompressionInterceptor implements ServerInterceptor {
             Metadata headers,
             ServerCallHandler<ReqT, RespT> next) {
         call.setCompression(compression);
+        int threshold = thresholds.get(call.getMethodDescriptor());
+        if (threshold > 0) {
+            call = new ForwardingServerCall.SimpleForwardingServerCall<>(call) {
+                @Override
+                public void sendMessage(RespT message) {
+                    setMessageCompression(CompressionThresholds.shouldCompress(message, threshold));
+                    super.sendMessage(message);
+                }
+            };
+        }
         return next.startCall(call, headers);
     }
 }
@@ -0,0 +1,48 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+import com.google.protobuf.MessageLite;
+
+import io.grpc.MethodDescriptor;
+
+/**
+ * The minimum size of the compressed messages, per service or method.
+ * Compressing small messages costs more CPU than it saves bandwidth.
+ */
+public final class CompressionThresholds {
+
+    static final int NONE = -1;
+
+    private final int defaultThreshold;
+    private final Map<String, Integer> thresholds;
+
+    public CompressionThresholds(OptionalInt defaultThreshold, Map<String, Integer> thresholds) {
+        this.defaultThreshold = defaultThreshold.orElse(NONE);
+        this.thresholds = thresholds == null ? Map.of() : Map.copyOf(thresholds);
+    }
+
+    public boolean isEmpty() {
+        return defaultThreshold == NONE && thresholds.isEmpty();
+    }
+
+    /**
+     * @return the threshold of the given method, or {@link #NONE}
+     */
+    int get(MethodDescriptor<?, ?> method) {
+        Integer threshold = thresholds.get(method.getFullMethodName());
+        if (threshold == null) {
+            threshold = thresholds.get(method.getServiceName());
+        }
+        return threshold == null ? defaultThreshold : threshold;
+    }
+
+    /**
+     * @return whether the given message should be compressed, the messages whose size cannot be computed are compressed
+     */
+    static boolean shouldCompress(Object message, int threshold) {
+        // the serialized size is memoized by the generated messages, the framer would compute it anyway
+        return !(message instanceof MessageLite) || ((MessageLite) message).getSerializedSize() >= threshold;
+    }
+}
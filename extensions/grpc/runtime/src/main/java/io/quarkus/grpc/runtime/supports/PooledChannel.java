@@ -0,0 +1,138 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * A channel dispatching the calls to a fixed set of channels in a round-robin fashion.
+ * <p>
+ * Each channel has its own HTTP/2 connection(s), established from different event loops of the shared Netty event
+ * loop group, which lifts the max concurrent streams and single event loop limits of a single connection.
+ */
+class PooledChannel extends ManagedChannel {
+
+    private final List<ManagedChannel> channels;
+    private final AtomicInteger index = new AtomicInteger();
+
+    PooledChannel(List<ManagedChannel> channels) {
+        this.channels = List.copyOf(channels);
+    }
+
+    private ManagedChannel next() {
+        return channels.get(Math.floorMod(index.getAndIncrement(), channels.size()));
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> methodDescriptor, CallOptions callOptions) {
+        return next().newCall(methodDescriptor, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return channels.get(0).authority();
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isShutdown()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isTerminated() {
+        for (ManagedChannel channel : channels) {
+            if (!channel.isTerminated()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdownNow();
+        }
+        return this;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        for (ManagedChannel channel : channels) {
+            if (!channel.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the best state of the channels: the pool is ready as soon as one of its channels is
+     */
+    @Override
+    public ConnectivityState getState(boolean requestConnection) {
+        ConnectivityState best = ConnectivityState.SHUTDOWN;
+        for (ManagedChannel channel : channels) {
+            ConnectivityState state = channel.getState(requestConnection);
+            if (rank(state) < rank(best)) {
+                best = state;
+            }
+        }
+        return best;
+    }
+
+    private static int rank(ConnectivityState state) {
+        switch (state) {
+            case READY:
+                return 0;
+            case CONNECTING:
+                return 1;
+            case IDLE:
+                return 2;
+            case TRANSIENT_FAILURE:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+
+    @Override
+    public void resetConnectBackoff() {
+        for (ManagedChannel channel : channels) {
+            channel.resetConnectBackoff();
+        }
+    }
+
+    @Override
+    public void enterIdle() {
+        for (ManagedChannel channel : channels) {
+            channel.enterIdle();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PooledChannel" + channels;
+    }
+}
@@ -0,0 +1,158 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.Detachable;
+import io.grpc.HasByteBuffer;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerMethodDefinition;
+import io.grpc.ServerServiceDefinition;
+import io.grpc.ServiceDescriptor;
+import io.grpc.Status;
+
+/**
+ * Replaces the protobuf marshallers of the generated method descriptors by marshallers parsing the messages directly
+ * from the Netty buffers.
+ * <p>
+ * The default marshaller copies each message into a heap byte array before parsing it, and allocates a new array for
+ * each message larger than 4 MiB. Here, the received buffers are detached from the transport and parsed in place. The
+ * parsed message does not alias the buffers, they are released once the message is parsed. Serialization is delegated
+ * to the default marshaller, which already writes the messages directly to the pooled Netty buffers.
+ */
+public final class ZeroCopyMarshallers {
+
+    private ZeroCopyMarshallers() {
+        // Avoid direct instantiation
+    }
+
+    public static ServerServiceDefinition wrap(ServerServiceDefinition definition) {
+        ServiceDescriptor descriptor = definition.getServiceDescriptor();
+        ServiceDescriptor.Builder descriptorBuilder = ServiceDescriptor.newBuilder(descriptor.getName())
+                .setSchemaDescriptor(descriptor.getSchemaDescriptor());
+        List<ServerMethodDefinition<?, ?>> methods = new ArrayList<>();
+        for (ServerMethodDefinition<?, ?> method : definition.getMethods()) {
+            ServerMethodDefinition<?, ?> wrapped = wrap(method);
+            descriptorBuilder.addMethod(wrapped.getMethodDescriptor());
+            methods.add(wrapped);
+        }
+        ServerServiceDefinition.Builder builder = ServerServiceDefinition.builder(descriptorBuilder.build());
+        for (ServerMethodDefinition<?, ?> method : methods) {
+            builder.addMethod(method);
+        }
+        return builder.build();
+    }
+
+    private static <ReqT, RespT> ServerMethodDefinition<ReqT, RespT> wrap(ServerMethodDefinition<ReqT, RespT> method) {
+        return ServerMethodDefinition.create(wrap(method.getMethodDescriptor()), method.getServerCallHandler());
+    }
+
+    static <ReqT, RespT> MethodDescriptor<ReqT, RespT> wrap(MethodDescriptor<ReqT, RespT> method) {
+        return method.toBuilder(wrap(method.getRequestMarshaller()), wrap(method.getResponseMarshaller())).build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> MethodDescriptor.Marshaller<T> wrap(MethodDescriptor.Marshaller<T> marshaller) {
+        if (marshaller instanceof MethodDescriptor.PrototypeMarshaller) {
+            T prototype = ((MethodDescriptor.PrototypeMarshaller<T>) marshaller).getMessagePrototype();
+            if (prototype instanceof MessageLite) {
+                return new ZeroCopyMarshaller<>((MethodDescriptor.PrototypeMarshaller<T>) marshaller,
+                        (Parser<T>) ((MessageLite) prototype).getParserForType());
+            }
+        }
+        return marshaller;
+    }
+
+    /**
+     * Client interceptor using the zero-copy marshallers for the calls of a channel.
+     */
+    static class ZeroCopyClientInterceptor implements ClientInterceptor {
+
+        private final Map<String, MethodDescriptor<?, ?>> methods = new ConcurrentHashMap<>();
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                CallOptions callOptions, Channel next) {
+            MethodDescriptor<ReqT, RespT> wrapped = (MethodDescriptor<ReqT, RespT>) methods
+                    .computeIfAbsent(method.getFullMethodName(), name -> wrap(method));
+            return next.newCall(wrapped, callOptions);
+        }
+    }
+
+    static class ZeroCopyMarshaller<T> implements MethodDescriptor.PrototypeMarshaller<T> {
+
+        private final MethodDescriptor.PrototypeMarshaller<T> delegate;
+        private final Parser<T> parser;
+
+        ZeroCopyMarshaller(MethodDescriptor.PrototypeMarshaller<T> delegate, Parser<T> parser) {
+            this.delegate = delegate;
+            this.parser = parser;
+        }
+
+        @Override
+        public Class<T> getMessageClass() {
+            return delegate.getMessageClass();
+        }
+
+        @Override
+        public T getMessagePrototype() {
+            return delegate.getMessagePrototype();
+        }
+
+        @Override
+        public InputStream stream(T value) {
+            return delegate.stream(value);
+        }
+
+        @Override
+        public T parse(InputStream stream) {
+            // compressed messages are received as a decompressing stream
+            if (!(stream instanceof Detachable) || !(stream instanceof HasByteBuffer)
+                    || !((HasByteBuffer) stream).byteBufferSupported() || !stream.markSupported()) {
+                return delegate.parse(stream);
+            }
+            try (InputStream detached = ((Detachable) stream).detach()) {
+                HasByteBuffer buffers = (HasByteBuffer) detached;
+                List<ByteBuffer> chunks = new ArrayList<>();
+                // keeps the skipped buffers around until the stream is closed
+                detached.mark(detached.available());
+                while (detached.available() > 0) {
+                    if (!buffers.byteBufferSupported()) {
+                        detached.reset();
+                        return delegate.parse(detached);
+                    }
+                    ByteBuffer chunk = buffers.getByteBuffer();
+                    chunks.add(chunk);
+                    detached.skip(chunk.remaining());
+                }
+                CodedInputStream input = CodedInputStream.newInstance(chunks);
+                // the size of the message is already checked by the transport
+                input.setSizeLimit(Integer.MAX_VALUE);
+                T message = parser.parseFrom(input, ExtensionRegistryLite.getEmptyRegistry());
+                input.checkLastTagWas(0);
+                return message;
+            } catch (InvalidProtocolBufferException e) {
+                throw Status.INTERNAL.withDescription("Invalid protobuf byte sequence").withCause(e)
+                        .asRuntimeException();
+            } catch (IOException e) {
+                throw Status.INTERNAL.withDescription("Unable to read the message").withCause(e).asRuntimeException();
+            }
+        }
+    }
+}
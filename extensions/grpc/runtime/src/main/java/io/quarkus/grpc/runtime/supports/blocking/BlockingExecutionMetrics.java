@@ -0,0 +1,54 @@
+package io.quarkus.grpc.runtime.supports.blocking;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.grpc.MethodDescriptor;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Records the time spent by the events of the blocking calls waiting for a thread, per method.
+ * <p>
+ * Nothing is recorded if no metrics extension is present.
+ */
+public final class BlockingExecutionMetrics {
+
+    static final String QUEUE_TIME = "grpc.server.blocking.queue";
+
+    private static volatile MetricsFactory factory;
+    private static final Map<String, MetricsFactory.TimeRecorder> recorders = new ConcurrentHashMap<>();
+
+    private BlockingExecutionMetrics() {
+    }
+
+    public static void init(MetricsFactory metricsFactory) {
+        factory = metricsFactory;
+    }
+
+    public static void reset() {
+        factory = null;
+        recorders.clear();
+    }
+
+    /**
+     * @return the recorder of the queue time of the given method, {@code null} if the metrics are disabled
+     */
+    static MetricsFactory.TimeRecorder queueTime(MethodDescriptor<?, ?> method) {
+        MetricsFactory metricsFactory = factory;
+        if (metricsFactory == null) {
+            return null;
+        }
+        return recorders.computeIfAbsent(method.getFullMethodName(),
+                new Function<String, MetricsFactory.TimeRecorder>() {
+                    @Override
+                    public MetricsFactory.TimeRecorder apply(String ignored) {
+                        return metricsFactory.builder(QUEUE_TIME)
+                                .description("Time spent by the events of the blocking gRPC calls waiting for a thread")
+                                .tag("service", method.getServiceName())
+                                .tag("method", method.getBareMethodName())
+                                .buildTimer();
+                    }
+                });
+    }
+}
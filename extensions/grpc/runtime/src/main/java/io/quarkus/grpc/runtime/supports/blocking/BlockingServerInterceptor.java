@@ -1,11 +1,14 @@
 package io.quarkus.grpc.runtime.supports.blocking;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import io.grpc.Context;
 import io.grpc.Metadata;
@@ -15,6 +18,7 @@ import io.grpc.ServerInterceptor;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.core.Handler;
 import io.vertx.core.Promise;
 import io.vertx.core.Vertx;
@@ -24,21 +28,54 @@ import io.vertx.core.Vertx;
  * with {@link io.smallrye.common.annotation.Blocking}.
  *
  * For non-annotated methods, the interceptor acts as a pass-through.
+ *
+ * By default, the blocking calls received on a connection are executed one after the other on the Vert.x worker pool.
+ * The unordered calls are executed concurrently, only the events of each call being kept in order.
  */
 public class BlockingServerInterceptor implements ServerInterceptor, Function<String, Boolean> {
 
     private final Vertx vertx;
     private final List<String> blockingMethods;
-    private final Map<String, Boolean> cache = new HashMap<>();
+    private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> unorderedCache = new ConcurrentHashMap<>();
     private final boolean devMode;
+    private final Executor unorderedExecutor;
+    private final Predicate<String> unordered;
 
     public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode) {
+        this(vertx, blockingMethods, devMode, null, null);
+    }
+
+    /**
+     * @param unorderedExecutor the executor of the unordered calls, the Vert.x worker pool if {@code null}
+     * @param unordered whether the calls of a method, given its full name, are unordered; all the calls are ordered if
+     *        {@code null}
+     */
+    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods, boolean devMode,
+            Executor unorderedExecutor, Predicate<String> unordered) {
         this.vertx = vertx;
         this.blockingMethods = new ArrayList<>();
         this.devMode = devMode;
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
         }
+        this.unordered = unordered;
+        if (unorderedExecutor != null) {
+            this.unorderedExecutor = unorderedExecutor;
+        } else {
+            this.unorderedExecutor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    vertx.executeBlocking(new Handler<Promise<Object>>() {
+                        @Override
+                        public void handle(Promise<Object> promise) {
+                            command.run();
+                            promise.complete();
+                        }
+                    }, false, null);
+                }
+            };
+        }
     }
 
     @Override
@@ -69,8 +106,17 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
             // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
             // that should always be called before this interceptor
             ContextState state = requestContext.getState();
-            ReplayListener<ReqT> replay = new ReplayListener<>(state);
-            vertx.executeBlocking(new Handler<Promise<Object>>() {
+            boolean isUnordered = unordered != null && unorderedCache.computeIfAbsent(fullMethodName,
+                    new Function<String, Boolean>() {
+                        @Override
+                        public Boolean apply(String name) {
+                            return unordered.test(name);
+                        }
+                    });
+            ReplayListener<ReqT> replay = new ReplayListener<>(state,
+                    isUnordered ? new SerialExecutor(unorderedExecutor) : null,
+                    BlockingExecutionMetrics.queueTime(call.getMethodDescriptor()));
+            replay.dispatch(new Handler<Promise<Object>>() {
                 @Override
                 public void handle(Promise<Object> f) {
                     ServerCall.Listener<ReqT> listener;
@@ -83,7 +129,7 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
                     replay.setDelegate(listener, requestContext);
                     f.complete(null);
                 }
-            }, null);
+            });
 
             return replay;
         } else {
@@ -95,15 +141,50 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
      * Stores the incoming events until the listener is injected.
      * When injected, replay the events.
      *
-     * Note that event must be executed in order, explaining the `ordered:true`.
+     * Note that event must be executed in order, explaining the `ordered:true`, or the serial executor of the
+     * unordered calls.
      */
     private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
         private ServerCall.Listener<ReqT> delegate;
         private final List<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ArrayList<>();
         private final ContextState requestContextState;
+        private final Executor callExecutor;
+        private final MetricsFactory.TimeRecorder queueTime;
 
-        private ReplayListener(ContextState requestContextState) {
+        private ReplayListener(ContextState requestContextState, Executor callExecutor,
+                MetricsFactory.TimeRecorder queueTime) {
             this.requestContextState = requestContextState;
+            this.callExecutor = callExecutor;
+            this.queueTime = queueTime;
+        }
+
+        /**
+         * Executes the handler on a worker thread, after the previous events of the call.
+         */
+        void dispatch(Handler<Promise<Object>> handler) {
+            Handler<Promise<Object>> timed = handler;
+            if (queueTime != null) {
+                long queued = System.nanoTime();
+                timed = new Handler<Promise<Object>>() {
+                    @Override
+                    public void handle(Promise<Object> promise) {
+                        queueTime.update(System.nanoTime() - queued, TimeUnit.NANOSECONDS);
+                        handler.handle(promise);
+                    }
+                };
+            }
+            if (callExecutor == null) {
+                // ordered with the other calls of the connection
+                vertx.executeBlocking(timed, true, null);
+            } else {
+                Handler<Promise<Object>> task = timed;
+                callExecutor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        task.handle(Promise.promise());
+                    }
+                });
+            }
         }
 
         synchronized void setDelegate(ServerCall.Listener<ReqT> delegate,
@@ -136,7 +217,7 @@ public class BlockingServerInterceptor implements ServerInterceptor, Function<St
                 blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
                         blockingHandler);
             }
-            vertx.executeBlocking(blockingHandler, true, null);
+            dispatch(blockingHandler);
         }
 
         @Override
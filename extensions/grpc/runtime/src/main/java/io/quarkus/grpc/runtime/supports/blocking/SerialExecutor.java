@@ -0,0 +1,62 @@
+package io.quarkus.grpc.runtime.supports.blocking;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Runs the submitted tasks one after the other, in submission order, on the delegate executor.
+ * <p>
+ * Used to keep the events of a call ordered while the calls run concurrently.
+ */
+class SerialExecutor implements Executor {
+
+    private static final Logger LOGGER = Logger.getLogger(SerialExecutor.class);
+
+    private final Executor delegate;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    SerialExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        tasks.add(task);
+        schedule();
+    }
+
+    private void schedule() {
+        if (running.compareAndSet(false, true)) {
+            delegate.execute(new Runnable() {
+                @Override
+                public void run() {
+                    drain();
+                }
+            });
+        }
+    }
+
+    private void drain() {
+        try {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    LOGGER.error("Unable to execute a blocking gRPC task", t);
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+        if (!tasks.isEmpty()) {
+            // a task has been added after the last poll
+            schedule();
+        }
+    }
+}
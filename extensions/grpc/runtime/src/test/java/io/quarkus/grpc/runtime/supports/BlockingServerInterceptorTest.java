@@ -5,7 +5,10 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -70,6 +73,60 @@ class BlockingServerInterceptorTest {
         assertThat(serverCallHandler.contextUserName).isEqualTo("my-user");
     }
 
+    @Test
+    @Timeout(10)
+    void testUnorderedCallsRunConcurrently() throws Exception {
+        InjectableContext.ContextState contextState = mock(InjectableContext.ContextState.class);
+        ManagedContext requestContext = mock(ManagedContext.class);
+        when(requestContext.getState()).thenReturn(contextState);
+        BlockingServerInterceptor unordered = new BlockingServerInterceptor(vertx, Collections.singletonList("blocking"),
+                false, null, name -> name.equals("my-service/blocking")) {
+            @Override
+            protected ManagedContext getRequestContext() {
+                return requestContext;
+            }
+        };
+        final ServerCall serverCall = mock(ServerCall.class);
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/blocking");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        CountDownLatch secondReceived = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        List<String> received = new CopyOnWriteArrayList<>();
+        ServerCallHandler handler = (call, metadata) -> new ServerCall.Listener() {
+            @Override
+            public void onMessage(Object message) {
+                try {
+                    if (message.equals("first")) {
+                        // blocks the connection if the calls are ordered
+                        if (secondReceived.await(5, TimeUnit.SECONDS)) {
+                            received.add("first");
+                        }
+                    } else {
+                        received.add("second");
+                        secondReceived.countDown();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }
+        };
+
+        // both calls are received on the same connection
+        vertx.getOrCreateContext().runOnContext(ignored -> {
+            ServerCall.Listener first = unordered.interceptCall(serverCall, null, handler);
+            ServerCall.Listener second = unordered.interceptCall(serverCall, null, handler);
+            first.onMessage("first");
+            second.onMessage("second");
+        });
+
+        done.await();
+        assertThat(received).containsExactly("second", "first");
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
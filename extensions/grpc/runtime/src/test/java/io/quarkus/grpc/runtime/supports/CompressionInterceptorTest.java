@@ -0,0 +1,53 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+
+@SuppressWarnings({ "rawtypes", "unchecked" })
+class CompressionInterceptorTest {
+
+    @Test
+    void testSmallMessagesAreNotCompressed() {
+        ServerCall call = mock(ServerCall.class);
+        MethodDescriptor method = mock(MethodDescriptor.class);
+        when(method.getFullMethodName()).thenReturn("test.Service/Method");
+        when(method.getServiceName()).thenReturn("test.Service");
+        when(call.getMethodDescriptor()).thenReturn(method);
+
+        CompressionInterceptor interceptor = new CompressionInterceptor("gzip",
+                new CompressionThresholds(OptionalInt.of(10_000), Map.of("test.Service/Method", 100)));
+        interceptor.interceptCall(call, new Metadata(), new ServerCallHandler() {
+            @Override
+            public ServerCall.Listener startCall(ServerCall call, Metadata headers) {
+                call.sendMessage(BytesValue.newBuilder().setValue(ByteString.copyFrom(new byte[10])).build());
+                call.sendMessage(BytesValue.newBuilder().setValue(ByteString.copyFrom(new byte[1000])).build());
+                return new ServerCall.Listener() {
+                };
+            }
+        });
+
+        InOrder order = inOrder(call);
+        order.verify(call).setCompression("gzip");
+        order.verify(call).setMessageCompression(false);
+        order.verify(call).sendMessage(any());
+        order.verify(call).setMessageCompression(true);
+        order.verify(call).sendMessage(any());
+    }
+
+}
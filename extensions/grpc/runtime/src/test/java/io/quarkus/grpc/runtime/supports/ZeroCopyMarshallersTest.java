@@ -0,0 +1,61 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.BytesValue;
+
+import io.grpc.MethodDescriptor;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffers;
+import io.grpc.protobuf.ProtoUtils;
+
+class ZeroCopyMarshallersTest {
+
+    private static final MethodDescriptor<BytesValue, BytesValue> METHOD = MethodDescriptor
+            .<BytesValue, BytesValue> newBuilder()
+            .setType(MethodDescriptor.MethodType.UNARY)
+            .setFullMethodName("test.Service/Method")
+            .setRequestMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+            .setResponseMarshaller(ProtoUtils.marshaller(BytesValue.getDefaultInstance()))
+            .build();
+
+    @Test
+    void testParseFromSeveralBuffers() {
+        byte[] payload = new byte[5 * 1024 * 1024];
+        new Random(42).nextBytes(payload);
+        byte[] serialized = BytesValue.newBuilder().setValue(ByteString.copyFrom(payload)).build().toByteArray();
+
+        // the frames are received as several Netty buffers
+        CompositeReadableBuffer buffer = new CompositeReadableBuffer();
+        int chunk = serialized.length / 3;
+        buffer.addBuffer(ReadableBuffers.wrap(ByteBuffer.wrap(Arrays.copyOfRange(serialized, 0, chunk))));
+        buffer.addBuffer(ReadableBuffers.wrap(ByteBuffer.wrap(Arrays.copyOfRange(serialized, chunk, 2 * chunk))));
+        buffer.addBuffer(ReadableBuffers.wrap(ByteBuffer.wrap(Arrays.copyOfRange(serialized, 2 * chunk,
+                serialized.length))));
+        InputStream stream = ReadableBuffers.openStream(buffer, true);
+
+        MethodDescriptor<BytesValue, BytesValue> method = ZeroCopyMarshallers.wrap(METHOD);
+        assertThat(method.getRequestMarshaller()).isInstanceOf(ZeroCopyMarshallers.ZeroCopyMarshaller.class);
+        BytesValue parsed = method.parseRequest(stream);
+        assertThat(parsed.getValue().toByteArray()).isEqualTo(payload);
+        assertThat(buffer.readableBytes()).isZero();
+    }
+
+    @Test
+    void testParseFromRegularStream() {
+        BytesValue value = BytesValue.newBuilder().setValue(ByteString.copyFromUtf8("hello")).build();
+        BytesValue parsed = ZeroCopyMarshallers.wrap(METHOD)
+                .parseResponse(new ByteArrayInputStream(value.toByteArray()));
+        assertThat(parsed).isEqualTo(value);
+    }
+
+}
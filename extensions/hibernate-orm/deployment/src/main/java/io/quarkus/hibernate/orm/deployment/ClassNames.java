@@ -56,4 +56,10 @@ public class ClassNames {
 
     public static final DotName INTERCEPTOR = createConstant("org.hibernate.Interceptor");
 
+    public static final DotName QUARKUS_CAFFEINE_REGION_FACTORY = createConstant(
+            "io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory");
+
+    public static final DotName CAFFEINE_BOUNDED_LOCAL_CACHE = createConstant(
+            "com.github.benmanes.caffeine.cache.BoundedLocalCache");
+
 }
@@ -13,6 +13,7 @@ public class HibernateConfigUtil {
      */
     private final static String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
     private final static String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    private final static String EXPIRATION_LIFESPAN = ".expiration.lifespan";
     private static final String HIBERNATE_CACHE_PREFIX = "hibernate.cache.";
 
     public static Map<String, String> getCacheConfigEntries(HibernateOrmConfigPersistenceUnit config) {
@@ -25,6 +26,10 @@ public class HibernateConfigUtil {
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_MAX_IDLE),
                         String.valueOf(cacheConfig.expiration.maxIdle.get().getSeconds()));
             }
+            if (cacheConfig.expiration.lifespan.isPresent()) {
+                cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, EXPIRATION_LIFESPAN),
+                        String.valueOf(cacheConfig.expiration.lifespan.get().getSeconds()));
+            }
             if (cacheConfig.memory.objectCount.isPresent()) {
                 cacheRegionsConfigEntries.put(getCacheConfigKey(regionName, MEMORY_OBJECT_COUNT),
                         String.valueOf(cacheConfig.memory.objectCount.getAsLong()));
@@ -193,6 +193,18 @@ public class HibernateOrmConfigPersistenceUnit {
     @ConfigItem(defaultValue = "true")
     public boolean secondLevelCachingEnabled;
 
+    /**
+     * The implementation of the 2nd level cache.
+     * <p>
+     * `infinispan` uses the Infinispan based local cache integrated by default.
+     * `caffeine` stores each cache region in a Caffeine cache, and exposes the hits, misses, evictions and size of each
+     * region as metrics when metrics are enabled.
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "infinispan")
+    public SecondLevelCachingProvider secondLevelCachingProvider;
+
     /**
      * Defines the method for multi-tenancy (DATABASE, NONE, SCHEMA). The complete list of allowed values is available in the
      * https://docs.jboss.org/hibernate/stable/orm/javadocs/org/hibernate/MultiTenancyStrategy.html[Hibernate ORM JavaDoc].
@@ -233,6 +245,7 @@ public class HibernateOrmConfigPersistenceUnit {
                 jdbc.isAnyPropertySet() ||
                 !cache.isEmpty() ||
                 !secondLevelCachingEnabled ||
+                secondLevelCachingProvider != SecondLevelCachingProvider.INFINISPAN ||
                 multitenant.isPresent() ||
                 multitenantSchemaDatasource.isPresent() ||
                 fetch.isAnyPropertySet() ||
@@ -397,6 +410,16 @@ public class HibernateOrmConfigPersistenceUnit {
          */
         @ConfigItem
         public Optional<Duration> maxIdle;
+
+        /**
+         * The maximum time an object is kept in the cache after it was created or updated.
+         * <p>
+         * Only supported by the `caffeine` 2nd level cache provider.
+         *
+         * @asciidoclet
+         */
+        @ConfigItem
+        public Optional<Duration> lifespan;
     }
 
     @ConfigGroup
@@ -455,4 +478,9 @@ public class HibernateOrmConfigPersistenceUnit {
             return ignoreExplicitForJoined;
         }
     }
-}
\ No newline at end of file
+
+    public enum SecondLevelCachingProvider {
+        INFINISPAN,
+        CAFFEINE
+    }
+}
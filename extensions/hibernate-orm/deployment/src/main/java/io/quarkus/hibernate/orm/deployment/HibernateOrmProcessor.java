@@ -9,6 +9,7 @@ import static org.hibernate.cfg.AvailableSettings.USE_QUERY_CACHE;
 import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -32,6 +33,7 @@ import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.inject.Default;
@@ -64,6 +66,8 @@ import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 import org.jboss.logmanager.Level;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 import io.quarkus.agroal.spi.JdbcDataSourceBuildItem;
 import io.quarkus.agroal.spi.JdbcDataSourceSchemaReadyBuildItem;
 import io.quarkus.agroal.spi.JdbcInitialSQLGeneratorBuildItem;
@@ -113,6 +117,7 @@ import io.quarkus.deployment.util.ServiceUtil;
 import io.quarkus.dev.console.DevConsoleManager;
 import io.quarkus.devconsole.spi.DevConsoleRuntimeTemplateInfoBuildItem;
 import io.quarkus.hibernate.orm.PersistenceUnit;
+import io.quarkus.hibernate.orm.deployment.HibernateOrmConfigPersistenceUnit.SecondLevelCachingProvider;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationRuntimeConfiguredBuildItem;
 import io.quarkus.hibernate.orm.deployment.integration.HibernateOrmIntegrationStaticConfiguredBuildItem;
 import io.quarkus.hibernate.orm.runtime.HibernateOrmRecorder;
@@ -125,12 +130,14 @@ import io.quarkus.hibernate.orm.runtime.TransactionSessions;
 import io.quarkus.hibernate.orm.runtime.boot.QuarkusPersistenceUnitDefinition;
 import io.quarkus.hibernate.orm.runtime.boot.scan.QuarkusScanner;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.hibernate.orm.runtime.cdi.QuarkusArcBeanContainer;
 import io.quarkus.hibernate.orm.runtime.devconsole.HibernateOrmDevConsoleCreateDDLSupplier;
 import io.quarkus.hibernate.orm.runtime.devconsole.HibernateOrmDevConsoleIntegrator;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
 import io.quarkus.hibernate.orm.runtime.schema.SchemaManagementIntegrator;
+import io.quarkus.hibernate.orm.runtime.session.ReadOnlyInterceptor;
 import io.quarkus.hibernate.orm.runtime.tenant.DataSourceTenantConnectionResolver;
 import io.quarkus.hibernate.orm.runtime.tenant.TenantConnectionResolver;
 import io.quarkus.panache.common.deployment.HibernateEnhancersRegisteredBuildItem;
@@ -327,6 +334,42 @@ public final class HibernateOrmProcessor {
         }
     }
 
+    @BuildStep
+    public void registerCaffeineRegionCachesForReflection(HibernateOrmConfig hibernateOrmConfig,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        boolean caffeineProviderUsed = Stream.concat(Stream.of(hibernateOrmConfig.defaultPersistenceUnit),
+                hibernateOrmConfig.persistenceUnits.values().stream())
+                .anyMatch(pu -> pu.secondLevelCachingEnabled
+                        && pu.secondLevelCachingProvider == SecondLevelCachingProvider.CAFFEINE);
+        if (caffeineProviderUsed) {
+            // the cache and node implementations are instantiated reflectively by Caffeine depending on the enabled
+            // features, and their names depend on the version of Caffeine: build a cache for each combination of
+            // maximum size and expiration after access and/or write used by the region factory to find them
+            Set<Class<?>> classes = new LinkedHashSet<>();
+            for (int features = 1; features < 8; features++) {
+                Cache<Object, Object> cache = QuarkusCaffeineRegionFactory.regionCacheBuilder(
+                        (features & 1) != 0 ? 1 : -1,
+                        (features & 2) != 0 ? 1 : -1,
+                        (features & 4) != 0 ? 1 : -1).build();
+                addCaffeineCacheClasses(cache.asMap(), classes);
+            }
+            reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, classes.toArray(new Class<?>[0])));
+        }
+    }
+
+    private static void addCaffeineCacheClasses(Map<Object, Object> cache, Set<Class<?>> classes) {
+        try {
+            Class<?> boundedLocalCache = Class.forName(ClassNames.CAFFEINE_BOUNDED_LOCAL_CACHE.toString(), false,
+                    cache.getClass().getClassLoader());
+            Field nodeFactory = boundedLocalCache.getDeclaredField("nodeFactory");
+            nodeFactory.setAccessible(true);
+            classes.add(cache.getClass());
+            classes.add(nodeFactory.get(cache).getClass());
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalStateException("Unable to find the node class of the Caffeine cache " + cache.getClass(), e);
+        }
+    }
+
     @BuildStep
     List<HotDeploymentWatchedFileBuildItem> hotDeploymentWatchedFiles(LaunchModeBuildItem launchMode) {
         List<HotDeploymentWatchedFileBuildItem> watchedFiles = new ArrayList<>();
@@ -667,6 +710,9 @@ public final class HibernateOrmProcessor {
                 .addBeanClasses(unremovableClasses.toArray(new Class<?>[unremovableClasses.size()]))
                 .build());
 
+        // The CDI interceptor which makes the sessions opened in methods annotated with @ReadOnly read-only
+        additionalBeans.produce(new AdditionalBeanBuildItem(ReadOnlyInterceptor.class));
+
         // Some user-injectable beans are retrieved programmatically and shouldn't be removed
         unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(AttributeConverter.class));
         unremovableBeans.produce(UnremovableBeanBuildItem.beanTypes(jpaModel.getPotentialCdiBeanClassNames()));
@@ -1136,6 +1182,9 @@ public final class HibernateOrmProcessor {
             p.putIfAbsent(USE_SECOND_LEVEL_CACHE, Boolean.TRUE);
             p.putIfAbsent(USE_QUERY_CACHE, Boolean.TRUE);
             p.putIfAbsent(JPA_SHARED_CACHE_MODE, SharedCacheMode.ENABLE_SELECTIVE);
+            if (persistenceUnitConfig.secondLevelCachingProvider == SecondLevelCachingProvider.CAFFEINE) {
+                p.setProperty(AvailableSettings.CACHE_REGION_FACTORY, ClassNames.QUARKUS_CAFFEINE_REGION_FACTORY.toString());
+            }
             Map<String, String> cacheConfigEntries = HibernateConfigUtil.getCacheConfigEntries(persistenceUnitConfig);
             for (Entry<String, String> entry : cacheConfigEntries.entrySet()) {
                 descriptor.getProperties().setProperty(entry.getKey(), entry.getValue());
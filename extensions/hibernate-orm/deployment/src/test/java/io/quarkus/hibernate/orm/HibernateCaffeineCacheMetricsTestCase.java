@@ -0,0 +1,102 @@
+package io.quarkus.hibernate.orm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.inject.Inject;
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.EntityManager;
+import javax.persistence.Id;
+import javax.transaction.UserTransaction;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Checks the Caffeine based second level cache and its per region metrics.
+ */
+public class HibernateCaffeineCacheMetricsTestCase {
+
+    private static final String REGION = CachedEntity.class.getName();
+
+    @RegisterExtension
+    static QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addClasses(CachedEntity.class))
+            .withConfigurationResource("application-metrics-enabled.properties")
+            .overrideConfigKey("quarkus.hibernate-orm.second-level-caching-provider", "caffeine")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + REGION + "\".memory.object-count", "100")
+            .overrideConfigKey("quarkus.hibernate-orm.cache.\"" + REGION + "\".expiration.lifespan", "1H");
+
+    @Entity(name = "CachedEntity")
+    @Cacheable
+    public static class CachedEntity {
+
+        @Id
+        private Long number;
+
+        public Long getNumber() {
+            return number;
+        }
+
+        public void setNumber(Long number) {
+            this.number = number;
+        }
+    }
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry metricRegistry;
+
+    @Inject
+    UserTransaction transaction;
+
+    @Test
+    public void testCaffeineRegionMetrics() throws Exception {
+        assertThat(em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory())
+                .isInstanceOf(QuarkusCaffeineRegionFactory.class);
+
+        transaction.begin();
+        CachedEntity entity = new CachedEntity();
+        entity.setNumber(1L);
+        em.persist(entity);
+        transaction.commit();
+
+        for (int i = 0; i < 2; i++) {
+            transaction.begin();
+            assertThat(em.find(CachedEntity.class, 1L)).isNotNull();
+            transaction.commit();
+        }
+
+        assertThat(getCounterValue("hibernate.second.level.cache.region.requests", new Tag("result", "hit")))
+                .isEqualTo(2L);
+        assertThat(getCounterValue("hibernate.second.level.cache.region.evictions")).isEqualTo(0L);
+        Gauge<?> size = metricRegistry.getGauges().get(new MetricID("hibernate.second.level.cache.region.size",
+                new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME),
+                new Tag("region", REGION)));
+        assertThat(size).isNotNull();
+        assertThat(((Number) size.getValue()).longValue()).isEqualTo(1L);
+    }
+
+    private Long getCounterValue(String metricName, Tag... tags) {
+        Tag[] allTags = new Tag[tags.length + 2];
+        allTags[0] = new Tag("entityManagerFactory", PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME);
+        allTags[1] = new Tag("region", REGION);
+        System.arraycopy(tags, 0, allTags, 2, tags.length);
+        Counter metric = metricRegistry.getCounters().get(new MetricID(metricName, allTags));
+        return metric != null ? metric.getCount() : null;
+    }
+}
@@ -0,0 +1,123 @@
+package io.quarkus.hibernate.orm.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.ReadOnly;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ReadOnlyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(SimpleEntity.class, ReadOnlyService.class, NestedReadOnlyService.class)
+                    .addAsResource("application.properties"));
+
+    @Inject
+    ReadOnlyService service;
+
+    @Test
+    public void testReadOnly() {
+        service.create(1L, "initial");
+
+        assertThat(service.loadAndModify(1L)).isTrue();
+        // the modification of the read-only entity was not flushed
+        assertThat(service.name(1L)).isEqualTo("initial");
+
+        assertThatThrownBy(() -> service.persist(2L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("read-only");
+
+        // sessions opened outside of @ReadOnly methods are not affected
+        service.rename(1L, "renamed");
+        assertThat(service.name(1L)).isEqualTo("renamed");
+    }
+
+    @Test
+    public void testAlreadyOpenSession() {
+        service.create(3L, "initial");
+
+        // the session of the transaction was opened before the @ReadOnly invocation
+        assertThat(service.modifyInNestedReadOnly(3L, 4L)).isFalse();
+        assertThat(service.name(3L)).isEqualTo("modified");
+        assertThat(service.name(4L)).isEqualTo("nested");
+    }
+
+    @ApplicationScoped
+    public static class ReadOnlyService {
+
+        @Inject
+        EntityManager entityManager;
+
+        @Inject
+        NestedReadOnlyService nested;
+
+        @Transactional
+        public boolean modifyInNestedReadOnly(long id, long otherId) {
+            entityManager.find(SimpleEntity.class, id);
+            return nested.modifyAndPersist(id, otherId);
+        }
+
+        @Transactional
+        public void create(long id, String name) {
+            SimpleEntity entity = new SimpleEntity(name);
+            entity.setId(id);
+            entityManager.persist(entity);
+        }
+
+        @Transactional
+        public String name(long id) {
+            return entityManager.find(SimpleEntity.class, id).getName();
+        }
+
+        @Transactional
+        public void rename(long id, String name) {
+            entityManager.find(SimpleEntity.class, id).setName(name);
+        }
+
+        @ReadOnly
+        @Transactional
+        public boolean loadAndModify(long id) {
+            SimpleEntity entity = entityManager.find(SimpleEntity.class, id);
+            entity.setName("modified");
+            Session session = entityManager.unwrap(Session.class);
+            return session.isReadOnly(entity) && session.getHibernateFlushMode() == FlushMode.MANUAL;
+        }
+
+        @ReadOnly
+        @Transactional
+        public void persist(long id) {
+            SimpleEntity entity = new SimpleEntity("other");
+            entity.setId(id);
+            entityManager.persist(entity);
+        }
+    }
+
+    @ApplicationScoped
+    public static class NestedReadOnlyService {
+
+        @Inject
+        EntityManager entityManager;
+
+        @ReadOnly
+        public boolean modifyAndPersist(long id, long otherId) {
+            SimpleEntity entity = entityManager.find(SimpleEntity.class, id);
+            entity.setName("modified");
+            SimpleEntity other = new SimpleEntity("nested");
+            other.setId(otherId);
+            entityManager.persist(other);
+            return entityManager.unwrap(Session.class).isReadOnly(entity);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.quarkus.hibernate.orm;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import javax.interceptor.InterceptorBinding;
+
+/**
+ * Interceptor binding for methods that only read from the database, such as read-only REST endpoints.
+ * <p>
+ * Sessions opened during the invocation load entities as read-only and use the {@code MANUAL} flush mode:
+ * Hibernate ORM does not keep snapshots of the loaded entities and does not dirty-check them.
+ * Persisting, merging, removing entities or flushing the session during the invocation is not allowed.
+ * <p>
+ * Sessions that were already open when the invocation started, e.g. the session of a transaction started by a caller,
+ * are not affected: their entities can still be modified, persisted or removed during the invocation.
+ */
+@Inherited
+@InterceptorBinding
+@Target({ TYPE, METHOD })
+@Retention(RUNTIME)
+@Documented
+public @interface ReadOnly {
+
+}
@@ -9,6 +9,8 @@ import javax.enterprise.context.RequestScoped;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
 
+import io.quarkus.hibernate.orm.runtime.session.ReadOnlySessions;
+
 /**
  * Bean that is used to manage request scoped sessions
  */
@@ -18,7 +20,7 @@ public class RequestScopedSessionHolder {
     private final Map<String, Session> sessions = new HashMap<>();
 
     public Session getOrCreateSession(String name, SessionFactory factory) {
-        return sessions.computeIfAbsent(name, (n) -> factory.openSession());
+        return sessions.computeIfAbsent(name, (n) -> ReadOnlySessions.onSessionOpened(factory.openSession()));
     }
 
     @PreDestroy
@@ -76,6 +76,7 @@ import org.infinispan.quarkus.hibernate.cache.QuarkusInfinispanRegionFactory;
 import io.quarkus.hibernate.orm.runtime.BuildTimeSettings;
 import io.quarkus.hibernate.orm.runtime.IntegrationSettings;
 import io.quarkus.hibernate.orm.runtime.boot.xml.RecordableXmlMapping;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticDescriptor;
 import io.quarkus.hibernate.orm.runtime.integration.HibernateOrmIntegrationStaticInitListener;
 import io.quarkus.hibernate.orm.runtime.proxies.PreGeneratedProxies;
@@ -337,8 +338,11 @@ public class FastBootMetadataBuilder {
             }
         }
 
-        cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
-                QuarkusInfinispanRegionFactory.class.getName());
+        if (!QuarkusCaffeineRegionFactory.class.getName()
+                .equals(cfg.get(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY))) {
+            cfg.put(org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY,
+                    QuarkusInfinispanRegionFactory.class.getName());
+        }
 
         for (HibernateOrmIntegrationStaticDescriptor descriptor : integrationStaticDescriptors) {
             Optional<HibernateOrmIntegrationStaticInitListener> listenerOptional = descriptor.getInitListener();
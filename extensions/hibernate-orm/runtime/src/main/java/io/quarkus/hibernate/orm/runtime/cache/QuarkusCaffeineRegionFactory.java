@@ -0,0 +1,125 @@
+package io.quarkus.hibernate.orm.runtime.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A second level cache {@link org.hibernate.cache.spi.RegionFactory} storing each region in a Caffeine cache.
+ * <p>
+ * Regions are configured with the same properties as the default (Infinispan based) region factory:
+ * {@code hibernate.cache.<region>.memory.object-count} and {@code hibernate.cache.<region>.expiration.max-idle},
+ * and additionally {@code hibernate.cache.<region>.expiration.lifespan}. Durations are expressed in seconds.
+ * <p>
+ * Statistics are recorded for each region, see {@link #getStorageAccesses()}.
+ */
+public final class QuarkusCaffeineRegionFactory extends RegionFactoryTemplate {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String MEMORY_OBJECT_COUNT = ".memory.object-count";
+    public static final String EXPIRATION_MAX_IDLE = ".expiration.max-idle";
+    public static final String EXPIRATION_LIFESPAN = ".expiration.lifespan";
+
+    private static final String PREFIX = "hibernate.cache.";
+    private static final long DEFAULT_OBJECT_COUNT = 10_000;
+    private static final long DEFAULT_MAX_IDLE_SECONDS = Duration.ofSeconds(100).getSeconds();
+
+    private final Map<String, CaffeineStorageAccess> storageAccesses = new ConcurrentHashMap<>();
+    private volatile Map<?, ?> configValues = Collections.emptyMap();
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected void prepareForUse(SessionFactoryOptions settings, Map configValues) {
+        this.configValues = configValues;
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        for (CaffeineStorageAccess storageAccess : storageAccesses.values()) {
+            storageAccess.release();
+        }
+        storageAccesses.clear();
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig,
+            DomainDataRegionBuildingContext buildingContext) {
+        return createBoundedStorageAccess(regionConfig.getRegionName());
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        return createBoundedStorageAccess(regionName);
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName,
+            SessionFactoryImplementor sessionFactory) {
+        // update timestamps must never be evicted, or the query cache could return stale results
+        return register(regionName, new CaffeineStorageAccess(Caffeine.newBuilder().recordStats().build()));
+    }
+
+    /**
+     * @return the storage of each region, by region name
+     */
+    public Map<String, CaffeineStorageAccess> getStorageAccesses() {
+        return Collections.unmodifiableMap(storageAccesses);
+    }
+
+    private CaffeineStorageAccess createBoundedStorageAccess(String regionName) {
+        return register(regionName, new CaffeineStorageAccess(regionCacheBuilder(
+                getLong(regionName, MEMORY_OBJECT_COUNT, DEFAULT_OBJECT_COUNT),
+                getLong(regionName, EXPIRATION_MAX_IDLE, DEFAULT_MAX_IDLE_SECONDS),
+                getLong(regionName, EXPIRATION_LIFESPAN, -1)).build()));
+    }
+
+    /**
+     * Creates the builder of the cache of an entity, collection, natural id or query results region.
+     * <p>
+     * This is also used at build time, to register the Caffeine classes matching each combination of features for
+     * reflection.
+     *
+     * @param objectCount the maximum number of entries, or a negative value for no maximum
+     * @param maxIdleSeconds the expiration after access, or {@code 0} or less for no expiration
+     * @param lifespanSeconds the expiration after write, or {@code 0} or less for no expiration
+     */
+    public static Caffeine<Object, Object> regionCacheBuilder(long objectCount, long maxIdleSeconds, long lifespanSeconds) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (objectCount >= 0) {
+            builder.maximumSize(objectCount);
+        }
+        if (maxIdleSeconds > 0) {
+            builder.expireAfterAccess(Duration.ofSeconds(maxIdleSeconds));
+        }
+        if (lifespanSeconds > 0) {
+            builder.expireAfterWrite(Duration.ofSeconds(lifespanSeconds));
+        }
+        return builder;
+    }
+
+    private CaffeineStorageAccess register(String regionName, CaffeineStorageAccess storageAccess) {
+        storageAccesses.put(regionName, storageAccess);
+        return storageAccess;
+    }
+
+    private long getLong(String regionName, String suffix, long defaultValue) {
+        Object value = configValues.get(PREFIX + regionName + suffix);
+        if (value == null) {
+            return defaultValue;
+        }
+        return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString().trim());
+    }
+}
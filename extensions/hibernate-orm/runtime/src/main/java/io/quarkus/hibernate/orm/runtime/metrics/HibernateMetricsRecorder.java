@@ -1,16 +1,21 @@
 package io.quarkus.hibernate.orm.runtime.metrics;
 
 import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.stat.CacheRegionStatistics;
 import org.hibernate.stat.Statistics;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.hibernate.orm.runtime.JPAConfig;
+import io.quarkus.hibernate.orm.runtime.cache.CaffeineStorageAccess;
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.metrics.MetricsFactory;
 
@@ -31,6 +36,8 @@ public class HibernateMetricsRecorder {
                     SessionFactory sessionFactory = jpaConfig.getEntityManagerFactory(puName).unwrap(SessionFactory.class);
                     if (sessionFactory != null) {
                         registerMetrics(metricsFactory, puName, sessionFactory.getStatistics());
+                        registerCaffeineRegionMetrics(metricsFactory, puName,
+                                sessionFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory());
                     }
                 }
             }
@@ -203,6 +210,40 @@ public class HibernateMetricsRecorder {
                 puName, statistics, Statistics::getUpdateTimestampsCachePutCount);
     }
 
+    /**
+     * Register the metrics of the regions of the Caffeine based second level cache, if it is used
+     *
+     * @param metricsFactory Quarkus MetricsFactory for generic metrics registration
+     * @param puName Name of persistence unit
+     * @param regionFactory Second level cache region factory of the persistence unit
+     */
+    void registerCaffeineRegionMetrics(MetricsFactory metricsFactory, String puName, RegionFactory regionFactory) {
+        if (!(regionFactory instanceof QuarkusCaffeineRegionFactory)) {
+            return;
+        }
+        for (Map.Entry<String, CaffeineStorageAccess> entry : ((QuarkusCaffeineRegionFactory) regionFactory)
+                .getStorageAccesses().entrySet()) {
+            String regionName = entry.getKey();
+            CaffeineStorageAccess storageAccess = entry.getValue();
+            createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.region.requests",
+                    "The number of lookups in the second level cache region (see result for hit or miss)",
+                    puName, storageAccess, s -> s.getStats().hitCount(),
+                    "result", "hit", "region", regionName);
+            createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.region.requests",
+                    "The number of lookups in the second level cache region (see result for hit or miss)",
+                    puName, storageAccess, s -> s.getStats().missCount(),
+                    "result", "miss", "region", regionName);
+            createStatisticsCounter(metricsFactory, "hibernate.second.level.cache.region.evictions",
+                    "The number of entries evicted from the second level cache region because of its size or expiration",
+                    puName, storageAccess, s -> s.getStats().evictionCount(),
+                    "region", regionName);
+            createBuilder(metricsFactory, "hibernate.second.level.cache.region.size",
+                    "The approximate number of entries in the second level cache region",
+                    puName, "region", regionName)
+                            .buildGauge(storageAccess, CaffeineStorageAccess::getSize);
+        }
+    }
+
     <T> void createStatisticsCounter(MetricsFactory metricsFactory, String metricName, String description,
             String puName, T statistics, Function<T, Long> f, String... tags) {
 
@@ -0,0 +1,24 @@
+package io.quarkus.hibernate.orm.runtime.session;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import io.quarkus.hibernate.orm.ReadOnly;
+
+@ReadOnly
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE + 300)
+public class ReadOnlyInterceptor {
+
+    @AroundInvoke
+    public Object intercept(InvocationContext context) throws Exception {
+        ReadOnlySessions.begin();
+        try {
+            return context.proceed();
+        } finally {
+            ReadOnlySessions.end();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package io.quarkus.hibernate.orm.runtime.session;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
+/**
+ * Tracks the read-only scopes of the current thread.
+ * <p>
+ * Sessions opened within a read-only scope load entities as read-only and are never flushed automatically.
+ * When the outermost scope ends, the sessions that are still open (e.g. the ones bound to a transaction that is
+ * still running) get their original settings back; the entities loaded within the scope stay read-only.
+ *
+ * @see io.quarkus.hibernate.orm.ReadOnly
+ */
+public final class ReadOnlySessions {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ReadOnlySessions() {
+    }
+
+    /**
+     * @return {@code true} if the given session was opened within the read-only scope of the current thread, the
+     *         sessions that were already open are not read-only
+     */
+    public static boolean isReadOnly(Session session) {
+        Scope scope = CURRENT.get();
+        return scope != null && scope.sessions.containsKey(session);
+    }
+
+    public static void begin() {
+        Scope scope = CURRENT.get();
+        if (scope == null) {
+            scope = new Scope();
+            CURRENT.set(scope);
+        }
+        scope.depth++;
+    }
+
+    public static void end() {
+        Scope scope = CURRENT.get();
+        if (scope == null || --scope.depth > 0) {
+            return;
+        }
+        CURRENT.remove();
+        for (Map.Entry<Session, FlushMode> entry : scope.sessions.entrySet()) {
+            Session session = entry.getKey();
+            if (session.isOpen()) {
+                session.setDefaultReadOnly(false);
+                session.setHibernateFlushMode(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Runs the given work within a read-only scope.
+     */
+    public static <T> T call(Supplier<T> work) {
+        begin();
+        try {
+            return work.get();
+        } finally {
+            end();
+        }
+    }
+
+    /**
+     * Must be called for each session opened by Quarkus, makes the session read-only if the current thread is running
+     * within a read-only scope.
+     *
+     * @return the given session
+     */
+    public static Session onSessionOpened(Session session) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.sessions.put(session, session.getHibernateFlushMode());
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+        }
+        return session;
+    }
+
+    private static final class Scope {
+
+        private final Map<Session, FlushMode> sessions = new IdentityHashMap<>();
+        private int depth;
+    }
+}
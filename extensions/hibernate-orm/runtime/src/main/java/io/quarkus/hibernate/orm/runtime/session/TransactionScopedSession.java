@@ -56,6 +56,7 @@ import io.quarkus.runtime.BlockingOperationNotAllowedException;
 public class TransactionScopedSession implements Session {
 
     protected static final String TRANSACTION_IS_NOT_ACTIVE = "Transaction is not active, consider adding @Transactional to your method to automatically activate one.";
+    protected static final String READ_ONLY = "The session is read-only, entities cannot be modified from a method annotated with @ReadOnly.";
 
     private final TransactionManager transactionManager;
     private final TransactionSynchronizationRegistry transactionSynchronizationRegistry;
@@ -83,9 +84,10 @@ public class TransactionScopedSession implements Session {
         if (isInTransaction()) {
             Session session = (Session) transactionSynchronizationRegistry.getResource(sessionKey);
             if (session != null) {
-                return new SessionResult(session, false, true);
+                // only the sessions opened within a read-only scope are read-only
+                return new SessionResult(session, false, !ReadOnlySessions.isReadOnly(session));
             }
-            Session newSession = jtaSessionOpener.openSession();
+            Session newSession = ReadOnlySessions.onSessionOpened(jtaSessionOpener.openSession());
             // The session has automatically joined the JTA transaction when it was constructed.
             transactionSynchronizationRegistry.putResource(sessionKey, newSession);
             // No need to flush or close the session upon transaction completion:
@@ -95,7 +97,7 @@ public class TransactionScopedSession implements Session {
             // - org.hibernate.resource.transaction.backend.jta.internal.JtaTransactionCoordinatorImpl.joinJtaTransaction
             // - org.hibernate.internal.SessionImpl.beforeTransactionCompletion
             // - org.hibernate.internal.SessionImpl.afterTransactionCompletion
-            return new SessionResult(newSession, false, true);
+            return new SessionResult(newSession, false, !ReadOnlySessions.isReadOnly(newSession));
         } else {
             //this will throw an exception if the request scope is not active
             //this is expected as either the request scope or an active transaction
@@ -106,6 +108,13 @@ public class TransactionScopedSession implements Session {
         }
     }
 
+    private static RuntimeException modificationNotAllowed(Session session) {
+        if (ReadOnlySessions.isReadOnly(session)) {
+            return new IllegalStateException(READ_ONLY);
+        }
+        return new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+    }
+
     private void checkBlocking() {
         if (!BlockingOperationControl.isBlockingAllowed()) {
             throw new BlockingOperationNotAllowedException(
@@ -135,7 +144,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.persist(entity);
         }
@@ -146,7 +155,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             return emr.session.merge(entity);
         }
@@ -157,7 +166,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.remove(entity);
         }
@@ -208,7 +217,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.flush();
         }
@@ -233,7 +242,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.lock(entity, lockMode);
         }
@@ -244,7 +253,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.lock(entity, lockMode, properties);
         }
@@ -255,7 +264,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.refresh(entity);
         }
@@ -266,7 +275,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.refresh(entity, properties);
         }
@@ -277,7 +286,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.refresh(entity, lockMode);
         }
@@ -288,7 +297,7 @@ public class TransactionScopedSession implements Session {
         checkBlocking();
         try (SessionResult emr = acquireSession()) {
             if (!emr.allowModification) {
-                throw new TransactionRequiredException(TRANSACTION_IS_NOT_ACTIVE);
+                throw modificationNotAllowed(emr.session);
             }
             emr.session.refresh(entity, lockMode, properties);
         }
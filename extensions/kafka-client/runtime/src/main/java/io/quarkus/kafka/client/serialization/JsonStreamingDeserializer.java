@@ -0,0 +1,185 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Deserializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * A {@link Deserializer} that reads JSON objects with the Jackson streaming API.
+ * <p>
+ * The subclasses create the object and set its fields without reflection. They are generated at build time for the
+ * types used in the Kafka channels. Unknown fields are ignored.
+ */
+public abstract class JsonStreamingDeserializer<T> implements Deserializer<T> {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        try (JsonParser parser = FACTORY.createParser(data)) {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object but got " + token);
+            }
+            T value = create();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.getCurrentName();
+                parser.nextToken();
+                if (!readField(parser, value, name)) {
+                    parser.skipChildren();
+                }
+            }
+            return value;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Creates the instance populated by {@link #readField(JsonParser, Object, String)}.
+     */
+    protected abstract T create();
+
+    /**
+     * Reads the value of the current token of the parser into the given field.
+     *
+     * @return {@code false} if the object has no field with this name
+     */
+    protected abstract boolean readField(JsonParser parser, T value, String name) throws IOException;
+
+    @Override
+    public void close() {
+    }
+
+    protected static String readString(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        checkScalar(parser, "a string");
+        return parser.getValueAsString();
+    }
+
+    protected static int readInt(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0;
+        }
+        checkToken(parser, "an integer", parser.currentToken() == JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    protected static long readLong(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0L;
+        }
+        checkToken(parser, "an integer", parser.currentToken() == JsonToken.VALUE_NUMBER_INT);
+        return parser.getLongValue();
+    }
+
+    protected static short readShort(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0;
+        }
+        checkToken(parser, "an integer", parser.currentToken() == JsonToken.VALUE_NUMBER_INT);
+        return parser.getShortValue();
+    }
+
+    protected static byte readByte(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0;
+        }
+        checkToken(parser, "an integer", parser.currentToken() == JsonToken.VALUE_NUMBER_INT);
+        return parser.getByteValue();
+    }
+
+    protected static float readFloat(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0f;
+        }
+        checkToken(parser, "a number", parser.currentToken().isNumeric());
+        return parser.getFloatValue();
+    }
+
+    protected static double readDouble(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return 0d;
+        }
+        checkToken(parser, "a number", parser.currentToken().isNumeric());
+        return parser.getDoubleValue();
+    }
+
+    protected static boolean readBoolean(JsonParser parser) throws IOException {
+        if (isNull(parser)) {
+            return false;
+        }
+        checkToken(parser, "a boolean", parser.currentToken().isBoolean());
+        return parser.currentToken() == JsonToken.VALUE_TRUE;
+    }
+
+    protected static Integer readIntegerObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readInt(parser);
+    }
+
+    protected static Long readLongObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readLong(parser);
+    }
+
+    protected static Short readShortObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readShort(parser);
+    }
+
+    protected static Byte readByteObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readByte(parser);
+    }
+
+    protected static Float readFloatObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readFloat(parser);
+    }
+
+    protected static Double readDoubleObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readDouble(parser);
+    }
+
+    protected static Boolean readBooleanObject(JsonParser parser) throws IOException {
+        return isNull(parser) ? null : readBoolean(parser);
+    }
+
+    /**
+     * Rejects objects and arrays, which the {@code getValueAs*} methods of the parser would silently read as a default
+     * value, leaving the parser in the middle of the structure.
+     */
+    private static void checkScalar(JsonParser parser, String expected) throws IOException {
+        checkToken(parser, expected, parser.currentToken().isScalarValue());
+    }
+
+    /**
+     * Rejects the values of another type, e.g. a string or a decimal number for an {@code int} field, instead of
+     * coercing them to a default value. The ranges of the numbers are checked by the {@code get*Value} methods of the
+     * parser.
+     */
+    private static void checkToken(JsonParser parser, String expected, boolean matches) throws IOException {
+        if (!matches) {
+            throw new JsonParseException(parser, "Expected " + expected + " but got " + parser.currentToken());
+        }
+    }
+
+    private static boolean isNull(JsonParser parser) {
+        return parser.currentToken() == JsonToken.VALUE_NULL;
+    }
+}
@@ -0,0 +1,108 @@
+package io.quarkus.kafka.client.serialization;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+/**
+ * A {@link Serializer} that writes JSON objects with the Jackson streaming API.
+ * <p>
+ * The subclasses write the fields of the object without reflection. They are generated at build time for the types
+ * used in the Kafka channels.
+ */
+public abstract class JsonStreamingSerializer<T> implements Serializer<T> {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.UTF_8);
+
+    private boolean nullAsNull = false;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (configs.containsKey(ObjectMapperSerializer.NULL_AS_NULL_CONFIG)
+                && Boolean.parseBoolean((String) configs.get(ObjectMapperSerializer.NULL_AS_NULL_CONFIG))) {
+            nullAsNull = true;
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return nullAsNull ? null : NULL.clone();
+        }
+
+        ByteArrayBuilder bytes = new ByteArrayBuilder(FACTORY._getBufferRecycler());
+        try (JsonGenerator generator = FACTORY.createGenerator(bytes)) {
+            generator.writeStartObject();
+            writeFields(generator, data);
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        byte[] result = bytes.toByteArray();
+        bytes.release();
+        return result;
+    }
+
+    /**
+     * Writes the fields of the given object.
+     */
+    protected abstract void writeFields(JsonGenerator generator, T value) throws IOException;
+
+    @Override
+    public void close() {
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, String value) throws IOException {
+        generator.writeStringField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, int value) throws IOException {
+        generator.writeNumberField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, long value) throws IOException {
+        generator.writeNumberField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, float value) throws IOException {
+        generator.writeNumberField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, double value) throws IOException {
+        generator.writeNumberField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, boolean value) throws IOException {
+        generator.writeBooleanField(name, value);
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, Boolean value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeBooleanField(name, value);
+        }
+    }
+
+    protected static void writeField(JsonGenerator generator, String name, Number value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof Long) {
+            generator.writeNumber(value.longValue());
+        } else if (value instanceof Double) {
+            generator.writeNumber(value.doubleValue());
+        } else if (value instanceof Float) {
+            generator.writeNumber(value.floatValue());
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.quarkus.kafka.client.serialization;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+class JsonStreamingDeserializerTest {
+
+    private final OrderDeserializer deserializer = new OrderDeserializer();
+
+    @Test
+    void shouldDeserializeFields() {
+        Order order = deserialize("{\"quantity\":3,\"name\":\"a\",\"express\":true,\"price\":1.5,\"other\":{\"x\":[1]}}");
+        assertEquals(3, order.quantity);
+        assertEquals("a", order.name);
+        assertTrue(order.express);
+        assertEquals(1.5, order.price);
+    }
+
+    @Test
+    void shouldDeserializeNulls() {
+        assertNull(deserialize("null"));
+        Order order = deserialize("{\"quantity\":null,\"name\":null,\"express\":null,\"price\":null}");
+        assertNull(order.name);
+        assertFalse(order.express);
+        assertNull(order.price);
+    }
+
+    @Test
+    void shouldRejectStructuresAsScalarValues() {
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":{\"x\":1},\"name\":\"a\"}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":[1],\"name\":\"a\"}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"express\":{\"x\":true}}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"price\":[1.5]}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"name\":{\"x\":\"a\"}}"));
+    }
+
+    @Test
+    void shouldRejectValuesOfAnotherType() {
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":\"abc\"}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":\"7\"}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":1.5}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":true}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"express\":\"yes\"}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"express\":1}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"price\":\"1.5\"}"));
+    }
+
+    @Test
+    void shouldRejectNumbersOutOfRange() {
+        assertThrows(RuntimeException.class, () -> deserialize("{\"quantity\":3000000000}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"size\":40000}"));
+        assertThrows(RuntimeException.class, () -> deserialize("{\"priority\":300}"));
+        Order order = deserialize("{\"size\":-32768,\"priority\":127,\"price\":2}");
+        assertEquals(-32768, order.size);
+        assertEquals(127, order.priority);
+        assertEquals(2.0, order.price);
+    }
+
+    private Order deserialize(String json) {
+        return deserializer.deserialize("topic", json.getBytes());
+    }
+
+    static class Order {
+        int quantity;
+        String name;
+        boolean express;
+        Double price;
+        short size;
+        byte priority;
+    }
+
+    static class OrderDeserializer extends JsonStreamingDeserializer<Order> {
+
+        @Override
+        protected Order create() {
+            return new Order();
+        }
+
+        @Override
+        protected boolean readField(JsonParser parser, Order value, String name) throws IOException {
+            switch (name) {
+                case "quantity":
+                    value.quantity = readInt(parser);
+                    return true;
+                case "name":
+                    value.name = readString(parser);
+                    return true;
+                case "express":
+                    value.express = readBoolean(parser);
+                    return true;
+                case "price":
+                    value.price = readDoubleObject(parser);
+                    return true;
+                case "size":
+                    value.size = readShort(parser);
+                    return true;
+                case "priority":
+                    value.priority = readByte(parser);
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
@@ -3,12 +3,16 @@ package io.quarkus.kafka.client.serialization;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 
 class ObjectMapperDeserializerTest {
     @Test
@@ -44,4 +48,32 @@ class ObjectMapperDeserializerTest {
         MyEntity results = deserializer.deserialize("topic", null);
         assertNull(results);
     }
+
+    @Test
+    void shouldDeserializeWithTheGivenObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class, objectMapper);
+        MyEntity actual = deserializer.deserialize("topic", "{\"Id\":1,\"Name\":\"entity1\",\"Other\":true}".getBytes());
+        assertEquals(new MyEntity(1, "entity1"), actual);
+    }
+
+    @Test
+    void shouldDeserializeSeveralRecords() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        for (int i = 0; i < 3; i++) {
+            MyEntity actual = deserializer.deserialize("topic", ("{\"id\":" + i + ",\"name\":\"entity\"}").getBytes());
+            assertEquals(new MyEntity(i, "entity"), actual);
+        }
+    }
+
+    @Test
+    void shouldFailOnInvalidJson() {
+        ObjectMapperDeserializer<MyEntity> deserializer = new ObjectMapperDeserializer<>(MyEntity.class);
+        assertThrows(RuntimeException.class, () -> deserializer.deserialize("topic", "{\"id\":".getBytes()));
+        // the deserializer is still usable after a failure
+        assertEquals(new MyEntity(1, "entity1"),
+                deserializer.deserialize("topic", "{\"id\":1,\"name\":\"entity1\"}".getBytes()));
+    }
 }
@@ -3,12 +3,16 @@ package io.quarkus.kafka.client.serialization;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
 class ObjectMapperSerializerTest {
 
     @Test
@@ -46,4 +50,27 @@ class ObjectMapperSerializerTest {
         assertNull(results);
     }
 
+    @Test
+    void shouldSerializeWithTheGivenObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .setPropertyNamingStrategy(PropertyNamingStrategies.UPPER_CAMEL_CASE);
+        ObjectMapperSerializer<MyEntity> serializer = new ObjectMapperSerializer<>(objectMapper);
+        byte[] result = serializer.serialize("topic", new MyEntity(1, "entity1"));
+        assertEquals("{\"Id\":1,\"Name\":\"entity1\"}", new String(result));
+    }
+
+    @Test
+    void shouldSerializeSeveralRecords() {
+        ObjectMapperSerializer<Object> serializer = new ObjectMapperSerializer<>();
+        // the writer is not bound to a type
+        assertEquals("{\"id\":1,\"name\":\"entity1\"}", new String(serializer.serialize("topic", new MyEntity(1, "entity1"))));
+        assertEquals("[1,2]", new String(serializer.serialize("topic", List.of(1, 2))));
+        assertEquals("{\"id\":2,\"name\":\"entity2\"}", new String(serializer.serialize("topic", new MyEntity(2, "entity2"))));
+    }
+
+    @Test
+    void shouldFailOnUnserializableValue() {
+        ObjectMapperSerializer<Object> serializer = new ObjectMapperSerializer<>();
+        assertThrows(RuntimeException.class, () -> serializer.serialize("topic", new Object()));
+    }
 }
@@ -31,6 +31,7 @@ import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeReinitializedClassBuildItem;
 import io.quarkus.deployment.pkg.NativeConfig;
+import io.quarkus.kafka.streams.runtime.BoundedMemoryRocksDBConfigSetter;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsProducer;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRecorder;
 import io.quarkus.kafka.streams.runtime.KafkaStreamsRuntimeConfig;
@@ -69,6 +70,7 @@ class KafkaStreamsProcessor {
                 new ReflectiveClassBuildItem(true, false, false, "org.apache.kafka.streams.processor.DefaultPartitionGrouper"));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, DefaultProductionExceptionHandler.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, FailOnInvalidTimestamp.class));
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, false, BoundedMemoryRocksDBConfigSetter.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, true,
                 org.apache.kafka.streams.processor.internals.assignment.HighAvailabilityTaskAssignor.class));
         reflectiveClasses.produce(new ReflectiveClassBuildItem(true, true, true,
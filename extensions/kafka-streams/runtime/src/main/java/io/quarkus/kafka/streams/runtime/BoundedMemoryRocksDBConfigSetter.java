@@ -0,0 +1,66 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Map;
+
+import org.apache.kafka.streams.state.RocksDBConfigSetter;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Cache;
+import org.rocksdb.LRUCache;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.WriteBufferManager;
+
+/**
+ * Bounds the memory used by all the RocksDB state stores of the application, by sharing a single block cache and
+ * write buffer manager.
+ * <p>
+ * The index and filter blocks are stored in the block cache, so they are bounded as well. The cache is created by
+ * {@link #init(RocksDBConfig)} before the start of Kafka Streams, and released by {@link #release()} once it is
+ * closed.
+ */
+public class BoundedMemoryRocksDBConfigSetter implements RocksDBConfigSetter {
+
+    private static Cache cache;
+    private static WriteBufferManager writeBufferManager;
+
+    static synchronized void init(RocksDBConfig config) {
+        release();
+        RocksDB.loadLibrary();
+        long totalMemory = config.totalMemory.get().asLongValue();
+        cache = new LRUCache(totalMemory, -1, config.strictCapacityLimit, config.indexFilterBlockRatio);
+        // the memory of the write buffers is counted in the cache
+        writeBufferManager = new WriteBufferManager((long) (totalMemory * config.writeBufferRatio), cache);
+    }
+
+    static synchronized void release() {
+        if (writeBufferManager != null) {
+            writeBufferManager.close();
+            writeBufferManager = null;
+        }
+        if (cache != null) {
+            cache.close();
+            cache = null;
+        }
+    }
+
+    @Override
+    public void setConfig(String storeName, Options options, Map<String, Object> configs) {
+        synchronized (BoundedMemoryRocksDBConfigSetter.class) {
+            if (cache == null) {
+                throw new IllegalStateException("The shared RocksDB memory is not initialized");
+            }
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) options.tableFormatConfig();
+            tableConfig.setBlockCache(cache);
+            tableConfig.setCacheIndexAndFilterBlocks(true);
+            tableConfig.setCacheIndexAndFilterBlocksWithHighPriority(true);
+            tableConfig.setPinTopLevelIndexAndFilter(true);
+            options.setWriteBufferManager(writeBufferManager);
+            options.setTableFormatConfig(tableConfig);
+        }
+    }
+
+    @Override
+    public void close(String storeName, Options options) {
+        // the cache and the write buffer manager are shared by all the stores
+    }
+}
@@ -67,6 +67,7 @@ public class KafkaStreamsProducer {
     private final KafkaStreams kafkaStreams;
     private final KafkaStreamsTopologyManager kafkaStreamsTopologyManager;
     private final Admin kafkaAdminClient;
+    private final boolean boundedRocksDBMemory;
 
     @Inject
     public KafkaStreamsProducer(KafkaStreamsSupport kafkaStreamsSupport, KafkaStreamsRuntimeConfig runtimeConfig,
@@ -82,6 +83,7 @@ public class KafkaStreamsProducer {
             this.kafkaStreams = null;
             this.kafkaStreamsTopologyManager = null;
             this.kafkaAdminClient = null;
+            this.boundedRocksDBMemory = false;
             return;
         }
 
@@ -101,6 +103,12 @@ public class KafkaStreamsProducer {
                 runtimeConfig);
         this.kafkaAdminClient = Admin.create(getAdminClientConfig(kafkaStreamsProperties));
 
+        this.boundedRocksDBMemory = BoundedMemoryRocksDBConfigSetter.class.getName()
+                .equals(kafkaStreamsProperties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG));
+        if (boundedRocksDBMemory) {
+            BoundedMemoryRocksDBConfigSetter.init(runtimeConfig.rocksdb);
+        }
+
         this.executorService = Executors.newSingleThreadExecutor();
 
         this.kafkaStreams = initializeKafkaStreams(kafkaStreamsProperties, runtimeConfig, kafkaAdminClient, topology.get(),
@@ -141,6 +149,9 @@ public class KafkaStreamsProducer {
             LOGGER.debug("Stopping Kafka Streams pipeline");
             kafkaStreams.close();
         }
+        if (boundedRocksDBMemory) {
+            BoundedMemoryRocksDBConfigSetter.release();
+        }
         if (kafkaAdminClient != null) {
             kafkaAdminClient.close(Duration.ZERO);
         }
@@ -191,7 +202,7 @@ public class KafkaStreamsProducer {
     /**
      * Returns all properties to be passed to Kafka Streams.
      */
-    private static Properties getStreamsProperties(Properties properties,
+    static Properties getStreamsProperties(Properties properties,
             Map<String, Object> cfg, String bootstrapServersConfig,
             KafkaStreamsRuntimeConfig runtimeConfig) {
         Properties streamsProperties = new Properties();
@@ -220,6 +231,13 @@ public class KafkaStreamsProducer {
             streamsProperties.put(runtimeConfig.schemaRegistryKey, runtimeConfig.schemaRegistryUrl.get());
         }
 
+        // shared RocksDB memory, unless a config setter is already configured
+        if (runtimeConfig.rocksdb.totalMemory.isPresent()
+                && !streamsProperties.containsKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG)) {
+            streamsProperties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG,
+                    BoundedMemoryRocksDBConfigSetter.class.getName());
+        }
+
         // set the security protocol (in case we are doing PLAIN_TEXT)
         setProperty(runtimeConfig.securityProtocol, streamsProperties, CommonClientConfigs.SECURITY_PROTOCOL_CONFIG);
 
@@ -79,6 +79,11 @@ public class KafkaStreamsRuntimeConfig {
      */
     public SslConfig ssl;
 
+    /**
+     * The RocksDB state stores config.
+     */
+    public RocksDBConfig rocksdb;
+
     @Override
     public String toString() {
         return "KafkaStreamsRuntimeConfig{" +
@@ -90,6 +95,7 @@ public class KafkaStreamsRuntimeConfig {
                 ", schemaRegistryUrl=" + schemaRegistryUrl +
                 ", sasl=" + sasl +
                 ", ssl=" + ssl +
+                ", rocksdb=" + rocksdb +
                 '}';
     }
 
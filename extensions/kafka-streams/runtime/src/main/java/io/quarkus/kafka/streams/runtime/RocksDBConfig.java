@@ -0,0 +1,49 @@
+package io.quarkus.kafka.streams.runtime;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+@ConfigGroup
+public class RocksDBConfig {
+
+    /**
+     * The total off-heap memory shared by the block caches and the write buffers (memtables) of all the RocksDB state
+     * stores of the application, e.g. {@code 512M}.
+     * <p>
+     * By default, each state store allocates its own block cache and write buffers, so the memory used grows with the
+     * number of stores and partitions. This is ignored if {@code kafka-streams.rocksdb.config.setter} is set.
+     */
+    @ConfigItem
+    public Optional<MemorySize> totalMemory;
+
+    /**
+     * The fraction of {@code total-memory} used by the write buffers.
+     */
+    @ConfigItem(defaultValue = "0.5")
+    public double writeBufferRatio;
+
+    /**
+     * The fraction of the block cache reserved for the index and filter blocks.
+     */
+    @ConfigItem(defaultValue = "0.1")
+    public double indexFilterBlockRatio;
+
+    /**
+     * Whether the reads and writes fail when the shared memory is full, instead of exceeding {@code total-memory}.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean strictCapacityLimit;
+
+    @Override
+    public String toString() {
+        return "RocksDBConfig{" +
+                "totalMemory=" + totalMemory.map(MemorySize::asLongValue) +
+                ", writeBufferRatio=" + writeBufferRatio +
+                ", indexFilterBlockRatio=" + indexFilterBlockRatio +
+                ", strictCapacityLimit=" + strictCapacityLimit +
+                '}';
+    }
+}
@@ -0,0 +1,150 @@
+package io.quarkus.kafka.streams.runtime.state;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A fixed capacity region of direct memory, split into blocks by a buddy allocator.
+ * <p>
+ * The memory is allocated once, when the arena is created, and the blocks are explicitly released with
+ * {@link #free(int, int)}, so the allocations neither depend on the GC nor create objects on the heap. The block sizes
+ * are powers of two, from {@value #MIN_BLOCK_SIZE} bytes, and the free blocks of each size are linked together in the
+ * arena itself.
+ * <p>
+ * This class is not thread safe.
+ */
+final class OffHeapArena {
+
+    static final int MIN_BLOCK_SIZE = 16;
+    static final int MAX_CAPACITY = 1 << 30;
+    static final int NONE = -1;
+
+    private static final int MIN_ORDER = Integer.numberOfTrailingZeros(MIN_BLOCK_SIZE);
+
+    private final ByteBuffer memory;
+    // the first free block of each order, the free blocks store the offsets of the next and previous ones
+    private final int[] freeLists;
+    // the free blocks of each order, indexed by offset >> order, to find the free buddies
+    private final BitSet[] freeBlocks;
+    private int used;
+
+    OffHeapArena(int capacity) {
+        if (capacity < MIN_BLOCK_SIZE || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between " + MIN_BLOCK_SIZE + " and "
+                    + MAX_CAPACITY + " bytes: " + capacity);
+        }
+        capacity &= -MIN_BLOCK_SIZE;
+        memory = ByteBuffer.allocateDirect(capacity);
+        int maxOrder = 31 - Integer.numberOfLeadingZeros(capacity);
+        freeLists = new int[maxOrder + 1];
+        Arrays.fill(freeLists, NONE);
+        freeBlocks = new BitSet[maxOrder + 1];
+        for (int order = MIN_ORDER; order <= maxOrder; order++) {
+            freeBlocks[order] = new BitSet(capacity >> order);
+        }
+        // a capacity which is not a power of two is split into blocks of decreasing sizes, e.g. 48 into 32 and 16
+        int offset = 0;
+        for (int order = maxOrder; order >= MIN_ORDER; order--) {
+            if ((capacity & (1 << order)) != 0) {
+                addFree(offset, order);
+                offset += 1 << order;
+            }
+        }
+    }
+
+    /**
+     * @return the offset of a block of at least {@code length} bytes, or {@link #NONE} if there is no such free block
+     */
+    int allocate(int length) {
+        int order = order(length);
+        int current = order;
+        while (current < freeLists.length && freeLists[current] == NONE) {
+            current++;
+        }
+        if (current >= freeLists.length) {
+            return NONE;
+        }
+        int offset = freeLists[current];
+        removeFree(offset, current);
+        // split the block, keeping its first half
+        while (current > order) {
+            current--;
+            addFree(offset + (1 << current), current);
+        }
+        used += 1 << order;
+        return offset;
+    }
+
+    /**
+     * Releases the block allocated for {@code length} bytes at {@code offset}, merging it with its free buddies.
+     */
+    void free(int offset, int length) {
+        int order = order(length);
+        used -= 1 << order;
+        while (order < freeLists.length - 1) {
+            int buddy = offset ^ (1 << order);
+            if (!freeBlocks[order].get(buddy >> order)) {
+                break;
+            }
+            removeFree(buddy, order);
+            offset = Math.min(offset, buddy);
+            order++;
+        }
+        addFree(offset, order);
+    }
+
+    void write(int offset, byte[] value) {
+        ByteBuffer block = memory.duplicate();
+        block.position(offset);
+        block.put(value);
+    }
+
+    byte[] read(int offset, int length) {
+        byte[] value = new byte[length];
+        ByteBuffer block = memory.duplicate();
+        block.position(offset);
+        block.get(value);
+        return value;
+    }
+
+    /**
+     * @return the size of the allocated blocks, in bytes
+     */
+    int used() {
+        return used;
+    }
+
+    int capacity() {
+        return memory.capacity();
+    }
+
+    private static int order(int length) {
+        return length <= MIN_BLOCK_SIZE ? MIN_ORDER : 32 - Integer.numberOfLeadingZeros(length - 1);
+    }
+
+    private void addFree(int offset, int order) {
+        int head = freeLists[order];
+        memory.putInt(offset, head);
+        memory.putInt(offset + Integer.BYTES, NONE);
+        if (head != NONE) {
+            memory.putInt(head + Integer.BYTES, offset);
+        }
+        freeLists[order] = offset;
+        freeBlocks[order].set(offset >> order);
+    }
+
+    private void removeFree(int offset, int order) {
+        int next = memory.getInt(offset);
+        int previous = memory.getInt(offset + Integer.BYTES);
+        if (previous == NONE) {
+            freeLists[order] = next;
+        } else {
+            memory.putInt(previous, next);
+        }
+        if (next != NONE) {
+            memory.putInt(next + Integer.BYTES, previous);
+        }
+        freeBlocks[order].clear(offset >> order);
+    }
+}
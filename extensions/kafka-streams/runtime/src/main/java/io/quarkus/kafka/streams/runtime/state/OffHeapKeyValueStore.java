@@ -0,0 +1,294 @@
+package io.quarkus.kafka.streams.runtime.state;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.metrics.stats.Value;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsMetrics;
+import org.apache.kafka.streams.errors.ProcessorStateException;
+import org.apache.kafka.streams.processor.ProcessorContext;
+import org.apache.kafka.streams.processor.StateRestoreCallback;
+import org.apache.kafka.streams.processor.StateStore;
+import org.apache.kafka.streams.processor.StateStoreContext;
+import org.apache.kafka.streams.processor.TaskId;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.jboss.logging.Logger;
+
+/**
+ * A key-value store keeping the values in an {@link OffHeapArena} of a fixed capacity.
+ * <p>
+ * The arena is allocated when the store is initialized and the blocks of the values are released as soon as they are
+ * deleted or overwritten. The writes fail with a {@link ProcessorStateException} once the arena is full. The access to
+ * the arena is synchronized, as the interactive queries read the store from other threads.
+ */
+class OffHeapKeyValueStore implements KeyValueStore<Bytes, byte[]> {
+
+    private static final Logger LOGGER = Logger.getLogger(OffHeapKeyValueStore.class.getName());
+
+    private static final String METRICS_GROUP = "stream-state-metrics";
+
+    private final String name;
+    private final int capacity;
+    // the offset of the value in the arena, in the high 32 bits, and its length
+    private final ConcurrentSkipListMap<Bytes, Long> map = new ConcurrentSkipListMap<>();
+
+    private OffHeapArena arena;
+
+    private volatile boolean open = false;
+    private StreamsMetrics metrics;
+    private Sensor sizeSensor;
+    private Sensor entriesSensor;
+
+    OffHeapKeyValueStore(String name, int capacity) {
+        this.name = name;
+        this.capacity = capacity;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Deprecated
+    @Override
+    public void init(ProcessorContext context, StateStore root) {
+        init(context.taskId(), context.metrics());
+        if (root != null) {
+            context.register(root, restoreCallback());
+        }
+        open = true;
+    }
+
+    @Override
+    public void init(StateStoreContext context, StateStore root) {
+        init(context.taskId(), context.metrics());
+        if (root != null) {
+            context.register(root, restoreCallback());
+        }
+        open = true;
+    }
+
+    private void init(TaskId taskId, StreamsMetrics metrics) {
+        synchronized (this) {
+            arena = new OffHeapArena(capacity);
+        }
+        this.metrics = metrics;
+        String sensorPrefix = "task." + taskId + ".store." + name + ".";
+        Map<String, String> tags = Map.of(
+                "thread-id", Thread.currentThread().getName(),
+                "task-id", taskId.toString(),
+                OffHeapStores.METRICS_SCOPE + "-state-id", name);
+        sizeSensor = metrics.addSensor(sensorPrefix + "size-bytes", Sensor.RecordingLevel.INFO);
+        sizeSensor.add(new MetricName("size-bytes", METRICS_GROUP,
+                "The off-heap memory used by the values of the store", tags), new Value());
+        entriesSensor = metrics.addSensor(sensorPrefix + "num-entries", Sensor.RecordingLevel.INFO);
+        entriesSensor.add(new MetricName("num-entries", METRICS_GROUP,
+                "The number of entries of the store", tags), new Value());
+        recordMetrics();
+    }
+
+    private StateRestoreCallback restoreCallback() {
+        return (key, value) -> put(Bytes.wrap(key), value);
+    }
+
+    @Override
+    public void flush() {
+        // nothing to flush
+    }
+
+    @Override
+    public synchronized void close() {
+        map.clear();
+        // the memory is released by the GC once the store is closed
+        arena = null;
+        if (metrics != null) {
+            metrics.removeSensor(sizeSensor);
+            metrics.removeSensor(entriesSensor);
+            metrics = null;
+        }
+        open = false;
+    }
+
+    @Override
+    public boolean persistent() {
+        return false;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public synchronized byte[] get(Bytes key) {
+        Long handle = map.get(key);
+        return handle == null ? null : arena.read(offset(handle), length(handle));
+    }
+
+    @Override
+    public synchronized void put(Bytes key, byte[] value) {
+        putInternal(key, value);
+        recordMetrics();
+    }
+
+    @Override
+    public synchronized byte[] putIfAbsent(Bytes key, byte[] value) {
+        byte[] previous = get(key);
+        if (previous == null) {
+            put(key, value);
+        }
+        return previous;
+    }
+
+    @Override
+    public synchronized void putAll(List<KeyValue<Bytes, byte[]>> entries) {
+        for (KeyValue<Bytes, byte[]> entry : entries) {
+            putInternal(entry.key, entry.value);
+        }
+        recordMetrics();
+    }
+
+    @Override
+    public synchronized byte[] delete(Bytes key) {
+        Long previous = map.remove(key);
+        if (previous == null) {
+            return null;
+        }
+        byte[] value = arena.read(offset(previous), length(previous));
+        arena.free(offset(previous), length(previous));
+        recordMetrics();
+        return value;
+    }
+
+    private void putInternal(Bytes key, byte[] value) {
+        if (value == null) {
+            free(map.remove(key));
+            return;
+        }
+        // allocate before releasing the previous value, so that it is kept if the store is full
+        int offset = arena.allocate(value.length);
+        if (offset == OffHeapArena.NONE) {
+            throw new ProcessorStateException(String.format(
+                    "The off-heap store %s is full: %d of %d bytes are used, %d more bytes cannot be allocated", name,
+                    arena.used(), arena.capacity(), value.length));
+        }
+        arena.write(offset, value);
+        free(map.put(key, ((long) offset << 32) | value.length));
+    }
+
+    private void free(Long handle) {
+        if (handle != null) {
+            arena.free(offset(handle), length(handle));
+        }
+    }
+
+    private void recordMetrics() {
+        if (sizeSensor != null) {
+            sizeSensor.record(arena.used());
+            entriesSensor.record(map.size());
+        }
+    }
+
+    private static int offset(long handle) {
+        return (int) (handle >>> 32);
+    }
+
+    private static int length(long handle) {
+        return (int) handle;
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> range(Bytes from, Bytes to) {
+        return iterator(subMap(from, to));
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> reverseRange(Bytes from, Bytes to) {
+        return iterator(subMap(from, to).descendingMap());
+    }
+
+    private NavigableMap<Bytes, Long> subMap(Bytes from, Bytes to) {
+        if (from != null && to != null && from.compareTo(to) > 0) {
+            LOGGER.warnf("Returning empty iterator for range query with invalid key range: from > to. Store: %s", name);
+            return Collections.emptyNavigableMap();
+        }
+        if (from == null && to == null) {
+            return map;
+        } else if (from == null) {
+            return map.headMap(to, true);
+        } else if (to == null) {
+            return map.tailMap(from, true);
+        }
+        return map.subMap(from, true, to, true);
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> all() {
+        return iterator(map);
+    }
+
+    @Override
+    public KeyValueIterator<Bytes, byte[]> reverseAll() {
+        return iterator(map.descendingMap());
+    }
+
+    @Override
+    public long approximateNumEntries() {
+        return map.size();
+    }
+
+    private KeyValueIterator<Bytes, byte[]> iterator(NavigableMap<Bytes, Long> entries) {
+        // the iterators of the skip list are weakly consistent, they never fail on concurrent writes
+        Iterator<Bytes> keys = entries.keySet().iterator();
+        return new KeyValueIterator<>() {
+
+            private KeyValue<Bytes, byte[]> next;
+
+            @Override
+            public boolean hasNext() {
+                while (next == null && keys.hasNext()) {
+                    Bytes key = keys.next();
+                    // the value is read from the arena when the iterator reaches it, unless it was deleted since
+                    byte[] value = get(key);
+                    if (value != null) {
+                        next = KeyValue.pair(key, value);
+                    }
+                }
+                return next != null;
+            }
+
+            @Override
+            public KeyValue<Bytes, byte[]> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                KeyValue<Bytes, byte[]> entry = next;
+                next = null;
+                return entry;
+            }
+
+            @Override
+            public Bytes peekNextKey() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return next.key;
+            }
+
+            @Override
+            public void close() {
+                // nothing to release
+            }
+        };
+    }
+}
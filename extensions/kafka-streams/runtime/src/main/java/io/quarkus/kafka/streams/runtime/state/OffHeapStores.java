@@ -0,0 +1,64 @@
+package io.quarkus.kafka.streams.runtime.state;
+
+import java.util.Objects;
+
+import org.apache.kafka.streams.state.KeyValueBytesStoreSupplier;
+import org.apache.kafka.streams.state.Stores;
+
+/**
+ * Factory of state stores keeping their values outside of the Java heap.
+ * <p>
+ * Like {@link Stores#inMemoryKeyValueStore(String)}, these stores are not persistent and are restored from their
+ * changelog topic on startup, so they are meant for small state. Unlike it, the values are stored in a direct memory
+ * region of a fixed capacity, allocated once per store instance, i.e. per task, reducing the heap size and the GC
+ * pauses. The keys stay on the heap, for the ordering of the range queries, so these stores only save heap memory
+ * when the values are larger than a few tens of bytes.
+ * <p>
+ * The values are stored in blocks whose size is rounded up to a power of two, of at least
+ * {@value OffHeapArena#MIN_BLOCK_SIZE} bytes. The writes fail with a
+ * {@link org.apache.kafka.streams.errors.ProcessorStateException} once the store is full.
+ * <p>
+ * The stores report their size in the {@code stream-state-metrics} group, with the {@code size-bytes} and
+ * {@code num-entries} metrics.
+ */
+public final class OffHeapStores {
+
+    static final String METRICS_SCOPE = "off-heap";
+
+    private OffHeapStores() {
+        // Avoid direct instantiation
+    }
+
+    /**
+     * Creates a supplier of off-heap key-value stores, to use with
+     * {@link Stores#keyValueStoreBuilder(KeyValueBytesStoreSupplier, org.apache.kafka.common.serialization.Serde,
+     * org.apache.kafka.common.serialization.Serde)} or
+     * {@link org.apache.kafka.streams.kstream.Materialized#as(KeyValueBytesStoreSupplier)}.
+     *
+     * @param name the name of the store
+     * @param capacity the direct memory allocated by each instance of the store, in bytes, up to 1 GiB
+     */
+    public static KeyValueBytesStoreSupplier keyValueStore(String name, long capacity) {
+        Objects.requireNonNull(name, "name cannot be null");
+        if (capacity < OffHeapArena.MIN_BLOCK_SIZE || capacity > OffHeapArena.MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between " + OffHeapArena.MIN_BLOCK_SIZE + " and "
+                    + OffHeapArena.MAX_CAPACITY + " bytes");
+        }
+        return new KeyValueBytesStoreSupplier() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public OffHeapKeyValueStore get() {
+                return new OffHeapKeyValueStore(name, (int) capacity);
+            }
+
+            @Override
+            public String metricsScope() {
+                return METRICS_SCOPE;
+            }
+        };
+    }
+}
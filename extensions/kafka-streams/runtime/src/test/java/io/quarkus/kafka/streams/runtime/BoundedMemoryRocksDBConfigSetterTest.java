@@ -0,0 +1,98 @@
+package io.quarkus.kafka.streams.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.apache.kafka.streams.StreamsConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.Options;
+
+import io.quarkus.runtime.configuration.MemorySize;
+
+public class BoundedMemoryRocksDBConfigSetterTest {
+
+    @AfterEach
+    public void tearDown() {
+        BoundedMemoryRocksDBConfigSetter.release();
+    }
+
+    @Test
+    public void shouldShareTheCacheAndTheWriteBufferManager() {
+        BoundedMemoryRocksDBConfigSetter.init(rocksDBConfig(Optional.of(new MemorySize(BigInteger.valueOf(1 << 20)))));
+        BoundedMemoryRocksDBConfigSetter setter = new BoundedMemoryRocksDBConfigSetter();
+        try (Options first = options(); Options second = options()) {
+            setter.setConfig("first", first, Map.of());
+            setter.setConfig("second", second, Map.of());
+
+            BlockBasedTableConfig tableConfig = (BlockBasedTableConfig) first.tableFormatConfig();
+            assertThat(tableConfig.cacheIndexAndFilterBlocks()).isTrue();
+            assertThat(tableConfig.cacheIndexAndFilterBlocksWithHighPriority()).isTrue();
+            assertThat(tableConfig.pinTopLevelIndexAndFilter()).isTrue();
+            assertThat(first.writeBufferManager()).isNotNull().isSameAs(second.writeBufferManager());
+        }
+    }
+
+    @Test
+    public void shouldFailIfNotInitialized() {
+        BoundedMemoryRocksDBConfigSetter.init(rocksDBConfig(Optional.of(new MemorySize(BigInteger.valueOf(1 << 20)))));
+        BoundedMemoryRocksDBConfigSetter.release();
+        try (Options options = options()) {
+            assertThatThrownBy(() -> new BoundedMemoryRocksDBConfigSetter().setConfig("store", options, Map.of()))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void shouldConfigureTheSetterWhenTotalMemoryIsSet() {
+        Properties properties = KafkaStreamsProducer.getStreamsProperties(new Properties(), Map.of(), "localhost:9092",
+                runtimeConfig(Optional.of(new MemorySize(BigInteger.valueOf(1 << 20)))));
+        assertThat(properties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG))
+                .isEqualTo(BoundedMemoryRocksDBConfigSetter.class.getName());
+
+        properties = KafkaStreamsProducer.getStreamsProperties(new Properties(), Map.of(), "localhost:9092",
+                runtimeConfig(Optional.empty()));
+        assertThat(properties).doesNotContainKey(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG);
+    }
+
+    @Test
+    public void shouldKeepTheConfiguredSetter() {
+        Properties buildTimeProperties = new Properties();
+        buildTimeProperties.put(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG, "org.acme.CustomConfigSetter");
+        Properties properties = KafkaStreamsProducer.getStreamsProperties(buildTimeProperties, Map.of(),
+                "localhost:9092", runtimeConfig(Optional.of(new MemorySize(BigInteger.valueOf(1 << 20)))));
+        assertThat(properties.get(StreamsConfig.ROCKSDB_CONFIG_SETTER_CLASS_CONFIG))
+                .isEqualTo("org.acme.CustomConfigSetter");
+    }
+
+    private static Options options() {
+        // Kafka Streams sets a block based table config before calling the config setter
+        Options options = new Options();
+        options.setTableFormatConfig(new BlockBasedTableConfig());
+        return options;
+    }
+
+    private static KafkaStreamsRuntimeConfig runtimeConfig(Optional<MemorySize> totalMemory) {
+        KafkaStreamsRuntimeConfig runtimeConfig = new KafkaStreamsRuntimeConfig();
+        runtimeConfig.applicationId = "application";
+        runtimeConfig.applicationServer = Optional.empty();
+        runtimeConfig.schemaRegistryUrl = Optional.empty();
+        runtimeConfig.securityProtocol = Optional.empty();
+        runtimeConfig.rocksdb = rocksDBConfig(totalMemory);
+        return runtimeConfig;
+    }
+
+    private static RocksDBConfig rocksDBConfig(Optional<MemorySize> totalMemory) {
+        RocksDBConfig config = new RocksDBConfig();
+        config.totalMemory = totalMemory;
+        config.writeBufferRatio = 0.5;
+        config.indexFilterBlockRatio = 0.1;
+        return config;
+    }
+}
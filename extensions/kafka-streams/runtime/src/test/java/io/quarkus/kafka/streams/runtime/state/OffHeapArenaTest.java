@@ -0,0 +1,76 @@
+package io.quarkus.kafka.streams.runtime.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapArenaTest {
+
+    @Test
+    public void shouldSplitAndMergeBlocks() {
+        OffHeapArena arena = new OffHeapArena(64);
+        int a = arena.allocate(1);
+        int b = arena.allocate(16);
+        int c = arena.allocate(17);
+        assertThat(List.of(a, b, c)).containsExactly(0, 16, 32);
+        assertThat(arena.used()).isEqualTo(64);
+        assertThat(arena.allocate(1)).isEqualTo(OffHeapArena.NONE);
+
+        arena.free(a, 1);
+        arena.free(c, 17);
+        // the two free blocks are not buddies
+        assertThat(arena.allocate(33)).isEqualTo(OffHeapArena.NONE);
+        arena.free(b, 16);
+        assertThat(arena.used()).isZero();
+        assertThat(arena.allocate(64)).isZero();
+    }
+
+    @Test
+    public void shouldUseTheWholeCapacity() {
+        // 48 bytes, split into blocks of 32 and 16 bytes
+        OffHeapArena arena = new OffHeapArena(50);
+        assertThat(arena.capacity()).isEqualTo(48);
+        assertThat(arena.allocate(32)).isZero();
+        assertThat(arena.allocate(16)).isEqualTo(32);
+        assertThat(arena.allocate(1)).isEqualTo(OffHeapArena.NONE);
+        arena.free(0, 32);
+        arena.free(32, 16);
+        assertThat(arena.allocate(48)).isEqualTo(OffHeapArena.NONE);
+        assertThat(arena.allocate(32)).isZero();
+    }
+
+    @Test
+    public void shouldKeepTheValues() {
+        OffHeapArena arena = new OffHeapArena(1024);
+        List<int[]> blocks = new ArrayList<>();
+        for (int length = 0; length < 34; length++) {
+            byte[] value = new byte[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = (byte) length;
+            }
+            int offset = arena.allocate(length);
+            arena.write(offset, value);
+            blocks.add(new int[] { offset, length });
+        }
+        for (int[] block : blocks) {
+            byte[] value = arena.read(block[0], block[1]);
+            for (byte b : value) {
+                assertThat(b).isEqualTo((byte) block[1]);
+            }
+            arena.free(block[0], block[1]);
+        }
+        assertThat(arena.used()).isZero();
+        assertThat(arena.allocate(1024)).isZero();
+    }
+
+    @Test
+    public void shouldRejectInvalidCapacity() {
+        assertThatThrownBy(() -> new OffHeapArena(8)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OffHeapStores.keyValueStore("store", 1L << 31))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,166 @@
+package io.quarkus.kafka.streams.runtime.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.common.metrics.Metrics;
+import org.apache.kafka.common.metrics.Sensor;
+import org.apache.kafka.common.utils.Bytes;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.StreamsMetrics;
+import org.apache.kafka.streams.errors.ProcessorStateException;
+import org.apache.kafka.streams.processor.StateRestoreCallback;
+import org.apache.kafka.streams.processor.StateStoreContext;
+import org.apache.kafka.streams.processor.TaskId;
+import org.apache.kafka.streams.state.KeyValueIterator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+public class OffHeapKeyValueStoreTest {
+
+    private final Metrics metrics = new Metrics();
+    private StateStoreContext context;
+    private OffHeapKeyValueStore store;
+
+    @BeforeEach
+    public void setUp() {
+        StreamsMetrics streamsMetrics = Mockito.mock(StreamsMetrics.class);
+        Mockito.when(streamsMetrics.addSensor(anyString(), any()))
+                .thenAnswer(invocation -> metrics.sensor(invocation.getArgument(0)));
+        Mockito.doAnswer(invocation -> {
+            metrics.removeSensor(invocation.getArgument(0, Sensor.class).name());
+            return null;
+        }).when(streamsMetrics).removeSensor(any());
+        context = Mockito.mock(StateStoreContext.class);
+        Mockito.when(context.taskId()).thenReturn(new TaskId(0, 1));
+        Mockito.when(context.metrics()).thenReturn(streamsMetrics);
+
+        store = (OffHeapKeyValueStore) OffHeapStores.keyValueStore("store", 64).get();
+        store.init(context, store);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    public void shouldReadWrittenValues() {
+        assertThat(store.isOpen()).isTrue();
+        assertThat(store.persistent()).isFalse();
+
+        store.put(key("a"), value("1"));
+        store.putAll(List.of(KeyValue.pair(key("b"), value("22")), KeyValue.pair(key("c"), value("333"))));
+        assertThat(store.putIfAbsent(key("a"), value("4"))).isEqualTo(value("1"));
+        assertThat(store.get(key("a"))).isEqualTo(value("1"));
+        assertThat(store.approximateNumEntries()).isEqualTo(3);
+        // a block of 16 bytes per value
+        assertThat(metric("size-bytes")).isEqualTo(48.0);
+        assertThat(metric("num-entries")).isEqualTo(3.0);
+
+        store.put(key("a"), value("4444"));
+        assertThat(store.get(key("a"))).isEqualTo(value("4444"));
+        assertThat(metric("size-bytes")).isEqualTo(48.0);
+
+        assertThat(store.delete(key("b"))).isEqualTo(value("22"));
+        store.put(key("c"), null);
+        assertThat(store.get(key("b"))).isNull();
+        assertThat(store.get(key("c"))).isNull();
+        assertThat(metric("size-bytes")).isEqualTo(16.0);
+        assertThat(metric("num-entries")).isEqualTo(1.0);
+
+        store.close();
+        assertThat(store.isOpen()).isFalse();
+        assertThat(metrics.metrics().keySet()).noneMatch(name -> name.name().equals("size-bytes"));
+    }
+
+    @Test
+    public void shouldFailWhenFull() {
+        store.put(key("a"), new byte[32]);
+        store.put(key("b"), new byte[17]);
+        assertThat(metric("size-bytes")).isEqualTo(64.0);
+
+        assertThatThrownBy(() -> store.put(key("c"), value("1")))
+                .isInstanceOf(ProcessorStateException.class)
+                .hasMessageContaining("store is full");
+        // the previous value is kept
+        assertThatThrownBy(() -> store.put(key("a"), new byte[33])).isInstanceOf(ProcessorStateException.class);
+        assertThat(store.get(key("a"))).hasSize(32);
+        assertThat(store.get(key("c"))).isNull();
+    }
+
+    @Test
+    public void shouldReuseReleasedMemory() {
+        for (int i = 0; i < 1000; i++) {
+            store.put(key("a"), new byte[i % 32]);
+            store.put(key("b"), value(Integer.toString(i)));
+            assertThat(store.delete(key("a"))).hasSize(i % 32);
+        }
+        assertThat(store.get(key("b"))).isEqualTo(value("999"));
+        assertThat(metric("size-bytes")).isEqualTo(16.0);
+        store.put(key("b"), null);
+        store.put(key("a"), new byte[64]);
+        assertThat(metric("size-bytes")).isEqualTo(64.0);
+    }
+
+    @Test
+    public void shouldIterateInOrder() {
+        for (String key : List.of("d", "b", "a", "c")) {
+            store.put(key(key), value(key));
+        }
+        assertThat(keys(store.all())).containsExactly("a", "b", "c", "d");
+        assertThat(keys(store.reverseAll())).containsExactly("d", "c", "b", "a");
+        assertThat(keys(store.range(key("b"), key("c")))).containsExactly("b", "c");
+        assertThat(keys(store.reverseRange(key("b"), key("c")))).containsExactly("c", "b");
+        assertThat(keys(store.range(key("c"), key("b")))).isEmpty();
+
+        try (KeyValueIterator<Bytes, byte[]> iterator = store.all()) {
+            assertThat(iterator.peekNextKey()).isEqualTo(key("a"));
+            assertThat(iterator.next().value).isEqualTo(value("a"));
+            // the deleted entries are skipped
+            store.delete(key("b"));
+            assertThat(iterator.next().key).isEqualTo(key("c"));
+        }
+    }
+
+    @Test
+    public void shouldRestoreFromChangelog() {
+        ArgumentCaptor<StateRestoreCallback> callback = ArgumentCaptor.forClass(StateRestoreCallback.class);
+        Mockito.verify(context).register(Mockito.eq(store), callback.capture());
+        callback.getValue().restore(value("a"), value("1"));
+        callback.getValue().restore(value("b"), value("2"));
+        callback.getValue().restore(value("a"), null);
+        assertThat(keys(store.all())).containsExactly("b");
+    }
+
+    private double metric(String name) {
+        return metrics.metrics().entrySet().stream()
+                .filter(entry -> entry.getKey().name().equals(name))
+                .map(entry -> (Double) entry.getValue().metricValue())
+                .findFirst().orElseThrow();
+    }
+
+    private static List<String> keys(KeyValueIterator<Bytes, byte[]> iterator) {
+        List<String> keys = new ArrayList<>();
+        iterator.forEachRemaining(entry -> keys.add(new String(entry.key.get(), StandardCharsets.UTF_8)));
+        iterator.close();
+        return keys;
+    }
+
+    private static Bytes key(String key) {
+        return Bytes.wrap(value(key));
+    }
+
+    private static byte[] value(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,88 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.Vertx;
+
+/**
+ * Periodically probes every Vert.x event loop to measure how long a task waits before it is executed.
+ * <p>
+ * A probe is scheduled on each event loop at a fixed rate. When it fires, it enqueues a second task on
+ * the same event loop and records the time until that task runs. A growing delay means the event loop is
+ * saturated, or is being blocked, and is getting close to the blocked thread checker threshold.
+ */
+public class VertxEventLoopMetrics {
+    private static final Logger log = Logger.getLogger(VertxEventLoopMetrics.class);
+
+    final MeterRegistry registry;
+    final long probeIntervalMillis;
+    final List<ScheduledFuture<?>> probes = new ArrayList<>();
+
+    VertxEventLoopMetrics(MeterRegistry registry, long probeIntervalMillis) {
+        this.registry = registry;
+        this.probeIntervalMillis = probeIntervalMillis;
+    }
+
+    synchronized void bindTo(Vertx vertx) {
+        int index = 0;
+        for (EventExecutor executor : vertx.nettyEventLoopGroup()) {
+            Tags tags = Tags.of("eventloop", Integer.toString(index++));
+
+            if (executor instanceof SingleThreadEventExecutor) {
+                Gauge.builder("vertx.eventloop.pending.tasks", (SingleThreadEventExecutor) executor,
+                        SingleThreadEventExecutor::pendingTasks)
+                        .description("Number of tasks pending execution on the event loop")
+                        .tags(tags)
+                        .register(registry);
+            }
+
+            Timer delay = Timer.builder("vertx.eventloop.delay")
+                    .description("Time a task waits in the event loop queue before being executed")
+                    .tags(tags)
+                    .register(registry);
+
+            probes.add(executor.scheduleAtFixedRate(new Probe(executor, delay),
+                    probeIntervalMillis, probeIntervalMillis, TimeUnit.MILLISECONDS));
+        }
+        log.debugf("Probing %d event loops every %d ms", probes.size(), probeIntervalMillis);
+    }
+
+    synchronized void close() {
+        for (ScheduledFuture<?> probe : probes) {
+            probe.cancel(false);
+        }
+        probes.clear();
+    }
+
+    static class Probe implements Runnable {
+        final EventExecutor executor;
+        final Timer delay;
+
+        Probe(EventExecutor executor, Timer delay) {
+            this.executor = executor;
+            this.delay = delay;
+        }
+
+        @Override
+        public void run() {
+            final long start = System.nanoTime();
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    delay.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        }
+    }
+}
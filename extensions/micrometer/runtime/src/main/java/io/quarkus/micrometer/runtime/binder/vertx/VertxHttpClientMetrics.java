@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
+import io.vertx.core.spi.observability.HttpRequest;
+import io.vertx.core.spi.observability.HttpResponse;
+
+/**
+ * Records how long requests of a Vert.x HTTP client wait for a connection of the pool of each remote endpoint,
+ * and how many requests are waiting, using the same meters as {@link VertxPoolMetrics}.
+ * <p>
+ * The number of waiting requests is tracked per remote address, so that HTTP clients targeting the same
+ * endpoint contribute to the same gauge.
+ */
+public class VertxHttpClientMetrics implements HttpClientMetrics<Object, Object, Object, Timer.Sample> {
+
+    static final String POOL_TYPE = "http-client";
+
+    final MeterRegistry registry;
+    final Map<String, LongAdder> queueSizes;
+
+    VertxHttpClientMetrics(MeterRegistry registry, Map<String, LongAdder> queueSizes) {
+        this.registry = registry;
+        this.queueSizes = queueSizes;
+    }
+
+    @Override
+    public ClientMetrics<Object, Timer.Sample, HttpRequest, HttpResponse> createEndpointMetrics(
+            SocketAddress remoteAddress, int maxPoolSize) {
+        String poolName = remoteAddress.toString();
+        Tags tags = Tags.of("pool.type", POOL_TYPE, "pool.name", poolName);
+
+        LongAdder queueSize = queueSizes.computeIfAbsent(poolName, new Function<String, LongAdder>() {
+            @Override
+            public LongAdder apply(String name) {
+                LongAdder adder = new LongAdder();
+                Gauge.builder("vertx.pool.queue.size", adder, LongAdder::doubleValue)
+                        .description("Number of pending elements in the waiting queue")
+                        .tags(tags)
+                        .register(registry);
+                return adder;
+            }
+        });
+        Timer queueDelay = Timer.builder("vertx.pool.queue.delay")
+                .description("Time spent in the waiting queue before being processed")
+                .tags(tags)
+                .register(registry);
+        return new EndpointMetrics(queueSize, queueDelay);
+    }
+
+    class EndpointMetrics implements ClientMetrics<Object, Timer.Sample, HttpRequest, HttpResponse> {
+
+        final LongAdder queueSize;
+        final Timer queueDelay;
+
+        EndpointMetrics(LongAdder queueSize, Timer queueDelay) {
+            this.queueSize = queueSize;
+            this.queueDelay = queueDelay;
+        }
+
+        @Override
+        public Timer.Sample enqueueRequest() {
+            queueSize.increment();
+            return Timer.start(registry);
+        }
+
+        @Override
+        public void dequeueRequest(Timer.Sample sample) {
+            queueSize.decrement();
+            sample.stop(queueDelay);
+        }
+    }
+}
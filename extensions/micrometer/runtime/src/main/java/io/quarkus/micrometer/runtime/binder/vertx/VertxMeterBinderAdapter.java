@@ -1,21 +1,36 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
 import org.jboss.logging.Logger;
 
 import io.micrometer.core.instrument.Metrics;
 import io.quarkus.micrometer.runtime.binder.HttpBinderConfiguration;
+import io.vertx.core.Vertx;
 import io.vertx.core.VertxOptions;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.core.metrics.MetricsOptions;
 import io.vertx.core.net.SocketAddress;
 import io.vertx.core.spi.VertxMetricsFactory;
+import io.vertx.core.spi.metrics.HttpClientMetrics;
 import io.vertx.core.spi.metrics.HttpServerMetrics;
+import io.vertx.core.spi.metrics.PoolMetrics;
 import io.vertx.core.spi.metrics.VertxMetrics;
 
 public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetricsFactory, VertxMetrics {
     private static final Logger log = Logger.getLogger(VertxMeterBinderAdapter.class);
 
     private HttpBinderConfiguration httpBinderConfiguration;
+    private boolean poolMetricsEnabled;
+    private long eventLoopProbeInterval;
+    private VertxEventLoopMetrics eventLoopMetrics;
+    private volatile Vertx vertx;
+    private final Set<VertxPoolMetrics> poolMetrics = ConcurrentHashMap.newKeySet();
+    private final ConcurrentMap<String, LongAdder> httpClientQueueSizes = new ConcurrentHashMap<>();
 
     public VertxMeterBinderAdapter() {
     }
@@ -24,6 +39,11 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
         this.httpBinderConfiguration = httpBinderConfiguration;
     }
 
+    void setPoolMetrics(boolean poolMetricsEnabled, long eventLoopProbeInterval) {
+        this.poolMetricsEnabled = poolMetricsEnabled;
+        this.eventLoopProbeInterval = eventLoopProbeInterval;
+    }
+
     @Override
     public boolean isEnabled() {
         return true;
@@ -55,4 +75,68 @@ public class VertxMeterBinderAdapter extends MetricsOptions implements VertxMetr
         }
         return null;
     }
+
+    @Override
+    public PoolMetrics<?> createPoolMetrics(String poolType, String poolName, int maxPoolSize) {
+        if (poolMetricsEnabled) {
+            log.debugf("Create PoolMetrics for %s pool %s with max size %d", poolType, poolName, maxPoolSize);
+            VertxPoolMetrics metrics = new VertxPoolMetrics(Metrics.globalRegistry, poolType, poolName, maxPoolSize);
+            poolMetrics.add(metrics);
+            return metrics;
+        }
+        return null;
+    }
+
+    @Override
+    public HttpClientMetrics<?, ?, ?, ?> createHttpClientMetrics(HttpClientOptions options) {
+        if (poolMetricsEnabled) {
+            log.debugf("Create HttpClientMetrics with options %s", options);
+            return new VertxHttpClientMetrics(Metrics.globalRegistry, httpClientQueueSizes);
+        }
+        return null;
+    }
+
+    @Override
+    public void vertxCreated(Vertx vertx) {
+        this.vertx = vertx;
+        if (poolMetricsEnabled) {
+            bindEventLoopMetrics(vertx);
+        }
+    }
+
+    /**
+     * Registers the pool and event loop meters again, after a dev mode restart removed all the meters from the
+     * registry: the Vert.x instance, and its pools, are kept across restarts.
+     */
+    void rebind() {
+        if (!poolMetricsEnabled) {
+            return;
+        }
+        poolMetrics.removeIf(metrics -> metrics.closed);
+        for (VertxPoolMetrics metrics : poolMetrics) {
+            metrics.bind();
+        }
+        Vertx current = vertx;
+        if (current != null) {
+            bindEventLoopMetrics(current);
+        }
+    }
+
+    private synchronized void bindEventLoopMetrics(Vertx vertx) {
+        if (eventLoopMetrics != null) {
+            eventLoopMetrics.close();
+        }
+        eventLoopMetrics = new VertxEventLoopMetrics(Metrics.globalRegistry, eventLoopProbeInterval);
+        eventLoopMetrics.bindTo(vertx);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (eventLoopMetrics != null) {
+            eventLoopMetrics.close();
+            eventLoopMetrics = null;
+        }
+        poolMetrics.clear();
+        vertx = null;
+    }
 }
@@ -18,7 +18,8 @@ public class VertxMeterBinderRecorder {
     static volatile HttpBinderConfiguration devModeConfig;
 
     /* STATIC_INIT */
-    public Consumer<VertxOptions> setVertxMetricsOptions() {
+    public Consumer<VertxOptions> setVertxMetricsOptions(boolean poolMetrics, long eventLoopProbeInterval) {
+        binderAdapter.setPoolMetrics(poolMetrics, eventLoopProbeInterval);
         return new Consumer<VertxOptions>() {
             @Override
             public void accept(VertxOptions vertxOptions) {
@@ -38,6 +39,8 @@ public class VertxMeterBinderRecorder {
             } else {
                 // update config attributes
                 devModeConfig.update(httpConfig);
+                // the meters were removed from the registry when the application was stopped
+                binderAdapter.rebind();
             }
         } else {
             // unwrap the CDI bean (use POJO)
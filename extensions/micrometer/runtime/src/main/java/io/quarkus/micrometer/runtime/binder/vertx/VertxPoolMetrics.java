@@ -0,0 +1,128 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vertx.core.spi.metrics.PoolMetrics;
+
+/**
+ * Records queue and usage metrics for a Vert.x pool (e.g. the worker pool backed by the Quarkus executor).
+ * <p>
+ * The lifecycle of a task is: {@link #submitted()} (the task is queued), {@link #begin(Timer.Sample)}
+ * (a thread picked up the task) and then {@link #end(Timer.Sample, boolean)}, or {@link #rejected(Timer.Sample)}
+ * if the task never ran.
+ */
+public class VertxPoolMetrics implements PoolMetrics<Timer.Sample> {
+
+    final MeterRegistry registry;
+    final Tags tags;
+    final int maxPoolSize;
+
+    volatile Timer queueDelay;
+    volatile Timer usage;
+    volatile Counter completed;
+    volatile Counter rejected;
+    volatile boolean closed;
+
+    final LongAdder queueSize = new LongAdder();
+    final LongAdder inUse = new LongAdder();
+
+    VertxPoolMetrics(MeterRegistry registry, String poolType, String poolName, int maxPoolSize) {
+        this.registry = registry;
+        this.tags = Tags.of("pool.type", poolType, "pool.name", poolName);
+        this.maxPoolSize = maxPoolSize;
+        bind();
+    }
+
+    /**
+     * Registers the meters of the pool. In dev mode, the meters are removed from the registry when the application
+     * is restarted, while the Vert.x pools are kept: they are then registered again, reading the same counts.
+     */
+    void bind() {
+        queueDelay = Timer.builder("vertx.pool.queue.delay")
+                .description("Time spent in the waiting queue before being processed")
+                .tags(tags)
+                .register(registry);
+        usage = Timer.builder("vertx.pool.usage")
+                .description("Time spent using resources from the pool")
+                .tags(tags)
+                .register(registry);
+        completed = Counter.builder("vertx.pool.completed")
+                .description("Number of tasks that completed their execution")
+                .tags(tags)
+                .register(registry);
+        rejected = Counter.builder("vertx.pool.rejected")
+                .description("Number of tasks rejected by the pool")
+                .tags(tags)
+                .register(registry);
+
+        Gauge.builder("vertx.pool.queue.size", queueSize, LongAdder::doubleValue)
+                .description("Number of pending elements in the waiting queue")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder("vertx.pool.inUse", inUse, LongAdder::doubleValue)
+                .description("Number of resources used")
+                .tags(tags)
+                .register(registry);
+        if (maxPoolSize > 0) {
+            Gauge.builder("vertx.pool.ratio", inUse, new RatioFunction(maxPoolSize))
+                    .description("Pool usage ratio, only present if maximum pool size could be determined")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public Timer.Sample submitted() {
+        queueSize.increment();
+        return Timer.start(registry);
+    }
+
+    @Override
+    public Timer.Sample begin(Timer.Sample submittedSample) {
+        queueSize.decrement();
+        if (submittedSample != null) {
+            submittedSample.stop(queueDelay);
+        }
+        inUse.increment();
+        return Timer.start(registry);
+    }
+
+    @Override
+    public void rejected(Timer.Sample submittedSample) {
+        queueSize.decrement();
+        rejected.increment();
+    }
+
+    @Override
+    public void end(Timer.Sample usageSample, boolean succeeded) {
+        inUse.decrement();
+        if (usageSample != null) {
+            usageSample.stop(usage);
+        }
+        completed.increment();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    static class RatioFunction implements ToDoubleFunction<LongAdder> {
+        final double maxPoolSize;
+
+        RatioFunction(int maxPoolSize) {
+            this.maxPoolSize = maxPoolSize;
+        }
+
+        @Override
+        public double applyAsDouble(LongAdder inUse) {
+            return inUse.doubleValue() / maxPoolSize;
+        }
+    }
+}
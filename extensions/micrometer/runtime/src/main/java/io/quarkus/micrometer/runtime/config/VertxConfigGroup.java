@@ -1,5 +1,6 @@
 package io.quarkus.micrometer.runtime.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
@@ -22,6 +23,27 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     @ConfigItem
     public Optional<Boolean> enabled;
 
+    /**
+     * Vert.x event loop and worker pool metrics support.
+     * <p>
+     * When enabled (and Vert.x metrics support is enabled), the time tasks spend waiting
+     * in the Vert.x worker pool queues, their execution time, and the number of pending
+     * and active tasks are recorded for each worker pool. The scheduling delay and the
+     * number of pending tasks are also recorded for each event loop. For Vert.x HTTP clients
+     * (e.g. the reactive REST clients), the time requests spend waiting for a pooled connection
+     * and the number of waiting requests are recorded for each remote endpoint.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean poolMetrics;
+
+    /**
+     * The interval at which each event loop is probed to measure its scheduling delay.
+     * <p>
+     * This is only used when {@code quarkus.micrometer.binder.vertx.pool-metrics} is true.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration eventLoopProbeInterval;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -31,6 +53,8 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     public String toString() {
         return this.getClass().getSimpleName()
                 + "{enabled=" + enabled
+                + ",poolMetrics=" + poolMetrics
+                + ",eventLoopProbeInterval=" + eventLoopProbeInterval
                 + '}';
     }
 }
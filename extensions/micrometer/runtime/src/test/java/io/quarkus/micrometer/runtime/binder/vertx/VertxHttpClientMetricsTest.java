@@ -0,0 +1,58 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vertx.core.net.SocketAddress;
+import io.vertx.core.spi.metrics.ClientMetrics;
+
+public class VertxHttpClientMetricsTest {
+
+    SimpleMeterRegistry registry;
+    ConcurrentHashMap<String, LongAdder> queueSizes;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        queueSizes = new ConcurrentHashMap<>();
+    }
+
+    @Test
+    public void testQueuedRequest() {
+        ClientMetrics<Object, Timer.Sample, ?, ?> endpoint = new VertxHttpClientMetrics(registry, queueSizes)
+                .createEndpointMetrics(SocketAddress.inetSocketAddress(8080, "localhost"), 10);
+
+        Timer.Sample sample = endpoint.enqueueRequest();
+        Assertions.assertEquals(1.0, gauge("vertx.pool.queue.size"));
+
+        endpoint.dequeueRequest(sample);
+        Assertions.assertEquals(0.0, gauge("vertx.pool.queue.size"));
+        Assertions.assertEquals(1, registry.get("vertx.pool.queue.delay")
+                .tag("pool.type", "http-client")
+                .tag("pool.name", "localhost:8080")
+                .timer().count());
+    }
+
+    @Test
+    public void testEndpointSharedByClients() {
+        SocketAddress address = SocketAddress.inetSocketAddress(8080, "localhost");
+        ClientMetrics<Object, Timer.Sample, ?, ?> first = new VertxHttpClientMetrics(registry, queueSizes)
+                .createEndpointMetrics(address, 10);
+        ClientMetrics<Object, Timer.Sample, ?, ?> second = new VertxHttpClientMetrics(registry, queueSizes)
+                .createEndpointMetrics(address, 10);
+
+        first.enqueueRequest();
+        second.enqueueRequest();
+        Assertions.assertEquals(2.0, gauge("vertx.pool.queue.size"));
+    }
+
+    double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+}
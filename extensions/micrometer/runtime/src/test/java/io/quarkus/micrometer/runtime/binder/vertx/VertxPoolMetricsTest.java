@@ -0,0 +1,82 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class VertxPoolMetricsTest {
+
+    SimpleMeterRegistry registry;
+    VertxPoolMetrics poolMetrics;
+
+    @BeforeEach
+    public void init() {
+        registry = new SimpleMeterRegistry();
+        poolMetrics = new VertxPoolMetrics(registry, "worker", "vert.x-worker-thread", 4);
+    }
+
+    @Test
+    public void testTaskLifecycle() {
+        Timer.Sample queued = poolMetrics.submitted();
+        Assertions.assertEquals(1.0, gauge("vertx.pool.queue.size"));
+        Assertions.assertEquals(0.0, gauge("vertx.pool.inUse"));
+
+        Timer.Sample running = poolMetrics.begin(queued);
+        Assertions.assertEquals(0.0, gauge("vertx.pool.queue.size"));
+        Assertions.assertEquals(1.0, gauge("vertx.pool.inUse"));
+        Assertions.assertEquals(0.25, gauge("vertx.pool.ratio"));
+        Assertions.assertEquals(1, registry.get("vertx.pool.queue.delay").timer().count());
+
+        poolMetrics.end(running, true);
+        Assertions.assertEquals(0.0, gauge("vertx.pool.inUse"));
+        Assertions.assertEquals(1, registry.get("vertx.pool.usage").timer().count());
+        Assertions.assertEquals(1.0, registry.get("vertx.pool.completed").counter().count());
+    }
+
+    @Test
+    public void testRejectedTask() {
+        Timer.Sample queued = poolMetrics.submitted();
+        poolMetrics.rejected(queued);
+        Assertions.assertEquals(0.0, gauge("vertx.pool.queue.size"));
+        Assertions.assertEquals(1.0, registry.get("vertx.pool.rejected").counter().count());
+        Assertions.assertEquals(0, registry.get("vertx.pool.queue.delay").timer().count());
+    }
+
+    @Test
+    public void testPoolTags() {
+        Assertions.assertNotNull(registry.get("vertx.pool.usage")
+                .tag("pool.type", "worker")
+                .tag("pool.name", "vert.x-worker-thread")
+                .timer());
+    }
+
+    @Test
+    public void testNoRatioWithoutMaxPoolSize() {
+        SimpleMeterRegistry other = new SimpleMeterRegistry();
+        new VertxPoolMetrics(other, "worker", "unbounded", 0);
+        Assertions.assertNull(other.find("vertx.pool.ratio").gauge());
+    }
+
+    @Test
+    public void testBindAfterMetersRemoved() {
+        Timer.Sample queued = poolMetrics.submitted();
+        // dev mode restart: the meters are removed, the pool and its tasks are kept
+        registry.clear();
+        Assertions.assertNull(registry.find("vertx.pool.queue.size").gauge());
+
+        poolMetrics.bind();
+        Assertions.assertEquals(1.0, gauge("vertx.pool.queue.size"));
+
+        poolMetrics.end(poolMetrics.begin(queued), true);
+        Assertions.assertEquals(0.0, gauge("vertx.pool.queue.size"));
+        Assertions.assertEquals(1.0, registry.get("vertx.pool.completed").counter().count());
+        Assertions.assertEquals(1, registry.get("vertx.pool.usage").timer().count());
+    }
+
+    double gauge(String name) {
+        return registry.get(name).gauge().value();
+    }
+}
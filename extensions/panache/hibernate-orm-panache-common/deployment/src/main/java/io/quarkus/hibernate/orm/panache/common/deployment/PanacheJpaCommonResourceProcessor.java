@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.persistence.NamedQueries;
@@ -20,6 +21,9 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.hibernate.orm.deployment.JpaModelBuildItem;
 import io.quarkus.hibernate.orm.panache.common.runtime.PanacheHibernateRecorder;
@@ -53,6 +57,16 @@ public final class PanacheJpaCommonResourceProcessor {
         panacheHibernateRecorder.setNamedQueryMap(namedQueryMap);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            PanacheHibernateRecorder panacheHibernateRecorder, ShutdownContextBuildItem shutdown,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(panacheHibernateRecorder.registerMetrics(shutdown)));
+        }
+    }
+
     private void lookupNamedQueries(CombinedIndexBuildItem index, DotName name, Set<String> namedQueries) {
         ClassInfo classInfo = index.getIndex().getClassByName(name);
         if (classInfo == null) {
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
@@ -15,6 +16,9 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+import org.jboss.logging.Logger;
+
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.arc.Arc;
@@ -27,6 +31,8 @@ import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public abstract class AbstractJpaOperations<PanacheQueryType> {
+    private static final Logger log = Logger.getLogger(AbstractJpaOperations.class);
+
     private static volatile Map<String, String> entityToPersistenceUnit = Collections.emptyMap();
 
     public static void setEntityToPersistenceUnit(Map<String, String> map) {
@@ -117,6 +123,61 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entities.forEach(entity -> persist(entity));
     }
 
+    @SuppressWarnings("unchecked")
+    public long persistInBatches(Stream<?> entities, int batchSize) {
+        Iterable<Object> iterable = ((Stream<Object>) entities)::iterator;
+        return persistInBatches(iterable, batchSize);
+    }
+
+    /**
+     * Persists the entities in chunks of {@code batchSize}: the inserts of each chunk are sent to the database as a
+     * JDBC batch, then the session is flushed and cleared so that memory usage does not grow with the number of
+     * entities.
+     *
+     * @return the number of persisted entities
+     */
+    public long persistInBatches(Iterable<?> entities, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("The batch size must be positive");
+        }
+        long start = System.nanoTime();
+        long count = 0;
+        EntityManager em = null;
+        Session session = null;
+        Integer previousJdbcBatchSize = null;
+        try {
+            for (Object entity : entities) {
+                if (em == null) {
+                    em = getEntityManager(entity.getClass());
+                    session = em.unwrap(Session.class);
+                    previousJdbcBatchSize = session.getJdbcBatchSize();
+                    session.setJdbcBatchSize(batchSize);
+                }
+                persist(em, entity);
+                if (++count % batchSize == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+            if (em != null && count % batchSize != 0) {
+                em.flush();
+                em.clear();
+            }
+        } finally {
+            if (session != null) {
+                session.setJdbcBatchSize(previousJdbcBatchSize);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        PanacheMetrics.recordBatchPersist(count, elapsed);
+        if (log.isDebugEnabled() && count > 0) {
+            long millis = TimeUnit.NANOSECONDS.toMillis(elapsed);
+            long rate = (long) (count / (elapsed / 1_000_000_000.0));
+            log.debugf("Persisted %d entities in %d ms (%d entities/s)", count, millis, rate);
+        }
+        return count;
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(entity);
@@ -2,13 +2,19 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
@@ -16,12 +22,17 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 
 import io.quarkus.hibernate.orm.panache.common.ProjectedFieldName;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
+import io.quarkus.panache.common.Sort;
 import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
@@ -54,6 +65,9 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Map<String, Map<String, Object>> filters;
 
+    private Sort keysetSort;
+    private Object[] keysetValues;
+
     public CommonPanacheQueryImpl(EntityManager em, String query, String orderBy, Object paramsArrayOrMap) {
         this.em = em;
         this.query = query;
@@ -73,6 +87,8 @@ public class CommonPanacheQueryImpl<Entity> {
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
+        this.keysetSort = previousQuery.keysetSort;
+        this.keysetValues = previousQuery.keysetValues;
     }
 
     // Builder
@@ -192,6 +208,34 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = null;
     }
 
+    public void afterKey(Sort sort, Object... lastValues) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Unable to use keyset pagination on a named query");
+        }
+        if (sort == null || sort.getColumns().isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sort");
+        }
+        if (lastValues != null && lastValues.length > 0) {
+            if (lastValues.length != sort.getColumns().size()) {
+                throw new PanacheQueryException("Keyset pagination requires one key value per sort column, expected "
+                        + sort.getColumns().size() + " but got " + lastValues.length);
+            }
+            for (Object value : lastValues) {
+                if (value == null) {
+                    throw new PanacheQueryException("Keyset pagination does not support null key values");
+                }
+            }
+            this.keysetValues = lastValues;
+        } else {
+            // first page: only sort
+            this.keysetValues = null;
+        }
+        this.keysetSort = sort;
+        this.orderBy = PanacheJpaUtil.toOrderBy(sort);
+        // the count depends on the key
+        this.count = null;
+    }
+
     public void withLock(LockModeType lockModeType) {
         this.lockModeType = lockModeType;
     }
@@ -214,11 +258,19 @@ public class CommonPanacheQueryImpl<Entity> {
                 selectQuery = q.getQueryString();
             }
 
-            Query countQuery = em.createQuery(countQuery(selectQuery));
-            if (paramsArrayOrMap instanceof Map)
-                AbstractJpaOperations.bindParameters(countQuery, (Map<String, Object>) paramsArrayOrMap);
+            String countHql = countQuery(selectQuery);
+            Object parameters = paramsArrayOrMap;
+            if (keysetValues != null) {
+                // only count the results after the key
+                List<String> placeholders = new ArrayList<>(keysetValues.length);
+                parameters = addKeysetParameters(parameters, placeholders);
+                countHql = PanacheJpaUtil.createKeysetQuery(countHql, keysetSort, placeholders);
+            }
+            Query countQuery = em.createQuery(countHql);
+            if (parameters instanceof Map)
+                AbstractJpaOperations.bindParameters(countQuery, (Map<String, Object>) parameters);
             else
-                AbstractJpaOperations.bindParameters(countQuery, (Object[]) paramsArrayOrMap);
+                AbstractJpaOperations.bindParameters(countQuery, (Object[]) parameters);
             try (NonThrowingCloseable c = applyFilters()) {
                 count = (Long) countQuery.getSingleResult();
             }
@@ -250,6 +302,54 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> scroll(int fetchSize) {
+        if (fetchSize <= 0) {
+            throw new IllegalArgumentException("The fetch size must be positive");
+        }
+        Query jpaQuery = createQuery();
+        org.hibernate.query.Query<?> hibernateQuery = jpaQuery.unwrap(org.hibernate.query.Query.class);
+        hibernateQuery.setFetchSize(fetchSize);
+        Session session = em.unwrap(Session.class);
+        PersistenceContext persistenceContext = em.unwrap(SessionImplementor.class).getPersistenceContext();
+        ScrollableResults results;
+        NonThrowingCloseable filters = applyFilters();
+        try {
+            results = hibernateQuery.scroll(ScrollMode.FORWARD_ONLY);
+        } finally {
+            filters.close();
+        }
+        Spliterator<T> spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            // the entities returned since the last eviction
+            private final List<Object> returned = new ArrayList<>(fetchSize);
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (returned.size() == fetchSize) {
+                    // detach the results that were already consumed so that the session does not grow,
+                    // leaving any other entity of the session untouched
+                    for (Object entity : returned) {
+                        session.evict(entity);
+                    }
+                    returned.clear();
+                }
+                if (!results.next()) {
+                    return false;
+                }
+                Object[] row = results.get();
+                for (Object value : row) {
+                    // projections may return values that are not entities
+                    if (value != null && persistenceContext.getEntry(value) != null) {
+                        returned.add(value);
+                    }
+                }
+                action.accept((T) (row.length == 1 ? row[0] : row));
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -326,17 +426,24 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     private Query createBaseQuery() {
         Query jpaQuery;
+        Object parameters = paramsArrayOrMap;
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
         } else {
-            jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
+            String hql = query;
+            if (keysetValues != null) {
+                List<String> placeholders = new ArrayList<>(keysetValues.length);
+                parameters = addKeysetParameters(parameters, placeholders);
+                hql = PanacheJpaUtil.createKeysetQuery(query, keysetSort, placeholders);
+            }
+            jpaQuery = em.createQuery(orderBy != null ? hql + orderBy : hql);
         }
 
-        if (paramsArrayOrMap instanceof Map) {
-            AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) paramsArrayOrMap);
+        if (parameters instanceof Map) {
+            AbstractJpaOperations.bindParameters(jpaQuery, (Map<String, Object>) parameters);
         } else {
-            AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
+            AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) parameters);
         }
 
         if (this.lockModeType != null) {
@@ -351,6 +458,33 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    /**
+     * Adds the key values to the parameters of the query.
+     *
+     * @param placeholders filled with the placeholders of the key values, in the order of the sort columns
+     * @return the parameters of the query followed by the key values
+     */
+    @SuppressWarnings("unchecked")
+    private Object addKeysetParameters(Object parameters, List<String> placeholders) {
+        if (parameters instanceof Map) {
+            Map<String, Object> namedParameters = new HashMap<>((Map<String, Object>) parameters);
+            for (int i = 0; i < keysetValues.length; i++) {
+                String name = "panacheKey" + i;
+                placeholders.add(":" + name);
+                namedParameters.put(name, keysetValues[i]);
+            }
+            return namedParameters;
+        }
+        Object[] positionalParameters = parameters != null ? (Object[]) parameters : new Object[0];
+        int offset = positionalParameters.length;
+        positionalParameters = Arrays.copyOf(positionalParameters, offset + keysetValues.length);
+        for (int i = 0; i < keysetValues.length; i++) {
+            placeholders.add("?" + (offset + i + 1));
+            positionalParameters[offset + i] = keysetValues[i];
+        }
+        return positionalParameters;
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
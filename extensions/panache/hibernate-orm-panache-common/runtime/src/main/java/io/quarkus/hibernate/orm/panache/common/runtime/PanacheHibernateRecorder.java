@@ -2,12 +2,25 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class PanacheHibernateRecorder {
     public void setNamedQueryMap(Map<String, Set<String>> namedQueryMap) {
         NamedQueryUtil.setNamedQueryMap(namedQueryMap);
     }
+
+    public Consumer<MetricsFactory> registerMetrics(ShutdownContext shutdown) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                PanacheMetrics.init(metricsFactory);
+                shutdown.addShutdownTask(PanacheMetrics::reset);
+            }
+        };
+    }
 }
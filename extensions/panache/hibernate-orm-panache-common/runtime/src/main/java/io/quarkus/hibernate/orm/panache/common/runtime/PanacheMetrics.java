@@ -0,0 +1,49 @@
+package io.quarkus.hibernate.orm.panache.common.runtime;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Reports the throughput of the batched persist operations when a metrics extension is present: the
+ * {@code panache.persist.batch.entities} counter of persisted entities and the {@code panache.persist.batch} timer
+ * of the calls. The number of entities per second is their ratio.
+ */
+public final class PanacheMetrics {
+
+    static final String PERSISTED_ENTITIES = "panache.persist.batch.entities";
+    static final String PERSIST_DURATION = "panache.persist.batch";
+
+    private static volatile LongAdder persistedEntities;
+    private static volatile MetricsFactory.TimeRecorder persistDuration;
+
+    private PanacheMetrics() {
+    }
+
+    static void init(MetricsFactory metricsFactory) {
+        LongAdder entities = new LongAdder();
+        metricsFactory.builder(PERSISTED_ENTITIES)
+                .description("Number of entities persisted in batches")
+                .buildCounter(entities, LongAdder::sum);
+        persistDuration = metricsFactory.builder(PERSIST_DURATION)
+                .description("Duration of the batched persist operations")
+                .buildTimer();
+        persistedEntities = entities;
+    }
+
+    static void reset() {
+        persistedEntities = null;
+        persistDuration = null;
+    }
+
+    static void recordBatchPersist(long count, long elapsedNanos) {
+        LongAdder entities = persistedEntities;
+        MetricsFactory.TimeRecorder duration = persistDuration;
+        if (entities == null || duration == null) {
+            return;
+        }
+        entities.add(count);
+        duration.update(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.hibernate.orm.panache.kotlin
 
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.quarkus.panache.common.Sort
 import org.hibernate.Session
 import org.hibernate.annotations.Filter
 import org.hibernate.annotations.FilterDef
@@ -131,6 +132,23 @@ interface PanacheQuery<Entity: Any> {
      */
     fun range(startIndex: Int, lastIndex: Int): PanacheQuery<Entity>
 
+    /**
+     * Switches the query to keyset (also called seek) pagination: only the results that come after the given key
+     * in the given sort order are returned. Unlike [PanacheQuery.page], the database does not have to read and skip
+     * the results of the previous pages, so reading a page does not get slower as the page index grows.
+     *
+     * The sort replaces the sort of the query and must identify results uniquely (e.g. end with the id column).
+     * The key values are the values of the sort columns of the last result of the previous page, for the first page
+     * pass no values. Use [PanacheQuery.page] with the first page to limit the number of results.
+     * [PanacheQuery.count] then returns the number of results after the key.
+     *
+     * @param sort the sort order of the results
+     * @param lastValues the values of the sort columns of the last result of the previous page, or none for the first
+     * page
+     * @return this query, modified
+     */
+    fun afterKey(sort: Sort, vararg lastValues: Any): PanacheQuery<Entity>
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -198,7 +216,7 @@ interface PanacheQuery<Entity: Any> {
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
      * query with <code>SELECT COUNT(*)</code> and a query equivalent to the current query, minus
-     * ordering.
+     * ordering. With keyset pagination, only the entities after the key are counted.
      *
      * @return the total number of entities this query operates on, cached.
      */
@@ -222,6 +240,22 @@ interface PanacheQuery<Entity: Any> {
      */
     fun stream(): Stream<Entity>
 
+    /**
+     * Returns the current page of results as a Stream backed by a forward-only database cursor, reading
+     * `fetchSize` rows at a time. To iterate over a huge number of results in constant memory, the returned entities
+     * are evicted from the [Session] each time `fetchSize` further results were consumed: they become detached once
+     * the following ones are read, so changes made to them must be flushed before that. Other entities of the session
+     * are not affected.
+     *
+     * The stream must be closed to release the database cursor.
+     *
+     * @param fetchSize the number of rows fetched from the database at a time, and the number of results after
+     * which they are evicted from the session.
+     * @return the current page of results as a Stream.
+     * @see [PanacheQuery.stream]
+     */
+    fun scroll(fetchSize: Int): Stream<Entity>
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -4,6 +4,7 @@ import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl
 import io.quarkus.hibernate.orm.panache.kotlin.PanacheQuery
 import io.quarkus.panache.common.Page
 import io.quarkus.panache.common.Parameters
+import io.quarkus.panache.common.Sort
 import java.util.stream.Stream
 import javax.persistence.EntityManager
 import javax.persistence.LockModeType
@@ -75,6 +76,11 @@ class PanacheQueryImpl<Entity: Any> : PanacheQuery<Entity> {
         return this
     }
 
+    override fun afterKey(sort: Sort, vararg lastValues: Any): PanacheQuery<Entity> {
+        delegate.afterKey(sort, *lastValues)
+        return this
+    }
+
     override fun withLock(lockModeType: LockModeType): PanacheQuery<Entity> {
         delegate.withLock(lockModeType)
         return this
@@ -113,6 +119,10 @@ class PanacheQueryImpl<Entity: Any> : PanacheQuery<Entity> {
         return delegate.stream()
     }
 
+    override fun scroll(fetchSize: Int): Stream<Entity> {
+        return delegate.scroll(fetchSize)
+    }
+
     override fun firstResult(): Entity? {
         return delegate.firstResult()
     }
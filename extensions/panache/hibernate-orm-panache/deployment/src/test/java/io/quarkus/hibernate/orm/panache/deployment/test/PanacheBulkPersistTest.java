@@ -0,0 +1,48 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PanacheBulkPersistTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Test
+    @Transactional
+    void testPersistInBatches() {
+        MyEntity.deleteAll();
+        List<MyEntity> entities = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            MyEntity entity = new MyEntity();
+            entity.name = "entity" + i;
+            entities.add(entity);
+        }
+        assertEquals(25, MyEntity.persistInBatches(entities, 10));
+        assertEquals(25, MyEntity.count());
+        // the session was cleared
+        assertFalse(entities.get(0).isPersistent());
+        assertFalse(entities.get(24).isPersistent());
+
+        assertEquals(5, MyEntity.persistInBatches(IntStream.range(0, 5).mapToObj(i -> {
+            MyEntity entity = new MyEntity();
+            entity.name = "streamed" + i;
+            return entity;
+        }), 2));
+        assertEquals(5, MyEntity.count("name like ?1", "streamed%"));
+    }
+}
@@ -0,0 +1,96 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.transaction.Transactional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.PanacheQuery;
+import io.quarkus.panache.common.Page;
+import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PanacheQueryKeysetTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class));
+
+    @Test
+    @Transactional
+    void testKeysetPaginationAndScroll() {
+        MyEntity.deleteAll();
+        for (int i = 0; i < 10; i++) {
+            MyEntity entity = new MyEntity();
+            // duplicate names, the id breaks the ties
+            entity.name = "name" + (i % 5);
+            entity.persist();
+        }
+        Sort sort = Sort.by("name").and("id");
+        List<MyEntity> expected = MyEntity.listAll(sort);
+
+        // only the results after the key are counted
+        MyEntity third = expected.get(2);
+        assertEquals(10, MyEntity.find("name like ?1", "name%").afterKey(sort).count());
+        assertEquals(7, MyEntity.find("name like ?1", "name%").afterKey(sort, third.name, third.id).count());
+        assertEquals(7, MyEntity.find("name like :name", Parameters.with("name", "name%"))
+                .afterKey(sort, third.name, third.id).count());
+        PanacheQuery<MyEntity> counted = MyEntity.find("name like ?1", "name%");
+        assertEquals(10, counted.count());
+        assertEquals(7, counted.afterKey(sort, third.name, third.id).count());
+
+        List<MyEntity> positional = readAllPages(() -> MyEntity.find("name like ?1", "name%"), sort);
+        assertEquals(ids(expected), ids(positional));
+
+        List<MyEntity> named = readAllPages(() -> MyEntity.find("name like :name", Parameters.with("name", "name%")),
+                sort);
+        assertEquals(ids(expected), ids(named));
+
+        List<MyEntity> descending = readAllPages(() -> MyEntity.findAll(), sort.descending());
+        List<Long> reversed = ids(expected);
+        Collections.reverse(reversed);
+        assertEquals(reversed, ids(descending));
+
+        MyEntity unrelated = new MyEntity();
+        unrelated.name = "unrelated";
+        unrelated.persist();
+        List<MyEntity> scrolled;
+        try (Stream<MyEntity> stream = MyEntity.find("name like ?1", Sort.by("id"), "name%").scroll(3)) {
+            scrolled = stream.collect(Collectors.toList());
+        }
+        assertEquals(ids(expected).stream().sorted().collect(Collectors.toList()), ids(scrolled));
+        // only the scrolled entities read before the last batch are evicted
+        assertFalse(scrolled.get(0).isPersistent());
+        assertTrue(scrolled.get(scrolled.size() - 1).isPersistent());
+        assertTrue(unrelated.isPersistent());
+    }
+
+    private static List<MyEntity> readAllPages(Supplier<PanacheQuery<MyEntity>> query, Sort sort) {
+        List<MyEntity> all = new ArrayList<>();
+        List<MyEntity> page = query.get().page(Page.ofSize(3)).afterKey(sort).list();
+        while (!page.isEmpty()) {
+            all.addAll(page);
+            MyEntity last = page.get(page.size() - 1);
+            page = query.get().page(Page.ofSize(3)).afterKey(sort, last.name, last.id).list();
+        }
+        return all;
+    }
+
+    private static List<Long> ids(List<MyEntity> entities) {
+        return entities.stream().map(e -> e.id).collect(Collectors.toList());
+    }
+}
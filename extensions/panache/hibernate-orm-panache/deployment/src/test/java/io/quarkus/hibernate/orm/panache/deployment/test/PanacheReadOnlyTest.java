@@ -0,0 +1,71 @@
+package io.quarkus.hibernate.orm.panache.deployment.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.transaction.Transactional;
+
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.hibernate.orm.panache.Panache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class PanacheReadOnlyTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource("application-test.properties", "application.properties")
+                    .addClasses(MyEntity.class, ReadOnlyService.class));
+
+    @Inject
+    ReadOnlyService service;
+
+    @Test
+    void testReadOnly() {
+        service.create("read-only");
+        assertTrue(service.loadAndModify("read-only"));
+        // the modification of the read-only entity was not flushed
+        assertEquals(1, service.count("read-only"));
+        assertThrows(IllegalStateException.class, () -> service.createReadOnly("other"));
+        assertEquals(0, service.count("other"));
+    }
+
+    @ApplicationScoped
+    public static class ReadOnlyService {
+
+        @Transactional
+        public void create(String name) {
+            MyEntity entity = new MyEntity();
+            entity.name = name;
+            entity.persist();
+        }
+
+        @Transactional
+        public void createReadOnly(String name) {
+            Panache.readOnly(() -> {
+                create(name);
+                return null;
+            });
+        }
+
+        @Transactional
+        public long count(String name) {
+            return MyEntity.count("name", name);
+        }
+
+        @Transactional
+        public boolean loadAndModify(String name) {
+            return Panache.readOnly(() -> {
+                MyEntity entity = MyEntity.find("name", name).firstResult();
+                entity.name = "modified";
+                return Panache.getEntityManager().unwrap(Session.class).isReadOnly(entity);
+            });
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package io.quarkus.hibernate.orm.panache;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.persistence.EntityManager;
 import javax.transaction.TransactionManager;
 
+import io.quarkus.hibernate.orm.ReadOnly;
 import io.quarkus.hibernate.orm.panache.common.runtime.AbstractJpaOperations;
 import io.quarkus.hibernate.orm.panache.runtime.JpaOperations;
+import io.quarkus.hibernate.orm.runtime.session.ReadOnlySessions;
 import io.quarkus.panache.common.Parameters;
 
 /**
@@ -119,4 +122,17 @@ public class Panache {
     public static void flush(String persistenceUnit) {
         getEntityManager(persistenceUnit).flush();
     }
+
+    /**
+     * Executes the given work in read-only mode, like a method annotated with {@link ReadOnly}: the sessions opened
+     * during the execution load entities as read-only and are never flushed, which avoids the cost of dirty checking.
+     * Persisting, merging or removing entities with these sessions is not allowed, the sessions that were already open
+     * are not affected.
+     *
+     * @param work the work to execute
+     * @return the result of the work
+     */
+    public static <T> T readOnly(Supplier<T> work) {
+        return ReadOnlySessions.call(work);
+    }
 }
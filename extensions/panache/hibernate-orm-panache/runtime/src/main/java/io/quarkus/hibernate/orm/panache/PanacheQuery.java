@@ -14,6 +14,8 @@ import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 
 /**
  * <p>
@@ -147,6 +149,25 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> range(int startIndex, int lastIndex);
 
+    /**
+     * Switches the query to keyset (also called seek) pagination: only the results that come after the given key
+     * in the given sort order are returned. Unlike {@link #page(Page)}, the database does not have to read and skip
+     * the results of the previous pages, so reading a page does not get slower as the page index grows.
+     * <p>
+     * The sort replaces the sort of the query and must identify results uniquely (e.g. end with the id column).
+     * The key values are the values of the sort columns of the last result of the previous page, for the first page
+     * pass no values. Use {@link #page(Page)} with the first page to limit the number of results, e.g.
+     * {@code find("status", Status.Active).page(Page.ofSize(50)).afterKey(Sort.by("name").and("id"), name, id)}.
+     * {@link #count()} then returns the number of results after the key.
+     *
+     * @param sort the sort order of the results
+     * @param lastValues the values of the sort columns of the last result of the previous page, or none for the first
+     *        page
+     * @return this query, modified
+     * @throws PanacheQueryException if this is a named query, or if the number of values does not match the sort
+     */
+    public <T extends Entity> PanacheQuery<T> afterKey(Sort sort, Object... lastValues);
+
     /**
      * Define the locking strategy used for this query.
      *
@@ -216,7 +237,7 @@ public interface PanacheQuery<Entity> {
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
      * query with <code>SELECT COUNT(*)</code> and a query equivalent to the current query, minus
-     * ordering.
+     * ordering. With keyset pagination, only the entities after the key are counted.
      * 
      * @return the total number of entities this query operates on, cached.
      */
@@ -242,6 +263,22 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} backed by a forward-only database cursor, reading
+     * {@code fetchSize} rows at a time. To iterate over a huge number of results in constant memory, the returned
+     * entities are evicted from the {@link Session} each time {@code fetchSize} further results were consumed: they
+     * become detached once the following ones are read, so changes made to them must be flushed before that. Other
+     * entities of the session are not affected.
+     * <p>
+     * The stream must be closed to release the database cursor.
+     *
+     * @param fetchSize the number of rows fetched from the database at a time, and the number of results after
+     *        which they are evicted from the session.
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> scroll(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
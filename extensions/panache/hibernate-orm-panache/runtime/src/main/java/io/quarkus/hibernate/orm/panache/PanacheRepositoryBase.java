@@ -764,6 +764,37 @@ public interface PanacheRepositoryBase<Entity, Id> {
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches. The inserts are sent to the database as JDBC batches of
+     * {@code batchSize} statements, and the session is flushed and cleared after each batch, so that large numbers
+     * of entities can be persisted without keeping them all in memory.
+     * <p>
+     * WARNING: clearing the session detaches all the entities it manages, not only the given ones. Also note that
+     * Hibernate disables JDBC batching for entities using {@code IDENTITY} id generation.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities inserted in a batch and between two session flushes
+     * @return the number of persisted entities
+     * @see #persist(Iterable)
+     * @see #persistInBatches(Stream, int)
+     */
+    default long persistInBatches(Iterable<Entity> entities, int batchSize) {
+        return INSTANCE.persistInBatches(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches, see {@link #persistInBatches(Iterable, int)}.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities inserted in a batch and between two session flushes
+     * @return the number of persisted entities
+     * @see #persist(Stream)
+     * @see #persistInBatches(Iterable, int)
+     */
+    default long persistInBatches(Stream<Entity> entities, int batchSize) {
+        return INSTANCE.persistInBatches(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      * 
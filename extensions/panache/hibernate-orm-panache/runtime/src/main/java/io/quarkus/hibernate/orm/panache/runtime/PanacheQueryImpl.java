@@ -13,6 +13,7 @@ import io.quarkus.hibernate.orm.panache.PanacheQuery;
 import io.quarkus.hibernate.orm.panache.common.runtime.CommonPanacheQueryImpl;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.Sort;
 
 public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
 
@@ -102,6 +103,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> afterKey(Sort sort, Object... lastValues) {
+        delegate.afterKey(sort, lastValues);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> withLock(LockModeType lockModeType) {
@@ -154,6 +162,11 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Stream<T> scroll(int fetchSize) {
+        return delegate.scroll(fetchSize);
+    }
+
     @Override
     public <T extends Entity> T firstResult() {
         return delegate.firstResult();
@@ -1,5 +1,9 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -17,7 +21,33 @@ public class PanacheJpaUtil {
     static final Pattern FROM_PATTERN = Pattern.compile("^\\s*FROM\\s+.*",
             Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
 
+    // match WHERE, surrounded by any whitespace
+    static final Pattern WHERE_PATTERN = Pattern.compile("\\sWHERE\\s", Pattern.CASE_INSENSITIVE);
+
+    // match ORDER BY or GROUP BY, surrounded by any whitespace
+    static final Pattern ORDER_OR_GROUP_BY_PATTERN = Pattern.compile("\\s(?:ORDER|GROUP)\\s+BY\\s",
+            Pattern.CASE_INSENSITIVE);
+
+    /**
+     * The maximum number of expanded queries that are cached, the cache is cleared when it is full.
+     */
+    static final int MAX_CACHED_QUERIES = 1024;
+
+    // simplified query -> HQL, so repeated calls don't parse and concatenate the query again
+    static final Map<QueryKey, String> EXPANDED_QUERIES = new ConcurrentHashMap<>();
+    // HQL -> count HQL
+    static final Map<String, String> COUNT_QUERIES = new ConcurrentHashMap<>();
+
     public static String getCountQuery(String query) {
+        String countQuery = COUNT_QUERIES.get(query);
+        if (countQuery == null) {
+            countQuery = expandSelectCountQuery(query);
+            cache(COUNT_QUERIES, query, countQuery);
+        }
+        return countQuery;
+    }
+
+    static String expandSelectCountQuery(String query) {
         // try to generate a good count query from the existing query
         Matcher selectMatcher = SELECT_PATTERN.matcher(query);
         String countQuery;
@@ -57,6 +87,10 @@ public class PanacheJpaUtil {
     }
 
     public static String createFindQuery(Class<?> entityClass, String query, int paramCount) {
+        return expandQuery(QueryType.FIND, entityClass, query, paramCount);
+    }
+
+    static String expandFindQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             return "FROM " + getEntityName(entityClass);
         }
@@ -92,6 +126,10 @@ public class PanacheJpaUtil {
     }
 
     public static String createCountQuery(Class<?> entityClass, String query, int paramCount) {
+        return expandQuery(QueryType.COUNT, entityClass, query, paramCount);
+    }
+
+    static String expandCountQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "SELECT COUNT(*) FROM " + getEntityName(entityClass);
 
@@ -114,6 +152,10 @@ public class PanacheJpaUtil {
     }
 
     public static String createUpdateQuery(Class<?> entityClass, String query, int paramCount) {
+        return expandQuery(QueryType.UPDATE, entityClass, query, paramCount);
+    }
+
+    static String expandUpdateQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null) {
             throw new PanacheQueryException("Query string cannot be null");
         }
@@ -140,6 +182,10 @@ public class PanacheJpaUtil {
     }
 
     public static String createDeleteQuery(Class<?> entityClass, String query, int paramCount) {
+        return expandQuery(QueryType.DELETE, entityClass, query, paramCount);
+    }
+
+    static String expandDeleteQuery(Class<?> entityClass, String query, int paramCount) {
         if (query == null)
             return "DELETE FROM " + getEntityName(entityClass);
 
@@ -164,6 +210,89 @@ public class PanacheJpaUtil {
         return "DELETE FROM " + getEntityName(entityClass) + " WHERE " + query;
     }
 
+    /**
+     * Adds a keyset (seek) condition to a query, so that it only selects the rows that come after the given key in
+     * the given sort order. For a sort on {@code a, b} this adds {@code (a > :k0) OR (a = :k0 AND b > :k1)}, which
+     * unlike an offset lets the database seek directly to the first row using an index on the sorted columns.
+     *
+     * @param query the HQL query
+     * @param sort the sort order, which must be the order by clause of the query
+     * @param parameters the parameter placeholders (e.g. {@code ?3} or {@code :k0}) holding the key values, one per
+     *        sort column
+     * @return the query with the keyset condition
+     */
+    public static String createKeysetQuery(String query, Sort sort, List<String> parameters) {
+        if (sort.getColumns().size() != parameters.size()) {
+            throw new PanacheQueryException("Keyset pagination requires one key value per sort column, expected "
+                    + sort.getColumns().size() + " but got " + parameters.size());
+        }
+        if (ORDER_OR_GROUP_BY_PATTERN.matcher(query).find()) {
+            throw new PanacheQueryException("Keyset pagination is not supported for queries with an order by or "
+                    + "group by clause, pass the sort to the query instead: " + query);
+        }
+
+        StringBuilder condition = new StringBuilder();
+        List<Sort.Column> columns = sort.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                condition.append(" OR ");
+            }
+            condition.append('(');
+            for (int j = 0; j < i; j++) {
+                condition.append(columns.get(j).getName()).append(" = ").append(parameters.get(j)).append(" AND ");
+            }
+            Sort.Column column = columns.get(i);
+            condition.append(column.getName())
+                    .append(column.getDirection() == Sort.Direction.Ascending ? " > " : " < ")
+                    .append(parameters.get(i))
+                    .append(')');
+        }
+
+        Matcher where = WHERE_PATTERN.matcher(query);
+        if (!where.find()) {
+            return query + " WHERE " + condition;
+        }
+        // keep the original condition together, it may contain an OR
+        return query.substring(0, where.start()) + " WHERE (" + query.substring(where.end())
+                + ") AND (" + condition + ")";
+    }
+
+    private static String expandQuery(QueryType type, Class<?> entityClass, String query, int paramCount) {
+        QueryKey key = new QueryKey(type, getEntityName(entityClass), query, paramCount == 1);
+        String expanded = EXPANDED_QUERIES.get(key);
+        if (expanded == null) {
+            switch (type) {
+                case FIND:
+                    expanded = expandFindQuery(entityClass, query, paramCount);
+                    break;
+                case COUNT:
+                    expanded = expandCountQuery(entityClass, query, paramCount);
+                    break;
+                case UPDATE:
+                    expanded = expandUpdateQuery(entityClass, query, paramCount);
+                    break;
+                case DELETE:
+                    expanded = expandDeleteQuery(entityClass, query, paramCount);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown query type " + type);
+            }
+            cache(EXPANDED_QUERIES, key, expanded);
+        }
+        return expanded;
+    }
+
+    private static <K> void cache(Map<K, String> cache, K key, String value) {
+        if (key == null) {
+            return;
+        }
+        if (cache.size() >= MAX_CACHED_QUERIES) {
+            // dynamic queries may have an unbounded number of variants, don't grow forever
+            cache.clear();
+        }
+        cache.put(key, value);
+    }
+
     public static String toOrderBy(Sort sort) {
         if (sort == null) {
             return null;
@@ -182,4 +311,44 @@ public class PanacheJpaUtil {
         }
         return sb.toString();
     }
+
+    enum QueryType {
+        FIND,
+        COUNT,
+        UPDATE,
+        DELETE
+    }
+
+    static final class QueryKey {
+        final QueryType type;
+        final String entityName;
+        final String query;
+        // the expansion of single property queries such as "name" depends on the number of parameters
+        final boolean singleParam;
+
+        QueryKey(QueryType type, String entityName, String query, boolean singleParam) {
+            this.type = type;
+            this.entityName = entityName;
+            this.query = query;
+            this.singleParam = singleParam;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            QueryKey other = (QueryKey) o;
+            return type == other.type && singleParam == other.singleParam && entityName.equals(other.entityName)
+                    && Objects.equals(query, other.query);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, entityName, query, singleParam);
+        }
+    }
 }
@@ -0,0 +1,70 @@
+package io.quarkus.panache.hibernate.common.runtime;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public class PanacheJpaUtilTest {
+
+    @Test
+    public void testExpandedQueriesAreCached() {
+        String query = "name = ?1 and status = ?2";
+        String expanded = PanacheJpaUtil.createFindQuery(Entity.class, query, 2);
+        Assertions.assertEquals("FROM " + Entity.class.getName() + " WHERE name = ?1 and status = ?2", expanded);
+        Assertions.assertSame(expanded, PanacheJpaUtil.createFindQuery(Entity.class, query, 2));
+        Assertions.assertEquals("SELECT COUNT(*) FROM " + Entity.class.getName() + " WHERE name = ?1 and status = ?2",
+                PanacheJpaUtil.createCountQuery(Entity.class, query, 2));
+        Assertions.assertEquals("DELETE FROM " + Entity.class.getName() + " WHERE name = ?1 and status = ?2",
+                PanacheJpaUtil.createDeleteQuery(Entity.class, query, 2));
+    }
+
+    @Test
+    public void testParameterCountIsPartOfTheKey() {
+        Assertions.assertEquals("FROM " + Entity.class.getName() + " WHERE name = ?1",
+                PanacheJpaUtil.createFindQuery(Entity.class, "name", 1));
+        Assertions.assertEquals("FROM " + Entity.class.getName() + " WHERE name",
+                PanacheJpaUtil.createFindQuery(Entity.class, "name", 0));
+        Assertions.assertEquals("FROM " + Entity.class.getName(), PanacheJpaUtil.createFindQuery(Entity.class, null, 0));
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+        for (int i = 0; i < PanacheJpaUtil.MAX_CACHED_QUERIES * 2; i++) {
+            PanacheJpaUtil.createFindQuery(Entity.class, "id = " + i, 0);
+            PanacheJpaUtil.getCountQuery("FROM Entity WHERE id = " + i);
+        }
+        Assertions.assertTrue(PanacheJpaUtil.EXPANDED_QUERIES.size() <= PanacheJpaUtil.MAX_CACHED_QUERIES);
+        Assertions.assertTrue(PanacheJpaUtil.COUNT_QUERIES.size() <= PanacheJpaUtil.MAX_CACHED_QUERIES);
+    }
+
+    @Test
+    public void testKeysetQuery() {
+        Assertions.assertEquals("FROM Entity WHERE (name > ?1) OR (name = ?1 AND id > ?2)",
+                PanacheJpaUtil.createKeysetQuery("FROM Entity", Sort.by("name").and("id"), Arrays.asList("?1", "?2")));
+        Assertions.assertEquals("FROM Entity WHERE (a = :a OR b = :b) AND ((id < :k0))",
+                PanacheJpaUtil.createKeysetQuery("FROM Entity WHERE a = :a OR b = :b",
+                        Sort.by("id", Sort.Direction.Descending), Arrays.asList(":k0")));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Entity", Sort.by("id"), Arrays.asList("?1", "?2")));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Entity ORDER BY id", Sort.by("id"), Arrays.asList("?1")));
+    }
+
+    @Test
+    public void testKeysetQueryOnSeveralLines() {
+        Assertions.assertEquals("FROM Entity WHERE (a = ?1) AND ((id > ?2))",
+                PanacheJpaUtil.createKeysetQuery("FROM Entity\nWHERE a = ?1", Sort.by("id"), Arrays.asList("?2")));
+        Assertions.assertEquals("FROM Entity e\n WHERE (e.a = ?1\n\tAND e.b = ?2) AND ((id > ?3))",
+                PanacheJpaUtil.createKeysetQuery("FROM Entity e\n\twhere\te.a = ?1\n\tAND e.b = ?2", Sort.by("id"),
+                        Arrays.asList("?3")));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Entity\nORDER\tBY id", Sort.by("id"), Arrays.asList("?1")));
+    }
+
+    static class Entity {
+    }
+}
@@ -0,0 +1,16 @@
+package io.quarkus.redis.client;
+
+/**
+ * Thrown when Redis aborts a transaction, i.e. when {@code EXEC} replies nil because a key watched with {@code WATCH}
+ * was modified before the transaction was executed.
+ * <p>
+ * None of the commands of the transaction was executed, so it can be retried.
+ */
+public class RedisTransactionAbortedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RedisTransactionAbortedException(String message) {
+        super(message);
+    }
+}
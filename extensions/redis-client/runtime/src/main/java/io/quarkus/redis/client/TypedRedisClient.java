@@ -0,0 +1,120 @@
+package io.quarkus.redis.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.Codec;
+
+/**
+ * A synchronous Redis client reading and writing typed values, converted with a {@link Codec}.
+ * <p>
+ * The values are encoded to and decoded from the protocol buffers directly, without being converted to
+ * {@code String}. The keys, hash fields and scores are not converted.
+ * The commands have the same timeout as the {@link RedisClient} they are obtained from, with
+ * {@link RedisClient#typed(Codec)}.
+ *
+ * @param <V> the type of the values
+ */
+public interface TypedRedisClient<V> {
+
+    // strings
+
+    /**
+     * @return the value of the key, {@code null} if the key does not exist
+     */
+    V get(String key);
+
+    /**
+     * @return the values of the keys, with {@code null} for the keys that do not exist
+     */
+    List<V> mget(List<String> keys);
+
+    void set(String key, V value);
+
+    /**
+     * Sets the value of the key, which expires after the given duration.
+     */
+    void set(String key, V value, Duration expiration);
+
+    // hashes
+
+    /**
+     * @return the value of the field, {@code null} if the field or the key does not exist
+     */
+    V hget(String key, String field);
+
+    Map<String, V> hgetall(String key);
+
+    /**
+     * @return the number of fields added
+     */
+    long hset(String key, Map<String, V> fields);
+
+    // lists
+
+    /**
+     * @return the length of the list after the values have been added at its head
+     */
+    long lpush(String key, List<V> values);
+
+    /**
+     * @return the length of the list after the values have been added at its tail
+     */
+    long rpush(String key, List<V> values);
+
+    /**
+     * @return the first value of the list, {@code null} if the list is empty
+     */
+    V lpop(String key);
+
+    /**
+     * @return the last value of the list, {@code null} if the list is empty
+     */
+    V rpop(String key);
+
+    List<V> lrange(String key, long start, long stop);
+
+    // sets
+
+    /**
+     * @return the number of members added to the set
+     */
+    long sadd(String key, List<V> members);
+
+    /**
+     * @return the number of members removed from the set
+     */
+    long srem(String key, List<V> members);
+
+    boolean sismember(String key, V member);
+
+    List<V> smembers(String key);
+
+    // sorted sets
+
+    /**
+     * @return the number of members added to the sorted set, 0 if the score of an existing member is updated
+     */
+    long zadd(String key, double score, V member);
+
+    /**
+     * @return the score of the member, {@code null} if it is not a member of the sorted set
+     */
+    Double zscore(String key, V member);
+
+    /**
+     * @return the members between the given ranks, ordered by score
+     */
+    List<V> zrange(String key, long start, long stop);
+
+    /**
+     * @return the members with a score between the given bounds (inclusive), ordered by score
+     */
+    List<V> zrangebyscore(String key, double min, double max);
+
+    /**
+     * @return the number of members removed from the sorted set
+     */
+    long zrem(String key, List<V> members);
+}
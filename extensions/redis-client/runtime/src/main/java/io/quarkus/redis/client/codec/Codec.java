@@ -0,0 +1,26 @@
+package io.quarkus.redis.client.codec;
+
+import io.vertx.core.buffer.Buffer;
+
+/**
+ * Converts the values stored in Redis to and from their binary representation.
+ * <p>
+ * The values are written to and read from the protocol buffers directly, without intermediate {@code String}.
+ * See {@link Codecs} for the built-in codecs.
+ *
+ * @param <T> the type of the values
+ */
+public interface Codec<T> {
+
+    /**
+     * @param value the value, never {@code null}
+     * @return the binary representation of the value
+     */
+    Buffer encode(T value);
+
+    /**
+     * @param buffer the binary representation of a value, never {@code null}
+     * @return the value
+     */
+    T decode(Buffer buffer);
+}
@@ -0,0 +1,105 @@
+package io.quarkus.redis.client.codec;
+
+import java.nio.charset.StandardCharsets;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * The built-in {@link Codec codecs}.
+ */
+public final class Codecs {
+
+    private static final Codec<Buffer> BUFFER = new Codec<Buffer>() {
+        @Override
+        public Buffer encode(Buffer value) {
+            return value;
+        }
+
+        @Override
+        public Buffer decode(Buffer buffer) {
+            return buffer;
+        }
+    };
+
+    private static final Codec<byte[]> BYTE_ARRAY = new Codec<byte[]>() {
+        @Override
+        public Buffer encode(byte[] value) {
+            return Buffer.buffer(value);
+        }
+
+        @Override
+        public byte[] decode(Buffer buffer) {
+            return buffer.getBytes();
+        }
+    };
+
+    private static final Codec<String> STRING = new Codec<String>() {
+        @Override
+        public Buffer encode(String value) {
+            return Buffer.buffer(value, StandardCharsets.UTF_8.name());
+        }
+
+        @Override
+        public String decode(Buffer buffer) {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    };
+
+    private Codecs() {
+    }
+
+    /**
+     * @return a codec storing the buffers as is
+     */
+    public static Codec<Buffer> buffer() {
+        return BUFFER;
+    }
+
+    /**
+     * @return a codec storing the byte arrays as is
+     */
+    public static Codec<byte[]> byteArray() {
+        return BYTE_ARRAY;
+    }
+
+    /**
+     * @return a codec storing the strings encoded in UTF-8
+     */
+    public static Codec<String> string() {
+        return STRING;
+    }
+
+    /**
+     * Creates a codec storing the values as JSON.
+     * <p>
+     * The values are serialized with the Vert.x JSON codec which, when the {@code quarkus-jackson} extension is present,
+     * uses a copy of the application {@code ObjectMapper}. Without it, only {@link JsonObject}, {@link JsonArray} and
+     * the JSON types are supported. Implement {@link Codec} to use another JSON library, for example JSON-B.
+     *
+     * @param type the type of the values
+     * @return the codec
+     */
+    public static <T> Codec<T> json(Class<T> type) {
+        return new Codec<T>() {
+            @Override
+            public Buffer encode(T value) {
+                return Json.CODEC.toBuffer(value, false);
+            }
+
+            @Override
+            public T decode(Buffer buffer) {
+                // the JSON types are decoded by Vert.x itself, whatever the JSON codec
+                if (type == JsonObject.class) {
+                    return type.cast(new JsonObject(buffer));
+                }
+                if (type == JsonArray.class) {
+                    return type.cast(new JsonArray(buffer));
+                }
+                return Json.CODEC.fromBuffer(buffer, type);
+            }
+        };
+    }
+}
@@ -6,8 +6,10 @@ import java.util.List;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.codec.Codec;
 import io.quarkus.redis.client.runtime.RedisClientsProducer;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 /**
@@ -38,6 +40,38 @@ public interface ReactiveRedisClient {
 
     void close();
 
+    /**
+     * Sends the given commands in a single write, without waiting for the reply to a command before sending the next
+     * one. This saves a round trip per command, but the commands are not executed atomically.
+     *
+     * @param commands the commands, for example {@code Request.cmd(Command.GET).arg("key")}
+     * @return the replies, in the order of the commands
+     */
+    Uni<List<Response>> batch(List<Request> commands);
+
+    List<Response> batchAndAwait(List<Request> commands);
+
+    /**
+     * Executes the given commands atomically, in a {@code MULTI}/{@code EXEC} block sent in a single write.
+     *
+     * @param commands the commands, for example {@code Request.cmd(Command.INCR).arg("counter")}
+     * @return the replies, in the order of the commands. The {@code Uni} fails with a
+     *         {@link io.quarkus.redis.client.RedisTransactionAbortedException} if Redis aborted the transaction, as a
+     *         key watched on the connection was modified.
+     */
+    Uni<List<Response>> transaction(List<Request> commands);
+
+    List<Response> transactionAndAwait(List<Request> commands);
+
+    /**
+     * Returns a client reading and writing the values of the strings, hashes, lists, sets and sorted sets with the
+     * given codec, for example {@code typed(Codecs.json(Order.class))}.
+     *
+     * @param codec the codec of the values, see {@link io.quarkus.redis.client.codec.Codecs}
+     * @return the typed client, sharing the connections of this client
+     */
+    <V> ReactiveTypedRedisClient<V> typed(Codec<V> codec);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
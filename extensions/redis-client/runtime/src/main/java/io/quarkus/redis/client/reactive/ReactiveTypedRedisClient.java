@@ -0,0 +1,120 @@
+package io.quarkus.redis.client.reactive;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.Codec;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * A reactive Redis client reading and writing typed values, converted with a {@link Codec}.
+ * <p>
+ * The values are encoded to and decoded from the protocol buffers directly, without being converted to
+ * {@code String}. The keys, hash fields and scores are not converted.
+ * Obtained with {@link ReactiveRedisClient#typed(Codec)}.
+ *
+ * @param <V> the type of the values
+ */
+public interface ReactiveTypedRedisClient<V> {
+
+    // strings
+
+    /**
+     * @return the value of the key, {@code null} if the key does not exist
+     */
+    Uni<V> get(String key);
+
+    /**
+     * @return the values of the keys, with {@code null} for the keys that do not exist
+     */
+    Uni<List<V>> mget(List<String> keys);
+
+    Uni<Void> set(String key, V value);
+
+    /**
+     * Sets the value of the key, which expires after the given duration.
+     */
+    Uni<Void> set(String key, V value, Duration expiration);
+
+    // hashes
+
+    /**
+     * @return the value of the field, {@code null} if the field or the key does not exist
+     */
+    Uni<V> hget(String key, String field);
+
+    Uni<Map<String, V>> hgetall(String key);
+
+    /**
+     * @return the number of fields added
+     */
+    Uni<Long> hset(String key, Map<String, V> fields);
+
+    // lists
+
+    /**
+     * @return the length of the list after the values have been added at its head
+     */
+    Uni<Long> lpush(String key, List<V> values);
+
+    /**
+     * @return the length of the list after the values have been added at its tail
+     */
+    Uni<Long> rpush(String key, List<V> values);
+
+    /**
+     * @return the first value of the list, {@code null} if the list is empty
+     */
+    Uni<V> lpop(String key);
+
+    /**
+     * @return the last value of the list, {@code null} if the list is empty
+     */
+    Uni<V> rpop(String key);
+
+    Uni<List<V>> lrange(String key, long start, long stop);
+
+    // sets
+
+    /**
+     * @return the number of members added to the set
+     */
+    Uni<Long> sadd(String key, List<V> members);
+
+    /**
+     * @return the number of members removed from the set
+     */
+    Uni<Long> srem(String key, List<V> members);
+
+    Uni<Boolean> sismember(String key, V member);
+
+    Uni<List<V>> smembers(String key);
+
+    // sorted sets
+
+    /**
+     * @return the number of members added to the sorted set, 0 if the score of an existing member is updated
+     */
+    Uni<Long> zadd(String key, double score, V member);
+
+    /**
+     * @return the score of the member, {@code null} if it is not a member of the sorted set
+     */
+    Uni<Double> zscore(String key, V member);
+
+    /**
+     * @return the members between the given ranks, ordered by score
+     */
+    Uni<List<V>> zrange(String key, long start, long stop);
+
+    /**
+     * @return the members with a score between the given bounds (inclusive), ordered by score
+     */
+    Uni<List<V>> zrangebyscore(String key, double min, double max);
+
+    /**
+     * @return the number of members removed from the sorted set
+     */
+    Uni<Long> zrem(String key, List<V> members);
+}
@@ -0,0 +1,35 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@ConfigGroup
+public class NearCacheConfig {
+
+    /**
+     * Whether the values read with `GET` by the reactive client are kept in a local cache.
+     * <p>
+     * The cache relies on the client-side caching support of Redis 6 (`CLIENT TRACKING`): the server notifies the
+     * client when a cached key is modified, and the key is then evicted from the local cache.
+     * Requires a Redis 6+ server, the cache is disabled otherwise.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The maximum number of keys kept in the local cache.
+     */
+    @ConfigItem(defaultValue = "10000")
+    public long maxSize;
+
+    /**
+     * The maximum time a value is kept in the local cache after it has been read from the server.
+     * <p>
+     * The values are evicted when the server notifies a modification, this limits how long a value may be stale if a
+     * notification is lost.
+     */
+    @ConfigItem(defaultValue = "60s")
+    public Duration expireAfterWrite;
+}
@@ -2,23 +2,63 @@ package io.quarkus.redis.client.runtime;
 
 import java.util.List;
 
+import io.quarkus.redis.client.codec.Codec;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
+    private final RedisNearCache nearCache;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI) {
+        this(redis, redisAPI, null);
+    }
+
+    ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI, RedisNearCache nearCache) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
+        this.nearCache = nearCache;
     }
 
     @Override
     public void close() {
+        if (nearCache != null) {
+            nearCache.close();
+        }
         redisAPI.close();
     }
 
+    @Override
+    public Uni<List<Response>> batch(List<Request> commands) {
+        return RedisBatches.batch(redis, commands);
+    }
+
+    @Override
+    public List<Response> batchAndAwait(List<Request> commands) {
+        return batch(commands).await().indefinitely();
+    }
+
+    @Override
+    public Uni<List<Response>> transaction(List<Request> commands) {
+        return RedisBatches.transaction(redis, commands);
+    }
+
+    @Override
+    public List<Response> transactionAndAwait(List<Request> commands) {
+        return transaction(commands).await().indefinitely();
+    }
+
+    @Override
+    public <V> ReactiveTypedRedisClient<V> typed(Codec<V> codec) {
+        return new ReactiveTypedRedisClientImpl<>(redis, codec);
+    }
+
     @Override
     public Uni<Response> append(String arg0, String arg1) {
         return redisAPI.append(arg0, arg1);
@@ -441,12 +481,15 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
 
     @Override
     public Uni<Response> get(String arg0) {
+        if (nearCache != null) {
+            return nearCache.get(arg0);
+        }
         return redisAPI.get(arg0);
     }
 
     @Override
     public Response getAndAwait(String arg0) {
-        return redisAPI.getAndAwait(arg0);
+        return get(arg0).await().indefinitely();
     }
 
     @Override
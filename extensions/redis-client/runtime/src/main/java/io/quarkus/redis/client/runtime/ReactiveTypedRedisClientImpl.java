@@ -0,0 +1,243 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.codec.Codec;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * Builds the requests with the bare Vert.x API, which accepts buffer arguments, and decodes the buffers of the replies.
+ */
+class ReactiveTypedRedisClientImpl<V> implements ReactiveTypedRedisClient<V> {
+
+    private static final Uni<Long> NONE = Uni.createFrom().item(0L);
+
+    private final Redis redis;
+    private final Codec<V> codec;
+
+    ReactiveTypedRedisClientImpl(Redis redis, Codec<V> codec) {
+        this.redis = redis;
+        this.codec = codec;
+    }
+
+    @Override
+    public Uni<V> get(String key) {
+        return send(Request.cmd(Command.GET).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<List<V>> mget(List<String> keys) {
+        if (keys.isEmpty()) {
+            // MGET requires at least one key
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String key : keys) {
+            request.arg(key);
+        }
+        return send(request).map(this::decodeList);
+    }
+
+    @Override
+    public Uni<Void> set(String key, V value) {
+        return send(Request.cmd(Command.SET).arg(key).arg(codec.encode(value))).replaceWithVoid();
+    }
+
+    @Override
+    public Uni<Void> set(String key, V value, Duration expiration) {
+        return send(Request.cmd(Command.SET).arg(key).arg(codec.encode(value)).arg("PX").arg(expiration.toMillis()))
+                .replaceWithVoid();
+    }
+
+    @Override
+    public Uni<V> hget(String key, String field) {
+        return send(Request.cmd(Command.HGET).arg(key).arg(field)).map(this::decode);
+    }
+
+    @Override
+    public Uni<Map<String, V>> hgetall(String key) {
+        return send(Request.cmd(Command.HGETALL).arg(key)).map(this::decodeMap);
+    }
+
+    @Override
+    public Uni<Long> hset(String key, Map<String, V> fields) {
+        if (fields.isEmpty()) {
+            // HSET requires at least one field
+            return NONE;
+        }
+        Request request = Request.cmd(Command.HSET).arg(key);
+        for (Map.Entry<String, V> field : fields.entrySet()) {
+            request.arg(field.getKey()).arg(codec.encode(field.getValue()));
+        }
+        return send(request).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Long> lpush(String key, List<V> values) {
+        if (values.isEmpty()) {
+            // LPUSH requires at least one value, the list is unchanged
+            return llen(key);
+        }
+        return send(withValues(Request.cmd(Command.LPUSH).arg(key), values)).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Long> rpush(String key, List<V> values) {
+        if (values.isEmpty()) {
+            // RPUSH requires at least one value, the list is unchanged
+            return llen(key);
+        }
+        return send(withValues(Request.cmd(Command.RPUSH).arg(key), values)).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<V> lpop(String key) {
+        return send(Request.cmd(Command.LPOP).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<V> rpop(String key) {
+        return send(Request.cmd(Command.RPOP).arg(key)).map(this::decode);
+    }
+
+    @Override
+    public Uni<List<V>> lrange(String key, long start, long stop) {
+        return send(Request.cmd(Command.LRANGE).arg(key).arg(start).arg(stop)).map(this::decodeList);
+    }
+
+    @Override
+    public Uni<Long> sadd(String key, List<V> members) {
+        if (members.isEmpty()) {
+            // SADD requires at least one member
+            return NONE;
+        }
+        return send(withValues(Request.cmd(Command.SADD).arg(key), members)).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Long> srem(String key, List<V> members) {
+        if (members.isEmpty()) {
+            // SREM requires at least one member
+            return NONE;
+        }
+        return send(withValues(Request.cmd(Command.SREM).arg(key), members)).map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Boolean> sismember(String key, V member) {
+        return send(Request.cmd(Command.SISMEMBER).arg(key).arg(codec.encode(member)))
+                .map(response -> response.toInteger() == 1);
+    }
+
+    @Override
+    public Uni<List<V>> smembers(String key) {
+        return send(Request.cmd(Command.SMEMBERS).arg(key)).map(this::decodeList);
+    }
+
+    @Override
+    public Uni<Long> zadd(String key, double score, V member) {
+        return send(Request.cmd(Command.ZADD).arg(key).arg(score(score)).arg(codec.encode(member)))
+                .map(Response::toLong);
+    }
+
+    @Override
+    public Uni<Double> zscore(String key, V member) {
+        return send(Request.cmd(Command.ZSCORE).arg(key).arg(codec.encode(member)))
+                .map(response -> response == null ? null : response.toDouble());
+    }
+
+    @Override
+    public Uni<List<V>> zrange(String key, long start, long stop) {
+        return send(Request.cmd(Command.ZRANGE).arg(key).arg(start).arg(stop)).map(this::decodeList);
+    }
+
+    @Override
+    public Uni<List<V>> zrangebyscore(String key, double min, double max) {
+        return send(Request.cmd(Command.ZRANGEBYSCORE).arg(key).arg(score(min)).arg(score(max)))
+                .map(this::decodeList);
+    }
+
+    @Override
+    public Uni<Long> zrem(String key, List<V> members) {
+        if (members.isEmpty()) {
+            // ZREM requires at least one member
+            return NONE;
+        }
+        return send(withValues(Request.cmd(Command.ZREM).arg(key), members)).map(Response::toLong);
+    }
+
+    private Uni<Long> llen(String key) {
+        return send(Request.cmd(Command.LLEN).arg(key)).map(Response::toLong);
+    }
+
+    private Uni<Response> send(Request request) {
+        return redis.send(io.vertx.mutiny.redis.client.Request.newInstance(request))
+                .map(response -> response == null ? null : response.getDelegate());
+    }
+
+    private Request withValues(Request request, List<V> values) {
+        for (V value : values) {
+            request.arg(codec.encode(value));
+        }
+        return request;
+    }
+
+    private V decode(Response response) {
+        if (response == null) {
+            return null;
+        }
+        return codec.decode(response.toBuffer());
+    }
+
+    private List<V> decodeList(Response response) {
+        if (response == null) {
+            return Collections.emptyList();
+        }
+        List<V> values = new ArrayList<>(response.size());
+        for (Response item : response) {
+            values.add(decode(item));
+        }
+        return values;
+    }
+
+    private Map<String, V> decodeMap(Response response) {
+        if (response == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, V> values = new HashMap<>();
+        Iterator<Response> items = response.iterator();
+        while (items.hasNext()) {
+            Response item = items.next();
+            if (item.type() == ResponseType.MULTI) {
+                // RESP3: a map, iterated as [field, value] pairs
+                values.put(item.get(0).toString(), decode(item.get(1)));
+            } else {
+                // RESP2: a flat array alternating fields and values
+                values.put(item.toString(), decode(items.next()));
+            }
+        }
+        return values;
+    }
+
+    private static String score(double score) {
+        if (score == Double.POSITIVE_INFINITY) {
+            return "+inf";
+        }
+        if (score == Double.NEGATIVE_INFINITY) {
+            return "-inf";
+        }
+        return Double.toString(score);
+    }
+}
@@ -18,15 +18,18 @@ class RedisAPIContainer {
 
     private final MutinyRedisAPI mutinyRedisAPI;
 
+    private final RedisNearCache nearCache;
+
     public RedisAPIContainer(Redis redis, RedisAPI redisAPI, RedisClient redisClient,
             ReactiveRedisClient reactiveClient, MutinyRedis mutinyRedis,
-            MutinyRedisAPI mutinyRedisAPI) {
+            MutinyRedisAPI mutinyRedisAPI, RedisNearCache nearCache) {
         this.redis = redis;
         this.redisAPI = redisAPI;
         this.redisClient = redisClient;
         this.reactiveClient = reactiveClient;
         this.mutinyRedis = mutinyRedis;
         this.mutinyRedisAPI = mutinyRedisAPI;
+        this.nearCache = nearCache;
     }
 
     public Redis getRedis() {
@@ -53,6 +56,13 @@ class RedisAPIContainer {
         return mutinyRedisAPI;
     }
 
+    /**
+     * @return the near cache of the reactive client, {@code null} if it is not enabled
+     */
+    public RedisNearCache getNearCache() {
+        return nearCache;
+    }
+
     public void close() {
         this.redisAPI.close();
         this.redis.close();
@@ -0,0 +1,74 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import io.quarkus.redis.client.RedisTransactionAbortedException;
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+
+/**
+ * Sends several commands in a single write on a single connection, optionally wrapped in a {@code MULTI}/{@code EXEC}
+ * transaction.
+ */
+final class RedisBatches {
+
+    private RedisBatches() {
+    }
+
+    static Uni<List<Response>> batch(Redis redis, List<Request> commands) {
+        if (commands.isEmpty()) {
+            return Uni.createFrom().item(new ArrayList<>());
+        }
+        return redis.batch(commands);
+    }
+
+    static Uni<List<Response>> transaction(Redis redis, List<Request> commands) {
+        if (commands.isEmpty()) {
+            return Uni.createFrom().item(new ArrayList<>());
+        }
+        List<Request> transaction = new ArrayList<>(commands.size() + 2);
+        transaction.add(Request.cmd(Command.MULTI));
+        transaction.addAll(commands);
+        transaction.add(Request.cmd(Command.EXEC));
+        return redis.batch(transaction).map(new Function<List<Response>, List<Response>>() {
+            @Override
+            public List<Response> apply(List<Response> responses) {
+                // the replies are OK for MULTI, QUEUED for each command, then the replies of the commands for EXEC
+                Response exec = responses.get(responses.size() - 1);
+                if (exec == null) {
+                    throw new RedisTransactionAbortedException(
+                            "The transaction was aborted by Redis, as a watched key was modified");
+                }
+                List<Response> results = new ArrayList<>(exec.size());
+                for (int i = 0; i < exec.size(); i++) {
+                    results.add(exec.get(i));
+                }
+                return results;
+            }
+        });
+    }
+
+    static List<Request> toMutiny(List<io.vertx.redis.client.Request> commands) {
+        List<Request> result = new ArrayList<>(commands.size());
+        for (io.vertx.redis.client.Request command : commands) {
+            result.add(Request.newInstance(command));
+        }
+        return result;
+    }
+
+    static List<io.vertx.redis.client.Response> toBare(List<Response> responses) {
+        if (responses == null) {
+            return null;
+        }
+        List<io.vertx.redis.client.Response> result = new ArrayList<>(responses.size());
+        for (Response response : responses) {
+            result.add(response == null ? null : response.getDelegate());
+        }
+        return result;
+    }
+}
@@ -4,15 +4,21 @@ import java.time.Duration;
 import java.util.List;
 
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.TypedRedisClient;
+import io.quarkus.redis.client.codec.Codec;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
     private final Duration timeout;
 
-    public RedisClientImpl(RedisAPI redisAPI, Duration timeout) {
+    public RedisClientImpl(Redis redis, RedisAPI redisAPI, Duration timeout) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
         this.timeout = timeout;
     }
@@ -22,6 +28,23 @@ class RedisClientImpl implements RedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public List<Response> batch(List<Request> commands) {
+        return RedisBatches.toBare(
+                RedisBatches.batch(redis, RedisBatches.toMutiny(commands)).await().atMost(timeout));
+    }
+
+    @Override
+    public List<Response> transaction(List<Request> commands) {
+        return RedisBatches.toBare(
+                RedisBatches.transaction(redis, RedisBatches.toMutiny(commands)).await().atMost(timeout));
+    }
+
+    @Override
+    public <V> TypedRedisClient<V> typed(Codec<V> codec) {
+        return new TypedRedisClientImpl<>(new ReactiveTypedRedisClientImpl<>(redis, codec), timeout);
+    }
+
     @Override
     public Response append(String arg0, String arg1) {
         return await(redisAPI.append(arg0, arg1));
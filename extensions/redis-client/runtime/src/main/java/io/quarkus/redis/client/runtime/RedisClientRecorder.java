@@ -1,5 +1,6 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.quarkus.arc.Arc;
@@ -7,6 +8,7 @@ import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.vertx.redis.client.Redis;
 import io.vertx.redis.client.RedisAPI;
 
@@ -82,6 +84,16 @@ public class RedisClientRecorder {
         };
     }
 
+    public Consumer<MetricsFactory> registerNearCacheMetrics(ShutdownContext shutdown) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RedisNearCacheMetrics.init(metricsFactory);
+                shutdown.addShutdownTask(RedisNearCacheMetrics::reset);
+            }
+        };
+    }
+
     private RedisAPIContainer getRedisAPIContainer(String clientName) {
         RedisClientsProducer redisClientsProducer = Arc.container().instance(RedisClientsProducer.class).get();
         return redisClientsProducer.getRedisAPIContainer(clientName);
@@ -26,7 +26,7 @@ public class RedisClientsProducer {
     }
 
     public RedisAPIContainer getRedisAPIContainer(String name) {
-        return REDIS_APIS.computeIfAbsent(name, new Function<String, RedisAPIContainer>() {
+        RedisAPIContainer container = REDIS_APIS.computeIfAbsent(name, new Function<String, RedisAPIContainer>() {
             @Override
             public RedisAPIContainer apply(String s) {
                 RedisConfiguration redisConfiguration = RedisClientUtil.getConfiguration(RedisClientsProducer.this.redisConfig,
@@ -37,11 +37,22 @@ public class RedisClientsProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
-                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
+                RedisClient redisClient = new RedisClientImpl(mutinyRedis, mutinyRedisAPI, timeout);
+                RedisNearCache nearCache = null;
+                if (redisConfiguration.nearCache.enabled) {
+                    // the tracking connection is kept open, it must not take a connection of the pool
+                    Redis trackingRedis = Redis.createClient(vertx, new RedisOptions(options).setMaxPoolSize(1));
+                    nearCache = new RedisNearCache(name, new MutinyRedis(trackingRedis), mutinyRedisAPI,
+                            redisConfiguration.nearCache);
+                }
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedis, mutinyRedisAPI, nearCache);
+                return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI,
+                        nearCache);
             }
         });
+        // registered once the container is visible, so that it is not missed if the metrics are being initialized
+        RedisNearCacheMetrics.register(container.getNearCache());
+        return container;
     }
 
     public RedisClient getRedisClient(String name) {
@@ -52,7 +63,7 @@ public class RedisClientsProducer {
         Redis redis = Redis.createClient(vertx, options);
         RedisAPI redisAPI = RedisAPI.api(redis);
         MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-        return new RedisClientImpl(mutinyRedisAPI, timeout);
+        return new RedisClientImpl(new MutinyRedis(redis), mutinyRedisAPI, timeout);
     }
 
     public ReactiveRedisClient getReactiveRedisClient(String name) {
@@ -62,7 +73,7 @@ public class RedisClientsProducer {
         Redis redis = Redis.createClient(vertx, options);
         RedisAPI redisAPI = RedisAPI.api(redis);
         MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-        return new ReactiveRedisClientImpl(mutinyRedisAPI);
+        return new ReactiveRedisClientImpl(new MutinyRedis(redis), mutinyRedisAPI);
     }
 
     public static void close() {
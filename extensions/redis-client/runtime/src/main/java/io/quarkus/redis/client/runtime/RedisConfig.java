@@ -197,5 +197,12 @@ public class RedisConfig {
         @ConfigDocSection
         public SslConfig ssl;
 
+        /**
+         * Client-side caching config.
+         */
+        @ConfigItem
+        @ConfigDocSection
+        public NearCacheConfig nearCache;
+
     }
 }
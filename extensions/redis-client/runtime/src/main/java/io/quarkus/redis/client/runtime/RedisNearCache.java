@@ -0,0 +1,197 @@
+package io.quarkus.redis.client.runtime;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.RedisConnection;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.ResponseType;
+
+/**
+ * A local cache of the values read with {@code GET}, kept consistent with the server using the client-side caching
+ * support of Redis 6.
+ * <p>
+ * The cache misses are read on a dedicated connection using the RESP3 protocol, on which {@code CLIENT TRACKING} is
+ * enabled: the server then pushes an {@code invalidate} message on that connection when a key read through it is
+ * modified. As the replies and the messages are delivered in order, a value is never cached after the invalidation
+ * of the key. This connection is opened by a Redis client of its own, so that it does not permanently hold a
+ * connection of the pool used by the other commands.
+ * <p>
+ * The whole cache is cleared when the dedicated connection is lost, as the invalidation messages may have been missed.
+ * If the server does not support client-side caching, the cache is disabled and the reads are delegated to the pool.
+ */
+final class RedisNearCache {
+
+    private static final Logger LOGGER = Logger.getLogger(RedisNearCache.class);
+
+    private final String clientName;
+    private final Redis trackingClient;
+    private final RedisAPI redisAPI;
+    private final Cache<String, Response> cache;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final AtomicBoolean metricsRegistered = new AtomicBoolean();
+
+    private volatile Uni<RedisConnection> connection;
+    private volatile RedisConnection trackingConnection;
+    private volatile boolean unsupported;
+
+    RedisNearCache(String clientName, Redis trackingClient, RedisAPI redisAPI, NearCacheConfig config) {
+        this.clientName = clientName;
+        this.trackingClient = trackingClient;
+        this.redisAPI = redisAPI;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(config.maxSize)
+                .expireAfterWrite(config.expireAfterWrite)
+                .build();
+    }
+
+    Uni<Response> get(String key) {
+        Response cached = cache.getIfPresent(key);
+        if (cached != null) {
+            hits.increment();
+            return Uni.createFrom().item(cached);
+        }
+        misses.increment();
+        if (unsupported) {
+            return redisAPI.get(key);
+        }
+        return connection().onItem().transformToUni(c -> {
+            if (c == null) {
+                return redisAPI.get(key);
+            }
+            return c.send(Request.cmd(Command.GET).arg(key)).invoke(response -> {
+                // missing keys are not cached
+                if (response != null) {
+                    cache.put(key, response);
+                }
+            });
+        });
+    }
+
+    String getClientName() {
+        return clientName;
+    }
+
+    /**
+     * @return {@code false} if the metrics of the cache have already been registered
+     */
+    boolean markMetricsRegistered() {
+        return metricsRegistered.compareAndSet(false, true);
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    long invalidations() {
+        return invalidations.sum();
+    }
+
+    long size() {
+        return cache.estimatedSize();
+    }
+
+    void close() {
+        RedisConnection c = trackingConnection;
+        trackingConnection = null;
+        connection = null;
+        if (c != null) {
+            c.closeAndForget();
+        }
+        trackingClient.close();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the tracking connection, or {@code null} if client-side caching is not supported by the server
+     */
+    private Uni<RedisConnection> connection() {
+        Uni<RedisConnection> current = connection;
+        if (current == null) {
+            synchronized (this) {
+                current = connection;
+                if (current == null) {
+                    current = trackingClient.connect()
+                            .onItem().transformToUni(this::enableTracking)
+                            .onFailure().invoke(t -> {
+                                // the connection is attempted again on the next read
+                                connection = null;
+                            })
+                            .memoize().indefinitely();
+                    connection = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private Uni<RedisConnection> enableTracking(RedisConnection c) {
+        c.handler(this::onMessage);
+        c.exceptionHandler(t -> reset(c));
+        c.endHandler(() -> reset(c));
+        trackingConnection = c;
+        // the invalidation messages are only pushed to the tracking connection itself with RESP3
+        return c.send(Request.cmd(Command.HELLO).arg(3))
+                .chain(() -> c.send(Request.cmd(Command.CLIENT).arg("TRACKING").arg("ON")))
+                .map(ignored -> {
+                    LOGGER.debugf("Client-side caching enabled for the Redis client '%s'", clientName);
+                    return c;
+                })
+                .onFailure().recoverWithItem(t -> {
+                    LOGGER.warnf("The Redis server does not support client-side caching, the near cache of the client"
+                            + " '%s' is disabled: %s", clientName, t.getMessage());
+                    unsupported = true;
+                    c.closeAndForget();
+                    return null;
+                });
+    }
+
+    private void onMessage(Response message) {
+        if (message.type() != ResponseType.PUSH || message.size() < 2
+                || !"invalidate".equalsIgnoreCase(message.get(0).toString())) {
+            return;
+        }
+        Response keys = message.get(1);
+        if (keys == null || keys.type() != ResponseType.MULTI) {
+            // the database has been flushed
+            invalidations.add(cache.estimatedSize());
+            cache.invalidateAll();
+            return;
+        }
+        for (Response key : keys) {
+            cache.invalidate(key.toString());
+            invalidations.increment();
+        }
+    }
+
+    private void reset(RedisConnection c) {
+        synchronized (this) {
+            if (trackingConnection != c) {
+                return;
+            }
+            trackingConnection = null;
+            connection = null;
+        }
+        LOGGER.debugf("The tracking connection of the Redis client '%s' has been closed, clearing the near cache",
+                clientName);
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.redis.client.runtime;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Reports the hits, misses, invalidations and size of the near caches when a metrics extension is present.
+ * <p>
+ * The metrics of a near cache are registered when its client is created, so that the named clients are not created
+ * just to report their metrics.
+ */
+final class RedisNearCacheMetrics {
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private RedisNearCacheMetrics() {
+    }
+
+    static void init(MetricsFactory factory) {
+        metricsFactory = factory;
+        // the clients created before the metrics extension was started
+        for (RedisAPIContainer container : RedisClientsProducer.REDIS_APIS.values()) {
+            register(container.getNearCache());
+        }
+    }
+
+    static void reset() {
+        metricsFactory = null;
+    }
+
+    static void register(RedisNearCache nearCache) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null || nearCache == null || !nearCache.markMetricsRegistered()) {
+            return;
+        }
+        String clientName = nearCache.getClientName();
+        String tagValue = RedisClientUtil.isDefault(clientName) ? "default" : clientName;
+        factory.builder("redis.near.cache.hits")
+                .description("Number of GET commands served from the near cache.")
+                .tag("client", tagValue)
+                .buildCounter(nearCache::hits);
+        factory.builder("redis.near.cache.misses")
+                .description("Number of GET commands sent to the server.")
+                .tag("client", tagValue)
+                .buildCounter(nearCache::misses);
+        factory.builder("redis.near.cache.invalidations")
+                .description("Number of keys evicted from the near cache following a notification of the server.")
+                .tag("client", tagValue)
+                .buildCounter(nearCache::invalidations);
+        factory.builder("redis.near.cache.size")
+                .description("Approximate number of keys in the near cache.")
+                .tag("client", tagValue)
+                .buildGauge(nearCache::size);
+    }
+}
@@ -0,0 +1,128 @@
+package io.quarkus.redis.client.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import io.quarkus.redis.client.TypedRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
+import io.smallrye.mutiny.Uni;
+
+class TypedRedisClientImpl<V> implements TypedRedisClient<V> {
+    private final ReactiveTypedRedisClient<V> reactiveClient;
+    private final Duration timeout;
+
+    TypedRedisClientImpl(ReactiveTypedRedisClient<V> reactiveClient, Duration timeout) {
+        this.reactiveClient = reactiveClient;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public V get(String key) {
+        return await(reactiveClient.get(key));
+    }
+
+    @Override
+    public List<V> mget(List<String> keys) {
+        return await(reactiveClient.mget(keys));
+    }
+
+    @Override
+    public void set(String key, V value) {
+        await(reactiveClient.set(key, value));
+    }
+
+    @Override
+    public void set(String key, V value, Duration expiration) {
+        await(reactiveClient.set(key, value, expiration));
+    }
+
+    @Override
+    public V hget(String key, String field) {
+        return await(reactiveClient.hget(key, field));
+    }
+
+    @Override
+    public Map<String, V> hgetall(String key) {
+        return await(reactiveClient.hgetall(key));
+    }
+
+    @Override
+    public long hset(String key, Map<String, V> fields) {
+        return await(reactiveClient.hset(key, fields));
+    }
+
+    @Override
+    public long lpush(String key, List<V> values) {
+        return await(reactiveClient.lpush(key, values));
+    }
+
+    @Override
+    public long rpush(String key, List<V> values) {
+        return await(reactiveClient.rpush(key, values));
+    }
+
+    @Override
+    public V lpop(String key) {
+        return await(reactiveClient.lpop(key));
+    }
+
+    @Override
+    public V rpop(String key) {
+        return await(reactiveClient.rpop(key));
+    }
+
+    @Override
+    public List<V> lrange(String key, long start, long stop) {
+        return await(reactiveClient.lrange(key, start, stop));
+    }
+
+    @Override
+    public long sadd(String key, List<V> members) {
+        return await(reactiveClient.sadd(key, members));
+    }
+
+    @Override
+    public long srem(String key, List<V> members) {
+        return await(reactiveClient.srem(key, members));
+    }
+
+    @Override
+    public boolean sismember(String key, V member) {
+        return await(reactiveClient.sismember(key, member));
+    }
+
+    @Override
+    public List<V> smembers(String key) {
+        return await(reactiveClient.smembers(key));
+    }
+
+    @Override
+    public long zadd(String key, double score, V member) {
+        return await(reactiveClient.zadd(key, score, member));
+    }
+
+    @Override
+    public Double zscore(String key, V member) {
+        return await(reactiveClient.zscore(key, member));
+    }
+
+    @Override
+    public List<V> zrange(String key, long start, long stop) {
+        return await(reactiveClient.zrange(key, start, stop));
+    }
+
+    @Override
+    public List<V> zrangebyscore(String key, double min, double max) {
+        return await(reactiveClient.zrangebyscore(key, min, max));
+    }
+
+    @Override
+    public long zrem(String key, List<V> members) {
+        return await(reactiveClient.zrem(key, members));
+    }
+
+    private <T> T await(Uni<T> uni) {
+        return uni.await().atMost(timeout);
+    }
+}
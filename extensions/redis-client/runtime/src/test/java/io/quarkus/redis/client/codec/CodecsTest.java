@@ -0,0 +1,44 @@
+package io.quarkus.redis.client.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+
+class CodecsTest {
+
+    @Test
+    void testByteArray() {
+        byte[] value = { 0, 1, (byte) 0xff };
+        Buffer buffer = Codecs.byteArray().encode(value);
+        assertThat(buffer.getBytes()).isEqualTo(value);
+        assertThat(Codecs.byteArray().decode(buffer)).isEqualTo(value);
+    }
+
+    @Test
+    void testBuffer() {
+        Buffer value = Buffer.buffer("value");
+        assertThat(Codecs.buffer().encode(value)).isSameAs(value);
+        assertThat(Codecs.buffer().decode(value)).isSameAs(value);
+    }
+
+    @Test
+    void testString() {
+        Buffer buffer = Codecs.string().encode("é");
+        assertThat(buffer.length()).isEqualTo(2);
+        assertThat(Codecs.string().decode(buffer)).isEqualTo("é");
+    }
+
+    @Test
+    void testJson() {
+        // without quarkus-jackson, the Vert.x codec only supports the JSON types
+        Codec<JsonObject> codec = Codecs.json(JsonObject.class);
+        JsonObject item = new JsonObject().put("name", "item").put("quantity", 3);
+
+        Buffer buffer = codec.encode(item);
+        assertThat(buffer.toString()).isEqualTo("{\"name\":\"item\",\"quantity\":3}");
+        assertThat(codec.decode(buffer)).isEqualTo(item);
+    }
+}
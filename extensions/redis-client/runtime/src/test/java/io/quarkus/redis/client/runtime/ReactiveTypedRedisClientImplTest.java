@@ -0,0 +1,74 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.client.codec.Codecs;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+import io.vertx.redis.client.Response;
+import io.vertx.redis.client.impl.types.NumberType;
+
+public class ReactiveTypedRedisClientImplTest {
+
+    private final List<Request> sent = new ArrayList<>();
+    private final ReactiveTypedRedisClientImpl<byte[]> client = new ReactiveTypedRedisClientImpl<>(
+            redisReplying(NumberType.create(3)), Codecs.byteArray());
+
+    @Test
+    public void shouldNotSendTheCommandsWithoutMembers() {
+        assertThat(await(client.hset("hash", Collections.emptyMap()))).isZero();
+        assertThat(await(client.sadd("set", Collections.emptyList()))).isZero();
+        assertThat(await(client.srem("set", Collections.emptyList()))).isZero();
+        assertThat(await(client.zrem("sorted-set", Collections.emptyList()))).isZero();
+        assertThat(sent).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnTheLengthOfTheListWhenPushingNoValues() {
+        assertThat(await(client.lpush("list", Collections.emptyList()))).isEqualTo(3L);
+        assertThat(await(client.rpush("list", Collections.emptyList()))).isEqualTo(3L);
+        assertThat(sent).extracting(Request::command).containsExactly(Command.LLEN, Command.LLEN);
+    }
+
+    @Test
+    public void shouldSendTheCommandsWithMembers() {
+        assertThat(await(client.sadd("set", List.of(new byte[] { 1 })))).isEqualTo(3L);
+        assertThat(sent).extracting(Request::command).containsExactly(Command.SADD);
+    }
+
+    private static Long await(Uni<Long> uni) {
+        return uni.await().atMost(Duration.ofSeconds(5));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Redis redisReplying(Response reply) {
+        io.vertx.redis.client.Redis delegate = (io.vertx.redis.client.Redis) Proxy.newProxyInstance(
+                ReactiveTypedRedisClientImplTest.class.getClassLoader(),
+                new Class<?>[] { io.vertx.redis.client.Redis.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("send")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    sent.add((Request) args[0]);
+                    if (args.length == 2) {
+                        ((Handler<AsyncResult<Response>>) args[1]).handle(Future.succeededFuture(reply));
+                        return proxy;
+                    }
+                    return Future.succeededFuture(reply);
+                });
+        return Redis.newInstance(delegate);
+    }
+}
@@ -0,0 +1,70 @@
+package io.quarkus.redis.client.runtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.redis.client.RedisTransactionAbortedException;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
+import io.vertx.mutiny.redis.client.Request;
+import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.impl.types.MultiType;
+import io.vertx.redis.client.impl.types.NumberType;
+import io.vertx.redis.client.impl.types.SimpleStringType;
+
+public class RedisBatchesTest {
+
+    @Test
+    public void shouldReturnTheRepliesOfTheCommands() {
+        MultiType exec = MultiType.create(2, false);
+        exec.add(NumberType.create(1));
+        exec.add(NumberType.create(2));
+        Redis redis = redisReplying(SimpleStringType.create("OK"), SimpleStringType.create("QUEUED"),
+                SimpleStringType.create("QUEUED"), exec);
+
+        List<Response> responses = RedisBatches.transaction(redis, List.of(
+                Request.cmd(Command.INCR).arg("counter1"),
+                Request.cmd(Command.INCR).arg("counter2")))
+                .await().atMost(Duration.ofSeconds(5));
+        assertThat(responses).extracting(Response::toInteger).containsExactly(1, 2);
+    }
+
+    @Test
+    public void shouldFailWhenTheTransactionIsAborted() {
+        // EXEC replies nil when a watched key was modified
+        Redis redis = redisReplying(SimpleStringType.create("OK"), SimpleStringType.create("QUEUED"), null);
+
+        assertThatThrownBy(() -> RedisBatches.transaction(redis, List.of(Request.cmd(Command.INCR).arg("counter")))
+                .await().atMost(Duration.ofSeconds(5)))
+                        .isInstanceOf(RedisTransactionAbortedException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Redis redisReplying(io.vertx.redis.client.Response... replies) {
+        List<io.vertx.redis.client.Response> batch = Arrays.asList(replies);
+        io.vertx.redis.client.Redis delegate = (io.vertx.redis.client.Redis) Proxy.newProxyInstance(
+                RedisBatchesTest.class.getClassLoader(), new Class<?>[] { io.vertx.redis.client.Redis.class },
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("batch")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (args.length == 2) {
+                        ((Handler<AsyncResult<List<io.vertx.redis.client.Response>>>) args[1])
+                                .handle(Future.succeededFuture(batch));
+                        return proxy;
+                    }
+                    return Future.succeededFuture(batch);
+                });
+        return Redis.newInstance(delegate);
+    }
+}
@@ -38,6 +38,13 @@ public class RestClientConfig {
         EMPTY.connectionTTL = Optional.empty();
         EMPTY.connectionPoolSize = Optional.empty();
         EMPTY.maxRedirects = Optional.empty();
+        EMPTY.maxWaitQueueSize = Optional.empty();
+        EMPTY.keepAliveEnabled = Optional.empty();
+        EMPTY.pipeliningLimit = Optional.empty();
+        EMPTY.http2 = Optional.empty();
+        EMPTY.http2MultiplexingLimit = Optional.empty();
+        EMPTY.shared = Optional.empty();
+        EMPTY.requestCoalescing = Optional.empty();
         EMPTY.headers = Collections.emptyMap();
     }
 
@@ -165,6 +172,64 @@ public class RestClientConfig {
     @ConfigItem
     public Optional<Integer> maxRedirects;
 
+    /**
+     * The maximum number of requests waiting for a connection of the pool, unbounded if not set.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> maxWaitQueueSize;
+
+    /**
+     * Whether the connections of the pool should be kept alive.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> keepAliveEnabled;
+
+    /**
+     * The maximum number of requests pipelined on a single HTTP/1.1 connection. Pipelining is enabled when set.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> pipeliningLimit;
+
+    /**
+     * Whether HTTP/2 should be used, negotiated with ALPN over TLS and with an h2c upgrade over cleartext connections.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> http2;
+
+    /**
+     * The maximum number of concurrent streams multiplexed on a single HTTP/2 connection.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Integer> http2MultiplexingLimit;
+
+    /**
+     * Whether the HTTP client, and thus its connection pool, should be shared with the other clients having the same
+     * connection settings, e.g. clients targeting the same host.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> shared;
+
+    /**
+     * Whether identical in-flight {@code GET}, {@code HEAD} and {@code OPTIONS} requests of methods returning a
+     * {@code Uni} should be collapsed into a single call whose result is shared by all callers.
+     *
+     * This property is applicable to reactive REST clients only.
+     */
+    @ConfigItem
+    public Optional<Boolean> requestCoalescing;
+
     /**
      * The HTTP headers that should be applied to all requests of the rest client.
      */
@@ -193,6 +258,13 @@ public class RestClientConfig {
         instance.connectionTTL = getConfigValue(configKey, "connection-ttl", Integer.class);
         instance.connectionPoolSize = getConfigValue(configKey, "connection-pool-size", Integer.class);
         instance.maxRedirects = getConfigValue(configKey, "max-redirects", Integer.class);
+        instance.maxWaitQueueSize = getConfigValue(configKey, "max-wait-queue-size", Integer.class);
+        instance.keepAliveEnabled = getConfigValue(configKey, "keep-alive-enabled", Boolean.class);
+        instance.pipeliningLimit = getConfigValue(configKey, "pipelining-limit", Integer.class);
+        instance.http2 = getConfigValue(configKey, "http2", Boolean.class);
+        instance.http2MultiplexingLimit = getConfigValue(configKey, "http2-multiplexing-limit", Integer.class);
+        instance.shared = getConfigValue(configKey, "shared", Boolean.class);
+        instance.requestCoalescing = getConfigValue(configKey, "request-coalescing", Boolean.class);
         instance.headers = getConfigValues(configKey, "headers", String.class, String.class);
 
         return instance;
@@ -220,6 +292,13 @@ public class RestClientConfig {
         instance.connectionTTL = getConfigValue(interfaceClass, "connection-ttl", Integer.class);
         instance.connectionPoolSize = getConfigValue(interfaceClass, "connection-pool-size", Integer.class);
         instance.maxRedirects = getConfigValue(interfaceClass, "max-redirects", Integer.class);
+        instance.maxWaitQueueSize = getConfigValue(interfaceClass, "max-wait-queue-size", Integer.class);
+        instance.keepAliveEnabled = getConfigValue(interfaceClass, "keep-alive-enabled", Boolean.class);
+        instance.pipeliningLimit = getConfigValue(interfaceClass, "pipelining-limit", Integer.class);
+        instance.http2 = getConfigValue(interfaceClass, "http2", Boolean.class);
+        instance.http2MultiplexingLimit = getConfigValue(interfaceClass, "http2-multiplexing-limit", Integer.class);
+        instance.shared = getConfigValue(interfaceClass, "shared", Boolean.class);
+        instance.requestCoalescing = getConfigValue(interfaceClass, "request-coalescing", Boolean.class);
         instance.headers = getConfigValues(interfaceClass, "headers", String.class, String.class);
 
         return instance;
@@ -59,6 +59,20 @@ public class RestClientConfigTest {
         assertThat(config.connectionTTL.get()).isEqualTo(30000);
         assertThat(config.connectionPoolSize).isPresent();
         assertThat(config.connectionPoolSize.get()).isEqualTo(10);
+        assertThat(config.maxWaitQueueSize).isPresent();
+        assertThat(config.maxWaitQueueSize.get()).isEqualTo(50);
+        assertThat(config.keepAliveEnabled).isPresent();
+        assertThat(config.keepAliveEnabled.get()).isEqualTo(false);
+        assertThat(config.pipeliningLimit).isPresent();
+        assertThat(config.pipeliningLimit.get()).isEqualTo(5);
+        assertThat(config.http2).isPresent();
+        assertThat(config.http2.get()).isEqualTo(true);
+        assertThat(config.http2MultiplexingLimit).isPresent();
+        assertThat(config.http2MultiplexingLimit.get()).isEqualTo(100);
+        assertThat(config.shared).isPresent();
+        assertThat(config.shared.get()).isEqualTo(true);
+        assertThat(config.requestCoalescing).isPresent();
+        assertThat(config.requestCoalescing.get()).isEqualTo(true);
     }
 
     private static void setupMPConfig() throws IOException {
@@ -310,6 +310,7 @@ public class ResteasyReactiveProcessor {
     public void setupEndpoints(BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
             BeanContainerBuildItem beanContainerBuildItem,
             ResteasyReactiveConfig config,
+            ResteasyReactiveServerConfig serverConfig,
             Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformerBuildItemBuildProducer,
@@ -394,6 +395,7 @@ public class ResteasyReactiveProcessor {
                     .setInjectableBeans(injectableBeans)
                     .setAdditionalWriters(additionalWriters)
                     .setDefaultBlocking(appResult.getBlockingDefault())
+                    .setRunBlockingOnVirtualThread(serverConfig.runBlockingOnVirtualThread)
                     .setApplicationScanningResult(appResult)
                     .setMultipartParameterIndexerExtension(
                             new GeneratedMultipartParamIndexerExtension(transformationConsumer, classOutput))
@@ -17,4 +17,15 @@ public class ResteasyReactiveServerConfig {
      */
     @ConfigItem
     Optional<String> path;
+
+    /**
+     * Whether blocking resource methods are executed on virtual threads instead of on the worker thread pool.
+     * <p>
+     * Each blocking request then runs on its own virtual thread, so the number of concurrent blocking requests is not
+     * capped by the size of the worker thread pool. This is only effective when the JDK provides virtual threads,
+     * otherwise the worker thread pool is used. Individual methods or classes can opt in using
+     * {@link org.jboss.resteasy.reactive.server.RunOnVirtualThread}.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean runBlockingOnVirtualThread;
 }
@@ -0,0 +1,112 @@
+package io.quarkus.resteasy.reactive.server.test.simple;
+
+import java.util.function.Supplier;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+
+import org.hamcrest.Matchers;
+import org.jboss.resteasy.reactive.server.RunOnVirtualThread;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.runtime.BlockingOperationControl;
+import io.quarkus.runtime.util.VirtualThreadUtil;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.mutiny.Uni;
+
+public class RunOnVirtualThreadTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(VirtualThreadResource.class, VirtualThreadClassResource.class,
+                                    NonBlockingClassResource.class);
+                }
+            });
+
+    @Test
+    public void test() {
+        // on JDKs without virtual threads, the worker pool is used instead
+        String expected = VirtualThreadUtil.getVirtualThreadExecutor() != null ? "virtual" : "worker";
+
+        RestAssured.get("/vthread/string")
+                .then().body(Matchers.is(expected));
+
+        // Uni is non-blocking by default, but the annotation forces a blocking dispatch
+        RestAssured.get("/vthread/uni")
+                .then().body(Matchers.is(expected));
+
+        RestAssured.get("/vthread-class")
+                .then().body(Matchers.is(expected));
+
+        // the annotations of the method take precedence over those of the class
+        RestAssured.get("/vthread-class/non-blocking")
+                .then().body(Matchers.is("event-loop"));
+        RestAssured.get("/non-blocking-class")
+                .then().body(Matchers.is(expected));
+    }
+
+    static String currentThreadKind() {
+        if (VirtualThreadUtil.isVirtual(Thread.currentThread())) {
+            return "virtual";
+        }
+        if (Thread.currentThread().getName().startsWith("executor-thread-")) {
+            return "worker";
+        }
+        return BlockingOperationControl.isBlockingAllowed() ? "other" : "event-loop";
+    }
+
+    @Path("vthread")
+    public static class VirtualThreadResource {
+
+        @RunOnVirtualThread
+        @Path("string")
+        @GET
+        public String string() {
+            return currentThreadKind();
+        }
+
+        @RunOnVirtualThread
+        @Path("uni")
+        @GET
+        public Uni<String> uni() {
+            return Uni.createFrom().item(currentThreadKind());
+        }
+    }
+
+    @RunOnVirtualThread
+    @Path("vthread-class")
+    public static class VirtualThreadClassResource {
+
+        @GET
+        public String get() {
+            return currentThreadKind();
+        }
+
+        @NonBlocking
+        @Path("non-blocking")
+        @GET
+        public String nonBlocking() {
+            return currentThreadKind();
+        }
+    }
+
+    @NonBlocking
+    @Path("non-blocking-class")
+    public static class NonBlockingClassResource {
+
+        @RunOnVirtualThread
+        @GET
+        public String get() {
+            return currentThreadKind();
+        }
+    }
+}
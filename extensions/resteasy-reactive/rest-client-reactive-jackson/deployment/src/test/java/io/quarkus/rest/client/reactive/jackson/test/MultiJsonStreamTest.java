@@ -0,0 +1,199 @@
+package io.quarkus.rest.client.reactive.jackson.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.helpers.test.AssertSubscriber;
+
+public class MultiJsonStreamTest {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest()
+            .withEmptyApplication();
+
+    @TestHTTPResource
+    URI uri;
+
+    @Test
+    void shouldStreamJsonArrayElements() {
+        List<Dto> result = client().array().collect().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(result).containsExactly(new Dto("foo", "bar"), new Dto("chocolate", "bar"));
+    }
+
+    @Test
+    void shouldStreamJsonArrayOfStrings() {
+        List<String> result = client().strings().collect().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(result).containsExactly("foo", "bar \"baz\"");
+    }
+
+    @Test
+    void shouldKeepThePrecisionOfDecimals() {
+        List<BigDecimal> result = client().decimals().collect().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(result).containsExactly(new BigDecimal("10.00"), new BigDecimal("12345678901234567.891"));
+    }
+
+    @Test
+    void shouldStreamNdjsonSplitAcrossChunks() {
+        List<Dto> result = client().ndjson().collect().asList().await().atMost(Duration.ofSeconds(5));
+        assertThat(result).containsExactly(new Dto("foo", "bar"), new Dto("chocolate", "bar"));
+    }
+
+    @Test
+    void shouldHonourBackPressure() throws InterruptedException {
+        JsonStreamResource.PRODUCED.set(0);
+        AssertSubscriber<Dto> subscriber = client().many().subscribe().withSubscriber(AssertSubscriber.create(5));
+        subscriber.awaitItems(5);
+        // let the server write as much as the connection accepts, without the pause it produces everything
+        int produced = waitUntilProductionStops();
+        assertThat(subscriber.getItems()).hasSize(5);
+        // the response is paused, so the server stops producing once the socket buffers are full
+        assertThat(produced).isLessThan(JsonStreamResource.MANY);
+
+        subscriber.request(Long.MAX_VALUE);
+        subscriber.awaitCompletion(Duration.ofSeconds(30));
+        assertThat(subscriber.getItems()).hasSize(JsonStreamResource.MANY);
+        assertThat(subscriber.getItems().get(JsonStreamResource.MANY - 1))
+                .isEqualTo(new Dto("item-" + (JsonStreamResource.MANY - 1), JsonStreamResource.PADDING));
+    }
+
+    private static int waitUntilProductionStops() throws InterruptedException {
+        int previous = -1;
+        int current = JsonStreamResource.PRODUCED.get();
+        long deadline = System.nanoTime() + Duration.ofSeconds(20).toNanos();
+        while (current != previous && System.nanoTime() < deadline) {
+            Thread.sleep(1000);
+            previous = current;
+            current = JsonStreamResource.PRODUCED.get();
+        }
+        return current;
+    }
+
+    private Client client() {
+        return RestClientBuilder.newBuilder().baseUri(uri).build(Client.class);
+    }
+
+    @Path("/json-stream")
+    public interface Client {
+        @GET
+        @Path("/array")
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<Dto> array();
+
+        @GET
+        @Path("/strings")
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<String> strings();
+
+        @GET
+        @Path("/decimals")
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<BigDecimal> decimals();
+
+        @GET
+        @Path("/ndjson")
+        @Produces(NDJSON)
+        Multi<Dto> ndjson();
+
+        @GET
+        @Path("/many")
+        @Produces(MediaType.APPLICATION_JSON)
+        Multi<Dto> many();
+    }
+
+    @Path("/json-stream")
+    public static class JsonStreamResource {
+
+        // far more than the socket buffers can hold: about 50 MB
+        static final int MANY = 50_000;
+        static final String PADDING = "x".repeat(1_000);
+        static final AtomicInteger PRODUCED = new AtomicInteger();
+
+        @GET
+        @Path("/array")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Dto> array() {
+            return Multi.createFrom().items(new Dto("foo", "bar"), new Dto("chocolate", "bar"));
+        }
+
+        @GET
+        @Path("/strings")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> strings() {
+            return Multi.createFrom().items("\"foo\"", "\"bar \\\"baz\\\"\"");
+        }
+
+        @GET
+        @Path("/decimals")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<String> decimals() {
+            return Multi.createFrom().items("10.00", "12345678901234567.891");
+        }
+
+        @GET
+        @Path("/ndjson")
+        @Produces(NDJSON)
+        public Multi<String> ndjson() {
+            // each item is sent as a chunk, splitting the elements
+            return Multi.createFrom().items("{\"name\":\"fo", "o\",\"value\":\"bar\"}\n{\"na",
+                    "me\":\"chocolate\",\"value\":\"bar\"}", "\n");
+        }
+
+        @GET
+        @Path("/many")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Multi<Dto> many() {
+            return Multi.createFrom().range(0, MANY).map(i -> {
+                PRODUCED.incrementAndGet();
+                return new Dto("item-" + i, PADDING);
+            });
+        }
+    }
+
+    public static class Dto {
+        public String name;
+        public String value;
+
+        public Dto(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public Dto() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (o == null || getClass() != o.getClass())
+                return false;
+            Dto dto = (Dto) o;
+            return Objects.equals(name, dto.name) && Objects.equals(value, dto.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, value);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkus.rest.client.reactive.deployment;
 
 import static io.quarkus.arc.processor.MethodDescriptors.MAP_PUT;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAM;
+import static io.quarkus.rest.client.reactive.deployment.DotNames.CLIENT_HEADER_PARAMS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_CLIENT_HEADERS;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_PROVIDER;
 import static io.quarkus.rest.client.reactive.deployment.DotNames.REGISTER_PROVIDERS;
@@ -60,8 +62,11 @@ import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ConfigurationTypeBuildItem;
 import io.quarkus.deployment.builditem.ExtensionSslNativeSupportBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.util.AsmUtil;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.MethodCreator;
@@ -143,6 +148,45 @@ class RestClientReactiveProcessor {
         additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(HeaderContainer.class));
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability, RestClientRecorder restClientRecorder,
+            ShutdownContextBuildItem shutdown, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(restClientRecorder.registerMetrics(shutdown)));
+        }
+    }
+
+    /**
+     * Collects the interfaces whose requests get headers computed for each call, with {@code @ClientHeaderParam} or a
+     * custom {@code ClientHeadersFactory}. These headers are added by a client request filter, after the requests are
+     * compared for coalescing, so coalescing is disabled for these interfaces.
+     */
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    void collectClientsWithComputedHeaders(CombinedIndexBuildItem indexBuildItem, RestClientRecorder restClientRecorder) {
+        IndexView index = indexBuildItem.getIndex();
+        Set<String> interfaces = new HashSet<>();
+        for (DotName annotation : asList(CLIENT_HEADER_PARAM, CLIENT_HEADER_PARAMS)) {
+            for (AnnotationInstance instance : index.getAnnotations(annotation)) {
+                AnnotationTarget target = instance.target();
+                if (target.kind() == AnnotationTarget.Kind.CLASS) {
+                    interfaces.add(target.asClass().name().toString());
+                } else if (target.kind() == AnnotationTarget.Kind.METHOD) {
+                    interfaces.add(target.asMethod().declaringClass().name().toString());
+                }
+            }
+        }
+        for (AnnotationInstance registerClientHeaders : index.getAnnotations(REGISTER_CLIENT_HEADERS)) {
+            AnnotationValue value = registerClientHeaders.value();
+            if (value != null
+                    && !MicroProfileRestClientEnricher.DEFAULT_HEADERS_FACTORY.equals(value.asClass().name().toString())) {
+                interfaces.add(registerClientHeaders.target().asClass().name().toString());
+            }
+        }
+        restClientRecorder.setClientsWithComputedHeaders(interfaces);
+    }
+
     @BuildStep
     UnremovableBeanBuildItem makeConfigUnremovable() {
         return UnremovableBeanBuildItem.beanTypes(RestClientsConfig.class);
@@ -2,6 +2,7 @@ package io.quarkus.rest.client.reactive;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.Closeable;
 import java.net.URI;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -88,6 +89,64 @@ public class ConnectionPoolSizeTest {
         assertThat(System.currentTimeMillis() - start).isLessThan(3000).isGreaterThanOrEqualTo(2000);
     }
 
+    @Test
+    @Timeout(5)
+    void shouldShareConnectionPoolBetweenSharedClients() throws Exception {
+        Client client1 = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 4)
+                .property(QuarkusRestClientProperties.SHARED, true)
+                .build(Client.class);
+        Client client2 = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 4)
+                .property(QuarkusRestClientProperties.SHARED, true)
+                .build(Client.class);
+
+        long start = System.currentTimeMillis();
+        CountDownLatch latch1 = executeCalls(client1, 3);
+        CountDownLatch latch2 = executeCalls(client2, 2);
+        latch1.await();
+        latch2.await();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(3000).isGreaterThanOrEqualTo(2000);
+
+        // the pool stays open as long as one of the clients uses it
+        ((Closeable) client1).close();
+        assertThat(client2.get()).isEqualTo("hello, world!");
+        ((Closeable) client2).close();
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldMultiplexCallsOverHttp2() throws InterruptedException {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.HTTP2, true)
+                .property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 1)
+                .build(Client.class);
+
+        long start = System.currentTimeMillis();
+        CountDownLatch latch = executeCalls(client, 5);
+        latch.await();
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    }
+
+    @Test
+    @Timeout(5)
+    void shouldUseThePoolSizeForHttp2Connections() throws InterruptedException {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.HTTP2, true)
+                .property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 2)
+                .property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 2)
+                .build(Client.class);
+
+        long start = System.currentTimeMillis();
+        CountDownLatch latch = executeCalls(client, 4);
+        latch.await();
+
+        // two streams on each of the two connections, a single connection would queue two of the calls
+        assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+    }
+
     private CountDownLatch executeCalls(Client client, int callAmount) {
         ExecutorService executorService = Executors.newFixedThreadPool(callAmount);
         CountDownLatch latch = new CountDownLatch(callAmount);
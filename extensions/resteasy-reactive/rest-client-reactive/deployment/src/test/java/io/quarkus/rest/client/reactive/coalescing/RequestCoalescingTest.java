@@ -0,0 +1,188 @@
+package io.quarkus.rest.client.reactive.coalescing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.client.ClientRequestContext;
+import javax.ws.rs.client.ClientRequestFilter;
+
+import org.eclipse.microprofile.rest.client.RestClientBuilder;
+import org.eclipse.microprofile.rest.client.annotation.ClientHeaderParam;
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.Vertx;
+
+public class RequestCoalescingTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(
+                    () -> ShrinkWrap.create(JavaArchive.class).addClasses(Client.class, ClientWithHeaderParam.class,
+                            ClientWithFilter.class, UserFilter.class, SlowResource.class));
+
+    @TestHTTPResource
+    URI uri;
+
+    @BeforeEach
+    void reset() {
+        SlowResource.CALLS.set(0);
+    }
+
+    @Test
+    void shouldCoalesceIdenticalRequests() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.REQUEST_COALESCING, true)
+                .build(Client.class);
+
+        List<String> results = join(List.of(client.get("a"), client.get("a"), client.get("a"), client.get("b")));
+
+        assertThat(results.get(0)).startsWith("a-");
+        assertThat(results.subList(0, 3)).containsOnly(results.get(0));
+        assertThat(results.get(3)).startsWith("b-");
+        assertThat(SlowResource.CALLS.get()).isEqualTo(2);
+
+        // the call completed, the next request goes to the server
+        assertThat(client.get("a").await().atMost(Duration.ofSeconds(5))).isEqualTo("a-3");
+    }
+
+    @Test
+    void shouldNotCoalesceByDefault() {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri)
+                .build(Client.class);
+
+        join(List.of(client.get("a"), client.get("a"), client.get("a")));
+
+        assertThat(SlowResource.CALLS.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCoalesceWithComputedHeaders() {
+        ClientWithHeaderParam client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.REQUEST_COALESCING, true)
+                .build(ClientWithHeaderParam.class);
+
+        join(List.of(client.get("a"), client.get("a"), client.get("a")));
+
+        assertThat(SlowResource.CALLS.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCoalesceWithRequestFilters() {
+        ClientWithFilter client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.REQUEST_COALESCING, true)
+                .build(ClientWithFilter.class);
+
+        join(List.of(client.get("a"), client.get("a"), client.get("a")));
+
+        assertThat(SlowResource.CALLS.get()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldNotCoalesceOneShotOrMutableResults() throws IOException {
+        Client client = RestClientBuilder.newBuilder().baseUri(uri)
+                .property(QuarkusRestClientProperties.REQUEST_COALESCING, true)
+                .build(Client.class);
+
+        List<byte[]> bytes = join(List.of(client.bytes("a"), client.bytes("a"), client.bytes("a")));
+        assertThat(bytes.get(0)).isNotSameAs(bytes.get(1));
+        assertThat(SlowResource.CALLS.get()).isEqualTo(3);
+
+        // each caller reads its own stream
+        for (InputStream stream : join(List.of(client.stream("b"), client.stream("b")))) {
+            try (stream) {
+                assertThat(new String(stream.readAllBytes(), StandardCharsets.UTF_8)).startsWith("b-");
+            }
+        }
+        assertThat(SlowResource.CALLS.get()).isEqualTo(5);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> join(List<Uni<T>> unis) {
+        List<T> results = new ArrayList<>();
+        for (Object result : Uni.combine().all().unis(unis).combinedWith(items -> items)
+                .await().atMost(Duration.ofSeconds(5))) {
+            results.add((T) result);
+        }
+        return results;
+    }
+
+    @Path("/slow")
+    public interface Client {
+        @GET
+        Uni<String> get(@QueryParam("key") String key);
+
+        @GET
+        @Path("/bytes")
+        Uni<byte[]> bytes(@QueryParam("key") String key);
+
+        @GET
+        @Path("/bytes")
+        Uni<InputStream> stream(@QueryParam("key") String key);
+    }
+
+    @Path("/slow")
+    @ClientHeaderParam(name = "user", value = "{currentUser}")
+    public interface ClientWithHeaderParam {
+        @GET
+        Uni<String> get(@QueryParam("key") String key);
+
+        default String currentUser() {
+            return "user-" + Thread.currentThread().getId();
+        }
+    }
+
+    @Path("/slow")
+    @RegisterProvider(UserFilter.class)
+    public interface ClientWithFilter {
+        @GET
+        Uni<String> get(@QueryParam("key") String key);
+    }
+
+    public static class UserFilter implements ClientRequestFilter {
+        @Override
+        public void filter(ClientRequestContext requestContext) {
+            requestContext.getHeaders().putSingle("user", "user-" + Thread.currentThread().getId());
+        }
+    }
+
+    @Path("/slow")
+    public static class SlowResource {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @Inject
+        Vertx vertx;
+
+        @GET
+        public Uni<String> get(@QueryParam("key") String key) {
+            int call = CALLS.incrementAndGet();
+            return Uni.createFrom().emitter(emitter -> vertx.setTimer(500, val -> emitter.complete(key + "-" + call)));
+        }
+
+        @GET
+        @Path("/bytes")
+        public Uni<byte[]> bytes(@QueryParam("key") String key) {
+            return get(key).map(value -> value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -20,10 +20,13 @@ import javax.ws.rs.core.Configuration;
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.eclipse.microprofile.rest.client.RestClientDefinitionException;
+import org.eclipse.microprofile.rest.client.ext.DefaultClientHeadersFactoryImpl;
 import org.eclipse.microprofile.rest.client.ext.QueryParamStyle;
 import org.eclipse.microprofile.rest.client.ext.ResponseExceptionMapper;
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.client.api.InvalidRestClientDefinitionException;
 import org.jboss.resteasy.reactive.client.api.LoggingScope;
+import org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties;
 import org.jboss.resteasy.reactive.client.impl.ClientBuilderImpl;
 import org.jboss.resteasy.reactive.client.impl.ClientImpl;
 import org.jboss.resteasy.reactive.client.impl.WebTargetImpl;
@@ -40,6 +43,8 @@ import io.quarkus.restclient.config.RestClientsConfig;
  */
 public class RestClientBuilderImpl implements RestClientBuilder {
 
+    private static final Logger log = Logger.getLogger(RestClientBuilderImpl.class);
+
     private static final String DEFAULT_MAPPER_DISABLED = "microprofile.rest.client.disable.default.mapper";
     private static final String TLS_TRUST_ALL = "quarkus.tls.trust-all";
 
@@ -285,7 +290,19 @@ public class RestClientBuilderImpl implements RestClientBuilder {
 
         clientBuilder.trustAll(trustAll);
 
+        if (Boolean.TRUE.equals(getConfiguration().getProperty(QuarkusRestClientProperties.REQUEST_COALESCING))) {
+            String headersSource = getComputedHeadersSource(aClass);
+            if (headersSource != null) {
+                log.warnf("Request coalescing is disabled for %s: the headers added by %s are not compared", aClass.getName(),
+                        headersSource);
+                clientBuilder.property(QuarkusRestClientProperties.REQUEST_COALESCING, false);
+            }
+        }
+
         ClientImpl client = clientBuilder.build();
+        if (client.getRequestCoalescer() != null) {
+            RestClientMetrics.bind(aClass, client.getRequestCoalescer());
+        }
         WebTargetImpl target = (WebTargetImpl) client.target(uri);
         try {
             return target.proxy(aClass);
@@ -294,6 +311,26 @@ public class RestClientBuilderImpl implements RestClientBuilder {
         }
     }
 
+    /**
+     * Requests are compared for coalescing before the client request filters run, so the headers computed by these
+     * filters for each call, e.g. an {@code Authorization} header, would be shared by different callers.
+     *
+     * @return what adds headers to each request of the client, or {@code null} if its headers are known beforehand
+     */
+    private String getComputedHeadersSource(Class<?> aClass) {
+        if (RestClientRecorder.getClientsWithComputedHeaders().contains(aClass.getName())) {
+            return "@ClientHeaderParam or @RegisterClientHeaders";
+        }
+        if (!((ConfigurationImpl) getConfiguration()).getRequestFilters().isEmpty()) {
+            return "the client request filters";
+        }
+        if (ConfigProvider.getConfig().getOptionalValue(DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY, String.class)
+                .isPresent()) {
+            return "the header propagation (" + DefaultClientHeadersFactoryImpl.PROPAGATE_PROPERTY + ")";
+        }
+        return null;
+    }
+
     private MultiQueryParamMode toMultiQueryParamMode(QueryParamStyle queryParamStyle) {
         if (queryParamStyle == null) {
             return null;
@@ -94,6 +94,46 @@ public class RestClientCDIDelegateBuilder<T> {
             builder.property(QuarkusRestClientProperties.CONNECTION_TTL, connectionTTLSeconds);
         }
 
+        Optional<Integer> maxWaitQueueSize = oneOf(clientConfigByClassName().maxWaitQueueSize,
+                clientConfigByConfigKey().maxWaitQueueSize);
+        if (maxWaitQueueSize.isPresent()) {
+            builder.property(QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE, maxWaitQueueSize.get());
+        }
+
+        Optional<Boolean> keepAliveEnabled = oneOf(clientConfigByClassName().keepAliveEnabled,
+                clientConfigByConfigKey().keepAliveEnabled);
+        if (keepAliveEnabled.isPresent()) {
+            builder.property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, keepAliveEnabled.get());
+        }
+
+        Optional<Integer> pipeliningLimit = oneOf(clientConfigByClassName().pipeliningLimit,
+                clientConfigByConfigKey().pipeliningLimit);
+        if (pipeliningLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.PIPELINING_LIMIT, pipeliningLimit.get());
+        }
+
+        Optional<Boolean> http2 = oneOf(clientConfigByClassName().http2, clientConfigByConfigKey().http2);
+        if (http2.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2, http2.get());
+        }
+
+        Optional<Integer> http2MultiplexingLimit = oneOf(clientConfigByClassName().http2MultiplexingLimit,
+                clientConfigByConfigKey().http2MultiplexingLimit);
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.get());
+        }
+
+        Optional<Boolean> shared = oneOf(clientConfigByClassName().shared, clientConfigByConfigKey().shared);
+        if (shared.isPresent()) {
+            builder.property(QuarkusRestClientProperties.SHARED, shared.get());
+        }
+
+        Optional<Boolean> requestCoalescing = oneOf(clientConfigByClassName().requestCoalescing,
+                clientConfigByConfigKey().requestCoalescing);
+        if (requestCoalescing.isPresent()) {
+            builder.property(QuarkusRestClientProperties.REQUEST_COALESCING, requestCoalescing.get());
+        }
+
         Map<String, String> headers = clientConfigByClassName().headers;
         if (headers.isEmpty()) {
             headers = clientConfigByConfigKey().headers;
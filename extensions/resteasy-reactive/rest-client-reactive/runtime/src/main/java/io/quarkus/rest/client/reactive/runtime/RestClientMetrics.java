@@ -0,0 +1,55 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.jboss.resteasy.reactive.client.impl.RequestCoalescer;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+/**
+ * Reports the number of coalesced requests of the REST clients, per client interface, when a metrics extension is
+ * present.
+ * <p>
+ * All the clients created for an interface report to the same {@code rest.client.requests.coalesced} counter.
+ */
+public final class RestClientMetrics {
+
+    static final String COALESCED_REQUESTS = "rest.client.requests.coalesced";
+
+    private static volatile MetricsFactory metricsFactory;
+    private static final Map<String, LongAdder> coalescedCounters = new ConcurrentHashMap<>();
+
+    private RestClientMetrics() {
+    }
+
+    static void init(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    static void reset() {
+        metricsFactory = null;
+        coalescedCounters.clear();
+    }
+
+    static void bind(Class<?> clientInterface, RequestCoalescer coalescer) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        coalescer.setCoalescedCounter(coalescedCounters.computeIfAbsent(clientInterface.getName(),
+                new Function<String, LongAdder>() {
+                    @Override
+                    public LongAdder apply(String client) {
+                        LongAdder counter = new LongAdder();
+                        factory.builder(COALESCED_REQUESTS)
+                                .description("Number of requests served by an identical in-flight request")
+                                .tag("client", client)
+                                .buildCounter(counter, LongAdder::sum);
+                        return counter;
+                    }
+                }));
+    }
+}
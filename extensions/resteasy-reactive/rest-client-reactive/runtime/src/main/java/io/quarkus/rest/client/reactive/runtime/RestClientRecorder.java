@@ -1,14 +1,19 @@
 package io.quarkus.rest.client.reactive.runtime;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import org.eclipse.microprofile.rest.client.spi.RestClientBuilderResolver;
 
+import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class RestClientRecorder {
     private static volatile Map<String, String> configKeys;
+    private static volatile Set<String> clientsWithComputedHeaders = Set.of();
 
     public void setConfigKeys(Map<String, String> configKeys) {
         RestClientRecorder.configKeys = configKeys;
@@ -18,7 +23,29 @@ public class RestClientRecorder {
         return configKeys;
     }
 
+    public void setClientsWithComputedHeaders(Set<String> clientsWithComputedHeaders) {
+        RestClientRecorder.clientsWithComputedHeaders = clientsWithComputedHeaders;
+    }
+
+    /**
+     * @return the names of the client interfaces using {@code @ClientHeaderParam} or a custom
+     *         {@code ClientHeadersFactory}
+     */
+    public static Set<String> getClientsWithComputedHeaders() {
+        return clientsWithComputedHeaders;
+    }
+
     public void setRestClientBuilderResolver() {
         RestClientBuilderResolver.setInstance(new BuilderResolver());
     }
+
+    public Consumer<MetricsFactory> registerMetrics(ShutdownContext shutdown) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                RestClientMetrics.init(metricsFactory);
+                shutdown.addShutdownTask(RestClientMetrics::reset);
+            }
+        };
+    }
 }
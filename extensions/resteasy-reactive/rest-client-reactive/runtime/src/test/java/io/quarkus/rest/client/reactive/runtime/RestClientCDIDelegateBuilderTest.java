@@ -92,6 +92,13 @@ public class RestClientCDIDelegateBuilderTest {
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_TTL, 30); // value in seconds
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.CONNECTION_POOL_SIZE, 103);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_REDIRECTS, 104);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE, 105);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.KEEP_ALIVE_ENABLED, false);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.PIPELINING_LIMIT, 106);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, 107);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.SHARED, true);
+        Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.REQUEST_COALESCING, true);
         Mockito.verify(restClientBuilderMock).property(QuarkusRestClientProperties.MULTIPART_ENCODER_MODE,
                 HttpPostRequestEncoder.EncoderMode.HTML5);
     }
@@ -119,6 +126,13 @@ public class RestClientCDIDelegateBuilderTest {
         clientConfig.connectionTTL = Optional.of(30000); // value in milliseconds
         clientConfig.connectionPoolSize = Optional.of(103);
         clientConfig.maxRedirects = Optional.of(104);
+        clientConfig.maxWaitQueueSize = Optional.of(105);
+        clientConfig.keepAliveEnabled = Optional.of(false);
+        clientConfig.pipeliningLimit = Optional.of(106);
+        clientConfig.http2 = Optional.of(true);
+        clientConfig.http2MultiplexingLimit = Optional.of(107);
+        clientConfig.shared = Optional.of(true);
+        clientConfig.requestCoalescing = Optional.of(true);
         clientConfig.headers = Collections.emptyMap();
 
         RestClientsConfig configRoot = new RestClientsConfig();
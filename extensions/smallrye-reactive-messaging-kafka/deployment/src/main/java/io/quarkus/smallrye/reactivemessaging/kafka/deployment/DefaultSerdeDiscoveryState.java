@@ -22,6 +22,7 @@ import io.smallrye.reactive.messaging.kafka.KafkaConnector;
 
 class DefaultSerdeDiscoveryState {
     private final IndexView index;
+    private final boolean streamingSerdeGeneration;
 
     private final Map<String, Boolean> isKafkaConnector = new HashMap<>();
     private final Set<String> alreadyConfigured = new HashSet<>();
@@ -32,7 +33,12 @@ class DefaultSerdeDiscoveryState {
     private Boolean hasJsonb;
 
     DefaultSerdeDiscoveryState(IndexView index) {
+        this(index, false);
+    }
+
+    DefaultSerdeDiscoveryState(IndexView index, boolean streamingSerdeGeneration) {
         this.index = index;
+        this.streamingSerdeGeneration = streamingSerdeGeneration;
     }
 
     boolean isKafkaConnector(List<ConnectorManagedChannelBuildItem> channelsManagedByConnectors, boolean incoming,
@@ -67,6 +73,18 @@ class DefaultSerdeDiscoveryState {
         return clazz != null && clazz.classAnnotation(DotNames.AVRO_GENERATED) != null;
     }
 
+    /**
+     * @return the class of the given type if a streaming serializer/deserializer can be generated for it, {@code null}
+     *         otherwise
+     */
+    ClassInfo getStreamingSerdeClass(Type type) {
+        if (!streamingSerdeGeneration) {
+            return null;
+        }
+        ClassInfo clazz = index.getClassByName(type.name());
+        return clazz != null && JacksonSerdeGenerator.isStreamingSupported(clazz) ? clazz : null;
+    }
+
     boolean hasConfluent() {
         if (hasConfluent == null) {
             try {
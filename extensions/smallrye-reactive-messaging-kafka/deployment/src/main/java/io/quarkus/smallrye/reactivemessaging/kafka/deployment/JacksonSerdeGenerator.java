@@ -1,22 +1,62 @@
 package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
 
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.kafka.client.serialization.JsonStreamingDeserializer;
+import io.quarkus.kafka.client.serialization.JsonStreamingSerializer;
 import io.quarkus.kafka.client.serialization.ObjectMapperDeserializer;
 import io.quarkus.kafka.client.serialization.ObjectMapperSerializer;
 import io.quarkus.runtime.util.HashUtil;
 
 public class JacksonSerdeGenerator {
 
+    private static final String JACKSON_PACKAGE = "com.fasterxml.jackson.";
+
+    /**
+     * The field types supported by the streaming serializers.
+     */
+    private static final Map<DotName, StreamingField> STREAMING_FIELDS = indexByType(
+            new StreamingField(String.class, String.class, "readString"),
+            new StreamingField(int.class, int.class, "readInt"),
+            new StreamingField(long.class, long.class, "readLong"),
+            new StreamingField(short.class, int.class, "readShort"),
+            new StreamingField(byte.class, int.class, "readByte"),
+            new StreamingField(float.class, float.class, "readFloat"),
+            new StreamingField(double.class, double.class, "readDouble"),
+            new StreamingField(boolean.class, boolean.class, "readBoolean"),
+            new StreamingField(Integer.class, Number.class, "readIntegerObject"),
+            new StreamingField(Long.class, Number.class, "readLongObject"),
+            new StreamingField(Short.class, Number.class, "readShortObject"),
+            new StreamingField(Byte.class, Number.class, "readByteObject"),
+            new StreamingField(Float.class, Number.class, "readFloatObject"),
+            new StreamingField(Double.class, Number.class, "readDoubleObject"),
+            new StreamingField(Boolean.class, Boolean.class, "readBooleanObject"));
+
     private JacksonSerdeGenerator() {
         // Avoid direct instantiation
     }
@@ -51,4 +91,159 @@ public class JacksonSerdeGenerator {
         creator.close();
         return type.name().packagePrefix() + "." + out;
     }
+
+    /**
+     * Checks whether the serializer and deserializer of the given class can be generated with the Jackson streaming API.
+     * <p>
+     * This is the case of the public classes with a public no-args constructor and only exposing public fields of
+     * primitive, boxed primitive or {@code String} types, without Jackson annotations. Getters and setters are not
+     * supported as they could transform the values.
+     */
+    public static boolean isStreamingSupported(ClassInfo clazz) {
+        if (!Modifier.isPublic(clazz.flags()) || Modifier.isAbstract(clazz.flags())
+                || Modifier.isInterface(clazz.flags()) || !DotNames.OBJECT.equals(clazz.superName())
+                || (clazz.nestingType() != ClassInfo.NestingType.TOP_LEVEL && !Modifier.isStatic(clazz.flags()))) {
+            return false;
+        }
+        MethodInfo constructor = clazz.method("<init>");
+        if (constructor == null || !Modifier.isPublic(constructor.flags())) {
+            return false;
+        }
+        for (DotName annotation : clazz.annotations().keySet()) {
+            if (annotation.toString().startsWith(JACKSON_PACKAGE)) {
+                return false;
+            }
+        }
+        for (MethodInfo method : clazz.methods()) {
+            if (Modifier.isPublic(method.flags()) && !Modifier.isStatic(method.flags()) && isAccessor(method)) {
+                return false;
+            }
+        }
+        List<FieldInfo> fields = streamingFields(clazz);
+        if (fields.isEmpty()) {
+            return false;
+        }
+        for (FieldInfo field : fields) {
+            if (!Modifier.isPublic(field.flags()) || Modifier.isFinal(field.flags())
+                    || Modifier.isTransient(field.flags()) || !STREAMING_FIELDS.containsKey(field.type().name())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAccessor(MethodInfo method) {
+        String name = method.name();
+        if (method.parameters().isEmpty()) {
+            return name.startsWith("get") || name.startsWith("is");
+        }
+        return method.parameters().size() == 1 && name.startsWith("set");
+    }
+
+    private static List<FieldInfo> streamingFields(ClassInfo clazz) {
+        List<FieldInfo> fields = new ArrayList<>();
+        // keep the declaration order, as the ObjectMapper does
+        for (FieldInfo field : clazz.unsortedFields()) {
+            if (!Modifier.isStatic(field.flags()) && !field.isSynthetic()) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    public static String generateStreamingSerializer(BuildProducer<GeneratedClassBuildItem> generatedClass,
+            ClassInfo clazz) {
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        String baseName = clazz.name().withoutPackagePrefix();
+        String targetPackage = io.quarkus.arc.processor.DotNames
+                .internalPackageNameWithTrailingSlash(clazz.name());
+        String out = baseName + "_Serializer_" + HashUtil.sha1(UUID.randomUUID().toString());
+        String generatedName = targetPackage + out;
+        ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .superClass(JsonStreamingSerializer.class).build();
+
+        MethodCreator write = creator.getMethodCreator("writeFields", void.class, JsonGenerator.class, Object.class);
+        write.setModifiers(Modifier.PROTECTED);
+        write.addException(IOException.class);
+        ResultHandle generator = write.getMethodParam(0);
+        ResultHandle value = write.checkCast(write.getMethodParam(1), clazz.name().toString());
+        for (FieldInfo field : streamingFields(clazz)) {
+            StreamingField type = STREAMING_FIELDS.get(field.type().name());
+            ResultHandle fieldValue = write.readInstanceField(FieldDescriptor.of(field), value);
+            write.invokeStaticMethod(MethodDescriptor.ofMethod(JsonStreamingSerializer.class, "writeField", void.class,
+                    JsonGenerator.class, String.class, type.writeType), generator, write.load(field.name()), fieldValue);
+        }
+        write.returnValue(null);
+        write.close();
+
+        creator.close();
+        return clazz.name().packagePrefix() + "." + out;
+    }
+
+    public static String generateStreamingDeserializer(BuildProducer<GeneratedClassBuildItem> generatedClass,
+            ClassInfo clazz) {
+        ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
+        String baseName = clazz.name().withoutPackagePrefix();
+        String targetPackage = io.quarkus.arc.processor.DotNames
+                .internalPackageNameWithTrailingSlash(clazz.name());
+        String out = baseName + "_Deserializer_" + HashUtil.sha1(Long.toString(UUID.randomUUID().getMostSignificantBits()));
+        String generatedName = targetPackage + out;
+        ClassCreator creator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
+                .superClass(JsonStreamingDeserializer.class).build();
+
+        MethodCreator create = creator.getMethodCreator("create", Object.class);
+        create.setModifiers(Modifier.PROTECTED);
+        create.returnValue(create.newInstance(MethodDescriptor.ofConstructor(clazz.name().toString())));
+        create.close();
+
+        MethodCreator read = creator.getMethodCreator("readField", boolean.class, JsonParser.class, Object.class,
+                String.class);
+        read.setModifiers(Modifier.PROTECTED);
+        read.addException(IOException.class);
+        ResultHandle parser = read.getMethodParam(0);
+        ResultHandle value = read.checkCast(read.getMethodParam(1), clazz.name().toString());
+        ResultHandle name = read.getMethodParam(2);
+        for (FieldInfo field : streamingFields(clazz)) {
+            StreamingField type = STREAMING_FIELDS.get(field.type().name());
+            BytecodeCreator matches = read.ifTrue(read.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(Object.class, "equals", boolean.class, Object.class),
+                    read.load(field.name()), name)).trueBranch();
+            ResultHandle fieldValue = matches.invokeStaticMethod(MethodDescriptor.ofMethod(JsonStreamingDeserializer.class,
+                    type.readMethod, type.type, JsonParser.class), parser);
+            matches.writeInstanceField(FieldDescriptor.of(field), value, fieldValue);
+            matches.returnValue(matches.load(true));
+        }
+        read.returnValue(read.load(false));
+        read.close();
+
+        creator.close();
+        return clazz.name().packagePrefix() + "." + out;
+    }
+
+    private static Map<DotName, StreamingField> indexByType(StreamingField... fields) {
+        Map<DotName, StreamingField> map = new HashMap<>();
+        for (StreamingField field : fields) {
+            map.put(DotName.createSimple(field.type.getName()), field);
+        }
+        return map;
+    }
+
+    private static final class StreamingField {
+
+        /**
+         * The type of the field, also returned by the {@code JsonStreamingDeserializer} read method.
+         */
+        final Class<?> type;
+        /**
+         * The parameter type of the {@code JsonStreamingSerializer.writeField} method.
+         */
+        final Class<?> writeType;
+        final String readMethod;
+
+        StreamingField(Class<?> type, Class<?> writeType, String readMethod) {
+            this.type = type;
+            this.writeType = writeType;
+            this.readMethod = readMethod;
+        }
+    }
 }
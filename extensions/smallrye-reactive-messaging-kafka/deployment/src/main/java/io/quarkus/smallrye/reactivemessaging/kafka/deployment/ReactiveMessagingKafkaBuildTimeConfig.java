@@ -18,4 +18,15 @@ public class ReactiveMessagingKafkaBuildTimeConfig {
      */
     @ConfigItem(name = "serializer-generation.enabled", defaultValue = "true")
     public boolean serializerGenerationEnabled;
+
+    /**
+     * Whether or not the generated serializers/deserializers read and write JSON with the Jackson streaming API instead
+     * of the {@code ObjectMapper}.
+     * <p>
+     * It applies to the public classes only exposing public fields of primitive, boxed primitive or {@code String}
+     * types. These serializers/deserializers do not use reflection, but ignore the configuration of the
+     * {@code ObjectMapper}. The other classes use a Jackson-based serde.
+     */
+    @ConfigItem(name = "serializer-generation.streaming", defaultValue = "false")
+    public boolean serializerGenerationStreaming;
 }
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -19,19 +20,27 @@ import org.jboss.jandex.MethodParameterInfo;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
+import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.smallrye.reactivemessaging.deployment.items.ConnectorManagedChannelBuildItem;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaBatchMetricsDecorator;
+import io.quarkus.smallrye.reactivemessaging.kafka.KafkaMetricsRecorder;
 import io.quarkus.smallrye.reactivemessaging.kafka.ReactiveMessagingKafkaConfig;
 import io.smallrye.mutiny.tuples.Functions.TriConsumer;
 import io.vertx.kafka.client.consumer.impl.KafkaReadStreamImpl;
@@ -67,6 +76,23 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
         }
     }
 
+    @BuildStep
+    void batchMetricsDecorator(Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
+        if (metricsCapability.isPresent()) {
+            additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(KafkaBatchMetricsDecorator.class));
+        }
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void batchMetrics(Optional<MetricsCapabilityBuildItem> metricsCapability, KafkaMetricsRecorder recorder,
+            ShutdownContextBuildItem shutdown, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (metricsCapability.isPresent()) {
+            metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerBatchMetrics(shutdown)));
+        }
+    }
+
     /**
      * Handles the serializer/deserializer detection and whether the graceful shutdown should be used in dev mode.
      */
@@ -81,7 +107,8 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
             BuildProducer<GeneratedClassBuildItem> generatedClass,
             BuildProducer<ReflectiveClassBuildItem> reflection) {
 
-        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex());
+        DefaultSerdeDiscoveryState discoveryState = new DefaultSerdeDiscoveryState(combinedIndex.getIndex(),
+                buildTimeConfig.serializerGenerationStreaming);
         if (buildTimeConfig.serializerAutodetectionEnabled) {
             discoverDefaultSerdeConfig(discoveryState, channelsManagedByConnectors, defaultConfigProducer,
                     buildTimeConfig.serializerGenerationEnabled ? generatedClass : null, reflection);
@@ -617,8 +644,14 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
             // Check if already generated
             String clazz = alreadyGeneratedSerializers.get(type.toString());
             if (clazz == null) {
-                clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
-                LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
+                ClassInfo streamingClass = discovery.getStreamingSerdeClass(type);
+                if (streamingClass != null) {
+                    clazz = JacksonSerdeGenerator.generateStreamingDeserializer(generatedClass, streamingClass);
+                    LOGGER.infof("Generating streaming JSON deserializer for type %s", type.name().toString());
+                } else {
+                    clazz = JacksonSerdeGenerator.generateDeserializer(generatedClass, type);
+                    LOGGER.infof("Generating Jackson deserializer for type %s", type.name().toString());
+                }
                 result = Result.of(clazz);
                 // Deserializers are access by reflection.
                 reflection.produce(new ReflectiveClassBuildItem(true, true, false, clazz));
@@ -639,8 +672,14 @@ public class SmallRyeReactiveMessagingKafkaProcessor {
             // Check if already generated
             String clazz = alreadyGeneratedSerializers.get(type.toString());
             if (clazz == null) {
-                clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
-                LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
+                ClassInfo streamingClass = discovery.getStreamingSerdeClass(type);
+                if (streamingClass != null) {
+                    clazz = JacksonSerdeGenerator.generateStreamingSerializer(generatedClass, streamingClass);
+                    LOGGER.infof("Generating streaming JSON serializer for type %s", type.name().toString());
+                } else {
+                    clazz = JacksonSerdeGenerator.generateSerializer(generatedClass, type);
+                    LOGGER.infof("Generating Jackson serializer for type %s", type.name().toString());
+                }
                 result = Result.of(clazz);
                 // Serializers are access by reflection.
                 reflection.produce(new ReflectiveClassBuildItem(true, true, false, clazz));
@@ -0,0 +1,154 @@
+package io.quarkus.smallrye.reactivemessaging.kafka.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Indexer;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
+
+public class JsonStreamingSerdeGeneratorTest {
+
+    @Test
+    public void supportedClasses() {
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(Fruit.class))).isTrue();
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(WithGetter.class))).isFalse();
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(WithAnnotation.class))).isFalse();
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(WithPrivateField.class))).isFalse();
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(WithList.class))).isFalse();
+        assertThat(JacksonSerdeGenerator.isStreamingSupported(classInfo(WithConstructor.class))).isFalse();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void roundTrip() throws Exception {
+        List<GeneratedClassBuildItem> generated = new ArrayList<>();
+        String serializerName = JacksonSerdeGenerator.generateStreamingSerializer(generated::add, classInfo(Fruit.class));
+        String deserializerName = JacksonSerdeGenerator.generateStreamingDeserializer(generated::add,
+                classInfo(Fruit.class));
+        GeneratedClassLoader loader = new GeneratedClassLoader(generated);
+        Serializer<Fruit> serializer = (Serializer<Fruit>) loader.loadClass(serializerName).getConstructor()
+                .newInstance();
+        Deserializer<Fruit> deserializer = (Deserializer<Fruit>) loader.loadClass(deserializerName).getConstructor()
+                .newInstance();
+
+        Fruit fruit = new Fruit();
+        fruit.name = "apple \"golden\"";
+        fruit.price = 1.5;
+        fruit.quantity = 3;
+        fruit.stock = 42L;
+        fruit.organic = true;
+        fruit.origin = null;
+        fruit.rating = (short) 4;
+
+        ObjectMapper mapper = new ObjectMapper();
+        byte[] bytes = serializer.serialize("topic", fruit);
+        assertThat(new String(bytes, StandardCharsets.UTF_8)).isEqualTo(mapper.writeValueAsString(fruit));
+        assertThat(new String(serializer.serialize("topic", null), StandardCharsets.UTF_8)).isEqualTo("null");
+
+        Fruit read = deserializer.deserialize("topic", bytes);
+        assertThat(read).usingRecursiveComparison().isEqualTo(fruit);
+
+        read = deserializer.deserialize("topic",
+                "{\"unknown\":{\"a\":[1,2]},\"name\":\"pear\",\"quantity\":7,\"stock\":null}"
+                        .getBytes(StandardCharsets.UTF_8));
+        assertThat(read.name).isEqualTo("pear");
+        assertThat(read.quantity).isEqualTo(7);
+        assertThat(read.stock).isNull();
+        assertThat(deserializer.deserialize("topic", "null".getBytes(StandardCharsets.UTF_8))).isNull();
+        assertThat(deserializer.deserialize("topic", null)).isNull();
+
+        // no coercion, as with the ObjectMapper
+        for (String invalid : List.of("{\"quantity\":\"7\"}", "{\"quantity\":\"abc\"}", "{\"quantity\":1.5}",
+                "{\"organic\":\"yes\"}", "{\"rating\":70000}", "{\"price\":\"1.5\"}")) {
+            assertThatThrownBy(() -> deserializer.deserialize("topic", invalid.getBytes(StandardCharsets.UTF_8)))
+                    .as(invalid)
+                    .isInstanceOf(RuntimeException.class);
+        }
+    }
+
+    private static ClassInfo classInfo(Class<?> clazz) {
+        Indexer indexer = new Indexer();
+        try (InputStream stream = JsonStreamingSerdeGeneratorTest.class.getClassLoader()
+                .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+            indexer.index(stream);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return indexer.complete().getClassByName(DotName.createSimple(clazz.getName()));
+    }
+
+    static class GeneratedClassLoader extends ClassLoader {
+
+        private final List<GeneratedClassBuildItem> generated;
+
+        GeneratedClassLoader(List<GeneratedClassBuildItem> generated) {
+            super(JsonStreamingSerdeGeneratorTest.class.getClassLoader());
+            this.generated = generated;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            for (GeneratedClassBuildItem item : generated) {
+                if (item.getName().replace('/', '.').equals(name)) {
+                    return defineClass(name, item.getClassData(), 0, item.getClassData().length);
+                }
+            }
+            throw new ClassNotFoundException(name);
+        }
+    }
+
+    public static class Fruit {
+        public String name;
+        public double price;
+        public int quantity;
+        public Long stock;
+        public boolean organic;
+        public String origin;
+        public short rating;
+    }
+
+    public static class WithGetter {
+        public String name;
+
+        public String getName() {
+            return name.toUpperCase();
+        }
+    }
+
+    public static class WithAnnotation {
+        @JsonProperty("n")
+        public String name;
+    }
+
+    public static class WithPrivateField {
+        public String name;
+        private int count;
+    }
+
+    public static class WithList {
+        public List<String> names;
+    }
+
+    public static class WithConstructor {
+        public String name;
+
+        public WithConstructor(String name) {
+            this.name = name;
+        }
+    }
+}
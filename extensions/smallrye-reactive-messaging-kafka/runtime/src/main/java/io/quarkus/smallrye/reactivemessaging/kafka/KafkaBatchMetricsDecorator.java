@@ -0,0 +1,86 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.reactive.messaging.Message;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+import io.smallrye.reactive.messaging.providers.PublisherDecorator;
+
+/**
+ * Records the number of records received by the batch channels, and the lag of the batches.
+ * <p>
+ * The per-message metrics of Reactive Messaging count a batch as a single message. The offset lag is reported by the
+ * Kafka consumer metrics.
+ */
+@ApplicationScoped
+public class KafkaBatchMetricsDecorator implements PublisherDecorator {
+
+    private static volatile MetricsFactory metricsFactory;
+
+    private final Map<String, ChannelMetrics> channels = new ConcurrentHashMap<>();
+
+    static void init(MetricsFactory factory) {
+        metricsFactory = factory;
+    }
+
+    static void reset() {
+        metricsFactory = null;
+    }
+
+    @Override
+    public Multi<? extends Message<?>> decorate(Multi<? extends Message<?>> publisher, String channelName) {
+        return publisher.invoke(message -> {
+            if (message instanceof KafkaRecordBatch) {
+                record(channelName, (KafkaRecordBatch<?, ?>) message);
+            }
+        });
+    }
+
+    private void record(String channel, KafkaRecordBatch<?, ?> batch) {
+        MetricsFactory factory = metricsFactory;
+        if (factory == null) {
+            return;
+        }
+        ChannelMetrics metrics = channels.computeIfAbsent(channel, c -> new ChannelMetrics(factory, c));
+        long oldest = Long.MAX_VALUE;
+        int count = 0;
+        for (KafkaRecord<?, ?> record : batch) {
+            count++;
+            Instant timestamp = record.getTimestamp();
+            if (timestamp != null) {
+                oldest = Math.min(oldest, timestamp.toEpochMilli());
+            }
+        }
+        metrics.records.add(count);
+        if (oldest != Long.MAX_VALUE) {
+            metrics.lag.update(Math.max(0, System.currentTimeMillis() - oldest), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static class ChannelMetrics {
+
+        final LongAdder records = new LongAdder();
+        final MetricsFactory.TimeRecorder lag;
+
+        ChannelMetrics(MetricsFactory factory, String channel) {
+            factory.builder("kafka.batch.records")
+                    .description("Number of records received in batches by the channel")
+                    .tag("channel", channel)
+                    .buildCounter(records::sum);
+            lag = factory.builder("kafka.batch.lag")
+                    .description("Time between the production of the oldest record of a batch and its reception")
+                    .tag("channel", channel)
+                    .buildTimer();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import java.util.function.Consumer;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+
+@Recorder
+public class KafkaMetricsRecorder {
+
+    public Consumer<MetricsFactory> registerBatchMetrics(ShutdownContext shutdown) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                KafkaBatchMetricsDecorator.init(metricsFactory);
+                shutdown.addShutdownTask(KafkaBatchMetricsDecorator::reset);
+            }
+        };
+    }
+}
@@ -0,0 +1,220 @@
+package io.quarkus.smallrye.reactivemessaging.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.apache.kafka.common.TopicPartition;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.reactive.messaging.kafka.KafkaRecord;
+import io.smallrye.reactive.messaging.kafka.KafkaRecordBatch;
+
+class KafkaBatchMetricsDecoratorTest {
+
+    private final TestMetricsFactory metricsFactory = new TestMetricsFactory();
+
+    @BeforeEach
+    void init() {
+        KafkaBatchMetricsDecorator.init(metricsFactory);
+    }
+
+    @AfterEach
+    void reset() {
+        KafkaBatchMetricsDecorator.reset();
+    }
+
+    @Test
+    void shouldRecordTheRecordsAndTheLagOfTheBatches() {
+        Instant now = Instant.now();
+        KafkaBatchMetricsDecorator decorator = new KafkaBatchMetricsDecorator();
+
+        List<Message<?>> received = decorate(decorator, "prices",
+                batch(record(now.minusSeconds(10)), record(now.minusSeconds(5)), record(now)),
+                Message.of("not a batch"),
+                batch(record(now.minusSeconds(2))));
+
+        assertThat(received).hasSize(3);
+        assertThat(metricsFactory.counters.get("kafka.batch.records{channel=prices}").get()).isEqualTo(4L);
+        List<Long> lags = metricsFactory.timers.get("kafka.batch.lag{channel=prices}");
+        assertThat(lags).hasSize(2);
+        // the lag of a batch is the one of its oldest record
+        assertThat(lags.get(0)).isBetween(TimeUnit.SECONDS.toMillis(10), TimeUnit.SECONDS.toMillis(60));
+        assertThat(lags.get(1)).isBetween(TimeUnit.SECONDS.toMillis(2), TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    void shouldRecordEachChannelSeparately() {
+        KafkaBatchMetricsDecorator decorator = new KafkaBatchMetricsDecorator();
+
+        decorate(decorator, "a", batch(record(null), record(null)));
+        decorate(decorator, "b", batch(record(null)));
+
+        assertThat(metricsFactory.counters.get("kafka.batch.records{channel=a}").get()).isEqualTo(2L);
+        assertThat(metricsFactory.counters.get("kafka.batch.records{channel=b}").get()).isEqualTo(1L);
+        // no timestamp, no lag
+        assertThat(metricsFactory.timers.get("kafka.batch.lag{channel=a}")).isEmpty();
+    }
+
+    @Test
+    void shouldNotRecordWithoutMetrics() {
+        KafkaBatchMetricsDecorator.reset();
+        KafkaBatchMetricsDecorator decorator = new KafkaBatchMetricsDecorator();
+
+        List<Message<?>> received = decorate(decorator, "prices", batch(record(Instant.now())));
+
+        assertThat(received).hasSize(1);
+        assertThat(metricsFactory.counters).isEmpty();
+    }
+
+    private static List<Message<?>> decorate(KafkaBatchMetricsDecorator decorator, String channel,
+            Message<?>... messages) {
+        return decorator.decorate(Multi.createFrom().items(messages), channel)
+                .collect().asList()
+                .await().indefinitely()
+                .stream().map(m -> (Message<?>) m).collect(Collectors.toList());
+    }
+
+    private static KafkaRecord<String, String> record(Instant timestamp) {
+        return KafkaRecord.of("prices", "key", "value", timestamp, 0);
+    }
+
+    @SafeVarargs
+    private static KafkaRecordBatch<String, String> batch(KafkaRecord<String, String>... records) {
+        return new TestRecordBatch(List.of(records));
+    }
+
+    private static class TestRecordBatch implements KafkaRecordBatch<String, String> {
+
+        private final List<KafkaRecord<String, String>> records;
+
+        TestRecordBatch(List<KafkaRecord<String, String>> records) {
+            this.records = records;
+        }
+
+        @Override
+        public List<KafkaRecord<String, String>> getRecords() {
+            return records;
+        }
+
+        @Override
+        public Map<TopicPartition, KafkaRecord<String, String>> getLatestOffsetRecords() {
+            return Map.of();
+        }
+
+        @Override
+        public List<String> getPayload() {
+            return records.stream().map(KafkaRecord::getPayload).collect(Collectors.toList());
+        }
+
+        @Override
+        public Iterator<KafkaRecord<String, String>> iterator() {
+            return records.iterator();
+        }
+    }
+
+    /**
+     * Keeps the counters and the timers by name and tags, e.g. {@code kafka.batch.lag{channel=prices}}.
+     */
+    private static class TestMetricsFactory implements MetricsFactory {
+
+        final Map<String, Supplier<Number>> counters = new HashMap<>();
+        final Map<String, List<Long>> timers = new HashMap<>();
+
+        @Override
+        public boolean metricsSystemSupported(String name) {
+            return true;
+        }
+
+        @Override
+        public MetricBuilder builder(String name, Type type) {
+            return new TestMetricBuilder(name);
+        }
+
+        private class TestMetricBuilder implements MetricBuilder {
+
+            private final String name;
+            private final Map<String, String> tags = new HashMap<>();
+
+            TestMetricBuilder(String name) {
+                this.name = name;
+            }
+
+            private String id() {
+                return name + tags;
+            }
+
+            @Override
+            public MetricBuilder description(String description) {
+                return this;
+            }
+
+            @Override
+            public MetricBuilder tag(String key, String value) {
+                tags.put(key, value);
+                return this;
+            }
+
+            @Override
+            public MetricBuilder unit(String unit) {
+                return this;
+            }
+
+            @Override
+            public void buildCounter(Supplier<Number> countFunction) {
+                counters.put(id(), countFunction);
+            }
+
+            @Override
+            public <T, R extends Number> void buildCounter(T obj, Function<T, R> countFunction) {
+                counters.put(id(), () -> countFunction.apply(obj));
+            }
+
+            @Override
+            public void buildGauge(Supplier<Number> gaugeFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T, R extends Number> void buildGauge(T obj, Function<T, R> gaugeFunction) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public TimeRecorder buildTimer() {
+                List<Long> values = timers.computeIfAbsent(id(), k -> new ArrayList<>());
+                return (amount, unit) -> values.add(unit.toMillis(amount));
+            }
+
+            @Override
+            public Runnable buildTimer(Runnable f) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> Callable<T> buildTimer(Callable<T> f) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public <T> Supplier<T> buildTimer(Supplier<T> f) {
+                throw new UnsupportedOperationException();
+            }
+        }
+    }
+}
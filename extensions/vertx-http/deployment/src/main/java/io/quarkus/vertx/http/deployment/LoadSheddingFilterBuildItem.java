@@ -0,0 +1,17 @@
+package io.quarkus.vertx.http.deployment;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.vertx.http.runtime.filters.LoadSheddingFilter;
+
+final class LoadSheddingFilterBuildItem extends SimpleBuildItem {
+    private final RuntimeValue<LoadSheddingFilter> filter;
+
+    LoadSheddingFilterBuildItem(RuntimeValue<LoadSheddingFilter> filter) {
+        this.filter = filter;
+    }
+
+    RuntimeValue<LoadSheddingFilter> getFilter() {
+        return filter;
+    }
+}
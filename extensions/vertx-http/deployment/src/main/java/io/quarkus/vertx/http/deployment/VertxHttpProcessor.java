@@ -39,6 +39,7 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.fs.util.ZipUtils;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
@@ -59,6 +60,7 @@ import io.quarkus.vertx.http.runtime.attribute.ExchangeAttributeBuilder;
 import io.quarkus.vertx.http.runtime.cors.CORSRecorder;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
+import io.quarkus.vertx.http.runtime.filters.LoadSheddingFilter;
 import io.vertx.core.Handler;
 import io.vertx.core.http.impl.Http1xServerRequest;
 import io.vertx.core.impl.VertxImpl;
@@ -212,6 +214,17 @@ class VertxHttpProcessor {
         return new BodyHandlerBuildItem(recorder.createBodyHandler());
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    LoadSheddingFilterBuildItem createLoadSheddingFilter(VertxHttpRecorder recorder,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumers) {
+        // created in a separate step, the metrics consumers must not depend on the bean container
+        RuntimeValue<LoadSheddingFilter> loadSheddingFilter = recorder.createLoadSheddingFilter();
+        metricsFactoryConsumers.produce(
+                new MetricsFactoryConsumerBuildItem(recorder.registerLoadSheddingMetrics(loadSheddingFilter)));
+        return new LoadSheddingFilterBuildItem(loadSheddingFilter);
+    }
+
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
     ServiceStartBuildItem finalizeRouter(
@@ -225,6 +238,7 @@ class VertxHttpProcessor {
             List<RequireBodyHandlerBuildItem> requireBodyHandlerBuildItems,
             BodyHandlerBuildItem bodyHandlerBuildItem,
             BuildProducer<ShutdownListenerBuildItem> shutdownListenerBuildItemBuildProducer,
+            LoadSheddingFilterBuildItem loadSheddingFilter,
             ShutdownConfig shutdownConfig,
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
@@ -282,7 +296,7 @@ class VertxHttpProcessor {
                 httpRouteRouter.getMutinyRouter(),
                 httpRootPathBuildItem.getRootPath(),
                 launchMode.getLaunchMode(),
-                !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, gracefulShutdownFilter,
+                !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, gracefulShutdownFilter, loadSheddingFilter.getFilter(),
                 shutdownConfig, executorBuildItem.getExecutorProxy());
 
         return new ServiceStartBuildItem("vertx-http");
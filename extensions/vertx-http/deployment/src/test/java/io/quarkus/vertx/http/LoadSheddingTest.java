@@ -0,0 +1,80 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.awaitility.Awaitility;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+public class LoadSheddingTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.load-shedding=true\n" +
+            "quarkus.http.load-shedding.initial-limit=2\n" +
+            "quarkus.http.load-shedding.min-limit=2\n" +
+            "quarkus.http.load-shedding.max-limit=2\n" +
+            "quarkus.http.load-shedding.non-critical-ratio=0.5\n" +
+            "quarkus.http.load-shedding.critical-paths=/critical\n" +
+            "quarkus.http.load-shedding.retry-after=2S\n";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(Routes.class));
+
+    @TestHTTPResource
+    URL uri;
+
+    @Test
+    public void testExcessRequestsAreRejected() throws Exception {
+        RestAssured.get("/fast").then().statusCode(200).body(is("fast"));
+
+        try (Socket socket = new Socket(uri.getHost(), uri.getPort())) {
+            socket.getOutputStream().write("GET /slow HTTP/1.1\r\nHost: localhost\r\n\r\n"
+                    .getBytes(StandardCharsets.UTF_8));
+            socket.getOutputStream().flush();
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> Routes.pending != null);
+
+            // one request in flight, non critical requests may only use half of the limit
+            RestAssured.get("/fast").then().statusCode(503).header("Retry-After", "2");
+            RestAssured.get("/critical").then().statusCode(200).body(is("critical"));
+            RestAssured.get("/critical/sub").then().statusCode(200).body(is("critical"));
+            // only the sub-paths of critical paths are critical
+            RestAssured.get("/critical-admin").then().statusCode(503);
+
+            Routes.pending.response().end("slow");
+            Awaitility.await().atMost(10, TimeUnit.SECONDS).untilAsserted(
+                    () -> RestAssured.get("/fast").then().statusCode(200).body(is("fast")));
+        }
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        static volatile RoutingContext pending;
+
+        public void register(@Observes Router router) {
+            router.get("/slow").handler(rc -> pending = rc);
+            router.get("/fast").handler(rc -> rc.response().end("fast"));
+            router.get("/critical").handler(rc -> rc.response().end("critical"));
+            router.get("/critical/sub").handler(rc -> rc.response().end("critical"));
+            router.get("/critical-admin").handler(rc -> rc.response().end("admin"));
+        }
+    }
+}
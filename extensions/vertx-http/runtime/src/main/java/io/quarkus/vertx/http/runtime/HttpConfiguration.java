@@ -127,6 +127,11 @@ public class HttpConfiguration {
      */
     public ServerLimitsConfig limits;
 
+    /**
+     * Load shedding configuration
+     */
+    public LoadSheddingConfig loadShedding;
+
     /**
      * Http connection idle timeout
      */
@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Admission control for HTTP requests.
+ * <p>
+ * When enabled, the number of concurrently processed requests is limited. The limit is adjusted continuously from the
+ * observed request latency, and requests above the limit are rejected with {@code 503 Service Unavailable}.
+ */
+@ConfigGroup
+public class LoadSheddingConfig {
+
+    /**
+     * If load shedding should be enabled.
+     */
+    @ConfigItem(name = ConfigItem.PARENT)
+    public boolean enabled;
+
+    /**
+     * The algorithm used to adjust the concurrency limit.
+     */
+    @ConfigItem(defaultValue = "gradient")
+    public Algorithm algorithm;
+
+    /**
+     * The initial concurrency limit.
+     */
+    @ConfigItem(defaultValue = "100")
+    public int initialLimit;
+
+    /**
+     * The minimum concurrency limit.
+     */
+    @ConfigItem(defaultValue = "10")
+    public int minLimit;
+
+    /**
+     * The maximum concurrency limit.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int maxLimit;
+
+    /**
+     * The request latency above which the {@code aimd} algorithm decreases the limit.
+     */
+    @ConfigItem(defaultValue = "0.5S")
+    public Duration latencyThreshold;
+
+    /**
+     * The value of the {@code Retry-After} header sent with rejected requests.
+     */
+    @ConfigItem(defaultValue = "1S")
+    public Duration retryAfter;
+
+    /**
+     * Paths of critical requests, including their sub-paths: {@code /health} matches {@code /health} and
+     * {@code /health/live}, but not {@code /healthz}. Critical requests are admitted until the full limit is reached,
+     * while other requests are rejected once {@code non-critical-ratio} of the limit is in use.
+     */
+    @ConfigItem
+    public Optional<List<String>> criticalPaths;
+
+    /**
+     * The fraction of the limit that can be used by requests which do not match {@code critical-paths}.
+     */
+    @ConfigItem(defaultValue = "0.8")
+    public double nonCriticalRatio;
+
+    public enum Algorithm {
+        /**
+         * Additive increase, multiplicative decrease. The limit grows by one while requests complete below
+         * {@code latency-threshold} and is reduced by 10% when a request is slower, or fails.
+         */
+        AIMD,
+        /**
+         * Compares the latency of each request to the long term average latency, and adjusts the limit by their ratio
+         * (queuing causes the latency to increase above the average).
+         */
+        GRADIENT
+    }
+}
@@ -56,6 +56,7 @@ import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.ConfigurationException;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -65,6 +66,7 @@ import io.quarkus.vertx.http.runtime.devmode.VertxHttpHotReplacementSetup;
 import io.quarkus.vertx.http.runtime.filters.Filter;
 import io.quarkus.vertx.http.runtime.filters.Filters;
 import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
+import io.quarkus.vertx.http.runtime.filters.LoadSheddingFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
@@ -288,8 +290,8 @@ public class VertxHttpRecorder {
             RuntimeValue<Router> httpRouterRuntimeValue, RuntimeValue<io.vertx.mutiny.ext.web.Router> mutinyRouter,
             String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler,
-            GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            GracefulShutdownFilter gracefulShutdownFilter, RuntimeValue<LoadSheddingFilter> loadSheddingFilter,
+            ShutdownConfig shutdownConfig, Executor executor) {
         HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -440,6 +442,12 @@ public class VertxHttpRecorder {
         }
         boolean quarkusWrapperNeeded = false;
 
+        if (httpConfiguration.loadShedding.enabled) {
+            loadSheddingFilter.getValue().next(root);
+            root = loadSheddingFilter.getValue();
+            quarkusWrapperNeeded = true;
+        }
+
         if (shutdownConfig.isShutdownTimeoutSet()) {
             gracefulShutdownFilter.next(root);
             root = gracefulShutdownFilter;
@@ -906,6 +914,31 @@ public class VertxHttpRecorder {
         return new GracefulShutdownFilter();
     }
 
+    public RuntimeValue<LoadSheddingFilter> createLoadSheddingFilter() {
+        return new RuntimeValue<>(new LoadSheddingFilter(httpConfiguration.getValue().loadShedding));
+    }
+
+    public Consumer<MetricsFactory> registerLoadSheddingMetrics(RuntimeValue<LoadSheddingFilter> loadSheddingFilter) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!httpConfiguration.getValue().loadShedding.enabled) {
+                    return;
+                }
+                LoadSheddingFilter filter = loadSheddingFilter.getValue();
+                metricsFactory.builder("http.server.concurrency.limit")
+                        .description("The current limit of concurrently processed HTTP requests")
+                        .buildGauge(filter::getLimit);
+                metricsFactory.builder("http.server.concurrency.in.flight")
+                        .description("The number of HTTP requests currently processed")
+                        .buildGauge(filter::getInFlight);
+                metricsFactory.builder("http.server.concurrency.rejected")
+                        .description("The number of HTTP requests rejected because the concurrency limit was reached")
+                        .buildCounter(filter::getRejected);
+            }
+        };
+    }
+
     private static class WebDeploymentVerticle extends AbstractVerticle {
 
         private HttpServer httpServer;
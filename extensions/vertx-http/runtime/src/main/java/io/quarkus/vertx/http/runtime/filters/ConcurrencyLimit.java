@@ -0,0 +1,119 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import io.quarkus.vertx.http.runtime.LoadSheddingConfig;
+
+/**
+ * A concurrency limit that is adjusted from the latency of completed requests.
+ */
+public abstract class ConcurrencyLimit {
+
+    final int minLimit;
+    final int maxLimit;
+    volatile int limit;
+
+    ConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = Math.max(minLimit, maxLimit);
+        this.limit = clamp(initialLimit);
+    }
+
+    public static ConcurrencyLimit create(LoadSheddingConfig config) {
+        switch (config.algorithm) {
+            case AIMD:
+                return new Aimd(config.initialLimit, config.minLimit, config.maxLimit,
+                        config.latencyThreshold.toNanos());
+            case GRADIENT:
+                return new Gradient(config.initialLimit, config.minLimit, config.maxLimit);
+            default:
+                throw new IllegalArgumentException("Unknown load shedding algorithm: " + config.algorithm);
+        }
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Called when a request completes.
+     *
+     * @param latencyNanos the time it took to process the request
+     * @param inFlight the number of requests in flight when the request was admitted
+     * @param failed if the request failed with a server error
+     */
+    public abstract void onSample(long latencyNanos, int inFlight, boolean failed);
+
+    int clamp(double value) {
+        return (int) Math.max(minLimit, Math.min(maxLimit, value));
+    }
+
+    /**
+     * Additive increase, multiplicative decrease.
+     */
+    static final class Aimd extends ConcurrencyLimit {
+
+        static final double BACKOFF = 0.9;
+
+        private final long latencyThresholdNanos;
+
+        Aimd(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos) {
+            super(initialLimit, minLimit, maxLimit);
+            this.latencyThresholdNanos = latencyThresholdNanos;
+        }
+
+        @Override
+        public synchronized void onSample(long latencyNanos, int inFlight, boolean failed) {
+            int current = limit;
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = clamp(current * BACKOFF);
+            } else if (inFlight * 2 >= current) {
+                // only grow when the limit is actually used, otherwise it would grow unbounded while idle
+                limit = clamp(current + 1);
+            }
+        }
+    }
+
+    /**
+     * Adjusts the limit by the ratio between the long term (no load) latency and the latency of the last request.
+     * The limit is allowed to grow by a queue of {@code sqrt(limit)} requests, so that it keeps probing for more
+     * capacity while the latency is stable.
+     * <p>
+     * The no load latency only follows the requests completed while the limit is not used, or faster than it. Otherwise,
+     * under sustained overload, it would drift up to the latency of the queued requests, and the limit would grow back.
+     */
+    static final class Gradient extends ConcurrencyLimit {
+
+        static final double MIN_GRADIENT = 0.5;
+        static final double LONG_LATENCY_SMOOTHING = 0.05;
+        static final double LIMIT_SMOOTHING = 0.2;
+
+        private double longLatency;
+        private double estimatedLimit;
+
+        Gradient(int initialLimit, int minLimit, int maxLimit) {
+            super(initialLimit, minLimit, maxLimit);
+            this.estimatedLimit = limit;
+        }
+
+        @Override
+        public synchronized void onSample(long latencyNanos, int inFlight, boolean failed) {
+            if (latencyNanos <= 0) {
+                return;
+            }
+            boolean saturated = failed || inFlight * 2 >= estimatedLimit;
+            if (longLatency == 0) {
+                longLatency = latencyNanos;
+            } else if (!saturated || latencyNanos < longLatency) {
+                longLatency = longLatency * (1 - LONG_LATENCY_SMOOTHING) + latencyNanos * LONG_LATENCY_SMOOTHING;
+            }
+            if (!saturated) {
+                // the application is not using the limit, the latency tells nothing about the capacity
+                return;
+            }
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, longLatency / latencyNanos));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                    estimatedLimit * (1 - LIMIT_SMOOTHING) + newLimit * LIMIT_SMOOTHING));
+            limit = clamp(estimatedLimit);
+        }
+    }
+}
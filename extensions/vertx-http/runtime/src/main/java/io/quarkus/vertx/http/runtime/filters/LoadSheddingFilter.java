@@ -0,0 +1,92 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.quarkus.vertx.http.runtime.LoadSheddingConfig;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Limits the number of requests that are processed concurrently, and rejects the excess with
+ * {@code 503 Service Unavailable}.
+ *
+ * @see ConcurrencyLimit
+ */
+public class LoadSheddingFilter implements Handler<HttpServerRequest> {
+
+    private volatile Handler<HttpServerRequest> next;
+    private final ConcurrencyLimit limit;
+    private final List<String> criticalPaths;
+    private final double nonCriticalRatio;
+    private final String retryAfter;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    public LoadSheddingFilter(LoadSheddingConfig config) {
+        this.limit = ConcurrencyLimit.create(config);
+        this.criticalPaths = config.criticalPaths.orElse(Collections.emptyList());
+        this.nonCriticalRatio = config.nonCriticalRatio;
+        this.retryAfter = Long.toString(Math.max(1, config.retryAfter.getSeconds()));
+    }
+
+    @Override
+    public void handle(HttpServerRequest event) {
+        int max = isCritical(event.path()) ? limit.getLimit() : (int) (limit.getLimit() * nonCriticalRatio);
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= max) {
+                rejected.increment();
+                event.response().setStatusCode(HttpResponseStatus.SERVICE_UNAVAILABLE.code())
+                        .putHeader(HttpHeaderNames.RETRY_AFTER, retryAfter).end();
+                return;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        int admittedInFlight = current + 1;
+        long start = System.nanoTime();
+        ((QuarkusRequestWrapper) event).addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                inFlight.decrementAndGet();
+                limit.onSample(System.nanoTime() - start, admittedInFlight,
+                        event.response().getStatusCode() >= 500);
+            }
+        });
+        next.handle(event);
+    }
+
+    private boolean isCritical(String path) {
+        if (path != null) {
+            for (String criticalPath : criticalPaths) {
+                // the path itself or one of its sub-paths, /health does not match /healthz
+                if (path.startsWith(criticalPath) && (path.length() == criticalPath.length()
+                        || criticalPath.endsWith("/") || path.charAt(criticalPath.length()) == '/')) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public void next(Handler<HttpServerRequest> next) {
+        this.next = next;
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+}
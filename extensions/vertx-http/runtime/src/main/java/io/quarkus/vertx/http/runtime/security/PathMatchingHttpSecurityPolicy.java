@@ -27,19 +27,14 @@ import io.vertx.ext.web.RoutingContext;
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private final PathMatcher<PathPolicies> pathMatcher = new PathMatcher<>();
 
     public String getAuthMechanismName(RoutingContext routingContext) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.request().path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathMatcher.PathMatch<PathPolicies> toCheck = pathMatcher.match(routingContext.request().path());
+        if (toCheck.getValue() == null) {
             return null;
         }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+        return toCheck.getValue().authMechanism;
     }
 
     @Override
@@ -99,55 +94,77 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
             if (entry.getValue().enabled.orElse(Boolean.TRUE)) {
                 for (String path : entry.getValue().paths.orElse(Collections.emptyList())) {
                     path = path.trim();
-                    if (tempMap.containsKey(path)) {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        tempMap.get(path).add(m);
-                    } else {
-                        HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
-                                new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
-                                checker);
-                        List<HttpMatcher> perms = new ArrayList<>();
-                        tempMap.put(path, perms);
-                        perms.add(m);
-                        if (path.endsWith("/*")) {
-                            String stripped = path.substring(0, path.length() - 2);
-                            pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                        } else if (path.endsWith("*")) {
-                            pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                        } else {
-                            pathMatcher.addExactPath(path, perms);
-                        }
-                    }
+                    HttpMatcher m = new HttpMatcher(entry.getValue().authMechanism.orElse(null),
+                            new HashSet<>(entry.getValue().methods.orElse(Collections.emptyList())),
+                            checker);
+                    tempMap.computeIfAbsent(path, k -> new ArrayList<>()).add(m);
                 }
             }
         }
+
+        //resolve the policies of each path and method up front, so a request only needs a single lookup
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PathPolicies policies = new PathPolicies(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, policies);
+            } else if (path.endsWith("*")) {
+                pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), policies);
+            } else {
+                pathMatcher.addExactPath(path, policies);
+            }
+        }
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathMatcher.PathMatch<PathPolicies> toCheck = pathMatcher.match(request.path());
+        if (toCheck.getValue() == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
+        return toCheck.getValue().forMethod(request.method().toString());
+    }
+
+    /**
+     * The policies that apply to a path, resolved for each HTTP method.
+     */
+    static class PathPolicies {
+
+        final String authMechanism;
+        final Map<String, List<HttpSecurityPolicy>> methodPolicies = new HashMap<>();
+        final List<HttpSecurityPolicy> otherMethodPolicies;
+
+        PathPolicies(List<HttpMatcher> matchers) {
+            String authMechanism = null;
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodPolicies.computeIfAbsent(method, k -> new ArrayList<>()).add(i.checker);
+                    }
+                }
+            }
+            this.authMechanism = authMechanism;
+            if (!noMethod.isEmpty()) {
+                this.otherMethodPolicies = Collections.unmodifiableList(noMethod);
+            } else {
+                //we deny if we did not match due to method filtering
+                this.otherMethodPolicies = Collections.singletonList(DenySecurityPolicy.INSTANCE);
+            }
+            for (Map.Entry<String, List<HttpSecurityPolicy>> entry : methodPolicies.entrySet()) {
+                entry.setValue(Collections.unmodifiableList(entry.getValue()));
             }
-        }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
         }
 
+        List<HttpSecurityPolicy> forMethod(String method) {
+            List<HttpSecurityPolicy> policies = methodPolicies.get(method);
+            return policies != null ? policies : otherMethodPolicies;
+        }
     }
 
     static class HttpMatcher {
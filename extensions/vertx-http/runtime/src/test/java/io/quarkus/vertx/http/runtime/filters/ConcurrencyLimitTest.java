@@ -0,0 +1,80 @@
+package io.quarkus.vertx.http.runtime.filters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitTest {
+
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testAimd() {
+        ConcurrencyLimit limit = new ConcurrencyLimit.Aimd(20, 10, 30, 100 * MS);
+        // the limit is not used, nothing changes
+        limit.onSample(10 * MS, 2, false);
+        assertEquals(20, limit.getLimit());
+        // additive increase
+        limit.onSample(10 * MS, 15, false);
+        assertEquals(21, limit.getLimit());
+        // multiplicative decrease on slow or failed requests
+        limit.onSample(200 * MS, 15, false);
+        assertEquals(18, limit.getLimit());
+        limit.onSample(10 * MS, 15, true);
+        assertEquals(16, limit.getLimit());
+        // bounds
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(200 * MS, 15, false);
+        }
+        assertEquals(10, limit.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MS, 30, false);
+        }
+        assertEquals(30, limit.getLimit());
+    }
+
+    @Test
+    public void testGradient() {
+        ConcurrencyLimit limit = new ConcurrencyLimit.Gradient(100, 10, 1000);
+        // stable latency under load: the limit grows
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MS, limit.getLimit(), false);
+        }
+        int grown = limit.getLimit();
+        assertTrue(grown > 100, "limit should have grown: " + grown);
+
+        // latency increases because of queuing: the limit shrinks
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(100 * MS, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < grown, "limit should have shrunk: " + limit.getLimit());
+
+        // the limit is not used, nothing changes
+        int current = limit.getLimit();
+        limit.onSample(1000 * MS, 1, false);
+        assertEquals(current, limit.getLimit());
+    }
+
+    @Test
+    public void testGradientUnderSustainedOverload() {
+        ConcurrencyLimit limit = new ConcurrencyLimit.Gradient(100, 10, 1000);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(10 * MS, limit.getLimit(), false);
+        }
+        // the requests queue up for a long time: the limit must keep shedding instead of growing back
+        for (int i = 0; i < 10_000; i++) {
+            limit.onSample(100 * MS, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < 20, "limit should stay low: " + limit.getLimit());
+
+        // the latency recovers: the limit grows again
+        int overloaded = limit.getLimit();
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(10 * MS, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() > overloaded, "limit should have grown: " + limit.getLimit());
+    }
+}
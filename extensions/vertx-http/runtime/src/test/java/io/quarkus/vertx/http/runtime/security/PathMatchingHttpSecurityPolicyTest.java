@@ -0,0 +1,86 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.vertx.http.runtime.AuthConfig;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+
+public class PathMatchingHttpSecurityPolicyTest {
+
+    static final HttpSecurityPolicy READ = new PermitSecurityPolicy();
+    static final HttpSecurityPolicy WRITE = new PermitSecurityPolicy();
+    static final HttpSecurityPolicy ANY = new PermitSecurityPolicy();
+
+    PathMatchingHttpSecurityPolicy policy;
+
+    @BeforeEach
+    public void setup() {
+        HttpBuildTimeConfig config = new HttpBuildTimeConfig();
+        config.auth = new AuthConfig();
+        config.auth.permissions = new HashMap<>();
+        config.auth.permissions.put("read", permission("read", "/api/*", "GET", "HEAD"));
+        config.auth.permissions.put("write", permission("write", "/api/*", "POST"));
+        config.auth.permissions.put("any", permission("any", "/public"));
+
+        Map<String, Supplier<HttpSecurityPolicy>> policies = new HashMap<>();
+        policies.put("read", () -> READ);
+        policies.put("write", () -> WRITE);
+        policies.put("any", () -> ANY);
+
+        policy = new PathMatchingHttpSecurityPolicy();
+        policy.init(config, policies);
+    }
+
+    @Test
+    public void testMethodSpecificPolicies() {
+        assertEquals(Collections.singletonList(READ), find(HttpMethod.GET, "/api/items"));
+        assertEquals(Collections.singletonList(READ), find(HttpMethod.HEAD, "/api"));
+        assertEquals(Collections.singletonList(WRITE), find(HttpMethod.POST, "/api/items/1"));
+    }
+
+    @Test
+    public void testUnmatchedMethodIsDenied() {
+        assertEquals(Collections.singletonList(DenySecurityPolicy.INSTANCE), find(HttpMethod.DELETE, "/api/items"));
+    }
+
+    @Test
+    public void testPolicyWithoutMethods() {
+        assertEquals(Collections.singletonList(ANY), find(HttpMethod.DELETE, "/public"));
+        assertTrue(find(HttpMethod.GET, "/public/other").isEmpty());
+        assertTrue(find(HttpMethod.GET, "/other").isEmpty());
+    }
+
+    private List<HttpSecurityPolicy> find(HttpMethod method, String path) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.method()).thenReturn(method);
+        when(request.path()).thenReturn(path);
+        return policy.findPermissionCheckers(request);
+    }
+
+    private static PolicyMappingConfig permission(String policy, String path, String... methods) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.paths = Optional.of(Collections.singletonList(path));
+        config.methods = methods.length == 0 ? Optional.empty() : Optional.of(Arrays.asList(methods));
+        config.authMechanism = Optional.empty();
+        return config;
+    }
+}
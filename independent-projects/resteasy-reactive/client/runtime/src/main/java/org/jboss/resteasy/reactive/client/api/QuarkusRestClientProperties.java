@@ -23,5 +23,42 @@ public class QuarkusRestClientProperties {
      */
     public static final String CONNECTION_POOL_SIZE = "io.quarkus.rest.client.connection-pool-size";
 
+    /**
+     * The maximum number of requests waiting for a connection of the pool, -1 (unbounded) by default.
+     */
+    public static final String MAX_WAIT_QUEUE_SIZE = "io.quarkus.rest.client.max-wait-queue-size";
+
+    /**
+     * Whether connections of the pool should be kept alive, true by default.
+     */
+    public static final String KEEP_ALIVE_ENABLED = "io.quarkus.rest.client.keep-alive-enabled";
+
+    /**
+     * The maximum number of requests pipelined on a single HTTP/1.1 connection. Pipelining is disabled if not set.
+     */
+    public static final String PIPELINING_LIMIT = "io.quarkus.rest.client.pipelining-limit";
+
+    /**
+     * Whether the client should use HTTP/2, negotiated with ALPN for TLS connections and with an h2c upgrade otherwise.
+     */
+    public static final String HTTP2 = "io.quarkus.rest.client.http2";
+
+    /**
+     * The maximum number of concurrent streams multiplexed on a single HTTP/2 connection.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
+    /**
+     * Whether the underlying HTTP client (and its connection pool) should be shared with the other clients
+     * using the same options.
+     */
+    public static final String SHARED = "io.quarkus.rest.client.shared";
+
+    /**
+     * Whether identical in-flight {@code GET}, {@code HEAD} and {@code OPTIONS} requests returning a {@code Uni} should
+     * be collapsed into a single call, false by default.
+     */
+    public static final String REQUEST_COALESCING = "io.quarkus.rest.client.request-coalescing";
+
     public static final String STATIC_HEADERS = "io.quarkus.rest.client.static-headers";
 }
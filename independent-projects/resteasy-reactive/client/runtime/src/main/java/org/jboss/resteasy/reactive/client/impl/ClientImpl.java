@@ -3,7 +3,14 @@ package org.jboss.resteasy.reactive.client.impl;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_WAIT_QUEUE_SIZE;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.PIPELINING_LIMIT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.REQUEST_COALESCING;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.SHARED;
 
 import io.netty.channel.EventLoopGroup;
 import io.vertx.core.AsyncResult;
@@ -32,6 +39,7 @@ import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.HttpVersion;
 import io.vertx.core.http.RequestOptions;
 import io.vertx.core.http.WebSocket;
 import io.vertx.core.http.WebSocketConnectOptions;
@@ -77,11 +85,13 @@ public class ClientImpl implements Client {
     final ClientContext clientContext;
     final boolean closeVertx;
     final HttpClient httpClient;
+    final boolean sharedHttpClient;
     final ConfigurationImpl configuration;
     final HostnameVerifier hostnameVerifier;
     final SSLContext sslContext;
     private boolean isClosed;
     final HandlerChain handlerChain;
+    final RequestCoalescer requestCoalescer;
     final Vertx vertx;
     private final MultiQueryParamMode multiQueryParamMode;
     private final String userAgent;
@@ -139,11 +149,46 @@ public class ClientImpl implements Client {
         }
         options.setMaxPoolSize((int) connectionPoolSize);
 
+        Object maxWaitQueueSize = configuration.getProperty(MAX_WAIT_QUEUE_SIZE);
+        if (maxWaitQueueSize != null) {
+            options.setMaxWaitQueueSize((int) maxWaitQueueSize);
+        }
+
+        Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
+        if (keepAliveEnabled != null) {
+            options.setKeepAlive((boolean) keepAliveEnabled);
+        }
+
+        Object pipeliningLimit = configuration.getProperty(PIPELINING_LIMIT);
+        if (pipeliningLimit != null) {
+            options.setPipelining(true);
+            options.setPipeliningLimit((int) pipeliningLimit);
+        }
+
+        if (Boolean.TRUE.equals(configuration.getProperty(HTTP2))) {
+            // ALPN is used for TLS connections, cleartext connections are upgraded with h2c
+            options.setProtocolVersion(HttpVersion.HTTP_2);
+            options.setUseAlpn(true);
+            // Vert.x has a separate pool size for the HTTP/2 connections, of a single connection by default
+            options.setHttp2MaxPoolSize((int) connectionPoolSize);
+            Object multiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+            if (multiplexingLimit != null) {
+                options.setHttp2MultiplexingLimit((int) multiplexingLimit);
+            }
+        }
+
         if (loggingScope == LoggingScope.ALL) {
             options.setLogActivity(true);
         }
 
-        httpClient = this.vertx.createHttpClient(options);
+        // the redirect handler installed for logging is specific to this client, so such clients are never shared
+        if (Boolean.TRUE.equals(configuration.getProperty(SHARED)) && loggingScope == LoggingScope.NONE) {
+            httpClient = SharedHttpClients.acquire(this.vertx, options);
+            sharedHttpClient = true;
+        } else {
+            httpClient = this.vertx.createHttpClient(options);
+            sharedHttpClient = false;
+        }
 
         if (loggingScope != LoggingScope.NONE) {
             Function<HttpClientResponse, Future<RequestOptions>> defaultRedirectHandler = httpClient.redirectHandler();
@@ -154,6 +199,8 @@ public class ClientImpl implements Client {
         }
 
         handlerChain = new HandlerChain(followRedirects, loggingScope, clientLogger);
+        requestCoalescer = Boolean.TRUE.equals(configuration.getProperty(REQUEST_COALESCING)) ? new RequestCoalescer()
+                : null;
     }
 
     public ClientContext getClientContext() {
@@ -165,7 +212,11 @@ public class ClientImpl implements Client {
         if (isClosed)
             return;
         isClosed = true;
-        httpClient.close();
+        if (sharedHttpClient) {
+            SharedHttpClients.release(httpClient);
+        } else {
+            httpClient.close();
+        }
         if (closeVertx) {
             vertx.close();
         }
@@ -176,6 +227,13 @@ public class ClientImpl implements Client {
             throw new IllegalStateException("Client is closed");
     }
 
+    /**
+     * @return the coalescer of identical in-flight requests, or {@code null} if request coalescing is disabled
+     */
+    public RequestCoalescer getRequestCoalescer() {
+        return requestCoalescer;
+    }
+
     public String getUserAgent() {
         return userAgent;
     }
@@ -0,0 +1,146 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import io.vertx.core.buffer.Buffer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * Splits a streamed JSON body into its elements as the body chunks are received, using the non-blocking Jackson parser.
+ * <p>
+ * For {@code application/json}, the elements of a top-level array are returned one by one (any other top-level value is
+ * returned as a single element). For NDJSON ({@code application/x-ndjson} and {@code application/stream+json}),
+ * each top-level value is an element.
+ * <p>
+ * Only the element being parsed is kept in memory, so arbitrarily large arrays can be consumed.
+ */
+class JsonStreamSplitter {
+
+    static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+    static final MediaType APPLICATION_STREAM_JSON_TYPE = new MediaType("application", "stream+json");
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private final boolean splitArray;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final ByteArrayOutputStream element = new ByteArrayOutputStream();
+    private JsonGenerator generator;
+    private int depth;
+    // the depth of the elements, or -1 before the first token of a top-level value
+    private int elementDepth = -1;
+
+    JsonStreamSplitter(boolean splitArray) throws IOException {
+        this.splitArray = splitArray;
+        this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * @return a splitter for the given response media type, or {@code null} if it is not a streamable JSON type
+     */
+    static JsonStreamSplitter forMediaType(MediaType mediaType) throws IOException {
+        if (mediaType == null || mediaType.isWildcardType() || mediaType.isWildcardSubtype()) {
+            return null;
+        }
+        if (APPLICATION_NDJSON_TYPE.isCompatible(mediaType) || APPLICATION_STREAM_JSON_TYPE.isCompatible(mediaType)) {
+            return new JsonStreamSplitter(false);
+        }
+        if (MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
+            return new JsonStreamSplitter(true);
+        }
+        return null;
+    }
+
+    /**
+     * Feeds a chunk of the body.
+     *
+     * @return the serialized elements completed by this chunk
+     */
+    List<byte[]> feed(Buffer chunk) throws IOException {
+        byte[] bytes = chunk.getBytes();
+        feeder.feedInput(bytes, 0, bytes.length);
+        return drain();
+    }
+
+    /**
+     * Signals the end of the body.
+     *
+     * @return the serialized elements completed by the end of the body
+     */
+    List<byte[]> end() throws IOException {
+        feeder.endOfInput();
+        List<byte[]> elements = drain();
+        if (depth > 0 || generator != null) {
+            throw new IOException("Unexpected end of the JSON stream");
+        }
+        return elements;
+    }
+
+    /**
+     * @return the value of the given element if it is a JSON string, its JSON text otherwise
+     */
+    static String asString(byte[] element) throws IOException {
+        try (JsonParser elementParser = JSON_FACTORY.createParser(element)) {
+            if (elementParser.nextToken() == JsonToken.VALUE_STRING) {
+                return elementParser.getText();
+            }
+        }
+        return new String(element, StandardCharsets.UTF_8);
+    }
+
+    private List<byte[]> drain() throws IOException {
+        List<byte[]> elements = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (elementDepth < 0) {
+                if (splitArray && token == JsonToken.START_ARRAY) {
+                    elementDepth = depth = 1;
+                    continue;
+                }
+                elementDepth = 0;
+            }
+            if (elementDepth == 1 && depth == 1 && token == JsonToken.END_ARRAY) {
+                // end of the top-level array
+                depth = 0;
+                elementDepth = -1;
+                continue;
+            }
+            if (generator == null) {
+                generator = JSON_FACTORY.createGenerator(element);
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                // copyCurrentEvent() goes through a double, losing the precision and the scale of the decimals
+                generator.writeNumber(parser.getText());
+            } else {
+                generator.copyCurrentEvent(parser);
+            }
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == elementDepth) {
+                generator.close();
+                generator = null;
+                if (elements == null) {
+                    elements = new ArrayList<>();
+                }
+                elements.add(element.toByteArray());
+                element.reset();
+                if (elementDepth == 0) {
+                    elementDepth = -1;
+                }
+            }
+        }
+        return elements != null ? elements : List.of();
+    }
+}
@@ -2,12 +2,16 @@ package org.jboss.resteasy.reactive.client.impl;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.subscription.MultiEmitter;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.net.impl.ConnectionBase;
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.core.GenericType;
@@ -45,11 +49,14 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
 
         private final MultiEmitter<? super R> emitter;
 
+        private final Demand demand;
+
         private static final Runnable CLEARED = () -> {
         };
 
-        public MultiRequest(MultiEmitter<? super R> emitter) {
+        public MultiRequest(MultiEmitter<? super R> emitter, Demand demand) {
             this.emitter = emitter;
+            this.demand = demand;
             emitter.onTermination(() -> {
                 if (emitter.isCancelled()) {
                     this.cancel();
@@ -68,6 +75,15 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
             }
         }
 
+        void emit(R item) {
+            emitter.emit(item);
+            demand.emitted();
+        }
+
+        void pauseIfNoDemand(HttpClientResponse response) {
+            demand.pauseIfNoDemand(response);
+        }
+
         public void onCancel(Runnable onCancel) {
             if (this.onCancel.compareAndSet(null, onCancel)) {
                 // this was a first set
@@ -82,35 +98,91 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
         }
     }
 
+    /**
+     * Tracks the items requested by the subscriber, to pause the response while the subscriber is not ready for more
+     * items, so that a slow subscriber does not have to buffer the whole response.
+     */
+    static class Demand {
+
+        private final AtomicLong requested = new AtomicLong();
+        // the response paused for lack of demand, if any
+        private volatile HttpClientResponse paused;
+        private volatile Context context;
+
+        void request(long n) {
+            long current;
+            long next;
+            do {
+                current = requested.get();
+                next = current + n < 0 ? Long.MAX_VALUE : current + n;
+            } while (!requested.compareAndSet(current, next));
+            HttpClientResponse response = paused;
+            if (response != null) {
+                context.runOnContext(v -> resume(response));
+            }
+        }
+
+        void emitted() {
+            requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+        }
+
+        // called on the event loop of the response
+        void pauseIfNoDemand(HttpClientResponse response) {
+            if (requested.get() <= 0) {
+                context = Vertx.currentContext();
+                paused = response;
+                response.pause();
+                // an item may have been requested before the response was marked as paused
+                if (requested.get() > 0) {
+                    resume(response);
+                }
+            }
+        }
+
+        // called on the event loop of the response
+        private void resume(HttpClientResponse response) {
+            if (paused == response && requested.get() > 0) {
+                paused = null;
+                response.resume();
+            }
+        }
+    }
+
     @Override
     public <R> Multi<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
         AsyncInvokerImpl invoker = (AsyncInvokerImpl) invocationBuilder.rx();
-        // FIXME: backpressure setting?
-        return Multi.createFrom().emitter(emitter -> {
-            MultiRequest<R> multiRequest = new MultiRequest<>(emitter);
-            RestClientRequestContext restClientRequestContext = invoker.performRequestInternal(name, entity, responseType,
-                    false);
-            restClientRequestContext.getResult().handle((response, connectionError) -> {
-                if (connectionError != null) {
-                    emitter.fail(connectionError);
-                } else {
-                    HttpClientResponse vertxResponse = restClientRequestContext.getVertxClientResponse();
-                    if (!emitter.isCancelled()) {
-                        // FIXME: this is probably not good enough
-                        if (response.getStatus() == 200
-                                && MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(response.getMediaType())) {
-                            registerForSse(multiRequest, responseType, response, vertxResponse);
-                        } else {
-                            // read stuff in chunks
-                            registerForChunks(multiRequest, restClientRequestContext, responseType, response, vertxResponse);
-                        }
-                        vertxResponse.resume();
+        return Multi.createFrom().deferred(() -> {
+            Demand demand = new Demand();
+            return Multi.createFrom().<R> emitter(emitter -> subscribe(invoker, name, entity, responseType, emitter, demand))
+                    .onRequest().invoke(demand::request);
+        });
+    }
+
+    private <R> void subscribe(AsyncInvokerImpl invoker, String name, Entity<?> entity, GenericType<R> responseType,
+            MultiEmitter<? super R> emitter, Demand demand) {
+        MultiRequest<R> multiRequest = new MultiRequest<>(emitter, demand);
+        RestClientRequestContext restClientRequestContext = invoker.performRequestInternal(name, entity, responseType,
+                false);
+        restClientRequestContext.getResult().handle((response, connectionError) -> {
+            if (connectionError != null) {
+                emitter.fail(connectionError);
+            } else {
+                HttpClientResponse vertxResponse = restClientRequestContext.getVertxClientResponse();
+                if (!emitter.isCancelled()) {
+                    // FIXME: this is probably not good enough
+                    if (response.getStatus() == 200
+                            && MediaType.SERVER_SENT_EVENTS_TYPE.isCompatible(response.getMediaType())) {
+                        registerForSse(multiRequest, responseType, response, vertxResponse);
                     } else {
-                        vertxResponse.request().connection().close();
+                        // read stuff in chunks
+                        registerForChunks(multiRequest, restClientRequestContext, responseType, response, vertxResponse);
                     }
+                    vertxResponse.resume();
+                } else {
+                    vertxResponse.request().connection().close();
                 }
-                return null;
-            });
+            }
+            return null;
         });
     }
 
@@ -145,6 +217,13 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
             GenericType<R> responseType,
             Response response,
             HttpClientResponse vertxClientResponse) {
+        JsonStreamSplitter jsonSplitter;
+        try {
+            jsonSplitter = isRaw(responseType) ? null : JsonStreamSplitter.forMediaType(response.getMediaType());
+        } catch (IOException e) {
+            multiRequest.emitter.fail(e);
+            return;
+        }
         // make sure we get exceptions on the response, like close events, otherwise they
         // will be logged as errors by vertx
         vertxClientResponse.exceptionHandler(t -> {
@@ -161,10 +240,17 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
             @Override
             public void handle(Buffer buffer) {
                 try {
-                    ByteArrayInputStream in = new ByteArrayInputStream(buffer.getBytes());
-                    R item = restClientRequestContext.readEntity(in, responseType, response.getMediaType(),
-                            response.getMetadata());
-                    multiRequest.emitter.emit(item);
+                    if (jsonSplitter != null) {
+                        for (byte[] element : jsonSplitter.feed(buffer)) {
+                            multiRequest.emit(readElement(restClientRequestContext, responseType, response, element));
+                        }
+                    } else {
+                        ByteArrayInputStream in = new ByteArrayInputStream(buffer.getBytes());
+                        R item = restClientRequestContext.readEntity(in, responseType, response.getMediaType(),
+                                response.getMetadata());
+                        multiRequest.emit(item);
+                    }
+                    multiRequest.pauseIfNoDemand(vertxClientResponse);
                 } catch (Throwable t) {
                     // FIXME: probably close the client too? watch out that it doesn't call our close handler
                     // which calls emitter.complete()
@@ -175,6 +261,16 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
         // this captures the end of the response
         // FIXME: won't this call complete twice()?
         vertxClientResponse.endHandler(v -> {
+            if (jsonSplitter != null) {
+                try {
+                    for (byte[] element : jsonSplitter.end()) {
+                        multiRequest.emit(readElement(restClientRequestContext, responseType, response, element));
+                    }
+                } catch (Throwable t) {
+                    multiRequest.emitter.fail(t);
+                    return;
+                }
+            }
             multiRequest.emitter.complete();
         });
         // watch for user cancelling
@@ -183,4 +279,23 @@ public class MultiInvoker extends AbstractRxInvoker<Multi<?>> {
         });
     }
 
+    /**
+     * Byte arrays and buffers are passed as they are received, whatever the content type.
+     */
+    private static boolean isRaw(GenericType<?> responseType) {
+        Class<?> rawType = responseType.getRawType();
+        return rawType == byte[].class || rawType == Buffer.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> R readElement(RestClientRequestContext restClientRequestContext, GenericType<R> responseType,
+            Response response, byte[] element) throws IOException {
+        if (responseType.getRawType() == String.class) {
+            return (R) JsonStreamSplitter.asString(element);
+        }
+        // each element is a JSON document, whatever the streaming media type
+        return restClientRequestContext.readEntity(new ByteArrayInputStream(element), responseType,
+                MediaType.APPLICATION_JSON_TYPE, response.getMetadata());
+    }
+
 }
@@ -0,0 +1,154 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.buffer.Buffer;
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import javax.ws.rs.client.Entity;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.RestResponse;
+
+/**
+ * Collapses identical in-flight requests of a client into a single call (a.k.a. single-flight).
+ * <p>
+ * Only requests without an entity using a safe method ({@code GET}, {@code HEAD} or {@code OPTIONS}) are coalesced.
+ * Two requests are identical if they have the same method, URI, headers and expected response type; the subscribers
+ * of all of them receive the result (or the failure) of the first one. Once that call completes, the next request
+ * triggers a new call.
+ * <p>
+ * The subscribers share the same result object, which must therefore not be modified. Requests returning a result that
+ * can only be consumed once, or that is usually modified, are never coalesced: {@link Response}, {@link RestResponse},
+ * streams and other {@link AutoCloseable} resources, files, arrays and buffers.
+ * <p>
+ * The headers are compared before the client request filters run, so coalescing must not be enabled for clients whose
+ * filters add per-request headers.
+ */
+public class RequestCoalescer {
+
+    private final Map<Key, Uni<?>> inFlight = new ConcurrentHashMap<>();
+    private volatile LongAdder coalesced = new LongAdder();
+
+    boolean isCoalescable(String method, Entity<?> entity, GenericType<?> responseType) {
+        if (entity != null && entity.getEntity() != null) {
+            return false;
+        }
+        if (!"GET".equals(method) && !"HEAD".equals(method) && !"OPTIONS".equals(method)) {
+            return false;
+        }
+        if (responseType == null) {
+            return false;
+        }
+        return !isOneShotOrMutable(responseType.getRawType());
+    }
+
+    private static boolean isOneShotOrMutable(Class<?> rawType) {
+        return Response.class.isAssignableFrom(rawType)
+                || RestResponse.class.isAssignableFrom(rawType)
+                // InputStream, Reader, channels...
+                || AutoCloseable.class.isAssignableFrom(rawType)
+                || File.class.isAssignableFrom(rawType)
+                || Path.class.isAssignableFrom(rawType)
+                || rawType.isArray()
+                || java.nio.Buffer.class.isAssignableFrom(rawType)
+                || Buffer.class.isAssignableFrom(rawType);
+    }
+
+    @SuppressWarnings("unchecked")
+    <R> Uni<R> coalesce(String method, URI uri, MultivaluedMap<String, Object> headers, GenericType<R> responseType,
+            Supplier<Uni<R>> call) {
+        Map<String, List<Object>> headersCopy = new HashMap<>();
+        for (Map.Entry<String, List<Object>> header : headers.entrySet()) {
+            headersCopy.put(header.getKey().toLowerCase(Locale.ROOT), new ArrayList<>(header.getValue()));
+        }
+        Key key = new Key(method, uri, headersCopy, responseType.getType());
+        // looked up on subscription: a Uni may be subscribed to long after being created
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends R>>() {
+            @Override
+            public Uni<? extends R> get() {
+                Uni<?> existing = inFlight.get(key);
+                if (existing != null) {
+                    coalesced.increment();
+                    return (Uni<R>) existing;
+                }
+                AtomicReference<Uni<R>> created = new AtomicReference<>();
+                Uni<?> shared = inFlight.computeIfAbsent(key, k -> {
+                    Uni<R> uni = call.get()
+                            .onTermination().invoke(() -> inFlight.remove(k, created.get()))
+                            .memoize().indefinitely();
+                    created.set(uni);
+                    return uni;
+                });
+                if (shared != created.get()) {
+                    coalesced.increment();
+                }
+                return (Uni<R>) shared;
+            }
+        });
+    }
+
+    /**
+     * @return the number of requests that did not trigger a call of their own
+     */
+    public long getCoalescedRequests() {
+        return coalesced.sum();
+    }
+
+    /**
+     * @return the number of distinct requests currently in flight
+     */
+    public int getInFlightRequests() {
+        return inFlight.size();
+    }
+
+    /**
+     * Replaces the counter of coalesced requests, e.g. so that several clients report to the same metric.
+     */
+    public void setCoalescedCounter(LongAdder coalesced) {
+        this.coalesced = Objects.requireNonNull(coalesced);
+    }
+
+    private static final class Key {
+        final String method;
+        final URI uri;
+        final Map<String, ?> headers;
+        final Object responseType;
+
+        Key(String method, URI uri, Map<String, ?> headers, Object responseType) {
+            this.method = method;
+            this.uri = uri;
+            this.headers = headers;
+            this.responseType = responseType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return method.equals(key.method) && uri.equals(key.uri) && headers.equals(key.headers)
+                    && responseType.equals(key.responseType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, uri, headers, responseType);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package org.jboss.resteasy.reactive.client.impl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps track of the {@link HttpClient} instances shared by the clients created with the same {@link Vertx} instance
+ * and the same options, so that they also share a single connection pool per target host.
+ * <p>
+ * The underlying client is closed when the last client using it is released.
+ */
+final class SharedHttpClients {
+
+    private static final Map<Key, Entry> CLIENTS = new HashMap<>();
+
+    private SharedHttpClients() {
+    }
+
+    static synchronized HttpClient acquire(Vertx vertx, HttpClientOptions options) {
+        Key key = new Key(vertx, options.toJson());
+        Entry entry = CLIENTS.get(key);
+        if (entry == null) {
+            entry = new Entry(key, vertx.createHttpClient(options));
+            CLIENTS.put(key, entry);
+        }
+        entry.references++;
+        return entry.client;
+    }
+
+    static synchronized void release(HttpClient client) {
+        for (Entry entry : CLIENTS.values()) {
+            if (entry.client == client) {
+                if (--entry.references == 0) {
+                    CLIENTS.remove(entry.key);
+                    client.close();
+                }
+                return;
+            }
+        }
+        // not (or no longer) shared
+        client.close();
+    }
+
+    private static final class Entry {
+        final Key key;
+        final HttpClient client;
+        int references;
+
+        Entry(Key key, HttpClient client) {
+            this.key = key;
+            this.client = client;
+        }
+    }
+
+    private static final class Key {
+        final Vertx vertx;
+        final JsonObject options;
+
+        Key(Vertx vertx, JsonObject options) {
+            this.vertx = vertx;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return vertx == key.vertx && options.equals(key.options);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(vertx), options);
+        }
+    }
+}
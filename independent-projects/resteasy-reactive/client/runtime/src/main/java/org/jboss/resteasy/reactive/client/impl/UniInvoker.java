@@ -18,12 +18,23 @@ public class UniInvoker extends AbstractRxInvoker<Uni<?>> {
     @Override
     public <R> Uni<R> method(String name, Entity<?> entity, GenericType<R> responseType) {
         AsyncInvokerImpl invoker = (AsyncInvokerImpl) invocationBuilder.rx();
-        return Uni.createFrom().completionStage(new Supplier<CompletionStage<R>>() {
+        Uni<R> uni = Uni.createFrom().completionStage(new Supplier<CompletionStage<R>>() {
             @Override
             public CompletionStage<R> get() {
                 return invoker.method(name, entity, responseType);
             }
         });
+        RequestCoalescer coalescer = invocationBuilder.restClient.getRequestCoalescer();
+        if (coalescer != null && coalescer.isCoalescable(name, entity, responseType)) {
+            return coalescer.coalesce(name, invocationBuilder.uri, invocationBuilder.requestSpec.headers.getHeaders(),
+                    responseType, new Supplier<Uni<R>>() {
+                        @Override
+                        public Uni<R> get() {
+                            return uni;
+                        }
+                    });
+        }
+        return uni;
     }
 
     @Override
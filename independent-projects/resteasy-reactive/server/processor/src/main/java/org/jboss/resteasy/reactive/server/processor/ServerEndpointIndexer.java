@@ -14,6 +14,7 @@ import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNa
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.LOCAL_DATE_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.LOCAL_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.MULTI_VALUED_MAP;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.NON_BLOCKING;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OFFSET_DATE_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.OFFSET_TIME;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.ZONED_DATE_TIME;
@@ -50,6 +51,7 @@ import org.jboss.resteasy.reactive.common.processor.AdditionalWriters;
 import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
 import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
 import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.RunOnVirtualThread;
 import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.ListConverter;
 import org.jboss.resteasy.reactive.server.core.parameters.converters.LoadedParameterConverter;
@@ -81,10 +83,14 @@ import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 
 public class ServerEndpointIndexer
         extends EndpointIndexer<ServerEndpointIndexer, ServerIndexedParameter, ServerResourceMethod> {
+
+    private static final DotName RUN_ON_VIRTUAL_THREAD = DotName.createSimple(RunOnVirtualThread.class.getName());
+
     protected final EndpointInvokerFactory endpointInvokerFactory;
     protected final List<MethodScanner> methodScanners;
     protected final FieldInjectionIndexerExtension fieldInjectionHandler;
     protected final ConverterSupplierIndexerExtension converterSupplierIndexerExtension;
+    protected final boolean runBlockingOnVirtualThread;
 
     protected ServerEndpointIndexer(AbstractBuilder builder) {
         super(builder);
@@ -92,6 +98,7 @@ public class ServerEndpointIndexer
         this.methodScanners = new ArrayList<>(builder.methodScanners);
         this.fieldInjectionHandler = builder.fieldInjectionIndexerExtension;
         this.converterSupplierIndexerExtension = builder.converterSupplierIndexerExtension;
+        this.runBlockingOnVirtualThread = builder.runBlockingOnVirtualThread;
     }
 
     protected void addWriterForType(AdditionalWriters additionalWriters, Type paramType) {
@@ -188,6 +195,8 @@ public class ServerEndpointIndexer
     @Override
     protected void handleAdditionalMethodProcessing(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info,
             AnnotationStore annotationStore) {
+        handleVirtualThread(method, currentClassInfo, info, annotationStore);
+
         Supplier<EndpointInvoker> invokerSupplier = null;
         for (HandlerChainCustomizer i : method.getHandlerChainCustomizers()) {
             invokerSupplier = i.alternateInvoker(method);
@@ -210,6 +219,30 @@ public class ServerEndpointIndexer
         validateMethodPath(method, currentClassInfo, info);
     }
 
+    private void handleVirtualThread(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info,
+            AnnotationStore annotationStore) {
+        AnnotationInstance runOnVirtualThread = annotationStore.getAnnotation(info, RUN_ON_VIRTUAL_THREAD);
+        AnnotationInstance nonBlocking = annotationStore.getAnnotation(info, NON_BLOCKING);
+        if (runOnVirtualThread != null && nonBlocking != null) {
+            throw new DeploymentException("Method '" + info.name() + "' of class '" + currentClassInfo.name()
+                    + "' uses @RunOnVirtualThread but is annotated with @NonBlocking.");
+        }
+        // as for @Blocking and @NonBlocking, the annotations of the method take precedence over those of the class
+        if (runOnVirtualThread == null && nonBlocking == null) {
+            runOnVirtualThread = annotationStore.getAnnotation(currentClassInfo, RUN_ON_VIRTUAL_THREAD);
+            if (runOnVirtualThread != null && annotationStore.getAnnotation(currentClassInfo, NON_BLOCKING) != null) {
+                throw new DeploymentException("Class '" + currentClassInfo.name()
+                        + "' uses @RunOnVirtualThread but is annotated with @NonBlocking.");
+            }
+        }
+        if (runOnVirtualThread != null) {
+            method.setBlocking(true);
+            method.setRunOnVirtualThread(true);
+        } else if (runBlockingOnVirtualThread && method.isBlocking()) {
+            method.setRunOnVirtualThread(true);
+        }
+    }
+
     private void validateMethodPath(ServerResourceMethod method, ClassInfo currentClassInfo, MethodInfo info) {
         try {
             new URITemplate(method.getPath(), false);
@@ -462,6 +495,7 @@ public class ServerEndpointIndexer
         private List<MethodScanner> methodScanners = new ArrayList<>();
         private FieldInjectionIndexerExtension fieldInjectionIndexerExtension;
         private ConverterSupplierIndexerExtension converterSupplierIndexerExtension = new ReflectionConverterIndexerExtension();
+        private boolean runBlockingOnVirtualThread;
 
         public EndpointInvokerFactory getEndpointInvokerFactory() {
             return endpointInvokerFactory;
@@ -492,6 +526,11 @@ public class ServerEndpointIndexer
             return (B) this;
         }
 
+        public B setRunBlockingOnVirtualThread(boolean runBlockingOnVirtualThread) {
+            this.runBlockingOnVirtualThread = runBlockingOnVirtualThread;
+            return (B) this;
+        }
+
         @Override
         public ServerEndpointIndexer build() {
             return new ServerEndpointIndexer(this);
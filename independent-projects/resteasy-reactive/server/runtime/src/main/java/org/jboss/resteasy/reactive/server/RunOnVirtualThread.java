@@ -0,0 +1,20 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * When placed on a resource method (or on a resource class), the method is treated as blocking and each request
+ * is executed on a new virtual thread instead of on the worker thread pool.
+ *
+ * Virtual threads are only used when the running JDK provides them and the runtime supplies a virtual thread executor.
+ * Otherwise, the request is dispatched onto the worker thread pool like any other blocking method.
+ *
+ * This annotation cannot be combined with {@code @NonBlocking}.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface RunOnVirtualThread {
+}
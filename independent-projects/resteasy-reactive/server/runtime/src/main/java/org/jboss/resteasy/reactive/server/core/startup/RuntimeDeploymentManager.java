@@ -53,6 +53,7 @@ public class RuntimeDeploymentManager {
     public static final ServerRestHandler[] EMPTY_REST_HANDLER_ARRAY = new ServerRestHandler[0];
     private final DeploymentInfo info;
     private final Supplier<Executor> executorSupplier;
+    private final Supplier<Executor> virtualThreadExecutorSupplier;
     private final Consumer<Closeable> closeTaskHandler;
     private final RequestContextFactory requestContextFactory;
     private final ThreadSetupAction threadSetupAction;
@@ -64,8 +65,23 @@ public class RuntimeDeploymentManager {
             Supplier<Executor> executorSupplier,
             Consumer<Closeable> closeTaskHandler,
             RequestContextFactory requestContextFactory, ThreadSetupAction threadSetupAction, String rootPath) {
+        this(info, executorSupplier, executorSupplier, closeTaskHandler, requestContextFactory, threadSetupAction,
+                rootPath);
+    }
+
+    /**
+     * @param virtualThreadExecutorSupplier the executor of the methods annotated with
+     *        {@link org.jboss.resteasy.reactive.server.RunOnVirtualThread}, typically starting a virtual thread per task
+     *        when the JDK supports them
+     */
+    public RuntimeDeploymentManager(DeploymentInfo info,
+            Supplier<Executor> executorSupplier,
+            Supplier<Executor> virtualThreadExecutorSupplier,
+            Consumer<Closeable> closeTaskHandler,
+            RequestContextFactory requestContextFactory, ThreadSetupAction threadSetupAction, String rootPath) {
         this.info = info;
         this.executorSupplier = executorSupplier;
+        this.virtualThreadExecutorSupplier = virtualThreadExecutorSupplier;
         this.closeTaskHandler = closeTaskHandler;
         this.requestContextFactory = requestContextFactory;
         this.threadSetupAction = threadSetupAction;
@@ -100,6 +116,7 @@ public class RuntimeDeploymentManager {
                 });
         List<RuntimeConfigurableServerRestHandler> runtimeConfigurableServerRestHandlers = new ArrayList<>();
         RuntimeResourceDeployment runtimeResourceDeployment = new RuntimeResourceDeployment(info, executorSupplier,
+                virtualThreadExecutorSupplier,
                 interceptorDeployment, dynamicEntityWriter, resourceLocatorHandler, requestContextFactory.isDefaultBlocking());
         List<ResourceClass> possibleSubResource = new ArrayList<>(locatableResourceClasses);
         possibleSubResource.addAll(resourceClasses); //the TCK uses normal resources also as sub resources
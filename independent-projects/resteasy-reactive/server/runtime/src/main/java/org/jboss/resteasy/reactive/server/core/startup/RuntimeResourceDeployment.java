@@ -111,11 +111,24 @@ public class RuntimeResourceDeployment {
      */
     private final boolean defaultBlocking;
     private final BlockingHandler blockingHandler;
+    private final BlockingHandler virtualThreadBlockingHandler;
     private final ResponseWriterHandler responseWriterHandler;
 
     public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executorSupplier,
             RuntimeInterceptorDeployment runtimeInterceptorDeployment, DynamicEntityWriter dynamicEntityWriter,
             ResourceLocatorHandler resourceLocatorHandler, boolean defaultBlocking) {
+        this(info, executorSupplier, executorSupplier, runtimeInterceptorDeployment, dynamicEntityWriter,
+                resourceLocatorHandler, defaultBlocking);
+    }
+
+    /**
+     * @param virtualThreadExecutorSupplier the executor of the methods annotated with
+     *        {@link org.jboss.resteasy.reactive.server.RunOnVirtualThread}
+     */
+    public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executorSupplier,
+            Supplier<Executor> virtualThreadExecutorSupplier,
+            RuntimeInterceptorDeployment runtimeInterceptorDeployment, DynamicEntityWriter dynamicEntityWriter,
+            ResourceLocatorHandler resourceLocatorHandler, boolean defaultBlocking) {
         this.info = info;
         this.serialisers = info.getSerialisers();
         this.quarkusRestConfig = info.getConfig();
@@ -125,6 +138,7 @@ public class RuntimeResourceDeployment {
         this.resourceLocatorHandler = resourceLocatorHandler;
         this.defaultBlocking = defaultBlocking;
         this.blockingHandler = new BlockingHandler(executorSupplier);
+        this.virtualThreadBlockingHandler = new BlockingHandler(virtualThreadExecutorSupplier);
         this.responseWriterHandler = new ResponseWriterHandler(dynamicEntityWriter);
     }
 
@@ -200,7 +214,7 @@ public class RuntimeResourceDeployment {
         Optional<Integer> blockingHandlerIndex = Optional.empty();
         if (!defaultBlocking) {
             if (method.isBlocking()) {
-                handlers.add(blockingHandler);
+                handlers.add(method.isRunOnVirtualThread() ? virtualThreadBlockingHandler : blockingHandler);
                 blockingHandlerIndex = Optional.of(handlers.size() - 1);
                 score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionBlocking);
             } else {
@@ -17,6 +17,7 @@ public class ServerResourceMethod extends ResourceMethod {
 
     private List<HandlerChainCustomizer> handlerChainCustomizers = new ArrayList<>();
     private ParameterExtractor customerParameterExtractor;
+    private boolean runOnVirtualThread;
 
     public ServerResourceMethod() {
     }
@@ -68,4 +69,13 @@ public class ServerResourceMethod extends ResourceMethod {
         this.customerParameterExtractor = customerParameterExtractor;
         return this;
     }
+
+    public boolean isRunOnVirtualThread() {
+        return runOnVirtualThread;
+    }
+
+    public ServerResourceMethod setRunOnVirtualThread(boolean runOnVirtualThread) {
+        this.runOnVirtualThread = runOnVirtualThread;
+        return this;
+    }
 }
@@ -0,0 +1,84 @@
+package io.quarkus.it.caffeine.cache.jpa;
+
+import java.util.List;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.transaction.UserTransaction;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import io.quarkus.hibernate.orm.runtime.cache.QuarkusCaffeineRegionFactory;
+
+/**
+ * Basic test running JPA with the H2 database and Caffeine as second level cache provider.
+ * <p>
+ * The regions of the entities use different combinations of maximum size and expiration, so different Caffeine cache
+ * implementations, which are instantiated reflectively by Caffeine in native mode.
+ */
+@Path("/caffeine-cache-jpa")
+@ApplicationScoped
+public class CaffeineCacheJPAFunctionalityTestEndpoint {
+
+    @Inject
+    EntityManager em;
+
+    @Inject
+    UserTransaction transaction;
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/region-factory")
+    public String regionFactory() {
+        return em.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory()
+                .getClass().getSimpleName();
+    }
+
+    @GET
+    @Produces(MediaType.TEXT_PLAIN)
+    @Path("/testfunctionality")
+    public String testFunctionality() throws Exception {
+        transaction.begin();
+        BoundedEntity bounded = new BoundedEntity();
+        bounded.id = 1L;
+        bounded.name = "bounded";
+        em.persist(bounded);
+        ExpiringEntity expiring = new ExpiringEntity();
+        expiring.id = 1L;
+        expiring.name = "expiring";
+        em.persist(expiring);
+        UnboundedEntity unbounded = new UnboundedEntity();
+        unbounded.id = 1L;
+        unbounded.name = "unbounded";
+        em.persist(unbounded);
+        transaction.commit();
+
+        Cache cache = em.getEntityManagerFactory().getCache();
+        cache.evictAll();
+        for (Class<?> type : List.of(BoundedEntity.class, ExpiringEntity.class, UnboundedEntity.class)) {
+            transaction.begin();
+            if (em.find(type, 1L) == null) {
+                throw new RuntimeException("Entity " + type.getSimpleName() + " not found");
+            }
+            transaction.commit();
+            if (!cache.contains(type, 1L)) {
+                throw new RuntimeException("Entity " + type.getSimpleName() + " not cached");
+            }
+        }
+
+        QuarkusCaffeineRegionFactory regionFactory = (QuarkusCaffeineRegionFactory) em.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+        for (Class<?> type : List.of(BoundedEntity.class, ExpiringEntity.class, UnboundedEntity.class)) {
+            if (regionFactory.getStorageAccesses().get(type.getName()) == null) {
+                throw new RuntimeException("Region of " + type.getSimpleName() + " not found");
+            }
+        }
+        return "OK";
+    }
+}
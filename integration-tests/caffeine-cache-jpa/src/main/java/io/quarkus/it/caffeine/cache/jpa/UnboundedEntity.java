@@ -0,0 +1,15 @@
+package io.quarkus.it.caffeine.cache.jpa;
+
+import javax.persistence.Cacheable;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+@Entity
+@Cacheable
+public class UnboundedEntity {
+
+    @Id
+    public Long id;
+
+    public String name;
+}
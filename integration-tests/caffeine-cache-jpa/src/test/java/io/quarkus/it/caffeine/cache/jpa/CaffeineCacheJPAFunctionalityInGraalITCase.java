@@ -0,0 +1,11 @@
+package io.quarkus.it.caffeine.cache.jpa;
+
+import io.quarkus.test.junit.QuarkusIntegrationTest;
+
+/**
+ * Test the Caffeine second level cache running in native mode
+ */
+@QuarkusIntegrationTest
+public class CaffeineCacheJPAFunctionalityInGraalITCase extends CaffeineCacheJPAFunctionalityTest {
+
+}
@@ -0,0 +1,27 @@
+package io.quarkus.it.caffeine.cache.jpa;
+
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.test.junit.QuarkusTest;
+import io.restassured.RestAssured;
+
+/**
+ * Test connecting Hibernate ORM to H2, with the Caffeine second level cache.
+ * The H2 database server is run in JVM mode, the Hibernate based application
+ * is run in both JVM mode and native mode (see also test in subclass).
+ */
+@QuarkusTest
+public class CaffeineCacheJPAFunctionalityTest {
+
+    @Test
+    public void testRegionFactory() {
+        RestAssured.when().get("/caffeine-cache-jpa/region-factory").then().body(is("QuarkusCaffeineRegionFactory"));
+    }
+
+    @Test
+    public void testCacheJPAFunctionality() {
+        RestAssured.when().get("/caffeine-cache-jpa/testfunctionality").then().body(is("OK"));
+    }
+}
@@ -1,6 +1,9 @@
 package io.quarkus.redis.it;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -10,8 +13,14 @@ import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
 import io.quarkus.redis.client.RedisClient;
+import io.quarkus.redis.client.TypedRedisClient;
+import io.quarkus.redis.client.codec.Codecs;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
+import io.quarkus.redis.client.reactive.ReactiveTypedRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.core.json.JsonObject;
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
 import io.vertx.redis.client.Response;
 
 @Path("/quarkus-redis")
@@ -37,6 +46,24 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    @POST
+    @Path("/sync/transaction/{key}")
+    public String transactionSync(@PathParam("key") String key, String value) {
+        List<Response> responses = redisClient.transaction(Arrays.asList(
+                Request.cmd(Command.SET).arg(key).arg(value),
+                Request.cmd(Command.APPEND).arg(key).arg("-appended"),
+                Request.cmd(Command.GET).arg(key)));
+        return responses.get(2).toString();
+    }
+
+    @POST
+    @Path("/sync/typed/hash/{key}")
+    public String typedHashSync(@PathParam("key") String key, String value) {
+        TypedRedisClient<byte[]> client = redisClient.typed(Codecs.byteArray());
+        client.hset(key, Collections.singletonMap("field", value.getBytes(StandardCharsets.UTF_8)));
+        return new String(client.hgetall(key).get("field"), StandardCharsets.UTF_8);
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -54,4 +81,23 @@ public class RedisResource {
                 .map(response -> null);
     }
 
+    @POST
+    @Path("/reactive/batch/{key}")
+    public Uni<String> batchReactive(@PathParam("key") String key, String value) {
+        return reactiveRedisClient
+                .batch(Arrays.asList(
+                        io.vertx.mutiny.redis.client.Request.cmd(io.vertx.mutiny.redis.client.Command.SET).arg(key)
+                                .arg(value),
+                        io.vertx.mutiny.redis.client.Request.cmd(io.vertx.mutiny.redis.client.Command.GET).arg(key)))
+                .map(responses -> responses.get(1).toString());
+    }
+
+    @POST
+    @Path("/reactive/typed/list/{key}")
+    public Uni<String> typedListReactive(@PathParam("key") String key, String value) {
+        ReactiveTypedRedisClient<JsonObject> client = reactiveRedisClient.typed(Codecs.json(JsonObject.class));
+        return client.rpush(key, Collections.singletonList(new JsonObject().put("value", value)))
+                .chain(() -> client.lrange(key, 0, -1))
+                .map(items -> items.get(0).getString("value"));
+    }
 }
@@ -1,6 +1,7 @@
 package io.quarkus.redis.it;
 
 import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.test.junit.QuarkusTest;
@@ -18,7 +19,8 @@ class QuarkusRedisTest {
             "/quarkus-redis-with-named",
             "/quarkus-redis-dynamic-client-creation",
             "/quarkus-redis-provided-hosts",
-            "/quarkus-redis-parameter-injection" };
+            "/quarkus-redis-parameter-injection",
+            "/quarkus-redis-near-cache" };
 
     @Test
     public void sync() {
@@ -71,4 +73,79 @@ class QuarkusRedisTest {
                     .body(CoreMatchers.is(REACTIVE_VALUE));
         }
     }
+
+    @Test
+    public void transaction() {
+        RestAssured.given()
+                .body("transaction-value")
+                .when()
+                .post("/quarkus-redis/sync/transaction/transaction-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("transaction-value-appended"));
+    }
+
+    @Test
+    public void batch() {
+        RestAssured.given()
+                .body("batch-value")
+                .when()
+                .post("/quarkus-redis/reactive/batch/batch-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("batch-value"));
+    }
+
+    @Test
+    public void typedHash() {
+        RestAssured.given()
+                .body("hash-value")
+                .when()
+                .post("/quarkus-redis/sync/typed/hash/typed-hash-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("hash-value"));
+    }
+
+    @Test
+    public void typedList() {
+        RestAssured.given()
+                .body("list-value")
+                .when()
+                .post("/quarkus-redis/reactive/typed/list/typed-list-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("list-value"));
+    }
+
+    @Test
+    public void nearCacheInvalidation() throws InterruptedException {
+        String path = "/quarkus-redis-near-cache/%s/near-cache-key";
+        RestAssured.given()
+                .body("first-value")
+                .when()
+                .post(String.format(path, "reactive"))
+                .then()
+                .statusCode(204);
+        RestAssured.given()
+                .when()
+                .get(String.format(path, "reactive"))
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("first-value"));
+
+        // modified with another connection, the server notifies the near cache
+        RestAssured.given()
+                .body("second-value")
+                .when()
+                .post(String.format(path, "sync"))
+                .then()
+                .statusCode(204);
+        String value = null;
+        for (int i = 0; i < 50 && !"second-value".equals(value); i++) {
+            Thread.sleep(100);
+            value = RestAssured.get(String.format(path, "reactive")).asString();
+        }
+        Assertions.assertEquals("second-value", value);
+    }
 }